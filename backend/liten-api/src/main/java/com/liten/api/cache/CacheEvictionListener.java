@@ -0,0 +1,70 @@
+package com.liten.api.cache;
+
+import com.liten.api.event.ContentChangedEvent;
+import com.liten.api.event.UserChangedEvent;
+import com.liten.api.repository.UsageCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 엔티티 변경 이벤트를 받아 커밋 후 관련 캐시 항목을 지운다. 커밋 전에 지우면 그 사이에 읽은 요청이 지난 값을 다시 채운다.
+ * JDBC 로 직접 바꾸는 곳(콜드 저장, 부트스트랩 가져오기)은 이벤트가 없으므로 {@link #evictDashboard} 등을 직접 부른다.
+ *
+ * <p>공간 목록에는 {@link com.liten.api.service.SpaceStatsUpdater} 가 다시 센 값이 들어가므로, 다시 센 뒤에 그쪽에서 한 번 더 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheEvictionListener {
+
+    private final CacheManager cacheManager;
+    private final UsageCounterRepository usageCounterRepository;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(CacheNames.USERS, event.email());
+        evict(CacheNames.PLANS, event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.spaceId() == null || event.type() == ContentChangedEvent.ContentType.SYNC_TIMESTAMP) {
+            return;
+        }
+        if (event.type() == ContentChangedEvent.ContentType.SPACE && event.kind() != ContentChangedEvent.ChangeKind.CREATED) {
+            evict(CacheNames.SPACE_OWNERS, event.spaceId());
+        }
+        try {
+            // 삭제된 공간도 소유자를 찾도록 소프트 삭제 조건 없이 읽는다
+            usageCounterRepository.findOwnerIdBySpaceId(event.spaceId()).ifPresent(this::evictDashboard);
+        } catch (Exception e) {
+            log.warn("공간 목록 캐시 무효화 실패: spaceId={}, {}", event.spaceId(), e.getMessage());
+        }
+    }
+
+    public void evictDashboard(Long userId) {
+        evict(CacheNames.SPACE_DASHBOARD, userId);
+    }
+
+    /**
+     * 공간의 저장 계층이 바뀌었을 때. 목록의 계층 표시와 콜드 공간 여부를 지운다.
+     */
+    public void evictStorageTier(Long userId) {
+        evict(CacheNames.SPACE_DASHBOARD, userId);
+        evict(CacheNames.COLD_SPACES, userId);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
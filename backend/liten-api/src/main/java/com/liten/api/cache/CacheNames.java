@@ -0,0 +1,53 @@
+package com.liten.api.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 애플리케이션 캐시 이름과 기본 예산(최대 항목 수, TTL, 공유 계층 저장 여부).
+ * 예산은 app.cache.specs.&lt;이름&gt; 으로 덮어쓸 수 있으며, 여기 없는 이름의 캐시는 만들지 않는다.
+ */
+public final class CacheNames {
+
+    /** 이메일 -> 사용자. JWT 인증마다 읽는다. 비밀번호 해시가 있으므로 공유 계층에 저장하지 않는다 */
+    public static final String USERS = "users";
+
+    /** 사용자 ID -> 유효 구독 플랜 */
+    public static final String PLANS = "plans";
+
+    /** 공간 ID -> 소유자 ID. 컨텐츠 목록/생성 시 소유 확인에 쓴다 */
+    public static final String SPACE_OWNERS = "space-owners";
+
+    /** 사용자 ID -> 콜드 공간이 있음. 있다는 결과만 캐시한다 */
+    public static final String COLD_SPACES = "cold-spaces";
+
+    /** 사용자 ID -> 홈 화면 공간 목록 페이지들 */
+    public static final String SPACE_DASHBOARD = "space-dashboard";
+
+    /** 오디오 ID -> 재생 위치 동기화 색인. 크기가 커서 공유 계층에는 두지 않고 무효화만 전파한다 */
+    public static final String AUDIO_SYNC_INDEX = "audio-sync-index";
+
+    private static final Map<String, CacheProperties.Spec> DEFAULTS = Map.of(
+            USERS, new CacheProperties.Spec(10_000L, Duration.ofMinutes(10), false),
+            PLANS, new CacheProperties.Spec(10_000L, Duration.ofMinutes(5), true),
+            SPACE_OWNERS, new CacheProperties.Spec(50_000L, Duration.ofMinutes(30), true),
+            COLD_SPACES, new CacheProperties.Spec(10_000L, Duration.ofMinutes(30), true),
+            SPACE_DASHBOARD, new CacheProperties.Spec(10_000L, Duration.ofMinutes(2), true),
+            AUDIO_SYNC_INDEX, new CacheProperties.Spec(1_000L, Duration.ofMinutes(10), false));
+
+    /**
+     * 기본 예산에 app.cache.specs 의 값을 덮어쓴다.
+     */
+    public static Map<String, CacheProperties.Spec> specs(Map<String, CacheProperties.Spec> overrides) {
+        Map<String, CacheProperties.Spec> specs = new TreeMap<>();
+        DEFAULTS.forEach((name, defaults) -> {
+            CacheProperties.Spec override = overrides.get(name);
+            specs.put(name, override != null ? override.mergedWith(defaults) : defaults);
+        });
+        return specs;
+    }
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,56 @@
+package com.liten.api.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * app.cache 설정.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    /** 노드 식별자. 비어 있으면 시작할 때 임의로 만든다. 자기가 보낸 무효화 메시지를 거르는 데 쓴다 */
+    private String nodeId = "";
+
+    private Redis redis = new Redis();
+
+    /** 캐시별 예산. 지정하지 않은 값은 {@link CacheNames} 의 기본값을 쓴다 */
+    private Map<String, Spec> specs = new HashMap<>();
+
+    @Data
+    public static class Redis {
+
+        /** 공유 계층과 노드 간 무효화. 끄면 노드 로컬 캐시만 쓰므로 단일 노드에서만 쓴다 */
+        private boolean enabled = false;
+
+        private String keyPrefix = "liten:cache:";
+
+        private String channel = "liten:cache:invalidation";
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+
+        private Long maxSize;
+
+        private Duration ttl;
+
+        /** 값을 공유 계층에도 저장할지. 저장하지 않아도 무효화는 다른 노드로 전파한다 */
+        private Boolean shared;
+
+        Spec mergedWith(Spec defaults) {
+            return new Spec(maxSize != null ? maxSize : defaults.maxSize,
+                    ttl != null ? ttl : defaults.ttl,
+                    shared != null ? shared : defaults.shared);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.liten.api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Redis 호환 서버를 쓰는 공유 캐시 계층. 값은 JDK 직렬화로 "{keyPrefix}{캐시}:{키}" 에 TTL 과 함께 저장하고,
+ * 무효화는 pub/sub 채널로 모든 노드에 보낸다. 키는 toString() 으로 구분하므로 Long/String 키만 쓴다.
+ *
+ * <p>Redis 오류는 경고만 남기고 캐시 미스로 처리해 DB 로 읽게 한다. 그동안 다른 노드의 로컬 캐시는 TTL 까지 남을 수 있다.
+ */
+@Slf4j
+public class RedisCacheTier implements SharedCacheTier, MessageListener {
+
+    private static final int CLEAR_BATCH = 500;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String keyPrefix;
+    private final String channel;
+    private final String nodeId;
+
+    private volatile BiConsumer<String, Object> invalidationHandler = (cacheName, key) -> { };
+
+    public RedisCacheTier(RedisConnectionFactory connectionFactory, String keyPrefix, String channel, String nodeId) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(StringRedisSerializer.UTF_8);
+        template.setValueSerializer(new JdkSerializationRedisSerializer(getClass().getClassLoader()));
+        template.afterPropertiesSet();
+        this.redisTemplate = template;
+        this.keyPrefix = keyPrefix;
+        this.channel = channel;
+        this.nodeId = nodeId;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        try {
+            return redisTemplate.opsForValue().get(redisKey(cacheName, key));
+        } catch (RuntimeException e) {
+            log.warn("공유 캐시 읽기 실패: {}:{}, {}", cacheName, key, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(cacheName, key), value, ttl);
+        } catch (RuntimeException e) {
+            log.warn("공유 캐시 쓰기 실패: {}:{}, {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(String cacheName, Object key, boolean removeValue) {
+        try {
+            if (removeValue) {
+                if (key != null) {
+                    redisTemplate.delete(redisKey(cacheName, key));
+                } else {
+                    clear(cacheName);
+                }
+            }
+            // 값을 먼저 지운 뒤 알려야 메시지를 받은 노드가 다시 읽을 때 지난 값을 가져가지 않는다
+            redisTemplate.convertAndSend(channel, new Invalidation(nodeId, cacheName, key));
+        } catch (RuntimeException e) {
+            log.warn("공유 캐시 무효화 실패: {}:{}, {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onInvalidation(BiConsumer<String, Object> handler) {
+        this.invalidationHandler = handler;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object body;
+        try {
+            body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 메시지를 읽지 못함: {}", e.getMessage());
+            return;
+        }
+        if (body instanceof Invalidation invalidation && !nodeId.equals(invalidation.nodeId())) {
+            invalidationHandler.accept(invalidation.cacheName(), invalidation.key());
+        }
+    }
+
+    private void clear(String cacheName) {
+        ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + cacheName + ":*").count(CLEAR_BATCH).build();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            List<byte[]> batch = new ArrayList<>(CLEAR_BATCH);
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() == CLEAR_BATCH) {
+                        connection.keyCommands().del(batch.toArray(byte[][]::new));
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                connection.keyCommands().del(batch.toArray(byte[][]::new));
+            }
+            return null;
+        });
+    }
+
+    private String redisKey(String cacheName, Object key) {
+        return keyPrefix + cacheName + ":" + key;
+    }
+
+    private record Invalidation(String nodeId, String cacheName, Object key) implements Serializable {
+    }
+}
@@ -0,0 +1,27 @@
+package com.liten.api.cache;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+/**
+ * 노드가 함께 쓰는 두 번째 캐시 계층. 값 저장과 노드 간 무효화 전파를 맡는다.
+ * 구현은 공유 저장소가 응답하지 않아도 예외를 던지지 않고 캐시 미스처럼 동작해야 한다.
+ */
+public interface SharedCacheTier {
+
+    Object get(String cacheName, Object key);
+
+    void put(String cacheName, Object key, Object value, Duration ttl);
+
+    /**
+     * 저장된 값을 지우고(removeValue 일 때) 다른 노드에 무효화를 알린다.
+     *
+     * @param key null 이면 캐시 전체
+     */
+    void evict(String cacheName, Object key, boolean removeValue);
+
+    /**
+     * 다른 노드가 보낸 무효화를 받을 곳. (캐시 이름, 키 또는 전체면 null)
+     */
+    void onInvalidation(BiConsumer<String, Object> handler);
+}
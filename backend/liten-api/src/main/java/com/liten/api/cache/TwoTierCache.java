@@ -0,0 +1,127 @@
+package com.liten.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 노드 로컬 Caffeine 계층 + 선택적인 공유 계층.
+ *
+ * <p>읽기는 로컬 -> 공유 -> 원본 순서이며 공유 계층에서 찾은 값은 로컬에도 둔다. 무효화는 두 계층에서 모두 지우고
+ * 다른 노드의 로컬 계층에도 전파한다. 공유 계층이 없으면 로컬 캐시만 쓴다. null 은 캐시하지 않는다.
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<Object, Object> local;
+    private final SharedCacheTier shared;
+    private final boolean sharedValues;
+    private final Duration ttl;
+    private final List<Consumer<Object>> evictionListeners = new CopyOnWriteArrayList<>();
+
+    TwoTierCache(String name, Cache<Object, Object> local, SharedCacheTier shared, boolean sharedValues, Duration ttl) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.shared = shared;
+        this.sharedValues = shared != null && sharedValues;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Cache<Object, Object> getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value == null && sharedValues) {
+            value = shared.get(name, key);
+            if (value != null) {
+                local.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) fromStoreValue(local.get(key, k -> {
+            Object value = sharedValues ? shared.get(name, k) : null;
+            if (value == null) {
+                try {
+                    value = toStoreValue(valueLoader.call());
+                } catch (Exception e) {
+                    throw new ValueRetrievalException(k, valueLoader, e);
+                }
+                if (sharedValues) {
+                    shared.put(name, k, value, ttl);
+                }
+            }
+            return value;
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object stored = toStoreValue(value);
+        local.put(key, stored);
+        if (sharedValues) {
+            shared.put(name, key, stored, ttl);
+        }
+    }
+
+    /**
+     * 이 노드의 로컬 항목이 지워지기 직전에 불린다. 다른 노드에서 온 무효화도 포함하며, 전체 삭제는 키가 null 이다.
+     * 값을 만드는 동안 무효화가 일어났는지 판별해야 하는 캐시가 쓴다.
+     */
+    public void addEvictionListener(Consumer<Object> listener) {
+        evictionListeners.add(listener);
+    }
+
+    @Override
+    public void evict(Object key) {
+        notifyEviction(key);
+        local.invalidate(key);
+        if (shared != null) {
+            shared.evict(name, key, sharedValues);
+        }
+    }
+
+    @Override
+    public void clear() {
+        notifyEviction(null);
+        local.invalidateAll();
+        if (shared != null) {
+            shared.evict(name, null, sharedValues);
+        }
+    }
+
+    /**
+     * 다른 노드가 보낸 무효화. 공유 계층은 보낸 노드가 이미 지웠으므로 로컬만 지운다.
+     */
+    void evictLocal(Object key) {
+        notifyEviction(key);
+        if (key != null) {
+            local.invalidate(key);
+        } else {
+            local.invalidateAll();
+        }
+    }
+
+    private void notifyEviction(Object key) {
+        evictionListeners.forEach(listener -> listener.accept(key));
+    }
+}
@@ -0,0 +1,55 @@
+package com.liten.api.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 설정된 캐시만 만드는 {@link TwoTierCache} 관리자. 예산이 없는 이름은 {@link #getCache} 가 null 을 돌려준다.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    private final Map<String, TwoTierCache> caches;
+
+    public TwoTierCacheManager(Map<String, CacheProperties.Spec> specs, SharedCacheTier shared) {
+        Map<String, TwoTierCache> created = new LinkedHashMap<>();
+        specs.forEach((name, spec) -> {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+                    .maximumSize(spec.getMaxSize())
+                    .expireAfterWrite(spec.getTtl())
+                    .recordStats()
+                    .build();
+            created.put(name, new TwoTierCache(name, local, shared, spec.getShared(), spec.getTtl()));
+            log.info("캐시 {}: 최대 {} 개, TTL {}, 공유 계층 {}", name, spec.getMaxSize(), spec.getTtl(),
+                    shared != null && spec.getShared());
+        });
+        this.caches = Collections.unmodifiableMap(created);
+        if (shared != null) {
+            shared.onInvalidation(this::evictLocal);
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    private void evictLocal(String cacheName, Object key) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.liten.api.config;
 
+import com.liten.api.metrics.S3MetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+import java.time.Duration;
 
 @Configuration
 @RequiredArgsConstructor
 public class AwsConfig {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${aws.s3.access-key}")
     private String accessKey;
 
@@ -22,10 +32,31 @@ public class AwsConfig {
     @Value("${aws.s3.region}")
     private String region;
 
+    // S3 호환 저장소(MinIO, 부하 테스트의 로컬 저장소 등) 주소. 지정하면 경로 방식(endpoint/bucket/key)으로 호출한다
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    // 가상 스레드 모드에서는 동시 요청 수가 스레드 풀로 제한되지 않으므로 HTTP 커넥션 풀이 S3 동시 호출 수를 정한다
+    @Value("${aws.s3.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${aws.s3.connection-acquire-timeout-ms:10000}")
+    private long connectionAcquireTimeoutMs;
+
     @Bean
     public S3Client s3Client() {
-        return S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder();
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder
                 .region(Region.of(region))
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(maxConnections)
+                        .connectionAcquisitionTimeout(Duration.ofMillis(connectionAcquireTimeoutMs)))
+                .overrideConfiguration(ClientOverrideConfiguration.builder()
+                        .addExecutionInterceptor(new S3MetricsInterceptor(meterRegistry))
+                        .build())
                 .credentialsProvider(
                     StaticCredentialsProvider.create(
                         AwsBasicCredentials.create(accessKey, secretKey)
@@ -0,0 +1,136 @@
+package com.liten.api.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시에 빌려 가는 커넥션 수를 세마포어로 제한하는 DataSource.
+ *
+ * <p>가상 스레드에서는 요청 수만큼 스레드가 생기므로 커넥션 풀 크기를 넘는 요청이 모두 풀 안에서 기다리게 된다.
+ * 풀 크기와 같은 수의 허가를 먼저 받게 하여 대기를 풀 밖의 공정한(FIFO) 큐로 옮기고, acquire-timeout 안에 허가를 받지
+ * 못하면 풀과 같은 {@link SQLTransientConnectionException} 으로 실패한다. 허가는 커넥션을 닫을 때 한 번만 돌려준다.
+ *
+ * <p>대기가 풀 밖에서 일어나므로 hikaricp_connections_acquire 에는 잡히지 않는다. 허가 대기 시간은
+ * liten.db.permit.wait{outcome}, 남은 허가와 대기 스레드 수는 liten.db.permit.available / liten.db.permit.waiting 으로 남긴다.
+ */
+public class BoundedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+    private final Timer acquiredTimer;
+    private final Timer timeoutTimer;
+
+    public BoundedDataSource(DataSource target, int maxConnections, long acquireTimeoutMs, MeterRegistry meterRegistry) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.acquiredTimer = waitTimer("acquired", meterRegistry);
+        this.timeoutTimer = waitTimer("timeout", meterRegistry);
+        Gauge.builder("liten.db.permit.available", permits, Semaphore::availablePermits)
+                .description("남은 DB 커넥션 허가 수")
+                .register(meterRegistry);
+        Gauge.builder("liten.db.permit.waiting", permits, Semaphore::getQueueLength)
+                .description("DB 커넥션 허가를 기다리는 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return bound(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return bound(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int queueLength() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            boolean acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+            (acquired ? acquiredTimer : timeoutTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                throw new SQLTransientConnectionException("DB 커넥션 대기 시간 초과: " + acquireTimeoutMs + "ms, 대기 "
+                        + permits.getQueueLength());
+            }
+        } catch (InterruptedException e) {
+            timeoutTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 커넥션 대기 중 중단되었습니다", e);
+        }
+    }
+
+    private static Timer waitTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("liten.db.permit.wait")
+                .description("가상 스레드 모드의 DB 커넥션 허가 대기 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Connection bound(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "unwrap":
+                            if (Connection.class.equals(args[0])) {
+                                return proxy;
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,49 @@
+package com.liten.api.config;
+
+import com.liten.api.cache.CacheNames;
+import com.liten.api.cache.CacheProperties;
+import com.liten.api.cache.RedisCacheTier;
+import com.liten.api.cache.TwoTierCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.UUID;
+
+/**
+ * 2단계 캐시. 로컬 Caffeine 계층은 항상 쓰고, app.cache.redis.enabled 이면 Redis 공유 계층과 노드 간 무효화를 켠다.
+ * Redis 연결 설정은 spring.data.redis.* 를 따른다.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.redis.enabled", havingValue = "true")
+    public RedisCacheTier redisCacheTier(RedisConnectionFactory connectionFactory, CacheProperties properties) {
+        String nodeId = properties.getNodeId().isBlank() ? UUID.randomUUID().toString() : properties.getNodeId();
+        return new RedisCacheTier(connectionFactory, properties.getRedis().getKeyPrefix(),
+                properties.getRedis().getChannel(), nodeId);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.redis.enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           RedisCacheTier redisCacheTier) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisCacheTier, new ChannelTopic(redisCacheTier.getChannel()));
+        return container;
+    }
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties properties, ObjectProvider<RedisCacheTier> redisCacheTier) {
+        return new TwoTierCacheManager(CacheNames.specs(properties.getSpecs()), redisCacheTier.getIfAvailable());
+    }
+}
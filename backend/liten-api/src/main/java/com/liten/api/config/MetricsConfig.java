@@ -0,0 +1,35 @@
+package com.liten.api.config;
+
+import com.liten.api.cache.TwoTierCache;
+import com.liten.api.metrics.RepositoryMetricsPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 경로 메트릭. 이름은 liten.* 이며 Prometheus 로 내보낼 때 히스토그램 버킷은 application.yml 의
+ * management.metrics.distribution 설정을 따른다.
+ *
+ * <p>Hikari 커넥션 대기/점유 시간은 Boot 가 내보내는 hikaricp.connections.acquire / usage 를 쓴다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // 리포지토리 빈보다 먼저 등록되어야 하므로 static
+    @Bean
+    public static RepositoryMetricsPostProcessor repositoryMetricsPostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RepositoryMetricsPostProcessor(meterRegistry);
+    }
+
+    /**
+     * 2단계 캐시의 로컬 계층 적중률 (cache.gets, cache.evictions 등)
+     */
+    @Bean
+    public CacheMeterBinderProvider<TwoTierCache> twoTierCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags);
+    }
+}
@@ -1,19 +1,28 @@
 package com.liten.api.config;
 
+import com.liten.api.metrics.TimedPasswordEncoder;
 import com.liten.api.security.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -34,6 +43,13 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${server.port:8080}")
+    private String serverPort;
+
+    @Value("${management.server.port:}")
+    private String managementPort;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -43,18 +59,26 @@ public class SecurityConfig {
             .sessionManagement(session -> 
                 session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                // 공개 엔드포인트
-                .requestMatchers("/api/auth/**").permitAll()
-                .requestMatchers("/api/health").permitAll()
+                // 공개 엔드포인트 (경로는 context-path /api 를 뺀 서블릿 경로)
+                .requestMatchers("/auth/**").permitAll()
+                .requestMatchers("/health").permitAll()
+                // 계정 삭제 진행 조회. 계정이 비활성화된 뒤이므로 작업 토큰(X-Deletion-Token)으로 확인한다
+                .requestMatchers(HttpMethod.GET, "/users/deletions/*").permitAll()
                 .requestMatchers("/swagger-ui/**", "/api-docs/**").permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                // 헬스 체크
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                // Prometheus 수집은 MANAGEMENT_SERVER_PORT 로 분리한 내부 포트에서만 공개하고, 메인 포트에서는 인증을 요구한다
+                .requestMatchers(EndpointRequest.to(PrometheusScrapeEndpoint.class)).access((authentication, context) ->
+                        new AuthorizationDecision(isManagementPort(context.getRequest().getLocalPort())
+                                || isAuthenticated(authentication.get())))
                 
                 // 인증이 필요한 엔드포인트
-                .requestMatchers("/api/spaces/**").authenticated()
-                .requestMatchers("/api/audio/**").authenticated()
-                .requestMatchers("/api/text/**").authenticated()
-                .requestMatchers("/api/drawing/**").authenticated()
-                .requestMatchers("/api/users/**").authenticated()
+                .requestMatchers("/spaces/**").authenticated()
+                .requestMatchers("/audio/**").authenticated()
+                .requestMatchers("/text/**").authenticated()
+                .requestMatchers("/drawing/**").authenticated()
+                .requestMatchers("/users/**").authenticated()
                 
                 .anyRequest().authenticated()
             )
@@ -64,6 +88,21 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 액추에이터가 메인 포트와 다른 관리 포트로 분리되어 있고 요청이 그 포트로 들어왔는지.
+     */
+    private boolean isManagementPort(int localPort) {
+        if (managementPort.isBlank() || managementPort.equals(serverPort)) {
+            return false;
+        }
+        return String.valueOf(localPort).equals(managementPort);
+    }
+
+    private static boolean isAuthenticated(Authentication authentication) {
+        return authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -106,6 +145,6 @@ public class SecurityConfig {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 }
\ No newline at end of file
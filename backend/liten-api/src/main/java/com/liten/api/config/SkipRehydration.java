@@ -0,0 +1,16 @@
+package com.liten.api.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 경로에 공간/컨텐츠 ID 가 있어도 콜드 공간을 되살리지 않는 핸들러. 보관 전환이나 삭제처럼 컨텐츠 행이 필요 없는 요청에 붙인다.
+ *
+ * @see StorageTierInterceptor
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SkipRehydration {
+}
@@ -0,0 +1,24 @@
+package com.liten.api.config;
+
+import com.liten.api.utils.compression.TextCompressor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class StorageConfig {
+
+    @Value("${app.storage.compression.min-size:512}")
+    private int minSize;
+
+    @Value("${app.storage.compression.lz4-max-size:65536}")
+    private int lz4MaxSize;
+
+    @Value("${app.storage.compression.large-codec:zstd}")
+    private String largeCodec;
+
+    @Bean
+    public TextCompressor textCompressor() {
+        return new TextCompressor(minSize, lz4MaxSize, largeCodec);
+    }
+}
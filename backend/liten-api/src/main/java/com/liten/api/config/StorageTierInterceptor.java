@@ -0,0 +1,71 @@
+package com.liten.api.config;
+
+import com.liten.api.event.ContentChangedEvent;
+import com.liten.api.model.User;
+import com.liten.api.service.SpaceTieringService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 경로의 {spaceId}, {audioId}, {textId}, {drawingId} 가 콜드 공간을 가리키면 핸들러보다 먼저 되살린다.
+ * 서비스는 계층을 알 필요 없이 항상 원본 테이블만 읽는다. HOT 공간이면 기본키/고유 색인 한 행 조회만 더해진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StorageTierInterceptor implements HandlerInterceptor {
+
+    private final SpaceTieringService spaceTieringService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method) || method.hasMethodAnnotation(SkipRehydration.class)) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || variables.isEmpty()) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            return true;
+        }
+
+        Long spaceId = parseId(variables.get("spaceId"));
+        if (spaceId != null) {
+            spaceTieringService.ensureHot(user.getUserId(), spaceId);
+            return true;
+        }
+        ensureHot(user, ContentChangedEvent.ContentType.AUDIO, variables.get("audioId"));
+        ensureHot(user, ContentChangedEvent.ContentType.TEXT, variables.get("textId"));
+        ensureHot(user, ContentChangedEvent.ContentType.DRAWING, variables.get("drawingId"));
+        return true;
+    }
+
+    private void ensureHot(User user, ContentChangedEvent.ContentType type, String value) {
+        Long id = parseId(value);
+        if (id != null) {
+            spaceTieringService.ensureHot(user.getUserId(), type, id);
+        }
+    }
+
+    private static Long parseId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
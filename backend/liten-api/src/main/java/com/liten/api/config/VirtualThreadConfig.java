@@ -0,0 +1,96 @@
+package com.liten.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import javax.sql.DataSource;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 실행 모드 ({@code spring.threads.virtual.enabled=true}, Java 21 이상).
+ *
+ * <p>Tomcat 요청 처리, {@code @Async}, {@code @Scheduled} 는 Spring Boot 가 가상 스레드 실행기로 바꾸고,
+ * 여기서는 그 상태에서 필요한 것만 더한다.
+ * <ul>
+ *   <li>DB 커넥션 수 제한: DataSource 를 Hikari 풀 크기만큼의 허가를 가진 {@link BoundedDataSource} 로 감싼다.
+ *       허가 대기 시간은 liten.db.permit.wait 로 남는다.</li>
+ *   <li>고정(pinning) 진단: synchronized 블록 등에서 캐리어 스레드를 pinned-threshold-ms 이상 붙잡은 가상 스레드를
+ *       JFR 이벤트(jdk.VirtualThreadPinned)로 받아 스택과 함께 경고 로그로 남긴다.</li>
+ * </ul>
+ * 플랫폼 스레드 모드에서는 이 설정 전체가 등록되지 않는다.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadConfig {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Value("${app.virtual-threads.pinned-threshold-ms:20}")
+    private long pinnedThresholdMs;
+
+    @Value("${app.virtual-threads.pinned-stack-depth:8}")
+    private int pinnedStackDepth;
+
+    private RecordingStream pinnedEvents;
+
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(
+            @Value("${app.virtual-threads.db-permits:0}") int dbPermits,
+            @Value("${app.virtual-threads.db-acquire-timeout-ms:30000}") long acquireTimeoutMs,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BoundedDataSource) {
+                    return bean;
+                }
+                int permits = dbPermits > 0 ? dbPermits
+                        : bean instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+                log.info("가상 스레드 모드: DB 커넥션 동시 사용을 {} 개로 제한 ({})", permits, beanName);
+                // 후처리기는 다른 빈보다 먼저 만들어지므로 레지스트리는 DataSource 를 감쌀 때 가져온다
+                return new BoundedDataSource(dataSource, permits, acquireTimeoutMs, meterRegistry.getObject());
+            }
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPinnedThreadMonitor() {
+        pinnedEvents = new RecordingStream();
+        pinnedEvents.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(pinnedThresholdMs))
+                .withStackTrace();
+        pinnedEvents.onEvent(PINNED_EVENT, event -> {
+            List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+            log.warn("가상 스레드 고정 {}ms: {}", event.getDuration().toMillis(), frames.stream()
+                    .limit(pinnedStackDepth)
+                    .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                            + ":" + frame.getLineNumber())
+                    .collect(Collectors.joining(" <- ")));
+        });
+        pinnedEvents.startAsync();
+        log.info("가상 스레드 고정 감시 시작: {}ms 이상", pinnedThresholdMs);
+    }
+
+    @PreDestroy
+    public void stopPinnedThreadMonitor() {
+        if (pinnedEvents != null) {
+            pinnedEvents.close();
+        }
+    }
+}
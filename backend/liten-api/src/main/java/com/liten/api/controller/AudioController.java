@@ -0,0 +1,115 @@
+package com.liten.api.controller;
+
+import com.liten.api.dto.AudioSyncRequest;
+import com.liten.api.dto.AudioSyncResponse;
+import com.liten.api.model.User;
+import com.liten.api.service.AudioSyncIndexService;
+import com.liten.api.service.AudioTimelineService;
+import com.liten.api.service.SyncMarkerService;
+import com.liten.api.utils.ResponseCompression;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/audio")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Audio", description = "오디오 컨텐츠 API")
+public class AudioController {
+
+    private final AudioSyncIndexService audioSyncIndexService;
+    private final SyncMarkerService syncMarkerService;
+    private final AudioTimelineService audioTimelineService;
+
+    @GetMapping("/{audioId}/sync/active")
+    @Operation(summary = "재생 위치의 동기화 항목", description = "지정한 재생 위치(ms)에 활성인 텍스트, 필기, 마커를 반환합니다")
+    public ResponseEntity<AudioSyncResponse.Active> getActive(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long audioId,
+            @RequestParam long positionMs) {
+        return ResponseEntity.ok(audioSyncIndexService.findActive(user, audioId, positionMs));
+    }
+
+    @GetMapping("/{audioId}/sync")
+    @Operation(summary = "구간의 동기화 항목", description = "[fromMs, toMs) 구간에 위치한 텍스트, 필기, 마커를 위치 순으로 반환합니다")
+    public ResponseEntity<AudioSyncResponse.Window> getWindow(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long audioId,
+            @RequestParam(defaultValue = "0") long fromMs,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) long toMs) {
+        if (toMs < fromMs) {
+            throw new RuntimeException("잘못된 재생 구간입니다");
+        }
+        return ResponseEntity.ok(audioSyncIndexService.findWindow(user, audioId, fromMs, toMs));
+    }
+
+    @PostMapping("/{audioId}/markers")
+    @Operation(summary = "동기화 마커 추가", description = "녹음 중 마커를 대기열에 추가합니다. 대기열이 차면 압축 블록으로 저장됩니다")
+    public ResponseEntity<Map<String, Object>> appendMarkers(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long audioId,
+            @Valid @RequestBody AudioSyncRequest.AppendMarkers request) {
+        int pending = syncMarkerService.append(user, audioId, request.getMarkers());
+        return ResponseEntity.ok(Map.of("audioId", audioId, "accepted", request.getMarkers().size(), "pending", pending));
+    }
+
+    @PostMapping("/{audioId}/markers/seal")
+    @Operation(summary = "동기화 마커 대기열 저장", description = "녹음을 마칠 때 대기 중인 마커를 즉시 블록으로 저장합니다")
+    public ResponseEntity<Map<String, Object>> sealMarkers(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long audioId) {
+        int sealed = syncMarkerService.seal(user, audioId);
+        return ResponseEntity.ok(Map.of("audioId", audioId, "sealed", sealed));
+    }
+
+    @GetMapping("/{audioId}/markers")
+    @Operation(summary = "동기화 마커 조회", description = "[fromMs, toMs) 구간의 마커를 위치 순으로 반환합니다")
+    public ResponseEntity<AudioSyncResponse.Markers> getMarkers(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long audioId,
+            @RequestParam(defaultValue = "0") long fromMs,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) long toMs) {
+        if (toMs < fromMs) {
+            throw new RuntimeException("잘못된 재생 구간입니다");
+        }
+        return ResponseEntity.ok(syncMarkerService.getMarkers(user, audioId, fromMs, toMs));
+    }
+
+    @GetMapping(value = "/{audioId}/timeline", produces = AudioTimelineService.MEDIA_TYPE)
+    @Operation(summary = "재생 타임라인 스트리밍",
+            description = "[fromMs, toMs) 구간의 텍스트, 필기, 마커를 위치 순으로 병합하여 한 줄에 하나씩(NDJSON) 스트리밍합니다")
+    public ResponseEntity<StreamingResponseBody> getTimeline(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long audioId,
+            @RequestParam(defaultValue = "0") long fromMs,
+            @RequestParam(defaultValue = "" + Long.MAX_VALUE) long toMs,
+            HttpServletRequest request) {
+        if (fromMs < 0 || toMs < fromMs) {
+            throw new RuntimeException("잘못된 재생 구간입니다");
+        }
+        audioTimelineService.checkOwner(user, audioId);
+        StreamingResponseBody body = out -> audioTimelineService.writeTimeline(audioId, fromMs, toMs, out);
+        if (ResponseCompression.acceptsGzip(request)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(AudioTimelineService.MEDIA_TYPE))
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .body(ResponseCompression.gzip(body));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(AudioTimelineService.MEDIA_TYPE))
+                .body(body);
+    }
+}
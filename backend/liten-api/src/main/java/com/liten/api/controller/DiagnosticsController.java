@@ -0,0 +1,65 @@
+package com.liten.api.controller;
+
+import com.liten.api.diagnostics.FlightRecordingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/diagnostics")
+@RequiredArgsConstructor
+@Tag(name = "Diagnostics", description = "운영 진단 API")
+public class DiagnosticsController {
+
+    private final FlightRecordingService flightRecordingService;
+
+    @PostMapping("/flight-recording")
+    @Operation(summary = "JFR 기록",
+            description = "seconds 동안 JFR 을 기록해 .jfr 파일로 돌려줍니다. X-Diagnostics-Token 헤더가 app.diagnostics.recording.token 과 같아야 합니다")
+    public ResponseEntity<StreamingResponseBody> recordFlight(
+            @RequestHeader(value = "X-Diagnostics-Token", required = false) String token,
+            @RequestParam(defaultValue = "30") long seconds) throws IOException, InterruptedException {
+        if (!flightRecordingService.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!flightRecordingService.isAuthorized(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (seconds <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        Path file;
+        try {
+            file = flightRecordingService.record(Duration.ofSeconds(seconds));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(file))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.getFileName().toString())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
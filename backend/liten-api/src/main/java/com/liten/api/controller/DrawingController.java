@@ -0,0 +1,177 @@
+package com.liten.api.controller;
+
+import com.liten.api.dto.DrawingResponse;
+import com.liten.api.model.User;
+import com.liten.api.service.DrawingService;
+import com.liten.api.utils.ResponseCompression;
+import com.liten.api.utils.stroke.ConcatStrokeReader;
+import com.liten.api.utils.stroke.StrokeDecoder;
+import com.liten.api.utils.stroke.StrokeEncoder;
+import com.liten.api.utils.stroke.StrokeFormat;
+import com.liten.api.utils.stroke.StrokeJsonCodec;
+import com.liten.api.utils.stroke.StrokeReader;
+import com.liten.api.utils.stroke.ViewportStrokeReader;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/drawing")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Drawing", description = "필기 컨텐츠 API")
+public class DrawingController {
+
+    private final DrawingService drawingService;
+
+    @GetMapping("/{drawingId}")
+    @Operation(summary = "필기 요약 조회", description = "스트로크 데이터 없이 메타데이터만 반환합니다")
+    public ResponseEntity<DrawingResponse.Summary> getSummary(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long drawingId) {
+        return ResponseEntity.ok(drawingService.getSummary(user, drawingId));
+    }
+
+    @GetMapping(value = "/{drawingId}/strokes", produces = StrokeFormat.MEDIA_TYPE)
+    @Operation(summary = "스트로크 조회 (바이너리)", description = "기본 데이터와 추가 세그먼트를 하나의 LSTK 스트림으로 반환합니다")
+    public ResponseEntity<StreamingResponseBody> getStrokesBinary(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long drawingId) {
+        if (drawingService.isSingleBlock(user, drawingId)) {
+            StreamingResponseBody body = out -> drawingService.readStrokeData(drawingId, data -> data.transferTo(out));
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(StrokeFormat.MEDIA_TYPE))
+                    .body(body);
+        }
+        List<byte[]> blocks = drawingService.getStrokeBlocks(user, drawingId);
+        if (blocks.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        StreamingResponseBody body = out -> {
+            if (blocks.size() == 1) {
+                out.write(blocks.get(0));
+                return;
+            }
+            try (ConcatStrokeReader reader = new ConcatStrokeReader(blocks)) {
+                StrokeEncoder encoder = new StrokeEncoder(out);
+                reader.transferTo(encoder);
+                encoder.finish();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(StrokeFormat.MEDIA_TYPE))
+                .body(body);
+    }
+
+    @GetMapping(value = "/{drawingId}/strokes", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "스트로크 조회 (JSON)", description = "스트로크를 레거시 JSON 형태로 스트리밍합니다")
+    public ResponseEntity<StreamingResponseBody> getStrokesJson(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long drawingId,
+            HttpServletRequest request) {
+        StreamingResponseBody body;
+        if (drawingService.isSingleBlock(user, drawingId)) {
+            body = out -> drawingService.readStrokeData(drawingId, data -> {
+                try (StrokeDecoder decoder = new StrokeDecoder(data)) {
+                    StrokeJsonCodec.binaryToJson(decoder, out);
+                }
+            });
+        } else {
+            List<byte[]> blocks = drawingService.getStrokeBlocks(user, drawingId);
+            if (blocks.isEmpty()) {
+                return ResponseEntity.noContent().build();
+            }
+            body = out -> {
+                try (ConcatStrokeReader reader = new ConcatStrokeReader(blocks)) {
+                    StrokeJsonCodec.binaryToJson(reader, out);
+                }
+            };
+        }
+        if (ResponseCompression.acceptsGzip(request)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .body(ResponseCompression.gzip(body));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "/{drawingId}/strokes/viewport", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "뷰포트 스트로크 조회", description = "사각형 영역과 겹치는 스트로크만 요청한 상세 수준(LOD)으로 반환합니다")
+    public ResponseEntity<StreamingResponseBody> getViewportStrokes(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long drawingId,
+            @RequestParam float left,
+            @RequestParam float top,
+            @RequestParam float right,
+            @RequestParam float bottom,
+            @RequestParam(defaultValue = "0") int lod) throws IOException {
+        if (right < left || bottom < top) {
+            throw new RuntimeException("잘못된 뷰포트 영역입니다");
+        }
+        StrokeReader strokes = drawingService.openViewportStrokes(user, drawingId, left, top, right, bottom);
+        StreamingResponseBody body = out -> {
+            try (ViewportStrokeReader reader = new ViewportStrokeReader(strokes, left, top, right, bottom, lod)) {
+                StrokeJsonCodec.binaryToJson(reader, out);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @PutMapping(value = "/{drawingId}/strokes", consumes = StrokeFormat.MEDIA_TYPE)
+    @Operation(summary = "스트로크 저장 (바이너리)", description = "LSTK 바이너리 스트로크 데이터를 저장합니다")
+    public ResponseEntity<Map<String, Object>> saveStrokesBinary(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long drawingId,
+            @RequestBody byte[] data) {
+        int strokeCount = drawingService.saveStrokesBinary(user, drawingId, data);
+        return ResponseEntity.ok(Map.of("drawingId", drawingId, "strokeCount", strokeCount));
+    }
+
+    @PutMapping(value = "/{drawingId}/strokes", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "스트로크 저장 (JSON)", description = "레거시 JSON 스트로크를 바이너리로 변환하여 저장합니다")
+    public ResponseEntity<Map<String, Object>> saveStrokesJson(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long drawingId,
+            HttpServletRequest request) throws IOException {
+        int strokeCount = drawingService.saveStrokesFromJson(user, drawingId, request.getInputStream());
+        return ResponseEntity.ok(Map.of("drawingId", drawingId, "strokeCount", strokeCount));
+    }
+
+    @PostMapping(value = "/{drawingId}/strokes", consumes = StrokeFormat.MEDIA_TYPE)
+    @Operation(summary = "스트로크 추가 (바이너리)", description = "새 스트로크 묶음만 세그먼트로 추가합니다")
+    public ResponseEntity<Map<String, Object>> appendStrokesBinary(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long drawingId,
+            @RequestBody byte[] data) {
+        int strokeCount = drawingService.appendStrokesBinary(user, drawingId, data);
+        return ResponseEntity.ok(Map.of("drawingId", drawingId, "strokeCount", strokeCount));
+    }
+
+    @PostMapping(value = "/{drawingId}/strokes", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "스트로크 추가 (JSON)", description = "새 스트로크 묶음만 세그먼트로 추가합니다")
+    public ResponseEntity<Map<String, Object>> appendStrokesJson(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long drawingId,
+            HttpServletRequest request) throws IOException {
+        int strokeCount = drawingService.appendStrokesFromJson(user, drawingId, request.getInputStream());
+        return ResponseEntity.ok(Map.of("drawingId", drawingId, "strokeCount", strokeCount));
+    }
+}
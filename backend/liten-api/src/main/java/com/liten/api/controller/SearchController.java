@@ -0,0 +1,40 @@
+package com.liten.api.controller;
+
+import com.liten.api.dto.SearchResponse;
+import com.liten.api.model.User;
+import com.liten.api.service.SearchIndexService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/search")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Search", description = "전문 검색 API")
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+
+    @GetMapping
+    @Operation(summary = "통합 검색", description = "공간 제목/설명, 텍스트 노트, 음성 전사문을 검색합니다")
+    public ResponseEntity<SearchResponse.Result> search(
+            @AuthenticationPrincipal User user,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(searchIndexService.search(user.getUserId(), query, limit));
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(summary = "검색 인덱스 재생성", description = "현재 사용자의 검색 인덱스를 DB 로부터 다시 만듭니다")
+    public ResponseEntity<Map<String, Object>> rebuild(@AuthenticationPrincipal User user) {
+        int documents = searchIndexService.rebuildUser(user.getUserId());
+        return ResponseEntity.ok(Map.of("documents", documents));
+    }
+}
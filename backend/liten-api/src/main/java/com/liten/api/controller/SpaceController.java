@@ -0,0 +1,143 @@
+package com.liten.api.controller;
+
+import com.liten.api.config.SkipRehydration;
+import com.liten.api.dto.DeletionResponse;
+import com.liten.api.dto.DrawingResponse;
+import com.liten.api.dto.SpaceRequest;
+import com.liten.api.dto.SpaceResponse;
+import com.liten.api.dto.TextResponse;
+import com.liten.api.model.LitenSpace;
+import com.liten.api.model.User;
+import com.liten.api.service.DeletionJobService;
+import com.liten.api.service.DrawingService;
+import com.liten.api.service.ListOrderService;
+import com.liten.api.service.LitenSpaceService;
+import com.liten.api.service.SpaceExportService;
+import com.liten.api.service.TextContentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/spaces")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Space", description = "리튼 공간 API")
+public class SpaceController {
+
+    private final LitenSpaceService litenSpaceService;
+    private final TextContentService textContentService;
+    private final DrawingService drawingService;
+    private final ListOrderService listOrderService;
+    private final DeletionJobService deletionJobService;
+    private final SpaceExportService spaceExportService;
+
+    @GetMapping
+    @Operation(summary = "홈 화면 공간 목록",
+            description = "정렬 순서대로 공간과 컨텐츠 수를 한 페이지씩 반환합니다. 다음 페이지는 응답의 nextCursor 로 조회합니다")
+    public ResponseEntity<SpaceResponse.Dashboard> getDashboard(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "ALL") LitenSpaceService.DashboardFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(litenSpaceService.getDashboard(user, filter, cursor, size));
+    }
+
+    @PutMapping("/{spaceId}/archive")
+    @SkipRehydration
+    @Operation(summary = "공간 보관/보관 해제",
+            description = "보관한 공간은 오래 쓰지 않으면 콜드 저장소로 옮겨지며, 다시 열 때 자동으로 불러옵니다")
+    public ResponseEntity<Map<String, Object>> archiveSpace(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long spaceId,
+            @RequestBody SpaceRequest.Archive request) {
+        LitenSpace space = litenSpaceService.setArchived(user, spaceId, Boolean.TRUE.equals(request.getArchived()));
+        return ResponseEntity.ok(Map.of("spaceId", spaceId, "isArchived", space.getIsArchived()));
+    }
+
+    @DeleteMapping("/{spaceId}")
+    @SkipRehydration
+    @Operation(summary = "공간 삭제",
+            description = "공간을 바로 숨기고 소속 컨텐츠와 파일을 백그라운드에서 삭제합니다. 진행 상황은 /users/me/deletions/{jobId} 로 조회합니다")
+    public ResponseEntity<DeletionResponse.Job> deleteSpace(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long spaceId) {
+        return ResponseEntity.accepted().body(deletionJobService.requestSpaceDeletion(user, spaceId));
+    }
+
+    @GetMapping(value = "/{spaceId}/export", produces = SpaceExportService.MEDIA_TYPE)
+    @Operation(summary = "공간 내보내기",
+            description = "공간의 텍스트 노트, 필기, 오디오, 동기화 마커를 manifest.ndjson 과 함께 ZIP 으로 스트리밍합니다. 유료 플랜 전용")
+    public ResponseEntity<StreamingResponseBody> exportSpace(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long spaceId) {
+        LitenSpace space = spaceExportService.prepareExport(user, spaceId);
+        StreamingResponseBody body = out -> spaceExportService.writeArchive(user, space, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(SpaceExportService.MEDIA_TYPE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("liten-space-" + spaceId + ".zip")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @GetMapping("/{spaceId}/texts")
+    @Operation(summary = "텍스트 노트 목록", description = "본문 없이 요약만 반환합니다. 본문은 /text/{textId} 로 조회합니다")
+    public ResponseEntity<List<TextResponse.Summary>> getTexts(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long spaceId) {
+        return ResponseEntity.ok(textContentService.getSummaries(user, spaceId));
+    }
+
+    @GetMapping("/{spaceId}/drawings")
+    @Operation(summary = "필기 목록", description = "스트로크 데이터 없이 요약만 반환합니다. 스트로크는 /drawing/{drawingId}/strokes 로 조회합니다")
+    public ResponseEntity<List<DrawingResponse.Summary>> getDrawings(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long spaceId) {
+        return ResponseEntity.ok(drawingService.getSummaries(user, spaceId));
+    }
+
+    @PutMapping("/{spaceId}/position")
+    @Operation(summary = "공간 순서 변경", description = "afterId 공간 바로 뒤로 옮깁니다. afterId 가 없으면 맨 앞으로 옮깁니다")
+    public ResponseEntity<Map<String, Object>> moveSpace(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long spaceId,
+            @RequestBody SpaceRequest.Move request) {
+        String sortKey = listOrderService.moveSpace(user, spaceId, request.getAfterId());
+        return ResponseEntity.ok(Map.of("spaceId", spaceId, "sortKey", sortKey));
+    }
+
+    @PutMapping("/{spaceId}/texts/{textId}/position")
+    @Operation(summary = "텍스트 노트 순서 변경", description = "공간 안에서 afterId 텍스트 바로 뒤로 옮깁니다. afterId 가 없으면 맨 앞으로 옮깁니다")
+    public ResponseEntity<Map<String, Object>> moveText(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long spaceId,
+            @PathVariable Long textId,
+            @RequestBody SpaceRequest.Move request) {
+        String sortKey = listOrderService.moveText(user, spaceId, textId, request.getAfterId());
+        return ResponseEntity.ok(Map.of("textId", textId, "sortKey", sortKey));
+    }
+
+    @PutMapping("/{spaceId}/drawings/{drawingId}/position")
+    @Operation(summary = "필기 순서 변경", description = "공간 안에서 afterId 필기 바로 뒤로 옮깁니다. afterId 가 없으면 맨 앞으로 옮깁니다")
+    public ResponseEntity<Map<String, Object>> moveDrawing(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long spaceId,
+            @PathVariable Long drawingId,
+            @RequestBody SpaceRequest.Move request) {
+        String sortKey = listOrderService.moveDrawing(user, spaceId, drawingId, request.getAfterId());
+        return ResponseEntity.ok(Map.of("drawingId", drawingId, "sortKey", sortKey));
+    }
+}
@@ -0,0 +1,116 @@
+package com.liten.api.controller;
+
+import com.liten.api.dto.TextRequest;
+import com.liten.api.dto.TextResponse;
+import com.liten.api.model.TextContent;
+import com.liten.api.model.User;
+import com.liten.api.repository.ContentBodyRepository;
+import com.liten.api.repository.projection.TextVersionInfo;
+import com.liten.api.service.TextContentService;
+import com.liten.api.utils.ResponseCompression;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/text")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Text", description = "텍스트 컨텐츠 API")
+public class TextController {
+
+    private final TextContentService textContentService;
+
+    @GetMapping("/{textId}")
+    @Operation(summary = "텍스트 조회", description = "최신 버전의 본문을 반환합니다")
+    public ResponseEntity<TextResponse.Detail> getText(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long textId) {
+        return ResponseEntity.ok(textContentService.getText(user, textId));
+    }
+
+    @GetMapping("/{textId}/summary")
+    @Operation(summary = "텍스트 요약 조회", description = "본문 없이 버전과 길이 등 메타데이터만 반환합니다")
+    public ResponseEntity<TextResponse.Summary> getSummary(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long textId) {
+        return ResponseEntity.ok(textContentService.getSummary(user, textId));
+    }
+
+    @GetMapping("/{textId}/content")
+    @Operation(summary = "본문 스트리밍", description = "본문을 JSON 으로 감싸지 않고 그대로 스트리밍합니다. Accept-Encoding 에 gzip 이 있으면 압축합니다")
+    public ResponseEntity<StreamingResponseBody> getContent(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long textId,
+            HttpServletRequest request) {
+        TextVersionInfo info = textContentService.getVersionInfo(user, textId);
+        MediaType mediaType = info.getFormatType() == TextContent.FormatType.MARKDOWN
+                ? new MediaType("text", "markdown", StandardCharsets.UTF_8)
+                : new MediaType("text", "plain", StandardCharsets.UTF_8);
+        return streamBody(info, ContentBodyRepository.TextColumn.CONTENT, mediaType, request);
+    }
+
+    @GetMapping("/{textId}/plain-text")
+    @Operation(summary = "일반 텍스트 스트리밍", description = "서식을 제거한 본문을 그대로 스트리밍합니다. Accept-Encoding 에 gzip 이 있으면 압축합니다")
+    public ResponseEntity<StreamingResponseBody> getPlainText(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long textId,
+            HttpServletRequest request) {
+        TextVersionInfo info = textContentService.getVersionInfo(user, textId);
+        return streamBody(info, ContentBodyRepository.TextColumn.PLAIN_TEXT,
+                new MediaType("text", "plain", StandardCharsets.UTF_8), request);
+    }
+
+    @PatchMapping("/{textId}")
+    @Operation(summary = "텍스트 수정 (패치)", description = "기준 버전에 대한 편집 내역만 저장합니다. 버전이 다르면 409 를 반환합니다")
+    public ResponseEntity<TextResponse.PatchResult> patchText(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long textId,
+            @Valid @RequestBody TextRequest.Patch request) {
+        return ResponseEntity.ok(textContentService.applyPatch(user, textId, request));
+    }
+
+    @GetMapping("/{textId}/versions/{version}")
+    @Operation(summary = "과거 버전 조회", description = "지정한 버전 시점의 본문을 복원하여 반환합니다")
+    public ResponseEntity<TextResponse.Detail> getVersion(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long textId,
+            @PathVariable Long version) {
+        return ResponseEntity.ok(textContentService.getVersion(user, textId, version));
+    }
+
+    @GetMapping("/{textId}/patches")
+    @Operation(summary = "패치 조회", description = "지정한 버전 이후의 편집 내역을 순서대로 반환합니다")
+    public ResponseEntity<List<TextResponse.PatchEntry>> getPatches(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long textId,
+            @RequestParam(defaultValue = "0") Long since) {
+        return ResponseEntity.ok(textContentService.getPatchesSince(user, textId, since));
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamBody(TextVersionInfo info,
+                                                             ContentBodyRepository.TextColumn column,
+                                                             MediaType mediaType,
+                                                             HttpServletRequest request) {
+        StreamingResponseBody body = out -> textContentService.writeBody(info, column, out);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (ResponseCompression.acceptsGzip(request)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(ResponseCompression.gzip(body));
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,79 @@
+package com.liten.api.controller;
+
+import com.liten.api.dto.BootstrapImport;
+import com.liten.api.dto.DeletionResponse;
+import com.liten.api.dto.QuotaResponse;
+import com.liten.api.model.User;
+import com.liten.api.service.BootstrapImportService;
+import com.liten.api.service.DeletionJobService;
+import com.liten.api.service.QuotaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "User", description = "사용자 API")
+public class UserController {
+
+    private final QuotaService quotaService;
+    private final DeletionJobService deletionJobService;
+    private final BootstrapImportService bootstrapImportService;
+
+    @GetMapping("/me/quota")
+    @Operation(summary = "사용량 조회", description = "현재 구독 플랜의 공간 수/저장 용량 사용량과 한도를 반환합니다")
+    public ResponseEntity<QuotaResponse.Usage> getQuota(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(quotaService.getUsage(user));
+    }
+
+    @PostMapping(value = "/me/bootstrap", consumes = BootstrapImportService.MEDIA_TYPE)
+    @Operation(summary = "기기 데이터 일괄 가져오기",
+            description = "기기 DB 의 공간/오디오/텍스트/필기/마커를 한 줄에 하나씩(NDJSON) 받아 청크 단위로 저장합니다. "
+                    + "Content-Encoding: gzip 을 지원하며, 기기 ID 와 생성된 서버 ID 의 대응을 반환합니다. 유료 플랜 전용")
+    public ResponseEntity<BootstrapImport.Result> bootstrap(
+            @AuthenticationPrincipal User user,
+            HttpServletRequest request) throws IOException {
+        InputStream body = request.getInputStream();
+        if ("gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+            body = new GZIPInputStream(body, 8192);
+        }
+        return ResponseEntity.ok(bootstrapImportService.importLines(user, body));
+    }
+
+    @DeleteMapping("/me")
+    @Operation(summary = "계정 삭제",
+            description = "계정을 바로 비활성화하고 모든 공간과 컨텐츠를 백그라운드에서 삭제합니다. 삭제 작업 정보를 반환합니다")
+    public ResponseEntity<DeletionResponse.Job> deleteAccount(@AuthenticationPrincipal User user) {
+        return ResponseEntity.accepted().body(deletionJobService.requestAccountDeletion(user));
+    }
+
+    @GetMapping("/me/deletions/{jobId}")
+    @Operation(summary = "삭제 작업 조회", description = "공간 삭제 작업의 진행 단계와 삭제한 행 수를 반환합니다")
+    public ResponseEntity<DeletionResponse.Job> getDeletionJob(
+            @AuthenticationPrincipal User user,
+            @PathVariable Long jobId) {
+        return ResponseEntity.ok(deletionJobService.getJob(user, jobId));
+    }
+
+    @GetMapping("/deletions/{jobId}")
+    @Operation(summary = "계정 삭제 작업 조회",
+            description = "계정 삭제 응답의 statusToken 을 X-Deletion-Token 헤더로 보내 진행 상황을 조회합니다. "
+                    + "계정은 삭제 요청 즉시 비활성화되므로 로그인 없이 조회합니다")
+    public ResponseEntity<DeletionResponse.Job> getAccountDeletionJob(
+            @PathVariable Long jobId,
+            @RequestHeader("X-Deletion-Token") String statusToken) {
+        return ResponseEntity.ok(deletionJobService.getJobByToken(jobId, statusToken));
+    }
+}
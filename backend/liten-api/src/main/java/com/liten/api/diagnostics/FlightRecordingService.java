@@ -0,0 +1,95 @@
+package com.liten.api.diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * 요청 시 정해진 시간만큼 JFR 기록을 만든다. 기본 JDK 이벤트(app.diagnostics.recording.settings)에 더해
+ * liten.* 이벤트를 켜므로 요청 ID 로 요청/토큰 검증/트랜잭션/리포지토리/S3 구간을 나눠 볼 수 있다.
+ *
+ * <p>liten.* 이벤트는 기본으로 꺼져 있어 기록 중이 아닐 때는 이벤트 객체 생성과 활성 여부 확인만 한다.
+ * 한 번에 하나의 기록만 허용한다.
+ */
+@Service
+@Slf4j
+public class FlightRecordingService {
+
+    private static final List<Class<? extends jdk.jfr.Event>> EVENTS = List.of(
+            RequestEvent.class, TokenVerificationEvent.class, TransactionEvent.class,
+            RepositoryCallEvent.class, StorageOperationEvent.class);
+
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    @Value("${app.diagnostics.recording.token:}")
+    private String token;
+
+    @Value("${app.diagnostics.recording.max-seconds:300}")
+    private long maxSeconds;
+
+    @Value("${app.diagnostics.recording.settings:profile}")
+    private String settings;
+
+    public boolean isEnabled() {
+        return !token.isBlank();
+    }
+
+    /**
+     * 설정된 토큰과 같은지 상수 시간으로 비교한다. 토큰이 설정되지 않았으면 항상 false.
+     */
+    public boolean isAuthorized(String presented) {
+        return isEnabled() && presented != null
+                && MessageDigest.isEqual(token.getBytes(UTF_8), presented.getBytes(UTF_8));
+    }
+
+    /**
+     * duration 동안 기록한 뒤 임시 .jfr 파일 경로를 돌려준다. 파일은 호출한 쪽이 지운다.
+     *
+     * @throws IllegalStateException 이미 기록 중일 때
+     */
+    public Path record(Duration duration) throws IOException, InterruptedException {
+        Duration bounded = duration.compareTo(Duration.ofSeconds(maxSeconds)) > 0
+                ? Duration.ofSeconds(maxSeconds) : duration;
+        if (!recording.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 진행 중인 JFR 기록이 있습니다");
+        }
+        try (Recording jfr = new Recording(configuration())) {
+            jfr.setName("liten-on-demand");
+            jfr.setToDisk(true);
+            for (Class<? extends jdk.jfr.Event> event : EVENTS) {
+                jfr.enable(event);
+            }
+            log.info("JFR 기록 시작: {}초", bounded.toSeconds());
+            jfr.start();
+            Thread.sleep(bounded.toMillis());
+            jfr.stop();
+            Path file = Files.createTempFile("liten-", ".jfr");
+            jfr.dump(file);
+            log.info("JFR 기록 완료: {} bytes", Files.size(file));
+            return file;
+        } finally {
+            recording.set(false);
+        }
+    }
+
+    private Configuration configuration() throws IOException {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (ParseException e) {
+            throw new IOException("JFR 설정을 읽을 수 없습니다: " + settings, e);
+        }
+    }
+}
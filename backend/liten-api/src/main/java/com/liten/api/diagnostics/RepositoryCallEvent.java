@@ -0,0 +1,78 @@
+package com.liten.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 리포지토리 메서드 호출 하나. 호출 중에 Hibernate 가 보낸 첫 SQL 의 모양(파라미터 자리표시자만 남긴 문장)과 문장 수를 함께 남긴다.
+ * JdbcTemplate 리포지토리의 SQL 은 Hibernate 를 거치지 않으므로 repository/method 로 구분한다.
+ */
+@Name("liten.RepositoryCall")
+@Label("Repository Call")
+@Category({"Liten", "Persistence"})
+@Enabled(false)
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    private static final ThreadLocal<RepositoryCallEvent> CURRENT = new ThreadLocal<>();
+
+    @Label("Request Id")
+    public String requestId;
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("SQL")
+    public String sql;
+
+    @Label("Statements")
+    public int statements;
+
+    @Label("Rows")
+    public long rows = -1;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+
+    private transient RepositoryCallEvent outer;
+    private transient boolean entered;
+
+    /**
+     * 이 스레드에서 진행 중인 호출로 둔다. 기록 중이 아니면 아무것도 하지 않는다.
+     */
+    public void enter() {
+        if (isEnabled()) {
+            outer = CURRENT.get();
+            CURRENT.set(this);
+            entered = true;
+        }
+    }
+
+    public void exit() {
+        if (entered) {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+            entered = false;
+        }
+    }
+
+    static void statementPrepared(String sql) {
+        RepositoryCallEvent call = CURRENT.get();
+        if (call != null) {
+            call.statements++;
+            if (call.sql == null) {
+                call.sql = SqlShapes.of(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.liten.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 요청 하나의 전체 구간 (보안 필터 포함, 스트리밍 응답 본문 제외).
+ */
+@Name("liten.Request")
+@Label("Request")
+@Category({"Liten", "Request"})
+@Enabled(false)
+@StackTrace(false)
+class RequestEvent extends Event {
+
+    @Label("Request Id")
+    String requestId;
+
+    @Label("Method")
+    String method;
+
+    @Label("Path")
+    String path;
+
+    @Label("Route")
+    String route;
+
+    @Label("Status")
+    int status;
+}
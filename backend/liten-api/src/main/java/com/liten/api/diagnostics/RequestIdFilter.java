@@ -0,0 +1,63 @@
+package com.liten.api.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * 요청마다 ID 를 정해 MDC 와 응답 헤더에 넣고, JFR 이 켜져 있으면 요청 전체 구간을 {@link RequestEvent} 로 남긴다.
+ * 보안 필터보다 먼저 실행되어 토큰 검증도 이 구간 안에 들어간다.
+ *
+ * <p>프록시가 붙인 X-Request-Id 가 있으면 그대로 쓴다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+
+        String requestId = request.getHeader(RequestIds.HEADER);
+        if (requestId == null || !VALID_ID.matcher(requestId).matches()) {
+            requestId = HexFormat.of().toHexDigits(ThreadLocalRandom.current().nextLong());
+        }
+        MDC.put(RequestIds.MDC_KEY, requestId);
+        response.setHeader(RequestIds.HEADER, requestId);
+
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.requestId = requestId;
+                event.method = request.getMethod();
+                event.path = request.getRequestURI();
+                Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                event.route = route != null ? route.toString() : null;
+                event.status = response.getStatus();
+                event.commit();
+            }
+            MDC.remove(RequestIds.MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.liten.api.diagnostics;
+
+import org.slf4j.MDC;
+
+/**
+ * 요청 ID. {@link RequestIdFilter} 가 요청 스레드의 MDC 에 넣어 두므로 로그와 JFR 이벤트가 같은 값을 쓴다.
+ * 요청 밖(스케줄러, @Async)에서는 null 이다.
+ */
+public final class RequestIds {
+
+    public static final String MDC_KEY = "requestId";
+    public static final String HEADER = "X-Request-Id";
+
+    private RequestIds() {
+    }
+
+    public static String current() {
+        return MDC.get(MDC_KEY);
+    }
+}
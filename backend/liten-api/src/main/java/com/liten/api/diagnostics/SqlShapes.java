@@ -0,0 +1,22 @@
+package com.liten.api.diagnostics;
+
+import java.util.regex.Pattern;
+
+/**
+ * JFR 이벤트에 남길 SQL 모양. Hibernate 가 만든 문장은 이미 값 대신 ? 를 쓰므로 공백을 줄이고
+ * IN 목록처럼 길이가 바뀌는 자리표시자 나열을 하나로 합쳐 같은 쿼리가 같은 문자열이 되게 한다.
+ */
+final class SqlShapes {
+
+    private static final int MAX_LENGTH = 2000;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\?(?:\\s*,\\s*\\?)+");
+
+    private SqlShapes() {
+    }
+
+    static String of(String sql) {
+        String shape = PLACEHOLDER_LIST.matcher(WHITESPACE.matcher(sql).replaceAll(" ").trim()).replaceAll("?...");
+        return shape.length() > MAX_LENGTH ? shape.substring(0, MAX_LENGTH) : shape;
+    }
+}
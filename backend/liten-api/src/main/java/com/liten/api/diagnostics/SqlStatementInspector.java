@@ -0,0 +1,17 @@
+package com.liten.api.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 보내는 문장을 진행 중인 리포지토리 호출과 트랜잭션 이벤트에 붙인다. 기록 중이 아니면
+ * ThreadLocal 조회 두 번만 하고 문장은 바꾸지 않는다.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RepositoryCallEvent.statementPrepared(sql);
+        TransactionEventListener.statementPrepared();
+        return sql;
+    }
+}
@@ -0,0 +1,33 @@
+package com.liten.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * S3 호출 하나. 시간은 응답 헤더를 받을 때까지이다.
+ */
+@Name("liten.StorageOperation")
+@Label("Storage Operation")
+@Category({"Liten", "Storage"})
+@Enabled(false)
+@StackTrace(false)
+public class StorageOperationEvent extends Event {
+
+    @Label("Request Id")
+    public String requestId;
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes = -1;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
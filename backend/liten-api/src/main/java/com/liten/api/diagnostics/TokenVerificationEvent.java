@@ -0,0 +1,25 @@
+package com.liten.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JWT 파싱과 서명 검증.
+ */
+@Name("liten.TokenVerification")
+@Label("Token Verification")
+@Category({"Liten", "Auth"})
+@Enabled(false)
+@StackTrace(false)
+public class TokenVerificationEvent extends Event {
+
+    @Label("Request Id")
+    public String requestId;
+
+    @Label("Verified")
+    public boolean verified;
+}
@@ -0,0 +1,37 @@
+package com.liten.api.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 트랜잭션 하나의 시작(커넥션 획득 포함)부터 커밋/롤백까지. 기존 트랜잭션에 참여하는 경우는 남기지 않는다.
+ */
+@Name("liten.Transaction")
+@Label("Transaction")
+@Category({"Liten", "Persistence"})
+@Enabled(false)
+@StackTrace(false)
+class TransactionEvent extends Event {
+
+    @Label("Request Id")
+    String requestId;
+
+    @Label("Name")
+    String name;
+
+    @Label("Read Only")
+    boolean readOnly;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Statements")
+    int statements;
+
+    transient Object execution;
+    transient TransactionEvent outer;
+}
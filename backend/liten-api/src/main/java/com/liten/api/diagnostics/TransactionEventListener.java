@@ -0,0 +1,72 @@
+package com.liten.api.diagnostics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * 트랜잭션 경계를 {@link TransactionEvent} 로 남긴다. Boot 가 JPA 트랜잭션 관리자에 등록한다.
+ *
+ * <p>REQUIRES_NEW 처럼 안쪽에서 새 트랜잭션이 열릴 수 있으므로 스레드별로 겹쳐 쌓는다.
+ * 기록 중이 아닐 때 시작한 트랜잭션은 쌓지 않고, 끝날 때는 맨 위가 같은 트랜잭션일 때만 꺼낸다.
+ */
+@Component
+public class TransactionEventListener implements TransactionExecutionListener {
+
+    private static final ThreadLocal<TransactionEvent> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public void beforeBegin(TransactionExecution transaction) {
+        TransactionEvent event = new TransactionEvent();
+        if (event.isEnabled()) {
+            event.execution = transaction;
+            event.outer = CURRENT.get();
+            CURRENT.set(event);
+            event.begin();
+        }
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null) {
+            end(transaction, "begin-failed");
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        end(transaction, commitFailure == null ? "commit" : "commit-failed");
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        end(transaction, rollbackFailure == null ? "rollback" : "rollback-failed");
+    }
+
+    static void statementPrepared() {
+        TransactionEvent event = CURRENT.get();
+        if (event != null) {
+            event.statements++;
+        }
+    }
+
+    private void end(TransactionExecution transaction, String outcome) {
+        TransactionEvent event = CURRENT.get();
+        if (event == null || event.execution != transaction) {
+            return;
+        }
+        if (event.outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(event.outer);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.requestId = RequestIds.current();
+            event.name = transaction.getTransactionName();
+            event.readOnly = transaction.isReadOnly();
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+}
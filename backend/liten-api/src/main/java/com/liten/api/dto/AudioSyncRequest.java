@@ -0,0 +1,45 @@
+package com.liten.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class AudioSyncRequest {
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Marker {
+        @NotNull(message = "재생 위치는 필수입니다")
+        @PositiveOrZero(message = "재생 위치는 0 이상이어야 합니다")
+        private Long positionMs;
+
+        // 타임라인 인덱스는 종류마다 코드를 두므로 자유 문자열을 받지 않는다. 대소문자는 저장할 때 맞춘다
+        @Pattern(regexp = "(?i)TEXT|DRAWING", message = "컨텐츠 타입은 TEXT 또는 DRAWING 이어야 합니다")
+        private String contentType;
+
+        private Long contentId;
+
+        private String additionalData;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class AppendMarkers {
+        @NotEmpty(message = "마커가 비어 있습니다")
+        @Size(max = 1000, message = "한 번에 1000개까지 추가할 수 있습니다")
+        private List<@Valid Marker> markers;
+    }
+}
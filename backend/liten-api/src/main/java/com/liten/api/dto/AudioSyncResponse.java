@@ -0,0 +1,96 @@
+package com.liten.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class AudioSyncResponse {
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Active {
+        private Long audioId;
+        private Long positionMs;
+        private Entry text;
+        private Entry drawing;
+        private Entry marker;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Window {
+        private Long audioId;
+        private Long fromMs;
+        private Long toMs;
+        private List<Entry> entries;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Markers {
+        private Long audioId;
+        private Long fromMs;
+        private Long toMs;
+        private Integer pendingCount; // 아직 블록으로 저장되지 않은 마커 수
+        private List<Marker> markers;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Marker {
+        private Long syncId; // 기존 sync_timestamps 행만 값이 있다
+        private Long positionMs;
+        private String contentType;
+        private Long contentId;
+        private String additionalData;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Entry {
+        private String type; // "TEXT", "DRAWING", "MARKER"
+        private Long id;
+        private Long positionMs;
+        private String contentType; // 마커만
+        private Long contentId; // 마커만
+    }
+
+    /**
+     * 타임라인 스트림(NDJSON)의 한 줄. 종류에 해당하지 않는 필드는 기록하지 않는다.
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class TimelineEntry {
+        private String type; // "TEXT", "DRAWING", "MARKER"
+        private Long id; // 대기열이나 블록에 있는 마커는 없다
+        private Long positionMs;
+        private Long spaceId;
+        private String formatType; // 텍스트만
+        private Long version; // 텍스트만
+        private Integer contentLength; // 텍스트만
+        private String filename; // 필기만
+        private String thumbnailPath; // 필기만
+        private Integer width; // 필기만
+        private Integer height; // 필기만
+        private String contentType; // 마커만
+        private Long contentId; // 마커만
+        private String additionalData; // 마커만
+    }
+}
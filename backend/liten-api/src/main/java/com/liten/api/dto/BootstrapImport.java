@@ -0,0 +1,74 @@
+package com.liten.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class BootstrapImport {
+
+    /**
+     * 부트스트랩 가져오기 NDJSON 한 줄. 기기 DB 의 행 하나이며 localId 는 기기에서 쓰던 식별자이다.
+     * 부모(공간, 오디오, 마커가 가리키는 컨텐츠)는 앞선 줄의 localId 로 가리키거나, 이미 서버에 있는 행이면
+     * 서버 ID(spaceId, audioId, contentId)로 가리킨다.
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Line {
+        private String type; // "SPACE", "AUDIO", "TEXT", "DRAWING", "MARKER"
+        private String localId; // 마커 제외
+        private String spaceLocalId;
+        private Long spaceId;
+        private String audioLocalId;
+        private Long audioId;
+        private String title; // 공간만
+        private String description; // 공간만
+        private String color; // 공간만
+        private Boolean isFavorite; // 공간만
+        private Boolean isArchived; // 공간만
+        private String filename; // 오디오/필기
+        private String originalFilename; // 오디오만
+        private String filePath; // 오디오/필기. 미리 올린 저장소 키 (users/{userId}/ 아래)
+        private Long fileSize; // 오디오/필기. 무시하고 저장소의 객체 크기를 쓴다
+        private Integer durationSeconds; // 오디오만
+        private String mimeType; // 오디오/필기
+        private String transcription; // 오디오만
+        private String content; // 텍스트만
+        private String plainText; // 텍스트만
+        private String formatType; // 텍스트만
+        private String strokes; // 필기만. 레거시 JSON 스트로크
+        private Integer width; // 필기만
+        private Integer height; // 필기만
+        private Integer audioSyncPosition; // 텍스트/필기
+        private Long positionMs; // 마커만
+        private String contentType; // 마커만. "TEXT", "DRAWING"
+        private String contentLocalId; // 마커만
+        private Long contentId; // 마커만
+        private String additionalData; // 마커만
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    /**
+     * 저장된 행 수와 종류별 localId -> 서버 ID. 실패한 경우에는 실패 전까지 커밋된 행만 담는다.
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        private Integer spaces;
+        private Integer audio;
+        private Integer texts;
+        private Integer drawings;
+        private Integer markers;
+        private Map<String, Map<String, Long>> ids;
+    }
+}
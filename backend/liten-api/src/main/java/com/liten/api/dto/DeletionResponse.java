@@ -0,0 +1,49 @@
+package com.liten.api.dto;
+
+import com.liten.api.model.DeletionJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class DeletionResponse {
+
+    /**
+     * 삭제 작업 진행 상황. currentStep 은 마지막으로 행을 지운 단계이다.
+     * statusToken 은 계정 삭제 요청 응답에만 있으며, 비활성화된 계정이 진행 상황을 조회할 때 쓴다.
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Job {
+        private Long jobId;
+        private String targetType;
+        private Long targetId;
+        private String status;
+        private String currentStep;
+        private Long deletedRows;
+        private String errorMessage;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private LocalDateTime finishedAt;
+        private String statusToken;
+
+        public static Job from(DeletionJob job) {
+            return Job.builder()
+                    .jobId(job.getJobId())
+                    .targetType(job.getTargetType().name())
+                    .targetId(job.getTargetId())
+                    .status(job.getStatus().name())
+                    .currentStep(job.getCurrentStep())
+                    .deletedRows(job.getDeletedRows())
+                    .errorMessage(job.getErrorMessage())
+                    .createdAt(job.getCreatedAt())
+                    .updatedAt(job.getUpdatedAt())
+                    .finishedAt(job.getFinishedAt())
+                    .build();
+        }
+    }
+}
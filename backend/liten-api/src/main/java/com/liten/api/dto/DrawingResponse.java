@@ -0,0 +1,35 @@
+package com.liten.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class DrawingResponse {
+
+    /**
+     * 목록용 요약. 스트로크 본문은 /drawing/{drawingId}/strokes 로 따로 조회한다.
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Summary {
+        private Long drawingId;
+        private Long spaceId;
+        private Long audioId;
+        private String filename;
+        private String filePath;
+        private Long fileSize;
+        private String mimeType;
+        private Integer width;
+        private Integer height;
+        private String thumbnailPath;
+        private Integer audioSyncPosition;
+        private String sortKey;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+}
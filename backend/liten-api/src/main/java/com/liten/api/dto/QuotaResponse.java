@@ -0,0 +1,27 @@
+package com.liten.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class QuotaResponse {
+
+    /**
+     * 현재 플랜의 사용량과 한도. 한도 값이 null 이면 무제한이다.
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Usage {
+        private String plan;
+        private Integer spaceCount;
+        private Long storageBytes;
+        private Integer maxSpaces;
+        private Integer maxAudioPerSpace;
+        private Integer maxTextsPerSpace;
+        private Integer maxDrawingsPerSpace;
+        private Long maxStorageBytes;
+    }
+}
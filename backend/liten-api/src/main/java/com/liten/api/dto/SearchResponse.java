@@ -0,0 +1,37 @@
+package com.liten.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class SearchResponse {
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Result {
+        private String query;
+        private Long totalHits;
+        private Long tookMs;
+        private List<Hit> hits;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Hit {
+        private String type; // "SPACE", "TEXT", "AUDIO"
+        private Long id;
+        private Long spaceId;
+        private Long audioId;
+        private Long audioOffsetMs;
+        private String title;
+        private String snippet;
+        private Float score;
+    }
+}
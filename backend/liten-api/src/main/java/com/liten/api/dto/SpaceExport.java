@@ -0,0 +1,54 @@
+package com.liten.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class SpaceExport {
+
+    /**
+     * 내보내기 ZIP 의 manifest.ndjson 한 줄. 첫 줄은 EXPORT, 그 다음 SPACE 한 줄과 AUDIO, TEXT, DRAWING 이
+     * 각각 ID 순으로 이어진다. 본문/파일은 *Entry 필드의 ZIP 항목 이름으로 찾는다.
+     * 항목 이름이 있는데 ZIP 에 없으면 내보내는 동안 저장소에서 읽지 못한 것이다.
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ManifestEntry {
+        private String type; // "EXPORT", "SPACE", "AUDIO", "TEXT", "DRAWING"
+        private Integer format; // EXPORT 만
+        private LocalDateTime exportedAt; // EXPORT 만
+        private Long id;
+        private Long audioId; // 오디오에 연결된 텍스트/필기
+        private String title; // 공간만
+        private String description; // 공간만
+        private String color; // 공간만
+        private Boolean isFavorite; // 공간만
+        private Boolean isArchived; // 공간만
+        private String sortKey;
+        private String filename;
+        private String originalFilename; // 오디오만
+        private String mimeType;
+        private Long fileSize;
+        private Integer durationSeconds; // 오디오만
+        private Boolean isTranscribed; // 오디오만
+        private String transcription; // 오디오만
+        private String formatType; // 텍스트만
+        private Long version; // 텍스트만
+        private Integer width; // 필기만
+        private Integer height; // 필기만
+        private Integer audioSyncPosition;
+        private String fileEntry; // 오디오/필기 파일
+        private String timelineEntry; // 오디오만. 텍스트/필기/마커 타임라인 NDJSON
+        private String contentEntry; // 텍스트 본문, 필기 스트로크(LSTK)
+        private String plainTextEntry; // 텍스트만
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.liten.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class SpaceRequest {
+
+    /**
+     * 목록 순서 변경. afterId 항목 바로 뒤로 옮기며, null 이면 맨 앞으로 옮긴다.
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Move {
+        private Long afterId;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Archive {
+        private Boolean archived;
+    }
+}
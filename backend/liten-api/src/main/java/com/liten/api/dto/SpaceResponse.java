@@ -0,0 +1,46 @@
+package com.liten.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class SpaceResponse {
+
+    /**
+     * 홈 화면 공간 목록 한 페이지. nextCursor 가 null 이면 마지막 페이지이다.
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Dashboard implements Serializable {
+        private List<DashboardItem> items;
+        private String nextCursor;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class DashboardItem implements Serializable {
+        private Long spaceId;
+        private String title;
+        private String description;
+        private String color;
+        private Boolean isFavorite;
+        private Boolean isArchived;
+        private String storageTier; // "HOT", "COLD". COLD 이면 처음 열 때 컨텐츠를 불러오느라 느릴 수 있다
+        private String sortKey;
+        private Integer audioCount;
+        private Integer textCount;
+        private Integer drawingCount;
+        private LocalDateTime lastActivityAt;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.liten.api.dto;
+
+import com.liten.api.utils.text.TextPatch;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TextRequest {
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Patch {
+        @NotNull(message = "기준 버전은 필수입니다")
+        private Long baseVersion;
+
+        @Builder.Default
+        private List<TextPatch.Edit> contentEdits = new ArrayList<>();
+
+        @Builder.Default
+        private List<TextPatch.Edit> plainTextEdits = new ArrayList<>();
+    }
+}
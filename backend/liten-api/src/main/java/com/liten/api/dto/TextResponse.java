@@ -0,0 +1,74 @@
+package com.liten.api.dto;
+
+import com.liten.api.model.TextContent;
+import com.liten.api.utils.text.TextPatch;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class TextResponse {
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Detail {
+        private Long textId;
+        private Long spaceId;
+        private Long audioId;
+        private Long version;
+        private String content;
+        private String plainText;
+        private TextContent.FormatType formatType;
+        private Integer audioSyncPosition;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    /**
+     * 목록용 요약. 본문 대신 길이만 담는다 (패치 저장 전의 기존 노트는 길이가 비어 있을 수 있다).
+     */
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Summary {
+        private Long textId;
+        private Long spaceId;
+        private Long audioId;
+        private Long version;
+        private TextContent.FormatType formatType;
+        private Integer audioSyncPosition;
+        private String sortKey;
+        private Integer contentLength;
+        private Integer plainTextLength;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class PatchResult {
+        private Long textId;
+        private Long version;
+        private Integer contentLength;
+        private Integer plainTextLength;
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class PatchEntry {
+        private Long version;
+        private List<TextPatch.Edit> contentEdits;
+        private List<TextPatch.Edit> plainTextEdits;
+        private LocalDateTime createdAt;
+    }
+}
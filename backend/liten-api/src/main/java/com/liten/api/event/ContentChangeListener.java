@@ -0,0 +1,80 @@
+package com.liten.api.event;
+
+import com.liten.api.model.AudioContent;
+import com.liten.api.model.BaseEntity;
+import com.liten.api.model.DrawingContent;
+import com.liten.api.model.LitenSpace;
+import com.liten.api.model.SyncTimestamp;
+import com.liten.api.model.TextContent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA 엔티티 리스너. 영속화/수정/삭제 시 {@link ContentChangedEvent} 를 발행한다.
+ * 소프트 삭제(deletedAt 설정)는 DELETED 로 취급한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        publish(entity, ContentChangedEvent.ChangeKind.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        boolean deleted = entity instanceof BaseEntity baseEntity && baseEntity.isDeleted();
+        publish(entity, deleted ? ContentChangedEvent.ChangeKind.DELETED : ContentChangedEvent.ChangeKind.UPDATED);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        publish(entity, ContentChangedEvent.ChangeKind.DELETED);
+    }
+
+    private void publish(Object entity, ContentChangedEvent.ChangeKind kind) {
+        ContentChangedEvent event = toEvent(entity, kind);
+        if (event != null) {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private ContentChangedEvent toEvent(Object entity, ContentChangedEvent.ChangeKind kind) {
+        if (entity instanceof LitenSpace space) {
+            return new ContentChangedEvent(ContentChangedEvent.ContentType.SPACE, kind,
+                    space.getSpaceId(), space.getSpaceId(), null);
+        }
+        if (entity instanceof TextContent text) {
+            return new ContentChangedEvent(ContentChangedEvent.ContentType.TEXT, kind,
+                    text.getTextId(), spaceId(text.getLitenSpace()), audioId(text.getAudioContent()));
+        }
+        if (entity instanceof AudioContent audio) {
+            return new ContentChangedEvent(ContentChangedEvent.ContentType.AUDIO, kind,
+                    audio.getAudioId(), spaceId(audio.getLitenSpace()), audio.getAudioId());
+        }
+        if (entity instanceof DrawingContent drawing) {
+            return new ContentChangedEvent(ContentChangedEvent.ContentType.DRAWING, kind,
+                    drawing.getDrawingId(), spaceId(drawing.getLitenSpace()), audioId(drawing.getAudioContent()));
+        }
+        if (entity instanceof SyncTimestamp sync) {
+            return new ContentChangedEvent(ContentChangedEvent.ContentType.SYNC_TIMESTAMP, kind,
+                    sync.getSyncId(), spaceId(sync.getLitenSpace()), audioId(sync.getAudioContent()));
+        }
+        return null;
+    }
+
+    private static Long spaceId(LitenSpace space) {
+        return space != null ? space.getSpaceId() : null;
+    }
+
+    private static Long audioId(AudioContent audio) {
+        return audio != null ? audio.getAudioId() : null;
+    }
+}
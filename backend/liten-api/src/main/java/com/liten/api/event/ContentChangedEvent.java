@@ -0,0 +1,16 @@
+package com.liten.api.event;
+
+/**
+ * 엔티티 변경 이벤트. 트랜잭션 커밋 후 검색 인덱스 등 파생 데이터를 갱신하는 데 사용한다.
+ * 연관 엔티티를 초기화하지 않도록 식별자만 담는다.
+ */
+public record ContentChangedEvent(ContentType type, ChangeKind kind, Long id, Long spaceId, Long audioId) {
+
+    public enum ContentType {
+        SPACE, TEXT, AUDIO, DRAWING, SYNC_TIMESTAMP
+    }
+
+    public enum ChangeKind {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,56 @@
+package com.liten.api.event;
+
+import com.liten.api.model.AudioContent;
+import com.liten.api.model.DrawingContent;
+import com.liten.api.model.LitenSpace;
+import com.liten.api.model.TextContent;
+import com.liten.api.repository.UsageCounterRepository;
+import com.liten.api.service.QuotaService;
+import jakarta.persistence.PrePersist;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA 엔티티 리스너. 공간/컨텐츠를 영속화하기 직전에 {@link QuotaService} 로 사용 한도를 확인한다.
+ * 한도를 넘으면 {@link com.liten.api.exception.QuotaExceededException} 이 그대로 전파되어 저장이 취소된다.
+ * QuotaService 는 JPA 초기화 이후에 만들어지므로 처음 사용할 때 찾는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuotaListener {
+
+    private final ObjectProvider<QuotaService> quotaService;
+    private final ObjectProvider<UsageCounterRepository> usageCounterRepository;
+
+    @PrePersist
+    public void onPrePersist(Object entity) {
+        if (entity instanceof LitenSpace space) {
+            quotaService.getObject().reserveSpace(space.getUser().getUserId());
+        } else if (entity instanceof AudioContent audio) {
+            reserve(audio.getLitenSpace(), ContentChangedEvent.ContentType.AUDIO, audio.getFileSize());
+        } else if (entity instanceof TextContent text) {
+            reserve(text.getLitenSpace(), ContentChangedEvent.ContentType.TEXT, null);
+        } else if (entity instanceof DrawingContent drawing) {
+            reserve(drawing.getLitenSpace(), ContentChangedEvent.ContentType.DRAWING, drawing.getFileSize());
+        }
+    }
+
+    private void reserve(LitenSpace space, ContentChangedEvent.ContentType type, Long fileSize) {
+        if (space == null) {
+            return;
+        }
+        quotaService.getObject().reserveContent(ownerId(space), space.getSpaceId(), type,
+                fileSize != null ? fileSize : 0L);
+    }
+
+    private Long ownerId(LitenSpace space) {
+        // 지연 로딩 프록시를 영속화 콜백 안에서 초기화하지 않도록 JDBC 로 읽는다
+        if (Hibernate.isInitialized(space) && space.getUser() != null) {
+            return space.getUser().getUserId();
+        }
+        return usageCounterRepository.getObject().findOwnerIdBySpaceId(space.getSpaceId())
+                .orElseThrow(() -> new RuntimeException("공간을 찾을 수 없습니다: " + space.getSpaceId()));
+    }
+}
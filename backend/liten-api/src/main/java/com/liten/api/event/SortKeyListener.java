@@ -0,0 +1,38 @@
+package com.liten.api.event;
+
+import com.liten.api.model.DrawingContent;
+import com.liten.api.model.LitenSpace;
+import com.liten.api.model.TextContent;
+import com.liten.api.repository.SortKeyRepository.RankedList;
+import com.liten.api.service.ListOrderService;
+import jakarta.persistence.PrePersist;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA 엔티티 리스너. 순서 키 없이 영속화되는 공간/텍스트/필기에 목록 끝 키를 매긴다.
+ * 키가 없는 행은 키셋 조회에서 빠지므로 어떤 경로로 만들든 키가 있어야 한다.
+ * ListOrderService 는 JPA 초기화 이후에 만들어지므로 처음 사용할 때 찾는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SortKeyListener {
+
+    private final ObjectProvider<ListOrderService> listOrderService;
+
+    @PrePersist
+    public void onPrePersist(Object entity) {
+        if (entity instanceof LitenSpace space && space.getSortKey() == null) {
+            space.setSortKey(nextKey(RankedList.SPACES, space.getUser().getUserId()));
+        } else if (entity instanceof TextContent text && text.getSortKey() == null) {
+            text.setSortKey(nextKey(RankedList.TEXTS, text.getLitenSpace().getSpaceId()));
+        } else if (entity instanceof DrawingContent drawing && drawing.getSortKey() == null) {
+            drawing.setSortKey(nextKey(RankedList.DRAWINGS, drawing.getLitenSpace().getSpaceId()));
+        }
+    }
+
+    private String nextKey(RankedList list, Long scopeId) {
+        return listOrderService.getObject().nextKey(list, scopeId);
+    }
+}
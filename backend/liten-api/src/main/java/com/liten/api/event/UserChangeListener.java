@@ -0,0 +1,25 @@
+package com.liten.api.event;
+
+import com.liten.api.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA 엔티티 리스너. 사용자가 수정/삭제되면 {@link UserChangedEvent} 를 발행한다.
+ * 소프트 삭제(deletedAt 설정)와 로그인 시각 갱신도 수정으로 들어온다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUserId(), user.getEmail()));
+    }
+}
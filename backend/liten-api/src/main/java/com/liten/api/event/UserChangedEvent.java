@@ -0,0 +1,7 @@
+package com.liten.api.event;
+
+/**
+ * 사용자 엔티티 변경 이벤트. 트랜잭션 커밋 후 사용자/플랜 캐시를 비우는 데 사용한다.
+ */
+public record UserChangedEvent(Long userId, String email) {
+}
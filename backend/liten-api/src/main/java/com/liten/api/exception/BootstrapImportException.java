@@ -0,0 +1,20 @@
+package com.liten.api.exception;
+
+import com.liten.api.dto.BootstrapImport;
+import lombok.Getter;
+
+/**
+ * 부트스트랩 가져오기가 중간에 실패했을 때 발생한다. 실패한 줄 번호와 그 전까지 커밋된 결과를 담는다.
+ */
+@Getter
+public class BootstrapImportException extends RuntimeException {
+
+    private final long line;
+    private final BootstrapImport.Result committed;
+
+    public BootstrapImportException(String message, long line, BootstrapImport.Result committed, Throwable cause) {
+        super(message, cause);
+        this.line = line;
+        this.committed = committed;
+    }
+}
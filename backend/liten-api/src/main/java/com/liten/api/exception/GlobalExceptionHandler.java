@@ -61,6 +61,47 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    @ExceptionHandler(VersionConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleVersionConflict(VersionConflictException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.CONFLICT.value());
+        response.put("error", "Version Conflict");
+        response.put("message", ex.getMessage());
+        response.put("currentVersion", ex.getCurrentVersion());
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(BootstrapImportException.class)
+    public ResponseEntity<Map<String, Object>> handleBootstrapImport(BootstrapImportException ex) {
+        // 한도 초과로 멈춘 경우는 다른 생성 요청과 같이 403 으로 돌려준다
+        HttpStatus status = ex.getCause() instanceof QuotaExceededException
+                ? HttpStatus.FORBIDDEN : HttpStatus.BAD_REQUEST;
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", status.value());
+        response.put("error", "Import Failed");
+        response.put("message", ex.getMessage());
+        response.put("line", ex.getLine());
+        response.put("committed", ex.getCommitted());
+        
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @ExceptionHandler(QuotaExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleQuotaExceeded(QuotaExceededException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("timestamp", LocalDateTime.now());
+        response.put("status", HttpStatus.FORBIDDEN.value());
+        response.put("error", "Quota Exceeded");
+        response.put("message", ex.getMessage());
+        response.put("resource", ex.getResource());
+        response.put("limit", ex.getLimit());
+        
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, Object>> handleRuntimeException(RuntimeException ex) {
         log.error("Runtime exception occurred: ", ex);
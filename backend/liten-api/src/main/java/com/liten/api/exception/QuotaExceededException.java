@@ -0,0 +1,19 @@
+package com.liten.api.exception;
+
+import lombok.Getter;
+
+/**
+ * 구독 플랜의 사용 한도를 넘는 생성 요청일 때 발생한다.
+ */
+@Getter
+public class QuotaExceededException extends RuntimeException {
+
+    private final String resource;
+    private final Long limit;
+
+    public QuotaExceededException(String message, String resource, Long limit) {
+        super(message);
+        this.resource = resource;
+        this.limit = limit;
+    }
+}
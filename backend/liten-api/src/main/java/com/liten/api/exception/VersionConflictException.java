@@ -0,0 +1,17 @@
+package com.liten.api.exception;
+
+import lombok.Getter;
+
+/**
+ * 클라이언트가 알고 있는 버전이 서버의 최신 버전과 다를 때 발생한다.
+ */
+@Getter
+public class VersionConflictException extends RuntimeException {
+
+    private final Long currentVersion;
+
+    public VersionConflictException(String message, Long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+}
@@ -0,0 +1,163 @@
+package com.liten.api.metrics;
+
+import com.liten.api.diagnostics.RepositoryCallEvent;
+import com.liten.api.diagnostics.RequestIds;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리포지토리 메서드마다 실행 시간({@value #INVOCATIONS})과 읽은/바꾼 행 수({@value #ROWS})를 기록한다.
+ *
+ * <p>미터는 메서드별로 처음 호출할 때 한 번 만들어 두므로 이후 호출은 맵 조회와 nanoTime 두 번만 더한다.
+ * 행 수는 컬렉션/Slice 크기, Optional 이나 단일 결과는 0 또는 1, 일괄 갱신(int[])은 합계이다.
+ * 숫자/불리언 결과(count, exists, 갱신 수)와 void 메서드는 행 수를 기록하지 않는다.
+ *
+ * <p>JFR 기록 중이면 같은 구간을 {@link RepositoryCallEvent} 로도 남긴다.
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    static final String INVOCATIONS = "liten.repository.invocations";
+    static final String ROWS = "liten.repository.rows";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String repository;
+    private final ConcurrentMap<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * @param repository 리포지토리 이름. null 이면 호출 대상 클래스 이름을 쓴다
+     */
+    public RepositoryMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, String repository) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.enter();
+        event.begin();
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            MethodMeters methodMeters = meters(invocation);
+            methodMeters.failure(meterRegistry.getObject()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            commit(event, methodMeters, false, -1);
+            throw e;
+        }
+        MethodMeters methodMeters = meters(invocation);
+        methodMeters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        long rows = methodMeters.rows != null ? rows(result) : -1;
+        if (rows >= 0) {
+            methodMeters.rows.record(rows);
+        }
+        commit(event, methodMeters, true, rows);
+        return result;
+    }
+
+    private static void commit(RepositoryCallEvent event, MethodMeters methodMeters, boolean succeeded, long rows) {
+        event.exit();
+        event.end();
+        if (event.shouldCommit()) {
+            event.requestId = RequestIds.current();
+            event.repository = methodMeters.repository;
+            event.method = methodMeters.method;
+            event.rows = rows;
+            event.succeeded = succeeded;
+            event.commit();
+        }
+    }
+
+    private MethodMeters meters(MethodInvocation invocation) {
+        MethodMeters methodMeters = meters.get(invocation.getMethod());
+        if (methodMeters == null) {
+            String name = repository != null ? repository : invocation.getThis().getClass().getSimpleName();
+            methodMeters = meters.computeIfAbsent(invocation.getMethod(),
+                    method -> new MethodMeters(meterRegistry.getObject(), name, method));
+        }
+        return methodMeters;
+    }
+
+    private static long rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(count, 0);
+            }
+            return sum;
+        }
+        if (result instanceof Number || result instanceof Boolean) {
+            return -1;
+        }
+        return 1;
+    }
+
+    private static final class MethodMeters {
+
+        private final String repository;
+        private final String method;
+        private final Timer success;
+        private final DistributionSummary rows;
+        private volatile Timer failure;
+
+        MethodMeters(MeterRegistry registry, String repository, Method method) {
+            this.repository = repository;
+            this.method = method.getName();
+            this.success = timer(registry, "success");
+            Class<?> returnType = method.getReturnType();
+            boolean counted = returnType != void.class && returnType != boolean.class && returnType != Boolean.class
+                    && returnType != int.class && returnType != long.class && !Number.class.isAssignableFrom(returnType);
+            this.rows = counted ? DistributionSummary.builder(ROWS)
+                    .description("리포지토리 메서드가 읽거나 일괄로 바꾼 행 수")
+                    .tag("repository", repository)
+                    .tag("method", this.method)
+                    .register(registry) : null;
+        }
+
+        /**
+         * 실패는 드물므로 처음 실패할 때 만든다.
+         */
+        Timer failure(MeterRegistry registry) {
+            Timer timer = failure;
+            if (timer == null) {
+                timer = timer(registry, "error");
+                failure = timer;
+            }
+            return timer;
+        }
+
+        private Timer timer(MeterRegistry registry, String outcome) {
+            return Timer.builder(INVOCATIONS)
+                    .description("리포지토리 메서드 실행 시간")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.liten.api.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 모든 리포지토리에 {@link RepositoryMetricsInterceptor} 를 붙인다.
+ *
+ * <ul>
+ *   <li>Spring Data 리포지토리: 리포지토리 프록시 안쪽(트랜잭션 다음, 쿼리 실행 직전)에 붙여 실제 쿼리만 잰다.</li>
+ *   <li>JdbcTemplate 을 쓰는 {@code @Repository} 클래스: 기존 프록시의 마지막 어드바이스로 붙여
+ *       {@code @Cacheable} 메서드는 캐시에 없을 때만 잰다.</li>
+ * </ul>
+ */
+public class RepositoryMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.advisor = new DefaultPointcutAdvisor(new AnnotationMatchingPointcut(Repository.class, true),
+                new RepositoryMetricsInterceptor(meterRegistry, null));
+        setBeforeExistingAdvisors(false);
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new RepositoryMetricsInterceptor(
+                            meterRegistry, repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    @Override
+    protected boolean isEligible(Class<?> targetClass) {
+        // Spring Data 구현체(SimpleJpaRepository 등)는 위에서 프록시 안쪽에 붙인다
+        return !org.springframework.data.repository.Repository.class.isAssignableFrom(targetClass)
+                && super.isEligible(targetClass);
+    }
+}
@@ -0,0 +1,130 @@
+package com.liten.api.metrics;
+
+import com.liten.api.diagnostics.RequestIds;
+import com.liten.api.diagnostics.StorageOperationEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 호출마다 시간({@value #REQUESTS})과 주고받은 객체 크기({@value #BYTES})를 기록하는 SDK 인터셉터.
+ *
+ * <p>시간은 요청을 만들 때부터 응답 헤더를 받을 때까지이다. GetObject 는 본문을 스트림으로 넘기므로 본문을 다 읽는 시간은
+ * 포함하지 않는다. 크기는 PutObject 의 요청 본문과 GetObject 의 응답 Content-Length 이다.
+ * JFR 기록 중이면 같은 구간을 {@link StorageOperationEvent} 로도 남긴다.
+ */
+public class S3MetricsInterceptor implements ExecutionInterceptor {
+
+    static final String REQUESTS = "liten.storage.requests";
+    static final String BYTES = "liten.storage.bytes";
+
+    private static final ExecutionAttribute<Long> START = new ExecutionAttribute<>("LitenMetricsStart");
+    private static final ExecutionAttribute<StorageOperationEvent> EVENT = new ExecutionAttribute<>("LitenStorageEvent");
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, OperationMeters> meters = new ConcurrentHashMap<>();
+
+    public S3MetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(START, System.nanoTime());
+        StorageOperationEvent event = new StorageOperationEvent();
+        if (event.isEnabled()) {
+            // SDK 가 다른 스레드에서 콜백할 수 있으므로 요청 ID 는 지금 읽어 둔다
+            event.requestId = RequestIds.current();
+            event.begin();
+            executionAttributes.putAttribute(EVENT, event);
+        }
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        OperationMeters operation = record(executionAttributes, true);
+        if (operation == null) {
+            return;
+        }
+        Long bytes = null;
+        if (context.request() instanceof PutObjectRequest) {
+            bytes = context.requestBody().flatMap(body -> body.optionalContentLength()).orElse(null);
+        } else if (context.response() instanceof GetObjectResponse response) {
+            bytes = response.contentLength();
+        }
+        if (bytes != null && bytes >= 0) {
+            operation.bytes.record(bytes);
+        }
+        commit(executionAttributes, true, bytes);
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes, false);
+        commit(executionAttributes, false, null);
+    }
+
+    private static void commit(ExecutionAttributes executionAttributes, boolean succeeded, Long bytes) {
+        StorageOperationEvent event = executionAttributes.getAttribute(EVENT);
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+            event.bytes = bytes != null ? bytes : -1;
+            event.succeeded = succeeded;
+            event.commit();
+        }
+    }
+
+    private OperationMeters record(ExecutionAttributes executionAttributes, boolean success) {
+        Long start = executionAttributes.getAttribute(START);
+        String operationName = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        if (start == null || operationName == null) {
+            return null;
+        }
+        OperationMeters operation = meters.get(operationName);
+        if (operation == null) {
+            operation = meters.computeIfAbsent(operationName, name -> new OperationMeters(meterRegistry, name));
+        }
+        (success ? operation.success : operation.failure).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return operation;
+    }
+
+    private static final class OperationMeters {
+
+        private final Timer success;
+        private final Timer failure;
+        private final DistributionSummary bytes;
+
+        OperationMeters(MeterRegistry registry, String operation) {
+            this.success = timer(registry, operation, "success");
+            this.failure = timer(registry, operation, "error");
+            this.bytes = DistributionSummary.builder(BYTES)
+                    .description("S3 로 올리거나 받은 객체 크기")
+                    .baseUnit("bytes")
+                    .tag("operation", operation)
+                    .register(registry);
+        }
+
+        private static Timer timer(MeterRegistry registry, String operation, String outcome) {
+            return Timer.builder(REQUESTS)
+                    .description("S3 호출 시간")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(registry);
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.liten.api.model;
 
+import com.liten.api.event.ContentChangeListener;
+import com.liten.api.event.QuotaListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.Duration;
 
 @Entity
+@EntityListeners({ContentChangeListener.class, QuotaListener.class})
 @Table(name = "audio_contents")
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor
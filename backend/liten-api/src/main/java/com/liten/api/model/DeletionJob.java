@@ -0,0 +1,68 @@
+package com.liten.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계정/공간 삭제 작업. {@link com.liten.api.service.CascadeDeletionWorker} 가 하위 테이블부터 나누어 지우며
+ * 진행 단계와 지운 행 수를 기록한다. 대상 행이 사라진 뒤에도 남으므로 외래키를 두지 않는다.
+ */
+@Entity
+@Table(name = "deletion_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeletionJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(name = "current_step", length = 100)
+    private String currentStep;
+
+    @Builder.Default
+    @Column(name = "deleted_rows", nullable = false)
+    private Long deletedRows = 0L;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum TargetType {
+        USER, SPACE
+    }
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+}
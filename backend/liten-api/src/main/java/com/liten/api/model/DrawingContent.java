@@ -1,10 +1,17 @@
 package com.liten.api.model;
 
+import com.liten.api.event.ContentChangeListener;
+import com.liten.api.event.QuotaListener;
+import com.liten.api.event.SortKeyListener;
+import com.liten.api.model.converter.CompressedTextConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
+@EntityListeners({ContentChangeListener.class, QuotaListener.class, SortKeyListener.class})
 @Table(name = "drawing_contents")
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,15 +42,40 @@ public class DrawingContent extends BaseEntity {
     @Column(name = "height")
     private Integer height;
 
-    @Column(name = "drawing_data", columnDefinition = "LONGTEXT")
+    /**
+     * 레거시 스트로크 JSON. 조회 시 {@link #strokeData} 로 변환된 뒤 비워진다.
+     */
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "drawing_data", columnDefinition = "LONGBLOB")
     private String drawingData;
 
+    /**
+     * LSTK 바이너리 스트로크 데이터 ({@link com.liten.api.utils.stroke.StrokeFormat}).
+     */
+    @Lob
+    @Column(name = "stroke_data", columnDefinition = "LONGBLOB")
+    private byte[] strokeData;
+
+    /**
+     * stroke_data 가 drawing_stroke_tiles 로 분할되어 있는지 여부.
+     */
+    @Builder.Default
+    @Column(name = "is_tile_indexed")
+    private Boolean isTileIndexed = false;
+
     @Column(name = "thumbnail_path", length = 500)
     private String thumbnailPath;
 
     @Column(name = "audio_sync_position")
     private Integer audioSyncPosition;
 
+    /**
+     * 공간 안에서의 순서. {@link com.liten.api.utils.order.RankKeys} 키이며 사전 순으로 정렬한다.
+     * 비워 두면 저장 직전에 {@link com.liten.api.event.SortKeyListener} 가 목록 끝 키를 매긴다.
+     */
+    @Column(name = "sort_key", length = 255, nullable = false)
+    private String sortKey;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "space_id", nullable = false)
     private LitenSpace litenSpace;
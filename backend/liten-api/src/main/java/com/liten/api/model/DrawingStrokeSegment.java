@@ -0,0 +1,34 @@
+package com.liten.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 필기에 덧붙여진 스트로크 묶음. 기본 stroke_data 를 다시 쓰지 않고 새 잉크만 저장하며,
+ * 백그라운드 압축 작업이 주기적으로 기본 데이터에 병합한다.
+ */
+@Entity
+@Table(name = "drawing_stroke_segments")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DrawingStrokeSegment extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "segment_id")
+    private Long segmentId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "drawing_id", nullable = false)
+    private DrawingContent drawingContent;
+
+    @Column(name = "stroke_count", nullable = false)
+    private Integer strokeCount;
+
+    @Lob
+    @Column(name = "segment_data", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] segmentData;
+}
@@ -0,0 +1,60 @@
+package com.liten.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 큰 캔버스 필기의 공간 타일. 경계 상자 중심이 속한 격자 칸에 스트로크를 배정하고,
+ * 칸에 담긴 스트로크 경계의 합집합을 함께 저장하여 뷰포트 조회 시 겹치는 타일만 읽는다.
+ */
+@Entity
+@Table(name = "drawing_stroke_tiles")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DrawingStrokeTile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tile_id")
+    private Long tileId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "drawing_id", nullable = false)
+    private DrawingContent drawingContent;
+
+    @Column(name = "tile_x", nullable = false)
+    private Integer tileX;
+
+    @Column(name = "tile_y", nullable = false)
+    private Integer tileY;
+
+    @Column(name = "min_x", nullable = false)
+    private Float minX;
+
+    @Column(name = "min_y", nullable = false)
+    private Float minY;
+
+    @Column(name = "max_x", nullable = false)
+    private Float maxX;
+
+    @Column(name = "max_y", nullable = false)
+    private Float maxY;
+
+    @Column(name = "stroke_count", nullable = false)
+    private Integer strokeCount;
+
+    /**
+     * 타일에 담긴 스트로크 각각의 stroke_data 내 순번 (오름차순, 델타 varint).
+     * 여러 타일을 그린 순서대로 합칠 때 쓴다. 순번이 없는 옛 타일이면 null 이다.
+     */
+    @Lob
+    @Column(name = "stroke_ordinals", columnDefinition = "MEDIUMBLOB")
+    private byte[] strokeOrdinals;
+
+    @Lob
+    @Column(name = "tile_data", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] tileData;
+}
@@ -1,12 +1,19 @@
 package com.liten.api.model;
 
+import com.liten.api.event.ContentChangeListener;
+import com.liten.api.event.QuotaListener;
+import com.liten.api.event.SortKeyListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
+@EntityListeners({ContentChangeListener.class, QuotaListener.class, SortKeyListener.class})
 @Table(name = "liten_spaces")
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,9 +41,31 @@ public class LitenSpace extends BaseEntity {
     @Column(name = "is_archived")
     private Boolean isArchived = false;
 
+    /**
+     * @deprecated {@link #sortKey} 로 대체. 기존 클라이언트 호환을 위해 남겨둔다.
+     */
+    @Deprecated
     @Column(name = "sort_order")
     private Integer sortOrder = 0;
 
+    /**
+     * 사용자의 공간 목록에서의 순서. {@link com.liten.api.utils.order.RankKeys} 키이며 사전 순으로 정렬한다.
+     * 비워 두면 저장 직전에 {@link com.liten.api.event.SortKeyListener} 가 목록 끝 키를 매긴다.
+     */
+    @Column(name = "sort_key", length = 255, nullable = false)
+    private String sortKey;
+
+    /**
+     * 컨텐츠 행이 있는 곳. COLD 이면 {@link com.liten.api.service.SpaceTieringService} 가 처음 접근할 때 되살린다.
+     * 계층은 JDBC 로만 바꾸므로 엔티티 저장이 덮어쓰지 않게 읽기 전용으로 매핑한다.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_tier", length = 10, insertable = false, updatable = false)
+    private StorageTier storageTier;
+
+    @Column(name = "tier_changed_at", insertable = false, updatable = false)
+    private LocalDateTime tierChangedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -52,4 +81,8 @@ public class LitenSpace extends BaseEntity {
 
     @OneToMany(mappedBy = "litenSpace", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<SyncTimestamp> syncTimestamps;
-}
\ No newline at end of file
+
+    public enum StorageTier {
+        HOT, COLD
+    }
+}
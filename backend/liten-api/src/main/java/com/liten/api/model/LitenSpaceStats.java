@@ -0,0 +1,40 @@
+package com.liten.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 홈 화면용 공간별 컨텐츠 수. 컨텐츠가 바뀌면 {@link com.liten.api.service.SpaceStatsUpdater} 가
+ * 잠시 뒤 해당 공간의 값을 다시 계산하여 기록한다. 목록 조회는 공간 행과 이 행만 읽는다.
+ * 컨텐츠 생성 시에는 {@link com.liten.api.service.QuotaService} 가 한도 확인과 함께 같은 트랜잭션에서 값을 올린다.
+ */
+@Entity
+@Table(name = "liten_space_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LitenSpaceStats {
+
+    @Id
+    @Column(name = "space_id")
+    private Long spaceId;
+
+    @Column(name = "audio_count", nullable = false)
+    private Integer audioCount;
+
+    @Column(name = "text_count", nullable = false)
+    private Integer textCount;
+
+    @Column(name = "drawing_count", nullable = false)
+    private Integer drawingCount;
+
+    @Column(name = "storage_bytes", nullable = false)
+    private Long storageBytes;
+
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+}
@@ -0,0 +1,40 @@
+package com.liten.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 오디오 하나의 동기화 마커 묶음. 마커마다 sync_timestamps 행을 만드는 대신
+ * 녹음 중 쌓인 마커를 열 단위로 압축한 블록 하나로 저장한다 ({@link com.liten.api.utils.sync.MarkerBlockCodec}).
+ */
+@Entity
+@Table(name = "sync_marker_blocks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SyncMarkerBlock extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "block_id")
+    private Long blockId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "audio_id", nullable = false)
+    private AudioContent audioContent;
+
+    @Column(name = "first_position_ms", nullable = false)
+    private Long firstPositionMs;
+
+    @Column(name = "last_position_ms", nullable = false)
+    private Long lastPositionMs;
+
+    @Column(name = "marker_count", nullable = false)
+    private Integer markerCount;
+
+    @Lob
+    @Column(name = "block_data", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] blockData;
+}
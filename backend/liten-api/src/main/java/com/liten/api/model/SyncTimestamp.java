@@ -1,10 +1,14 @@
 package com.liten.api.model;
 
+import com.liten.api.event.ContentChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
+@EntityListeners(ContentChangeListener.class)
 @Table(name = "sync_timestamps")
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor
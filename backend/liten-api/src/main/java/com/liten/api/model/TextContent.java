@@ -1,10 +1,17 @@
 package com.liten.api.model;
 
+import com.liten.api.event.ContentChangeListener;
+import com.liten.api.event.QuotaListener;
+import com.liten.api.event.SortKeyListener;
+import com.liten.api.model.converter.CompressedTextConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
+@EntityListeners({ContentChangeListener.class, QuotaListener.class, SortKeyListener.class})
 @Table(name = "text_contents")
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,10 +24,12 @@ public class TextContent extends BaseEntity {
     @Column(name = "text_id")
     private Long textId;
 
-    @Column(name = "content", columnDefinition = "LONGTEXT")
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content", columnDefinition = "LONGBLOB")
     private String content;
 
-    @Column(name = "plain_text", columnDefinition = "LONGTEXT")
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "plain_text", columnDefinition = "LONGBLOB")
     private String plainText;
 
     @Enumerated(EnumType.STRING)
@@ -30,6 +39,32 @@ public class TextContent extends BaseEntity {
     @Column(name = "audio_sync_position")
     private Integer audioSyncPosition;
 
+    /**
+     * 공간 안에서의 순서. {@link com.liten.api.utils.order.RankKeys} 키이며 사전 순으로 정렬한다.
+     * 비워 두면 저장 직전에 {@link com.liten.api.event.SortKeyListener} 가 목록 끝 키를 매긴다.
+     */
+    @Column(name = "sort_key", length = 255, nullable = false)
+    private String sortKey;
+
+    /**
+     * 패치가 적용된 최신 버전. content/plainText 컬럼은 {@link #snapshotVersion} 시점의 스냅샷이며,
+     * 그 이후 변경분은 text_content_patches 에 쌓인다.
+     */
+    @Builder.Default
+    @Column(name = "content_version", nullable = false)
+    private Long contentVersion = 0L;
+
+    @Builder.Default
+    @Column(name = "snapshot_version", nullable = false)
+    private Long snapshotVersion = 0L;
+
+    /** 최신 버전 content 의 UTF-16 길이. 본문을 읽지 않고 패치를 검증하는 데 사용한다. */
+    @Column(name = "content_length")
+    private Integer contentLength;
+
+    @Column(name = "plain_text_length")
+    private Integer plainTextLength;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "space_id", nullable = false)
     private LitenSpace litenSpace;
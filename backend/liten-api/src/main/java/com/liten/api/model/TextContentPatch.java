@@ -0,0 +1,34 @@
+package com.liten.api.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 텍스트 노트의 버전별 편집 기록 ({@link com.liten.api.utils.text.TextPatch} 바이너리).
+ */
+@Entity
+@Table(name = "text_content_patches")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TextContentPatch extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "patch_id")
+    private Long patchId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "text_id", nullable = false)
+    private TextContent textContent;
+
+    /** 이 패치를 적용한 결과 버전 */
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Lob
+    @Column(name = "patch_data", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] patchData;
+}
@@ -0,0 +1,38 @@
+package com.liten.api.model;
+
+import com.liten.api.model.converter.CompressedTextConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 스냅샷 갱신 시 덮어쓰기 전의 본문. 패치 기록과 함께 과거 버전을 복원하는 데 사용한다.
+ */
+@Entity
+@Table(name = "text_content_snapshots")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TextContentSnapshot extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Long snapshotId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "text_id", nullable = false)
+    private TextContent textContent;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "content", columnDefinition = "LONGBLOB")
+    private String content;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "plain_text", columnDefinition = "LONGBLOB")
+    private String plainText;
+}
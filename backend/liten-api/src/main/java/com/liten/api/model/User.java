@@ -1,7 +1,9 @@
 package com.liten.api.model;
 
+import com.liten.api.event.UserChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,6 +15,8 @@ import java.util.Set;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserChangeListener.class)
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,35 @@
+package com.liten.api.model.converter;
+
+import com.liten.api.utils.compression.TextCompressor;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 본문 문자열을 {@link TextCompressor} 포맷의 바이트로 저장한다. 압축 전에 저장된 UTF-8 행도 그대로 읽는다.
+ * Hibernate 가 Spring 빈 컨테이너로 생성하므로 설정된 {@link TextCompressor} 가 주입된다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    private final TextCompressor compressor;
+
+    public CompressedTextConverter() {
+        this(TextCompressor.defaults());
+    }
+
+    @Autowired
+    public CompressedTextConverter(TextCompressor compressor) {
+        this.compressor = compressor;
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return compressor.encode(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return TextCompressor.decode(dbData);
+    }
+}
@@ -0,0 +1,39 @@
+package com.liten.api.repository;
+
+import com.liten.api.model.AudioContent;
+import com.liten.api.model.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AudioContentRepository extends JpaRepository<AudioContent, Long> {
+
+    @Query("SELECT ac FROM AudioContent ac WHERE ac.audioId = :audioId AND ac.litenSpace.user = :user")
+    Optional<AudioContent> findByAudioIdAndUser(@Param("audioId") Long audioId, @Param("user") User user);
+
+    @Query("SELECT ls.user.userId FROM AudioContent ac JOIN ac.litenSpace ls " +
+           "WHERE ac.audioId = :audioId AND ls.deletedAt IS NULL")
+    Optional<Long> findOwnerIdById(@Param("audioId") Long audioId);
+
+    @Query("SELECT ac FROM AudioContent ac JOIN FETCH ac.litenSpace ls JOIN FETCH ls.user WHERE ac.audioId = :audioId")
+    Optional<AudioContent> findWithSpaceById(@Param("audioId") Long audioId);
+
+    @Query("SELECT ac FROM AudioContent ac JOIN FETCH ac.litenSpace ls WHERE ls.user.userId = :userId AND ls.deletedAt IS NULL ORDER BY ac.audioId ASC")
+    Slice<AudioContent> findActiveByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 공간의 오디오를 audioId 순으로 afterId 다음부터 조회한다 (내보내기용 키셋 페이지).
+     */
+    @Query("SELECT ac FROM AudioContent ac WHERE ac.litenSpace.spaceId = :spaceId AND ac.audioId > :afterId " +
+           "ORDER BY ac.audioId ASC")
+    List<AudioContent> findExportPage(@Param("spaceId") Long spaceId,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+}
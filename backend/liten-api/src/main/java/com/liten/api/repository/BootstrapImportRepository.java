@@ -0,0 +1,153 @@
+package com.liten.api.repository;
+
+import com.liten.api.event.ContentChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 부트스트랩 가져오기용 일괄 INSERT. 종류마다 한 문장을 JDBC 배치로 실행하고 생성된 키를 입력 순서대로 돌려준다.
+ * 엔티티 리스너(사용 한도, 변경 이벤트)를 거치지 않으므로 사용량 집계와 검색 인덱스는 호출하는 쪽에서 맞춘다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BootstrapImportRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record SpaceRow(Long userId, String title, String description, String color, boolean favorite,
+                           boolean archived, String sortKey, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    public record AudioRow(Long spaceId, String filename, String originalFilename, String filePath, Long fileSize,
+                           Integer durationSeconds, String mimeType, String transcription,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * @param content   저장 포맷으로 인코딩한 본문 ({@link com.liten.api.utils.compression.TextCompressor})
+     * @param plainText 저장 포맷으로 인코딩한 일반 텍스트
+     */
+    public record TextRow(Long spaceId, Long audioId, byte[] content, byte[] plainText, String formatType,
+                          Integer audioSyncPosition, String sortKey, int contentLength, int plainTextLength,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    public record DrawingRow(Long spaceId, Long audioId, String filename, String filePath, Long fileSize,
+                             String mimeType, Integer width, Integer height, byte[] strokeData,
+                             Integer audioSyncPosition, String sortKey, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    public record MarkerRow(Long spaceId, Long audioId, long positionMs, String contentType, Long contentId,
+                            String additionalData, LocalDateTime createdAt) {
+    }
+
+    public long[] insertSpaces(List<SpaceRow> rows) {
+        return insert("INSERT INTO liten_spaces (user_id, title, description, color, is_favorite, is_archived, "
+                        + "sort_order, sort_key, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?, ?)",
+                rows.stream().map(row -> new Object[]{row.userId(), row.title(), row.description(), row.color(),
+                        row.favorite(), row.archived(), row.sortKey(), row.createdAt(), row.updatedAt()}).toList());
+    }
+
+    public long[] insertAudio(List<AudioRow> rows) {
+        return insert("INSERT INTO audio_contents (space_id, filename, original_filename, file_path, file_size, "
+                        + "duration_seconds, mime_type, transcription, is_transcribed, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                rows.stream().map(row -> new Object[]{row.spaceId(), row.filename(), row.originalFilename(),
+                        row.filePath(), row.fileSize(), row.durationSeconds(), row.mimeType(), row.transcription(),
+                        row.transcription() != null, row.createdAt(), row.updatedAt()}).toList());
+    }
+
+    public long[] insertTexts(List<TextRow> rows) {
+        return insert("INSERT INTO text_contents (space_id, audio_id, content, plain_text, format_type, "
+                        + "audio_sync_position, sort_key, content_version, snapshot_version, content_length, "
+                        + "plain_text_length, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?, ?, ?)",
+                rows.stream().map(row -> new Object[]{row.spaceId(), row.audioId(), row.content(), row.plainText(),
+                        row.formatType(), row.audioSyncPosition(), row.sortKey(), row.contentLength(),
+                        row.plainTextLength(), row.createdAt(), row.updatedAt()}).toList());
+    }
+
+    public long[] insertDrawings(List<DrawingRow> rows) {
+        return insert("INSERT INTO drawing_contents (space_id, audio_id, filename, file_path, file_size, mime_type, "
+                        + "width, height, stroke_data, is_tile_indexed, audio_sync_position, sort_key, created_at, "
+                        + "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                rows.stream().map(row -> new Object[]{row.spaceId(), row.audioId(), row.filename(), row.filePath(),
+                        row.fileSize(), row.mimeType(), row.width(), row.height(), row.strokeData(), false,
+                        row.audioSyncPosition(), row.sortKey(), row.createdAt(), row.updatedAt()}).toList());
+    }
+
+    public long[] insertMarkers(List<MarkerRow> rows) {
+        return insert("INSERT INTO sync_timestamps (space_id, audio_id, audio_position_ms, content_type, content_id, "
+                        + "additional_data, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                rows.stream().map(row -> new Object[]{row.spaceId(), row.audioId(), row.positionMs(),
+                        row.contentType(), row.contentId(), row.additionalData(), row.createdAt(), row.createdAt()})
+                        .toList());
+    }
+
+    /**
+     * 공간이 사용자의 것이면 true. 삭제된 공간은 제외한다.
+     */
+    public boolean isOwnSpace(Long spaceId, Long userId) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM liten_spaces WHERE space_id = ? AND user_id = ? "
+                + "AND deleted_at IS NULL", Integer.class, spaceId, userId).isEmpty();
+    }
+
+    /**
+     * @return 오디오가 속한 공간. 사용자의 오디오가 아니거나 삭제되었으면 null
+     */
+    public Long findOwnAudioSpaceId(Long audioId, Long userId) {
+        return jdbcTemplate.queryForList("SELECT ac.space_id FROM audio_contents ac JOIN liten_spaces ls "
+                        + "ON ls.space_id = ac.space_id WHERE ac.audio_id = ? AND ls.user_id = ? "
+                        + "AND ac.deleted_at IS NULL AND ls.deleted_at IS NULL", Long.class, audioId, userId)
+                .stream().findFirst().orElse(null);
+    }
+
+    /**
+     * 텍스트/필기가 사용자의 것이면 true. 삭제된 컨텐츠와 삭제된 공간의 컨텐츠는 제외한다.
+     */
+    public boolean isOwnContent(ContentChangedEvent.ContentType type, Long contentId, Long userId) {
+        String table = switch (type) {
+            case TEXT -> "text_contents c";
+            case DRAWING -> "drawing_contents c";
+            default -> throw new IllegalArgumentException("마커가 가리킬 수 없는 컨텐츠 종류입니다: " + type);
+        };
+        String idColumn = type == ContentChangedEvent.ContentType.TEXT ? "c.text_id" : "c.drawing_id";
+        return !jdbcTemplate.queryForList("SELECT 1 FROM " + table + " JOIN liten_spaces ls ON ls.space_id = c.space_id "
+                + "WHERE " + idColumn + " = ? AND ls.user_id = ? AND c.deleted_at IS NULL AND ls.deleted_at IS NULL",
+                Integer.class, contentId, userId).isEmpty();
+    }
+
+    private long[] insert(String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return new long[0];
+        }
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (Object[] row : rows) {
+                    new ArgumentPreparedStatementSetter(row).setValues(statement);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                long[] ids = new long[rows.size()];
+                int count = 0;
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next() && count < ids.length) {
+                        ids[count++] = keys.getLong(1);
+                    }
+                }
+                if (count != ids.length) {
+                    throw new IllegalStateException("생성된 키 수가 행 수와 다릅니다: " + count + " != " + ids.length);
+                }
+                return ids;
+            }
+        });
+    }
+}
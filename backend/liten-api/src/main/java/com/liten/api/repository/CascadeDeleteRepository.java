@@ -0,0 +1,124 @@
+package com.liten.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 계정/공간 하위 행을 집합 단위로 나누어 지운다. 단계마다 "DELETE ... WHERE 범위 LIMIT n" 한 문장만 실행하므로
+ * 엔티티를 읽지 않고 한 번에 잡는 잠금도 n 행으로 제한된다. 보관 테이블({@code *_archive})의 행도 함께 지운다.
+ * 저장소 객체를 가진 행은 지우기 전에 객체 키를 storage_cleanup_queue 에 넘긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CascadeDeleteRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 삭제 단계. condition 의 ? 는 범위 식별자(space_id 또는 user_id)이다.
+     */
+    public enum Step {
+        // 공간 범위: 외래키 자식부터
+        TEXT_PATCHES("text_content_patches", "text_id IN (SELECT text_id FROM text_contents WHERE space_id = ?)"),
+        TEXT_SNAPSHOTS("text_content_snapshots", "text_id IN (SELECT text_id FROM text_contents WHERE space_id = ?)"),
+        DRAWING_TILES("drawing_stroke_tiles", "drawing_id IN (SELECT drawing_id FROM drawing_contents WHERE space_id = ?)"),
+        DRAWING_SEGMENTS("drawing_stroke_segments", "drawing_id IN (SELECT drawing_id FROM drawing_contents WHERE space_id = ?)"),
+        MARKER_BLOCKS("sync_marker_blocks", "audio_id IN (SELECT audio_id FROM audio_contents WHERE space_id = ?)"),
+        MARKER_STAGING("sync_marker_staging", "audio_id IN (SELECT audio_id FROM audio_contents WHERE space_id = ?)"),
+        SYNC_TIMESTAMPS("sync_timestamps", "space_id = ?"),
+        TEXTS("text_contents", "space_id = ?"),
+        DRAWINGS("drawing_contents", "space_id = ?", "drawing_id", "file_path", "thumbnail_path"),
+        AUDIO("audio_contents", "space_id = ?", "audio_id", "file_path"),
+        COLD_CONTENTS("space_cold_contents", "space_id = ?", "cold_content_id", "file_path", "thumbnail_path"),
+        COLD_ARCHIVE("space_cold_archives", "space_id = ?", "space_id", "object_key"),
+        SPACE_STATS("liten_space_stats", "space_id = ?"),
+        SPACE("liten_spaces", "space_id = ?"),
+        ARCHIVED_TEXT_PATCHES("text_content_patches_archive",
+                "text_id IN (SELECT text_id FROM text_contents_archive WHERE space_id = ?)"),
+        ARCHIVED_TEXT_SNAPSHOTS("text_content_snapshots_archive",
+                "text_id IN (SELECT text_id FROM text_contents_archive WHERE space_id = ?)"),
+        ARCHIVED_DRAWING_SEGMENTS("drawing_stroke_segments_archive",
+                "drawing_id IN (SELECT drawing_id FROM drawing_contents_archive WHERE space_id = ?)"),
+        ARCHIVED_MARKER_BLOCKS("sync_marker_blocks_archive",
+                "audio_id IN (SELECT audio_id FROM audio_contents_archive WHERE space_id = ?)"),
+        ARCHIVED_SYNC_TIMESTAMPS("sync_timestamps_archive", "space_id = ?"),
+        ARCHIVED_TEXTS("text_contents_archive", "space_id = ?"),
+        ARCHIVED_DRAWINGS("drawing_contents_archive", "space_id = ?", "drawing_id", "file_path", "thumbnail_path"),
+        ARCHIVED_AUDIO("audio_contents_archive", "space_id = ?", "audio_id", "file_path"),
+        ARCHIVED_SPACE("liten_spaces_archive", "space_id = ?"),
+        // 사용자 범위: 공간을 모두 지운 뒤
+        REFRESH_TOKENS("refresh_tokens", "user_id = ?"),
+        USER_USAGE("user_usage", "user_id = ?"),
+        ARCHIVED_USER("users_archive", "user_id = ?"),
+        USER("users", "user_id = ?");
+
+        private final String table;
+        private final String condition;
+        private final String idColumn;
+        private final List<String> keyColumns;
+
+        Step(String table, String condition) {
+            this(table, condition, null);
+        }
+
+        Step(String table, String condition, String idColumn, String... keyColumns) {
+            this.table = table;
+            this.condition = condition;
+            this.idColumn = idColumn;
+            this.keyColumns = List.of(keyColumns);
+        }
+    }
+
+    public static final List<Step> SPACE_STEPS = List.of(
+            Step.TEXT_PATCHES, Step.TEXT_SNAPSHOTS, Step.DRAWING_TILES, Step.DRAWING_SEGMENTS, Step.MARKER_BLOCKS,
+            Step.MARKER_STAGING, Step.SYNC_TIMESTAMPS, Step.TEXTS, Step.DRAWINGS, Step.AUDIO, Step.COLD_CONTENTS, Step.COLD_ARCHIVE,
+            Step.SPACE_STATS, Step.SPACE,
+            Step.ARCHIVED_TEXT_PATCHES, Step.ARCHIVED_TEXT_SNAPSHOTS, Step.ARCHIVED_DRAWING_SEGMENTS,
+            Step.ARCHIVED_MARKER_BLOCKS, Step.ARCHIVED_SYNC_TIMESTAMPS, Step.ARCHIVED_TEXTS,
+            Step.ARCHIVED_DRAWINGS, Step.ARCHIVED_AUDIO, Step.ARCHIVED_SPACE);
+
+    public static final List<Step> USER_STEPS = List.of(
+            Step.REFRESH_TOKENS, Step.USER_USAGE, Step.ARCHIVED_USER, Step.USER);
+
+    /**
+     * 범위 안의 행을 최대 limit 개 지운다.
+     *
+     * @return 지운 행 수. limit 보다 작으면 이 단계에 남은 행이 없다
+     */
+    public int deleteChunk(Step step, Long scopeId, int limit) {
+        if (step.keyColumns.isEmpty()) {
+            return jdbcTemplate.update("DELETE FROM " + step.table + " WHERE " + step.condition + " LIMIT ?",
+                    scopeId, limit);
+        }
+        List<Long> ids = jdbcTemplate.queryForList("SELECT " + step.idColumn + " FROM " + step.table + " WHERE "
+                + step.condition + " ORDER BY " + step.idColumn + " LIMIT ? FOR UPDATE", Long.class, scopeId, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String in = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] params = ids.toArray();
+        for (String keyColumn : step.keyColumns) {
+            jdbcTemplate.update("INSERT INTO storage_cleanup_queue (object_key) SELECT " + keyColumn + " FROM "
+                    + step.table + " WHERE " + step.idColumn + " IN (" + in + ") AND " + keyColumn + " IS NOT NULL", params);
+        }
+        return jdbcTemplate.update("DELETE FROM " + step.table + " WHERE " + step.idColumn + " IN (" + in + ")", params);
+    }
+
+    /**
+     * 삭제 여부와 관계없이 사용자에게 남아 있는 공간 하나. 보관 테이블의 공간도 포함한다.
+     */
+    public Optional<Long> findAnySpaceId(Long userId) {
+        Optional<Long> spaceId = jdbcTemplate.queryForList("SELECT space_id FROM liten_spaces WHERE user_id = ? "
+                + "ORDER BY space_id LIMIT 1", Long.class, userId).stream().findFirst();
+        if (spaceId.isPresent()) {
+            return spaceId;
+        }
+        return jdbcTemplate.queryForList("SELECT space_id FROM liten_spaces_archive WHERE user_id = ? "
+                + "ORDER BY space_id LIMIT 1", Long.class, userId).stream().findFirst();
+    }
+}
@@ -0,0 +1,107 @@
+package com.liten.api.repository;
+
+import com.liten.api.utils.compression.TextCompressor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+
+/**
+ * LONGTEXT/LONGBLOB 본문을 엔티티로 올리지 않고 JDBC 스트림으로 바로 읽는다.
+ *
+ * <p>본문 컬럼은 UTF-8 또는 압축된 UTF-8 바이트(LONGBLOB)이므로 {@code getBinaryStream} 으로 읽어
+ * String(UTF-16) 으로 디코딩하는 복사 없이 그대로 내보낸다.
+ * 드라이버는 행 하나를 바이트 버퍼로 받으므로 힙 사용량은 본문 바이트 크기 이상으로 늘어나지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ContentBodyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public enum TextColumn {
+        CONTENT("content"), PLAIN_TEXT("plain_text");
+
+        private final String column;
+
+        TextColumn(String column) {
+            this.column = column;
+        }
+    }
+
+    @FunctionalInterface
+    public interface BodyConsumer {
+        void accept(InputStream body) throws IOException;
+    }
+
+    /**
+     * 압축 저장된 본문은 읽는 만큼만 풀어서 UTF-8 스트림으로 넘긴다 ({@link TextCompressor}).
+     *
+     * @return 행이 있으면 true. 컬럼 값이 NULL 이면 consumer 에 빈 스트림을 넘긴다.
+     */
+    public boolean readText(Long textId, TextColumn column, BodyConsumer consumer) {
+        return read("SELECT " + column.column + " FROM text_contents WHERE text_id = ?", textId,
+                body -> {
+                    try (InputStream decoded = TextCompressor.openDecoded(body)) {
+                        consumer.accept(decoded);
+                    }
+                });
+    }
+
+    /**
+     * @return 행이 있으면 true. stroke_data 가 NULL 이면 consumer 에 빈 스트림을 넘긴다.
+     */
+    public boolean readStrokeData(Long drawingId, BodyConsumer consumer) {
+        return read("SELECT stroke_data FROM drawing_contents WHERE drawing_id = ?", drawingId, consumer);
+    }
+
+    /**
+     * 필기의 미병합 세그먼트를 segment_id 순서로 한 행씩 consumer 에 넘긴다.
+     * 세그먼트를 목록으로 모으지 않으므로 힙에는 한 번에 세그먼트 하나만 올라간다.
+     *
+     * @return 넘긴 세그먼트 수
+     */
+    public int readStrokeSegments(Long drawingId, BodyConsumer consumer) {
+        int[] count = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT segment_data FROM drawing_stroke_segments WHERE drawing_id = ? ORDER BY segment_id");
+            statement.setLong(1, drawingId);
+            statement.setFetchSize(1);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> {
+            try (InputStream body = resultSet.getBinaryStream(1)) {
+                consumer.accept(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    private boolean read(String sql, Long id, BodyConsumer consumer) {
+        Boolean found = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setLong(1, id);
+            statement.setFetchSize(1);
+            return statement;
+        }, resultSet -> {
+            if (!resultSet.next()) {
+                return false;
+            }
+            try (InputStream body = resultSet.getBinaryStream(1)) {
+                consumer.accept(body != null ? body : InputStream.nullInputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(found);
+    }
+}
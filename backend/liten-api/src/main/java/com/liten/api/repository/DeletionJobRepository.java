@@ -0,0 +1,50 @@
+package com.liten.api.repository;
+
+import com.liten.api.model.DeletionJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DeletionJobRepository extends JpaRepository<DeletionJob, Long> {
+
+    Optional<DeletionJob> findByJobIdAndUserId(Long jobId, Long userId);
+
+    /**
+     * 다른 노드가 잡고 있지 않은 실행 대기 작업.
+     */
+    @Query("SELECT j.jobId FROM DeletionJob j WHERE j.status IN :statuses " +
+           "AND (j.lockedUntil IS NULL OR j.lockedUntil < :now) ORDER BY j.jobId ASC")
+    List<Long> findRunnableIds(@Param("statuses") Collection<DeletionJob.Status> statuses,
+                               @Param("now") LocalDateTime now,
+                               Pageable pageable);
+
+    /**
+     * @return 잡았으면 1. 그 사이 다른 노드가 잡았으면 0
+     */
+    @Modifying
+    @Query("UPDATE DeletionJob j SET j.status = :running, j.lockedUntil = :until, j.updatedAt = :now " +
+           "WHERE j.jobId = :jobId AND j.status IN :statuses AND (j.lockedUntil IS NULL OR j.lockedUntil < :now)")
+    int claim(@Param("jobId") Long jobId,
+              @Param("running") DeletionJob.Status running,
+              @Param("statuses") Collection<DeletionJob.Status> statuses,
+              @Param("now") LocalDateTime now,
+              @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE DeletionJob j SET j.currentStep = :step, j.deletedRows = j.deletedRows + :rows, " +
+           "j.lockedUntil = :until, j.updatedAt = :now WHERE j.jobId = :jobId")
+    int updateProgress(@Param("jobId") Long jobId,
+                       @Param("step") String step,
+                       @Param("rows") long rows,
+                       @Param("now") LocalDateTime now,
+                       @Param("until") LocalDateTime until);
+}
@@ -0,0 +1,95 @@
+package com.liten.api.repository;
+
+import com.liten.api.model.DrawingContent;
+import com.liten.api.model.User;
+import com.liten.api.repository.projection.DrawingSummary;
+import com.liten.api.repository.projection.SyncPosition;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DrawingContentRepository extends JpaRepository<DrawingContent, Long> {
+
+    @Query("SELECT dc FROM DrawingContent dc WHERE dc.drawingId = :drawingId AND dc.litenSpace.user = :user")
+    Optional<DrawingContent> findByDrawingIdAndUser(@Param("drawingId") Long drawingId, @Param("user") User user);
+
+    /**
+     * 스트로크를 교체하거나 세그먼트를 병합하기 전에 필기 행을 잠근다. 두 작업이 같은 필기에서 겹치지 않게 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT dc FROM DrawingContent dc WHERE dc.drawingId = :drawingId AND dc.litenSpace.user = :user")
+    Optional<DrawingContent> findByDrawingIdAndUserForUpdate(@Param("drawingId") Long drawingId, @Param("user") User user);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT dc FROM DrawingContent dc WHERE dc.drawingId = :drawingId")
+    Optional<DrawingContent> findByIdForUpdate(@Param("drawingId") Long drawingId);
+
+    @Query("SELECT COUNT(dc) > 0 FROM DrawingContent dc WHERE dc.drawingId = :drawingId AND dc.litenSpace.user = :user")
+    boolean existsByDrawingIdAndUser(@Param("drawingId") Long drawingId, @Param("user") User user);
+
+    @Query("SELECT dc.isTileIndexed FROM DrawingContent dc WHERE dc.drawingId = :drawingId AND dc.litenSpace.user = :user")
+    Optional<Boolean> findTileIndexedByDrawingIdAndUser(@Param("drawingId") Long drawingId, @Param("user") User user);
+
+    @Query("SELECT CASE WHEN dc.strokeData IS NOT NULL THEN true ELSE false END FROM DrawingContent dc " +
+           "WHERE dc.drawingId = :drawingId AND dc.litenSpace.user = :user")
+    Optional<Boolean> findHasStrokeDataByDrawingIdAndUser(@Param("drawingId") Long drawingId, @Param("user") User user);
+
+    @Query("SELECT dc.drawingId AS drawingId, ls.spaceId AS spaceId, ac.audioId AS audioId, dc.filename AS filename, " +
+           "dc.filePath AS filePath, dc.fileSize AS fileSize, dc.mimeType AS mimeType, dc.width AS width, " +
+           "dc.height AS height, dc.thumbnailPath AS thumbnailPath, dc.audioSyncPosition AS audioSyncPosition, dc.sortKey AS sortKey, " +
+           "dc.createdAt AS createdAt, dc.updatedAt AS updatedAt " +
+           "FROM DrawingContent dc JOIN dc.litenSpace ls LEFT JOIN dc.audioContent ac " +
+           "WHERE ls.spaceId = :spaceId AND ls.user = :user ORDER BY dc.sortKey ASC, dc.drawingId ASC")
+    List<DrawingSummary> findSummariesBySpace(@Param("spaceId") Long spaceId, @Param("user") User user);
+
+    @Query("SELECT dc.drawingId AS drawingId, ls.spaceId AS spaceId, ac.audioId AS audioId, dc.filename AS filename, " +
+           "dc.filePath AS filePath, dc.fileSize AS fileSize, dc.mimeType AS mimeType, dc.width AS width, " +
+           "dc.height AS height, dc.thumbnailPath AS thumbnailPath, dc.audioSyncPosition AS audioSyncPosition, dc.sortKey AS sortKey, " +
+           "dc.createdAt AS createdAt, dc.updatedAt AS updatedAt " +
+           "FROM DrawingContent dc JOIN dc.litenSpace ls LEFT JOIN dc.audioContent ac " +
+           "WHERE dc.drawingId = :drawingId AND ls.user = :user")
+    Optional<DrawingSummary> findSummary(@Param("drawingId") Long drawingId, @Param("user") User user);
+
+    @Query("SELECT dc.drawingId AS id, CAST(dc.audioSyncPosition AS Long) AS positionMs FROM DrawingContent dc " +
+           "WHERE dc.audioContent.audioId = :audioId AND dc.audioSyncPosition IS NOT NULL " +
+           "ORDER BY dc.audioSyncPosition ASC")
+    List<SyncPosition> findSyncPositionsByAudioId(@Param("audioId") Long audioId);
+
+    /**
+     * (audioSyncPosition, drawingId) 가 (afterPosition, afterId) 다음인 필기부터 toMs 직전까지 위치 순으로 조회한다.
+     */
+    @Query("SELECT dc.drawingId AS drawingId, ls.spaceId AS spaceId, dc.audioContent.audioId AS audioId, dc.filename AS filename, " +
+           "dc.filePath AS filePath, dc.fileSize AS fileSize, dc.mimeType AS mimeType, dc.width AS width, " +
+           "dc.height AS height, dc.thumbnailPath AS thumbnailPath, dc.audioSyncPosition AS audioSyncPosition, dc.sortKey AS sortKey, " +
+           "dc.createdAt AS createdAt, dc.updatedAt AS updatedAt " +
+           "FROM DrawingContent dc JOIN dc.litenSpace ls " +
+           "WHERE dc.audioContent.audioId = :audioId " +
+           "AND (dc.audioSyncPosition > :afterPosition OR (dc.audioSyncPosition = :afterPosition AND dc.drawingId > :afterId)) " +
+           "AND dc.audioSyncPosition < :toMs ORDER BY dc.audioSyncPosition ASC, dc.drawingId ASC")
+    List<DrawingSummary> findTimelinePage(@Param("audioId") Long audioId,
+                                          @Param("afterPosition") Integer afterPosition,
+                                          @Param("afterId") Long afterId,
+                                          @Param("toMs") Integer toMs,
+                                          Pageable pageable);
+
+    /**
+     * 공간의 필기를 drawingId 순으로 afterId 다음부터 조회한다 (내보내기용 키셋 페이지).
+     */
+    @Query("SELECT dc.drawingId AS drawingId, ls.spaceId AS spaceId, ac.audioId AS audioId, dc.filename AS filename, " +
+           "dc.filePath AS filePath, dc.fileSize AS fileSize, dc.mimeType AS mimeType, dc.width AS width, " +
+           "dc.height AS height, dc.thumbnailPath AS thumbnailPath, dc.audioSyncPosition AS audioSyncPosition, dc.sortKey AS sortKey, " +
+           "dc.createdAt AS createdAt, dc.updatedAt AS updatedAt " +
+           "FROM DrawingContent dc JOIN dc.litenSpace ls LEFT JOIN dc.audioContent ac " +
+           "WHERE ls.spaceId = :spaceId AND dc.drawingId > :afterId ORDER BY dc.drawingId ASC")
+    List<DrawingSummary> findExportPage(@Param("spaceId") Long spaceId,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+}
@@ -0,0 +1,35 @@
+package com.liten.api.repository;
+
+import com.liten.api.model.DrawingStrokeSegment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DrawingStrokeSegmentRepository extends JpaRepository<DrawingStrokeSegment, Long> {
+
+    @Query("SELECT s FROM DrawingStrokeSegment s WHERE s.drawingContent.drawingId = :drawingId ORDER BY s.segmentId ASC")
+    List<DrawingStrokeSegment> findByDrawingId(@Param("drawingId") Long drawingId);
+
+    @Query("SELECT COUNT(s) > 0 FROM DrawingStrokeSegment s WHERE s.drawingContent.drawingId = :drawingId")
+    boolean existsByDrawingId(@Param("drawingId") Long drawingId);
+
+    @Query("SELECT s.drawingContent.drawingId FROM DrawingStrokeSegment s GROUP BY s.drawingContent.drawingId HAVING COUNT(s) >= :minSegments")
+    List<Long> findDrawingIdsToCompact(@Param("minSegments") long minSegments, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM DrawingStrokeSegment s WHERE s.drawingContent.drawingId = :drawingId")
+    int deleteByDrawingId(@Param("drawingId") Long drawingId);
+
+    /**
+     * 병합에 사용한 세그먼트만 지운다. ID 범위로 지우면 병합 중 커밋된 더 작은 ID 의 세그먼트까지 지울 수 있다.
+     */
+    @Modifying
+    @Query("DELETE FROM DrawingStrokeSegment s WHERE s.drawingContent.drawingId = :drawingId AND s.segmentId IN :segmentIds")
+    int deleteCompacted(@Param("drawingId") Long drawingId, @Param("segmentIds") List<Long> segmentIds);
+}
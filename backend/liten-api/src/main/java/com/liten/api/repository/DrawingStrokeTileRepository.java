@@ -0,0 +1,29 @@
+package com.liten.api.repository;
+
+import com.liten.api.model.DrawingStrokeTile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DrawingStrokeTileRepository extends JpaRepository<DrawingStrokeTile, Long> {
+
+    /**
+     * 경계가 뷰포트와 겹치는 타일. 그린 순서는 타일의 stroke_ordinals 로 합치므로 정렬하지 않는다.
+     */
+    @Query("SELECT t FROM DrawingStrokeTile t WHERE t.drawingContent.drawingId = :drawingId " +
+           "AND t.minX <= :right AND t.maxX >= :left AND t.minY <= :bottom AND t.maxY >= :top")
+    List<DrawingStrokeTile> findIntersecting(@Param("drawingId") Long drawingId,
+                                             @Param("left") float left,
+                                             @Param("top") float top,
+                                             @Param("right") float right,
+                                             @Param("bottom") float bottom);
+
+    @Modifying
+    @Query("DELETE FROM DrawingStrokeTile t WHERE t.drawingContent.drawingId = :drawingId")
+    int deleteByDrawingId(@Param("drawingId") Long drawingId);
+}
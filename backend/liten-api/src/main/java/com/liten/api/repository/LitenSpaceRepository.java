@@ -1,7 +1,12 @@
 package com.liten.api.repository;
 
+import com.liten.api.cache.CacheNames;
 import com.liten.api.model.LitenSpace;
 import com.liten.api.model.User;
+import com.liten.api.repository.projection.SpaceDashboardRow;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,21 +18,58 @@ import java.util.Optional;
 @Repository
 public interface LitenSpaceRepository extends JpaRepository<LitenSpace, Long> {
 
-    @Query("SELECT ls FROM LitenSpace ls WHERE ls.user = :user AND ls.deletedAt IS NULL ORDER BY ls.sortOrder ASC, ls.createdAt DESC")
+    @Query("SELECT ls FROM LitenSpace ls WHERE ls.user = :user ORDER BY ls.sortOrder ASC, ls.createdAt DESC")
     List<LitenSpace> findByUserOrderBySortOrder(@Param("user") User user);
 
-    @Query("SELECT ls FROM LitenSpace ls WHERE ls.user = :user AND ls.isFavorite = true AND ls.deletedAt IS NULL ORDER BY ls.updatedAt DESC")
+    @Query("SELECT ls FROM LitenSpace ls WHERE ls.user = :user AND ls.isFavorite = true ORDER BY ls.updatedAt DESC")
     List<LitenSpace> findFavoritesByUser(@Param("user") User user);
 
-    @Query("SELECT ls FROM LitenSpace ls WHERE ls.user = :user AND ls.isArchived = false AND ls.deletedAt IS NULL ORDER BY ls.updatedAt DESC")
+    @Query("SELECT ls FROM LitenSpace ls WHERE ls.user = :user AND ls.isArchived = false ORDER BY ls.updatedAt DESC")
     List<LitenSpace> findActiveByUser(@Param("user") User user);
 
-    @Query("SELECT ls FROM LitenSpace ls WHERE ls.spaceId = :spaceId AND ls.user = :user AND ls.deletedAt IS NULL")
+    /**
+     * 홈 화면 공간 목록. (sortKey, spaceId) 가 (afterSortKey, afterId) 다음인 공간부터 컨텐츠 수와 함께 조회한다.
+     */
+    @Query("SELECT ls.spaceId AS spaceId, ls.title AS title, ls.description AS description, ls.color AS color, " +
+           "ls.isFavorite AS isFavorite, ls.isArchived AS isArchived, ls.storageTier AS storageTier, ls.sortKey AS sortKey, " +
+           "COALESCE(st.audioCount, 0) AS audioCount, COALESCE(st.textCount, 0) AS textCount, " +
+           "COALESCE(st.drawingCount, 0) AS drawingCount, st.lastActivityAt AS lastActivityAt, " +
+           "ls.createdAt AS createdAt, ls.updatedAt AS updatedAt " +
+           "FROM LitenSpace ls LEFT JOIN LitenSpaceStats st ON st.spaceId = ls.spaceId " +
+           "WHERE ls.user = :user " +
+           "AND (:favoriteOnly = false OR ls.isFavorite = true) AND (:activeOnly = false OR ls.isArchived = false) " +
+           "AND (ls.sortKey > :afterSortKey OR (ls.sortKey = :afterSortKey AND ls.spaceId > :afterId)) " +
+           "ORDER BY ls.sortKey ASC, ls.spaceId ASC")
+    List<SpaceDashboardRow> findDashboardPage(@Param("user") User user,
+                                              @Param("favoriteOnly") boolean favoriteOnly,
+                                              @Param("activeOnly") boolean activeOnly,
+                                              @Param("afterSortKey") String afterSortKey,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+    @Query("SELECT ls FROM LitenSpace ls WHERE ls.spaceId = :spaceId AND ls.user = :user")
     Optional<LitenSpace> findBySpaceIdAndUser(@Param("spaceId") Long spaceId, @Param("user") User user);
 
-    @Query("SELECT COUNT(ls) FROM LitenSpace ls WHERE ls.user = :user AND ls.deletedAt IS NULL")
+    @Query("SELECT COUNT(ls) > 0 FROM LitenSpace ls WHERE ls.spaceId = :spaceId AND ls.user = :user")
+    boolean existsBySpaceIdAndUser(@Param("spaceId") Long spaceId, @Param("user") User user);
+
+    /**
+     * 삭제되지 않은 공간의 소유자. 요청마다 하는 소유 확인에 쓰므로 캐시하며,
+     * 공간이 삭제되면 커밋 후 {@link com.liten.api.cache.CacheEvictionListener} 가 지운다.
+     */
+    @Cacheable(cacheNames = CacheNames.SPACE_OWNERS, key = "#spaceId", unless = "#result == null")
+    @Query("SELECT ls.user.userId FROM LitenSpace ls WHERE ls.spaceId = :spaceId")
+    Optional<Long> findOwnerIdById(@Param("spaceId") Long spaceId);
+
+    @Query("SELECT COUNT(ls) FROM LitenSpace ls WHERE ls.user = :user")
     long countByUser(@Param("user") User user);
 
-    @Query("SELECT ls FROM LitenSpace ls WHERE ls.user = :user AND LOWER(ls.title) LIKE LOWER(CONCAT('%', :keyword, '%')) AND ls.deletedAt IS NULL")
+    @Query("SELECT ls FROM LitenSpace ls JOIN FETCH ls.user WHERE ls.spaceId = :spaceId")
+    Optional<LitenSpace> findWithUserById(@Param("spaceId") Long spaceId);
+
+    @Query("SELECT ls FROM LitenSpace ls WHERE ls.user.userId = :userId ORDER BY ls.spaceId ASC")
+    Slice<LitenSpace> findActiveByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT ls FROM LitenSpace ls WHERE ls.user = :user AND LOWER(ls.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<LitenSpace> searchByTitleContaining(@Param("user") User user, @Param("keyword") String keyword);
 }
\ No newline at end of file
@@ -16,14 +16,14 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
 
     Optional<RefreshToken> findByToken(String token);
 
-    @Query("SELECT rt FROM RefreshToken rt WHERE rt.user = :user AND rt.isRevoked = false AND rt.expiresAt > :now AND rt.deletedAt IS NULL")
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.user = :user AND rt.isRevoked = false AND rt.expiresAt > :now")
     List<RefreshToken> findValidTokensByUser(@Param("user") User user, @Param("now") LocalDateTime now);
 
     default List<RefreshToken> findValidTokensByUser(User user) {
         return findValidTokensByUser(user, LocalDateTime.now());
     }
 
-    @Query("SELECT rt FROM RefreshToken rt WHERE rt.user = :user AND (rt.expiresAt <= :now OR rt.isRevoked = true) AND rt.deletedAt IS NULL")
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.user = :user AND (rt.expiresAt <= :now OR rt.isRevoked = true)")
     List<RefreshToken> findExpiredTokensByUser(@Param("user") User user, @Param("now") LocalDateTime now);
 
     default List<RefreshToken> findExpiredTokensByUser(User user) {
@@ -0,0 +1,74 @@
+package com.liten.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 인덱스 변경 기록(search_index_changes). 노드마다 change_id 순서로 읽어 로컬 인덱스에 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchIndexChangeRepository {
+
+    private static final RowMapper<Change> CHANGE_MAPPER = (rs, rowNum) ->
+            new Change(rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getString(4));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param type SPACE, TEXT, AUDIO 또는 사용자 전체를 다시 만들 때 USER
+     */
+    public record Change(long changeId, String type, long contentId, String kind) {
+    }
+
+    public void append(String type, long contentId, String kind) {
+        jdbcTemplate.update("INSERT INTO search_index_changes (content_type, content_id, change_kind) VALUES (?, ?, ?)",
+                type, contentId, kind);
+    }
+
+    public List<Change> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query("SELECT change_id, content_type, content_id, change_kind FROM search_index_changes "
+                + "WHERE change_id > ? ORDER BY change_id ASC LIMIT ?", CHANGE_MAPPER, afterId, limit);
+    }
+
+    public List<Change> findByIds(Collection<Long> changeIds) {
+        String placeholders = changeIds.stream().map(id -> "?").collect(Collectors.joining(", "));
+        return jdbcTemplate.query("SELECT change_id, content_type, content_id, change_kind FROM search_index_changes "
+                + "WHERE change_id IN (" + placeholders + ") ORDER BY change_id ASC", CHANGE_MAPPER, changeIds.toArray());
+    }
+
+    /**
+     * @return 남아 있는 가장 작은 change_id. 기록이 없으면 0
+     */
+    public long findMinId() {
+        Long id = jdbcTemplate.queryForObject("SELECT MIN(change_id) FROM search_index_changes", Long.class);
+        return id != null ? id : 0L;
+    }
+
+    /**
+     * @return 가장 큰 change_id. 기록이 없으면 0
+     */
+    public long findMaxId() {
+        Long id = jdbcTemplate.queryForObject("SELECT MAX(change_id) FROM search_index_changes", Long.class);
+        return id != null ? id : 0L;
+    }
+
+    /**
+     * cutoff 이전 기록을 limit 행까지 지운다. 가장 큰 change_id 행은 남겨 오래 멈춰 있던 노드가 놓친 기록이 있는지
+     * 알 수 있게 한다.
+     *
+     * @return 지운 행 수
+     */
+    public int deleteBefore(LocalDateTime cutoff, long keepFromId, int limit) {
+        return jdbcTemplate.update("DELETE FROM search_index_changes WHERE created_at < ? AND change_id < ? LIMIT ?",
+                Timestamp.valueOf(cutoff), keepFromId, limit);
+    }
+}
@@ -0,0 +1,98 @@
+package com.liten.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 순서 키({@link com.liten.api.utils.order.RankKeys}) 조회/갱신. 공간 목록과 공간 안의 텍스트/필기 목록을
+ * 같은 방식으로 다루도록 테이블별 컬럼만 바꿔 JDBC 로 실행한다. sort_key 는 ascii_bin 이므로 정렬이 키 비교와 같다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SortKeyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 순서를 가진 목록. scopeColumn 이 같은 행끼리 하나의 목록을 이룬다.
+     */
+    public enum RankedList {
+        SPACES("liten_spaces", "space_id", "user_id"),
+        TEXTS("text_contents", "text_id", "space_id"),
+        DRAWINGS("drawing_contents", "drawing_id", "space_id");
+
+        private final String table;
+        private final String idColumn;
+        private final String scopeColumn;
+
+        RankedList(String table, String idColumn, String scopeColumn) {
+            this.table = table;
+            this.idColumn = idColumn;
+            this.scopeColumn = scopeColumn;
+        }
+    }
+
+    public record Item(Long id, Long scopeId, String sortKey) {
+    }
+
+    public Optional<Item> find(RankedList list, Long id) {
+        return jdbcTemplate.query("SELECT " + list.idColumn + ", " + list.scopeColumn + ", sort_key FROM " + list.table
+                        + " WHERE " + list.idColumn + " = ? AND deleted_at IS NULL",
+                (rs, rowNum) -> new Item(rs.getLong(1), rs.getLong(2), rs.getString(3)), id)
+                .stream().findFirst();
+    }
+
+    /**
+     * @param afterKey null 이면 목록의 첫 키
+     * @return afterKey 다음 키. excludeId 행은 건너뛴다
+     */
+    public Optional<String> findNextKey(RankedList list, Long scopeId, String afterKey, Long excludeId) {
+        String sql = "SELECT sort_key FROM " + list.table + " WHERE " + list.scopeColumn + " = ? AND deleted_at IS NULL"
+                + " AND " + list.idColumn + " <> ?"
+                + (afterKey != null ? " AND sort_key > ?" : " AND sort_key IS NOT NULL")
+                + " ORDER BY sort_key ASC LIMIT 1";
+        Object[] args = afterKey != null ? new Object[]{scopeId, excludeId, afterKey} : new Object[]{scopeId, excludeId};
+        return jdbcTemplate.queryForList(sql, String.class, args).stream().findFirst();
+    }
+
+    /**
+     * @return 목록의 마지막 키. 키가 없으면 empty
+     */
+    public Optional<String> findLastKey(RankedList list, Long scopeId) {
+        return jdbcTemplate.queryForList("SELECT sort_key FROM " + list.table + " WHERE " + list.scopeColumn
+                        + " = ? AND deleted_at IS NULL AND sort_key IS NOT NULL ORDER BY sort_key DESC LIMIT 1",
+                String.class, scopeId).stream().findFirst();
+    }
+
+    /**
+     * @return 목록의 ID 를 현재 순서대로. 키가 없는 행은 생성 순으로 끝에 둔다
+     */
+    public List<Long> findIdsInOrder(RankedList list, Long scopeId) {
+        return jdbcTemplate.queryForList("SELECT " + list.idColumn + " FROM " + list.table + " WHERE " + list.scopeColumn
+                        + " = ? AND deleted_at IS NULL ORDER BY CASE WHEN sort_key IS NULL THEN 1 ELSE 0 END, sort_key ASC, "
+                        + list.idColumn + " ASC",
+                Long.class, scopeId);
+    }
+
+    public int updateKey(RankedList list, Long id, String sortKey) {
+        return jdbcTemplate.update("UPDATE " + list.table + " SET sort_key = ? WHERE " + list.idColumn + " = ?",
+                sortKey, id);
+    }
+
+    /**
+     * 목록을 다시 매길 때 사용한다. 순서만 바뀌지 않았으므로 updated_at 은 그대로 둔다.
+     */
+    public void updateKeys(RankedList list, List<Long> ids, String[] sortKeys) {
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            args.add(new Object[]{sortKeys[i], ids.get(i)});
+        }
+        jdbcTemplate.batchUpdate("UPDATE " + list.table + " SET sort_key = ?, updated_at = updated_at WHERE "
+                + list.idColumn + " = ?", args);
+    }
+}
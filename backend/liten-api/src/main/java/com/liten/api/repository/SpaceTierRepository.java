@@ -0,0 +1,424 @@
+package com.liten.api.repository;
+
+import com.liten.api.cache.CacheNames;
+import com.liten.api.event.ContentChangedEvent;
+import com.liten.api.model.LitenSpace;
+import com.liten.api.utils.pack.RowPackReader;
+import com.liten.api.utils.pack.RowPackWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 공간 컨텐츠 행을 행 묶음({@link RowPackWriter})으로 옮기고 되살린다.
+ *
+ * <p>묶는 테이블과 순서는 {@link PackTable} 에 고정되어 있다. 외래키 부모부터 기록하므로 되살릴 때는 그 순서대로
+ * 넣고, 지울 때는 반대 순서로 지운다. 행은 {@code SELECT *} 로 읽어 컬럼 이름과 함께 기록하므로 묶은 뒤에 컬럼이
+ * 추가되어도 되살릴 때는 기본값이 들어간다. 읽기는 fetch-size 스트리밍이며 행마다 잠근다(FOR UPDATE).
+ */
+@Repository
+@RequiredArgsConstructor
+public class SpaceTierRepository {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private static final String SPACE_STORAGE =
+            "(SELECT COALESCE(SUM(ac.file_size), 0) FROM audio_contents ac WHERE ac.space_id = ? AND ac.deleted_at IS NULL) + " +
+            "(SELECT COALESCE(SUM(dc.file_size), 0) FROM drawing_contents dc WHERE dc.space_id = ? AND dc.deleted_at IS NULL)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 묶는 테이블. condition 의 ? 는 space_id 이다.
+     */
+    public enum PackTable {
+        AUDIO("audio_contents", "audio_id", "space_id = ?"),
+        TEXTS("text_contents", "text_id", "space_id = ?", true),
+        TEXT_PATCHES("text_content_patches", "patch_id", "text_id IN (SELECT text_id FROM text_contents WHERE space_id = ?)"),
+        TEXT_SNAPSHOTS("text_content_snapshots", "snapshot_id", "text_id IN (SELECT text_id FROM text_contents WHERE space_id = ?)"),
+        DRAWINGS("drawing_contents", "drawing_id", "space_id = ?", true),
+        DRAWING_SEGMENTS("drawing_stroke_segments", "segment_id",
+                "drawing_id IN (SELECT drawing_id FROM drawing_contents WHERE space_id = ?)"),
+        DRAWING_TILES("drawing_stroke_tiles", "tile_id",
+                "drawing_id IN (SELECT drawing_id FROM drawing_contents WHERE space_id = ?)"),
+        SYNC_TIMESTAMPS("sync_timestamps", "sync_id", "space_id = ?", true),
+        MARKER_BLOCKS("sync_marker_blocks", "block_id", "audio_id IN (SELECT audio_id FROM audio_contents WHERE space_id = ?)");
+
+        private final String table;
+        private final String key;
+        private final String condition;
+        // audio_id 가 다른 공간의 오디오를 가리킬 수 있는 테이블
+        private final boolean referencesAudio;
+
+        PackTable(String table, String key, String condition) {
+            this(table, key, condition, false);
+        }
+
+        PackTable(String table, String key, String condition, boolean referencesAudio) {
+            this.table = table;
+            this.key = key;
+            this.condition = condition;
+            this.referencesAudio = referencesAudio;
+        }
+
+        static Optional<PackTable> of(String table) {
+            return Arrays.stream(values()).filter(value -> value.table.equals(table)).findFirst();
+        }
+    }
+
+    public record SpaceTier(Long userId, LitenSpace.StorageTier tier, boolean archived) {
+    }
+
+    /**
+     * @param purgePending 원본 테이블에 아직 지우지 못한 묶은 행이 남아 있으면 true
+     */
+    public record ColdArchive(String objectKey, long packedRows, boolean purgePending) {
+    }
+
+    public record ColdUsage(int audioCount, int textCount, int drawingCount, long storageBytes) {
+    }
+
+    /**
+     * 보관된 지 오래되었고 그 뒤로 컨텐츠 활동도, 계층 변경도 없는 HOT 공간.
+     */
+    public List<Long> findFreezeCandidates(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList("SELECT ls.space_id FROM liten_spaces ls "
+                + "LEFT JOIN liten_space_stats st ON st.space_id = ls.space_id "
+                + "WHERE ls.storage_tier = 'HOT' AND ls.is_archived = TRUE AND ls.deleted_at IS NULL "
+                + "AND ls.updated_at < ? AND (ls.tier_changed_at IS NULL OR ls.tier_changed_at < ?) "
+                + "AND (st.last_activity_at IS NULL OR st.last_activity_at < ?) "
+                + "ORDER BY ls.space_id LIMIT ?", Long.class, cutoff, cutoff, cutoff, limit);
+    }
+
+    /**
+     * 사용자에게 콜드 공간이 있는지. 있다는 결과만 캐시한다. 없다는 결과를 캐시하면 얼린 직후 무효화와 엇갈려
+     * 다시 채워진 값 때문에 COLD 공간에 되살리지 않고 쓰게 될 수 있다. 있다는 결과가 오래되면 계층 확인만 한 번 더 한다.
+     * 계층이 바뀌면 {@link com.liten.api.service.SpaceTieringService} 가 지운다.
+     */
+    @Cacheable(cacheNames = CacheNames.COLD_SPACES, key = "#userId", unless = "!#result")
+    public boolean hasColdSpaces(Long userId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM liten_spaces "
+                + "WHERE user_id = ? AND storage_tier = 'COLD' AND deleted_at IS NULL)", Boolean.class, userId));
+    }
+
+    /**
+     * 잠그지 않고 계층만 읽는다. 요청마다 불리므로 기본키 한 행만 읽는다.
+     */
+    public Optional<LitenSpace.StorageTier> findTier(Long spaceId, Long userId) {
+        return jdbcTemplate.queryForList("SELECT storage_tier FROM liten_spaces WHERE space_id = ? AND user_id = ? "
+                        + "AND deleted_at IS NULL", String.class, spaceId, userId).stream()
+                .findFirst()
+                .map(tier -> tier != null ? LitenSpace.StorageTier.valueOf(tier) : LitenSpace.StorageTier.HOT);
+    }
+
+    /**
+     * @return 콜드 공간에 묶여 있는 컨텐츠면 그 공간
+     */
+    public Optional<Long> findColdSpaceId(ContentChangedEvent.ContentType type, Long contentId, Long userId) {
+        return jdbcTemplate.queryForList("SELECT cc.space_id FROM space_cold_contents cc "
+                        + "JOIN liten_spaces ls ON ls.space_id = cc.space_id "
+                        + "WHERE cc.content_type = ? AND cc.content_id = ? AND ls.user_id = ?",
+                Long.class, type.name(), contentId, userId).stream().findFirst();
+    }
+
+    /**
+     * 잠그지 않고 공간의 계층을 읽는다. 삭제된 공간이면 빈 값.
+     */
+    public Optional<SpaceTier> findSpace(Long spaceId) {
+        return querySpace(spaceId, false);
+    }
+
+    /**
+     * 공간 행을 잠그고 계층을 읽는다. 삭제된 공간이면 빈 값.
+     */
+    public Optional<SpaceTier> lockSpace(Long spaceId) {
+        return querySpace(spaceId, true);
+    }
+
+    private Optional<SpaceTier> querySpace(Long spaceId, boolean lock) {
+        return jdbcTemplate.query("SELECT user_id, storage_tier, is_archived FROM liten_spaces "
+                        + "WHERE space_id = ? AND deleted_at IS NULL" + (lock ? " FOR UPDATE" : ""),
+                (rs, rowNum) -> {
+                    String tier = rs.getString(2);
+                    return new SpaceTier(rs.getLong(1),
+                            tier != null ? LitenSpace.StorageTier.valueOf(tier) : LitenSpace.StorageTier.HOT,
+                            rs.getBoolean(3));
+                }, spaceId).stream().findFirst();
+    }
+
+    /**
+     * 공간 밖과 오디오 참조로 이어져 있으면 true. 묶으면 그 연결이 끊기므로 묶지 않는다.
+     *
+     * <p>다른 공간의 행이 이 공간의 오디오를 가리키는 경우와, 이 공간의 행이 다른 공간의 오디오를 가리키는 경우 모두 본다.
+     * 후자를 묶어 두면 그 오디오가 지워질 때 외래키 동작(SET NULL/CASCADE)이 묶인 행에 닿지 않아 되살릴 때 외래키 검사에 걸린다.
+     */
+    public boolean hasOutsideReferences(Long spaceId) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM audio_contents ac WHERE ac.space_id = ? AND ("
+                + "EXISTS (SELECT 1 FROM text_contents tc WHERE tc.audio_id = ac.audio_id AND tc.space_id <> ac.space_id) "
+                + "OR EXISTS (SELECT 1 FROM drawing_contents dc WHERE dc.audio_id = ac.audio_id AND dc.space_id <> ac.space_id) "
+                + "OR EXISTS (SELECT 1 FROM sync_timestamps st WHERE st.audio_id = ac.audio_id AND st.space_id <> ac.space_id)"
+                + ") LIMIT 1", Integer.class, spaceId).isEmpty()
+                || !jdbcTemplate.queryForList("SELECT 1 FROM text_contents tc JOIN audio_contents ac ON ac.audio_id = tc.audio_id "
+                + "WHERE tc.space_id = ? AND ac.space_id <> tc.space_id "
+                + "UNION ALL SELECT 1 FROM drawing_contents dc JOIN audio_contents ac ON ac.audio_id = dc.audio_id "
+                + "WHERE dc.space_id = ? AND ac.space_id <> dc.space_id "
+                + "UNION ALL SELECT 1 FROM sync_timestamps st JOIN audio_contents ac ON ac.audio_id = st.audio_id "
+                + "WHERE st.space_id = ? AND ac.space_id <> st.space_id "
+                + "LIMIT 1", Integer.class, spaceId, spaceId, spaceId).isEmpty();
+    }
+
+    /**
+     * 공간의 컨텐츠를 행 묶음에 기록한다.
+     *
+     * @param lock 읽는 행을 잠글지(FOR UPDATE). 잠그지 않으면 트랜잭션의 일관된 읽기로 기록한다
+     * @return 기록한 행 수
+     */
+    public long pack(Long spaceId, RowPackWriter writer, boolean lock) {
+        long before = writer.getRowCount();
+        for (PackTable table : PackTable.values()) {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement("SELECT * FROM " + table.table
+                        + " WHERE " + table.condition + " ORDER BY " + table.key + (lock ? " FOR UPDATE" : ""));
+                statement.setLong(1, spaceId);
+                statement.setFetchSize(100);
+                return statement;
+            }, (ResultSet rs) -> {
+                ResultSetMetaData meta = rs.getMetaData();
+                List<String> columns = new ArrayList<>(meta.getColumnCount());
+                for (int i = 1; i <= meta.getColumnCount(); i++) {
+                    columns.add(meta.getColumnLabel(i).toLowerCase());
+                }
+                try {
+                    writer.beginTable(table.table, columns);
+                    while (rs.next()) {
+                        Object[] values = new Object[columns.size()];
+                        for (int i = 0; i < values.length; i++) {
+                            values[i] = readValue(rs, meta, i + 1);
+                        }
+                        writer.writeRow(values);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        }
+        return writer.getRowCount() - before;
+    }
+
+    /**
+     * 행 묶음을 테이블마다 batchSize 행씩 넣는다. 원래 기본키를 그대로 쓴다.
+     *
+     * <p>묶은 뒤에 지워진 다른 공간의 오디오를 가리키는 행에는 외래키 동작을 대신 적용한다. 텍스트/필기의 audio_id 는
+     * 비우고(SET NULL) 마커 행은 버린다(CASCADE). 양방향 참조 검사가 생기기 전에 묶인 공간에서 생길 수 있다.
+     *
+     * @return 읽은 행 수 (버린 마커 행 포함)
+     */
+    public long unpack(RowPackReader reader, int batchSize) throws IOException {
+        long read = 0;
+        while (reader.nextTable()) {
+            PackTable table = PackTable.of(reader.getTable())
+                    .orElseThrow(() -> new IOException("알 수 없는 테이블입니다: " + reader.getTable()));
+            List<String> columns = reader.getColumns();
+            for (String column : columns) {
+                if (!IDENTIFIER.matcher(column).matches()) {
+                    throw new IOException("잘못된 컬럼 이름입니다: " + column);
+                }
+            }
+            String sql = "INSERT INTO " + table.table + " (" + String.join(", ", columns) + ") VALUES ("
+                    + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+            int audioColumn = table.referencesAudio ? columns.indexOf("audio_id") : -1;
+            List<Object[]> batch = new ArrayList<>(batchSize);
+            Object[] row;
+            while ((row = reader.nextRow()) != null) {
+                batch.add(row);
+                read++;
+                if (batch.size() >= batchSize) {
+                    insertBatch(sql, table, audioColumn, batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                insertBatch(sql, table, audioColumn, batch);
+            }
+        }
+        return read;
+    }
+
+    private void insertBatch(String sql, PackTable table, int audioColumn, List<Object[]> batch) {
+        List<Object[]> rows = audioColumn >= 0 ? detachMissingAudio(table, audioColumn, batch) : batch;
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+
+    private List<Object[]> detachMissingAudio(PackTable table, int audioColumn, List<Object[]> batch) {
+        List<Object> audioIds = batch.stream().map(row -> row[audioColumn]).filter(Objects::nonNull).distinct().toList();
+        if (audioIds.isEmpty()) {
+            return batch;
+        }
+        Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList("SELECT audio_id FROM audio_contents WHERE audio_id IN ("
+                + String.join(", ", Collections.nCopies(audioIds.size(), "?")) + ")", Long.class, audioIds.toArray()));
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        for (Object[] row : batch) {
+            Object audioId = row[audioColumn];
+            if (audioId == null || existing.contains(((Number) audioId).longValue())) {
+                rows.add(row);
+            } else if (table != PackTable.SYNC_TIMESTAMPS) {
+                row[audioColumn] = null;
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 묶은 행을 원본 테이블에서 지운다. 자식 테이블부터 지운다.
+     */
+    public long deletePacked(Long spaceId) {
+        long deleted = 0;
+        for (PackTable table : childFirst()) {
+            deleted += jdbcTemplate.update("DELETE FROM " + table.table + " WHERE " + table.condition, spaceId);
+        }
+        return deleted;
+    }
+
+    /**
+     * 묶은 행을 자식 테이블부터 최대 limit 행 지운다. 한 번에 한 테이블만 지운다.
+     *
+     * @return 지운 행 수. 0 이면 남은 행이 없다
+     */
+    public int deletePackedChunk(Long spaceId, int limit) {
+        for (PackTable table : childFirst()) {
+            int deleted = jdbcTemplate.update("DELETE FROM " + table.table + " WHERE " + table.condition
+                    + " LIMIT ?", spaceId, limit);
+            if (deleted > 0) {
+                return deleted;
+            }
+        }
+        return 0;
+    }
+
+    private static List<PackTable> childFirst() {
+        List<PackTable> tables = new ArrayList<>(List.of(PackTable.values()));
+        Collections.reverse(tables);
+        return tables;
+    }
+
+    /**
+     * 사용량 집계에 더할 컨텐츠 수와 용량. {@link UsageCounterRepository#recalculateSpace} 와 같은 기준으로 센다.
+     */
+    public ColdUsage countUsage(Long spaceId) {
+        return jdbcTemplate.queryForObject("SELECT "
+                        + "(SELECT COUNT(*) FROM audio_contents ac WHERE ac.space_id = ? AND ac.deleted_at IS NULL), "
+                        + "(SELECT COUNT(*) FROM text_contents tc WHERE tc.space_id = ? AND tc.deleted_at IS NULL), "
+                        + "(SELECT COUNT(*) FROM drawing_contents dc WHERE dc.space_id = ? AND dc.deleted_at IS NULL), "
+                        + SPACE_STORAGE,
+                (rs, rowNum) -> new ColdUsage(rs.getInt(1), rs.getInt(2), rs.getInt(3), rs.getLong(4)),
+                spaceId, spaceId, spaceId, spaceId, spaceId);
+    }
+
+    /**
+     * 컨텐츠 ID 와 저장소 객체 키를 색인에 옮겨 둔다. 묶은 행을 지우기 전에 호출한다.
+     */
+    public void indexColdContents(Long spaceId) {
+        jdbcTemplate.update("INSERT INTO space_cold_contents (content_type, content_id, space_id, file_path) "
+                + "SELECT 'AUDIO', audio_id, space_id, file_path FROM audio_contents WHERE space_id = ?", spaceId);
+        jdbcTemplate.update("INSERT INTO space_cold_contents (content_type, content_id, space_id) "
+                + "SELECT 'TEXT', text_id, space_id FROM text_contents WHERE space_id = ?", spaceId);
+        jdbcTemplate.update("INSERT INTO space_cold_contents (content_type, content_id, space_id, file_path, "
+                + "thumbnail_path) SELECT 'DRAWING', drawing_id, space_id, file_path, thumbnail_path "
+                + "FROM drawing_contents WHERE space_id = ?", spaceId);
+    }
+
+    /**
+     * 콜드 공간 컨텐츠의 저장소 객체 키. 빈 경로는 제외한다.
+     */
+    public List<String> findColdObjectKeys(Long spaceId) {
+        return jdbcTemplate.queryForList("SELECT file_path FROM space_cold_contents WHERE space_id = ? "
+                + "AND file_path IS NOT NULL AND file_path <> '' UNION ALL "
+                + "SELECT thumbnail_path FROM space_cold_contents WHERE space_id = ? "
+                + "AND thumbnail_path IS NOT NULL AND thumbnail_path <> ''", String.class, spaceId, spaceId);
+    }
+
+    public List<Long> findColdAudioIds(Long spaceId) {
+        return jdbcTemplate.queryForList("SELECT content_id FROM space_cold_contents WHERE space_id = ? "
+                + "AND content_type = 'AUDIO'", Long.class, spaceId);
+    }
+
+    /**
+     * 공간을 COLD 로 표시한다. 묶은 행은 아직 원본 테이블에 있으므로 {@link #deletePackedChunk} 로 지운 뒤
+     * {@link #finishPurge} 를 부른다.
+     */
+    public void markCold(Long spaceId, String objectKey, long packedRows, long packedBytes, ColdUsage usage) {
+        jdbcTemplate.update("INSERT INTO space_cold_archives (space_id, object_key, packed_rows, packed_bytes, "
+                        + "audio_count, text_count, drawing_count, storage_bytes, purge_pending) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, TRUE)",
+                spaceId, objectKey, packedRows, packedBytes, usage.audioCount(), usage.textCount(),
+                usage.drawingCount(), usage.storageBytes());
+        updateTier(spaceId, LitenSpace.StorageTier.COLD);
+    }
+
+    public Optional<ColdArchive> findColdArchive(Long spaceId) {
+        return jdbcTemplate.query("SELECT object_key, packed_rows, purge_pending FROM space_cold_archives "
+                        + "WHERE space_id = ?",
+                (rs, rowNum) -> new ColdArchive(rs.getString(1), rs.getLong(2), rs.getBoolean(3)), spaceId)
+                .stream().findFirst();
+    }
+
+    public void finishPurge(Long spaceId) {
+        jdbcTemplate.update("UPDATE space_cold_archives SET purge_pending = FALSE WHERE space_id = ?", spaceId);
+    }
+
+    /**
+     * 묶은 행을 다 지우지 못한 콜드 공간 (지우는 도중 실패했거나 노드가 내려갔다).
+     */
+    public List<Long> findPendingPurges(int limit) {
+        return jdbcTemplate.queryForList("SELECT space_id FROM space_cold_archives WHERE purge_pending = TRUE "
+                + "ORDER BY space_id LIMIT ?", Long.class, limit);
+    }
+
+    public void markHot(Long spaceId) {
+        jdbcTemplate.update("DELETE FROM space_cold_contents WHERE space_id = ?", spaceId);
+        jdbcTemplate.update("DELETE FROM space_cold_archives WHERE space_id = ?", spaceId);
+        updateTier(spaceId, LitenSpace.StorageTier.HOT);
+    }
+
+    // updated_at 은 사용자 수정 시각이므로 계층 변경으로 바꾸지 않는다
+    private void updateTier(Long spaceId, LitenSpace.StorageTier tier) {
+        jdbcTemplate.update("UPDATE liten_spaces SET storage_tier = ?, tier_changed_at = ?, updated_at = updated_at "
+                + "WHERE space_id = ?", tier.name(), LocalDateTime.now(), spaceId);
+    }
+
+    private static Object readValue(ResultSet rs, ResultSetMetaData meta, int column) throws SQLException {
+        Object value = switch (meta.getColumnType(column)) {
+            case Types.BLOB, Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY -> rs.getBytes(column);
+            case Types.CLOB, Types.NCLOB, Types.LONGVARCHAR, Types.LONGNVARCHAR -> rs.getString(column);
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> rs.getObject(column, LocalDateTime.class);
+            case Types.DATE -> rs.getObject(column, LocalDate.class);
+            case Types.BIT, Types.BOOLEAN -> rs.getBoolean(column);
+            default -> rs.getObject(column);
+        };
+        return rs.wasNull() ? null : value;
+    }
+}
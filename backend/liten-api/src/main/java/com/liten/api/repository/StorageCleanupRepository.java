@@ -0,0 +1,38 @@
+package com.liten.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 삭제할 저장소 객체 키 대기열(storage_cleanup_queue).
+ */
+@Repository
+@RequiredArgsConstructor
+public class StorageCleanupRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Item(long cleanupId, String objectKey) {
+    }
+
+    public void enqueue(String objectKey) {
+        jdbcTemplate.update("INSERT INTO storage_cleanup_queue (object_key) VALUES (?)", objectKey);
+    }
+
+    public List<Item> findBatch(int maxAttempts, int limit) {
+        return jdbcTemplate.query("SELECT cleanup_id, object_key FROM storage_cleanup_queue WHERE attempts < ? "
+                        + "ORDER BY attempts ASC, cleanup_id ASC LIMIT ?",
+                (rs, rowNum) -> new Item(rs.getLong(1), rs.getString(2)), maxAttempts, limit);
+    }
+
+    public void delete(long cleanupId) {
+        jdbcTemplate.update("DELETE FROM storage_cleanup_queue WHERE cleanup_id = ?", cleanupId);
+    }
+
+    public void markFailed(long cleanupId) {
+        jdbcTemplate.update("UPDATE storage_cleanup_queue SET attempts = attempts + 1 WHERE cleanup_id = ?", cleanupId);
+    }
+}
@@ -0,0 +1,40 @@
+package com.liten.api.repository;
+
+import com.liten.api.model.SyncMarkerBlock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SyncMarkerBlockRepository extends JpaRepository<SyncMarkerBlock, Long> {
+
+    @Query("SELECT b FROM SyncMarkerBlock b WHERE b.audioContent.audioId = :audioId AND b.deletedAt IS NULL " +
+           "ORDER BY b.firstPositionMs ASC, b.blockId ASC")
+    List<SyncMarkerBlock> findByAudioId(@Param("audioId") Long audioId);
+
+    /**
+     * [fromMs, toMs) 구간과 겹치는 블록.
+     */
+    @Query("SELECT b FROM SyncMarkerBlock b WHERE b.audioContent.audioId = :audioId AND b.deletedAt IS NULL " +
+           "AND b.firstPositionMs < :toMs AND b.lastPositionMs >= :fromMs ORDER BY b.firstPositionMs ASC, b.blockId ASC")
+    List<SyncMarkerBlock> findOverlapping(@Param("audioId") Long audioId,
+                                          @Param("fromMs") Long fromMs,
+                                          @Param("toMs") Long toMs);
+
+    /**
+     * [fromMs, toMs) 구간과 겹치는 블록을 (firstPositionMs, blockId) 가 (afterFirst, afterId) 다음인 것부터 조회한다.
+     */
+    @Query("SELECT b FROM SyncMarkerBlock b WHERE b.audioContent.audioId = :audioId AND b.deletedAt IS NULL " +
+           "AND (b.firstPositionMs > :afterFirst OR (b.firstPositionMs = :afterFirst AND b.blockId > :afterId)) " +
+           "AND b.firstPositionMs < :toMs AND b.lastPositionMs >= :fromMs ORDER BY b.firstPositionMs ASC, b.blockId ASC")
+    List<SyncMarkerBlock> findTimelinePage(@Param("audioId") Long audioId,
+                                           @Param("afterFirst") Long afterFirst,
+                                           @Param("afterId") Long afterId,
+                                           @Param("fromMs") Long fromMs,
+                                           @Param("toMs") Long toMs,
+                                           Pageable pageable);
+}
@@ -0,0 +1,86 @@
+package com.liten.api.repository;
+
+import com.liten.api.utils.sync.SyncMarkerData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 블록으로 묶기 전의 동기화 마커(sync_marker_staging). 추가한 요청의 트랜잭션에서 쓰고, 블록을 저장하는 트랜잭션에서 지운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncMarkerStagingRepository {
+
+    private static final String COLUMNS = "staging_id, position_ms, content_type, content_id, additional_data";
+
+    private static final RowMapper<StagedMarker> MARKER_MAPPER = (rs, rowNum) -> {
+        long contentId = rs.getLong(4);
+        return new StagedMarker(rs.getLong(1), new SyncMarkerData(rs.getLong(2), rs.getString(3),
+                rs.wasNull() ? null : contentId, rs.getString(5)));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record StagedMarker(long stagingId, SyncMarkerData marker) {
+    }
+
+    public void append(Long audioId, List<SyncMarkerData> markers) {
+        jdbcTemplate.batchUpdate("INSERT INTO sync_marker_staging "
+                        + "(audio_id, position_ms, content_type, content_id, additional_data) VALUES (?, ?, ?, ?, ?)",
+                markers, markers.size(), (ps, marker) -> {
+                    ps.setLong(1, audioId);
+                    ps.setLong(2, marker.positionMs());
+                    ps.setString(3, marker.contentType());
+                    if (marker.contentId() != null) {
+                        ps.setLong(4, marker.contentId());
+                    } else {
+                        ps.setNull(4, Types.BIGINT);
+                    }
+                    ps.setString(5, marker.additionalData());
+                });
+    }
+
+    public int countByAudioId(Long audioId) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sync_marker_staging WHERE audio_id = ?",
+                Integer.class, audioId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 블록으로 저장할 마커를 추가된 순서로 읽고 행을 잠근다. 다른 노드가 같은 오디오를 동시에 저장하려 하면
+     * 먼저 잠근 쪽이 커밋할 때까지 기다린 뒤 이미 지워진 행은 읽지 않는다.
+     */
+    public List<StagedMarker> lockByAudioId(Long audioId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM sync_marker_staging WHERE audio_id = ? "
+                + "ORDER BY staging_id ASC FOR UPDATE", MARKER_MAPPER, audioId);
+    }
+
+    /**
+     * @return [fromMs, toMs) 구간의 마커 (추가된 순서)
+     */
+    public List<SyncMarkerData> findInRange(Long audioId, long fromMs, long toMs) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM sync_marker_staging "
+                        + "WHERE audio_id = ? AND position_ms >= ? AND position_ms < ? ORDER BY staging_id ASC",
+                MARKER_MAPPER, audioId, fromMs, toMs).stream().map(StagedMarker::marker).toList();
+    }
+
+    /**
+     * @return cutoff 이전에 추가된 마커가 남아 있는 오디오 ID
+     */
+    public List<Long> findStaleAudioIds(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList("SELECT DISTINCT audio_id FROM sync_marker_staging WHERE created_at <= ? LIMIT ?",
+                Long.class, Timestamp.valueOf(cutoff), limit);
+    }
+
+    public int deleteUpTo(Long audioId, long stagingId) {
+        return jdbcTemplate.update("DELETE FROM sync_marker_staging WHERE audio_id = ? AND staging_id <= ?",
+                audioId, stagingId);
+    }
+}
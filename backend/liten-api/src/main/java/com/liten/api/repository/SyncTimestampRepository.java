@@ -0,0 +1,37 @@
+package com.liten.api.repository;
+
+import com.liten.api.model.SyncTimestamp;
+import com.liten.api.repository.projection.SyncMarker;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SyncTimestampRepository extends JpaRepository<SyncTimestamp, Long> {
+
+    @Query("SELECT st.syncId AS id, st.audioPositionMs AS positionMs, st.contentType AS contentType, st.contentId AS contentId " +
+           "FROM SyncTimestamp st WHERE st.audioContent.audioId = :audioId ORDER BY st.audioPositionMs ASC")
+    List<SyncMarker> findMarkersByAudioId(@Param("audioId") Long audioId);
+
+    @Query("SELECT st FROM SyncTimestamp st WHERE st.audioContent.audioId = :audioId " +
+           "AND st.audioPositionMs >= :fromMs AND st.audioPositionMs < :toMs ORDER BY st.audioPositionMs ASC")
+    List<SyncTimestamp> findInRange(@Param("audioId") Long audioId,
+                                    @Param("fromMs") Long fromMs,
+                                    @Param("toMs") Long toMs);
+
+    /**
+     * (audioPositionMs, syncId) 가 (afterPosition, afterId) 다음인 마커부터 toMs 직전까지 위치 순으로 조회한다.
+     */
+    @Query("SELECT st FROM SyncTimestamp st WHERE st.audioContent.audioId = :audioId " +
+           "AND (st.audioPositionMs > :afterPosition OR (st.audioPositionMs = :afterPosition AND st.syncId > :afterId)) " +
+           "AND st.audioPositionMs < :toMs ORDER BY st.audioPositionMs ASC, st.syncId ASC")
+    List<SyncTimestamp> findTimelinePage(@Param("audioId") Long audioId,
+                                         @Param("afterPosition") Long afterPosition,
+                                         @Param("afterId") Long afterId,
+                                         @Param("toMs") Long toMs,
+                                         Pageable pageable);
+}
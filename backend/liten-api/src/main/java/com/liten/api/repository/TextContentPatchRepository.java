@@ -0,0 +1,35 @@
+package com.liten.api.repository;
+
+import com.liten.api.model.TextContentPatch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TextContentPatchRepository extends JpaRepository<TextContentPatch, Long> {
+
+    @Query("SELECT p FROM TextContentPatch p WHERE p.textContent.textId = :textId " +
+           "AND p.version > :afterVersion AND p.version <= :upToVersion ORDER BY p.version ASC")
+    List<TextContentPatch> findRange(@Param("textId") Long textId,
+                                     @Param("afterVersion") Long afterVersion,
+                                     @Param("upToVersion") Long upToVersion);
+
+    @Query("SELECT p.textContent.textId FROM TextContentPatch p WHERE p.version > p.textContent.snapshotVersion " +
+           "GROUP BY p.textContent.textId HAVING COUNT(p) >= :minPatches OR MIN(p.createdAt) < :cutoff")
+    List<Long> findTextIdsToMaterialize(@Param("minPatches") long minPatches,
+                                        @Param("cutoff") LocalDateTime cutoff,
+                                        Pageable pageable);
+
+    /**
+     * 남긴 가장 오래된 스냅샷 버전까지의 패치를 지운다. 그 스냅샷부터는 패치 없이 복원된다.
+     */
+    @Modifying
+    @Query("DELETE FROM TextContentPatch p WHERE p.textContent.textId = :textId AND p.version <= :version")
+    int deleteUpTo(@Param("textId") Long textId, @Param("version") Long version);
+}
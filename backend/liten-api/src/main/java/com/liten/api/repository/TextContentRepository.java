@@ -0,0 +1,110 @@
+package com.liten.api.repository;
+
+import com.liten.api.model.TextContent;
+import com.liten.api.model.User;
+import com.liten.api.repository.projection.SyncPosition;
+import com.liten.api.repository.projection.TextExportRow;
+import com.liten.api.repository.projection.TextSummary;
+import com.liten.api.repository.projection.TextVersionInfo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TextContentRepository extends JpaRepository<TextContent, Long> {
+
+    @Query("SELECT tc FROM TextContent tc WHERE tc.textId = :textId AND tc.litenSpace.user = :user")
+    Optional<TextContent> findByTextIdAndUser(@Param("textId") Long textId, @Param("user") User user);
+
+    @Query("SELECT tc.textId AS textId, tc.contentVersion AS contentVersion, tc.snapshotVersion AS snapshotVersion, " +
+           "tc.contentLength AS contentLength, tc.plainTextLength AS plainTextLength, tc.formatType AS formatType " +
+           "FROM TextContent tc WHERE tc.textId = :textId AND tc.litenSpace.user = :user")
+    Optional<TextVersionInfo> findVersionInfo(@Param("textId") Long textId, @Param("user") User user);
+
+    @Query("SELECT tc.textId AS textId, ls.spaceId AS spaceId, ac.audioId AS audioId, tc.formatType AS formatType, " +
+           "tc.audioSyncPosition AS audioSyncPosition, tc.sortKey AS sortKey, tc.contentVersion AS contentVersion, " +
+           "tc.contentLength AS contentLength, tc.plainTextLength AS plainTextLength, " +
+           "tc.createdAt AS createdAt, tc.updatedAt AS updatedAt " +
+           "FROM TextContent tc JOIN tc.litenSpace ls LEFT JOIN tc.audioContent ac " +
+           "WHERE ls.spaceId = :spaceId AND ls.user = :user ORDER BY tc.sortKey ASC, tc.textId ASC")
+    List<TextSummary> findSummariesBySpace(@Param("spaceId") Long spaceId, @Param("user") User user);
+
+    @Query("SELECT tc.textId AS textId, ls.spaceId AS spaceId, ac.audioId AS audioId, tc.formatType AS formatType, " +
+           "tc.audioSyncPosition AS audioSyncPosition, tc.sortKey AS sortKey, tc.contentVersion AS contentVersion, " +
+           "tc.contentLength AS contentLength, tc.plainTextLength AS plainTextLength, " +
+           "tc.createdAt AS createdAt, tc.updatedAt AS updatedAt " +
+           "FROM TextContent tc JOIN tc.litenSpace ls LEFT JOIN tc.audioContent ac " +
+           "WHERE tc.textId = :textId AND ls.user = :user")
+    Optional<TextSummary> findSummary(@Param("textId") Long textId, @Param("user") User user);
+
+    /**
+     * 기준 버전이 일치할 때만 버전을 올린다. 0 이 반환되면 다른 저장이 먼저 반영된 것이다.
+     */
+    @Modifying
+    @Query("UPDATE TextContent tc SET tc.contentVersion = :newVersion, tc.contentLength = :contentLength, " +
+           "tc.plainTextLength = :plainTextLength, tc.updatedAt = :now " +
+           "WHERE tc.textId = :textId AND tc.contentVersion = :baseVersion")
+    int advanceVersion(@Param("textId") Long textId,
+                       @Param("baseVersion") Long baseVersion,
+                       @Param("newVersion") Long newVersion,
+                       @Param("contentLength") Integer contentLength,
+                       @Param("plainTextLength") Integer plainTextLength,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE TextContent tc SET tc.content = :content, tc.plainText = :plainText, tc.snapshotVersion = :version " +
+           "WHERE tc.textId = :textId AND tc.snapshotVersion < :version")
+    int updateSnapshot(@Param("textId") Long textId,
+                       @Param("content") String content,
+                       @Param("plainText") String plainText,
+                       @Param("version") Long version);
+
+    @Query("SELECT tc.textId AS id, CAST(tc.audioSyncPosition AS Long) AS positionMs FROM TextContent tc " +
+           "WHERE tc.audioContent.audioId = :audioId AND tc.audioSyncPosition IS NOT NULL " +
+           "ORDER BY tc.audioSyncPosition ASC")
+    List<SyncPosition> findSyncPositionsByAudioId(@Param("audioId") Long audioId);
+
+    /**
+     * (audioSyncPosition, textId) 가 (afterPosition, afterId) 다음인 텍스트부터 toMs 직전까지 위치 순으로 조회한다.
+     */
+    @Query("SELECT tc.textId AS textId, ls.spaceId AS spaceId, tc.audioContent.audioId AS audioId, tc.formatType AS formatType, " +
+           "tc.audioSyncPosition AS audioSyncPosition, tc.sortKey AS sortKey, tc.contentVersion AS contentVersion, " +
+           "tc.contentLength AS contentLength, tc.plainTextLength AS plainTextLength, " +
+           "tc.createdAt AS createdAt, tc.updatedAt AS updatedAt " +
+           "FROM TextContent tc JOIN tc.litenSpace ls " +
+           "WHERE tc.audioContent.audioId = :audioId " +
+           "AND (tc.audioSyncPosition > :afterPosition OR (tc.audioSyncPosition = :afterPosition AND tc.textId > :afterId)) " +
+           "AND tc.audioSyncPosition < :toMs ORDER BY tc.audioSyncPosition ASC, tc.textId ASC")
+    List<TextSummary> findTimelinePage(@Param("audioId") Long audioId,
+                                       @Param("afterPosition") Integer afterPosition,
+                                       @Param("afterId") Long afterId,
+                                       @Param("toMs") Integer toMs,
+                                       Pageable pageable);
+
+    /**
+     * 공간의 텍스트를 textId 순으로 afterId 다음부터 조회한다 (내보내기용 키셋 페이지).
+     */
+    @Query("SELECT tc.textId AS textId, ls.spaceId AS spaceId, ac.audioId AS audioId, tc.formatType AS formatType, " +
+           "tc.audioSyncPosition AS audioSyncPosition, tc.sortKey AS sortKey, tc.contentVersion AS contentVersion, " +
+           "tc.snapshotVersion AS snapshotVersion, tc.contentLength AS contentLength, tc.plainTextLength AS plainTextLength, " +
+           "tc.createdAt AS createdAt, tc.updatedAt AS updatedAt " +
+           "FROM TextContent tc JOIN tc.litenSpace ls LEFT JOIN tc.audioContent ac " +
+           "WHERE ls.spaceId = :spaceId AND tc.textId > :afterId ORDER BY tc.textId ASC")
+    List<TextExportRow> findExportPage(@Param("spaceId") Long spaceId,
+                                       @Param("afterId") Long afterId,
+                                       Pageable pageable);
+
+    @Query("SELECT tc FROM TextContent tc JOIN FETCH tc.litenSpace ls JOIN FETCH ls.user WHERE tc.textId = :textId")
+    Optional<TextContent> findWithSpaceById(@Param("textId") Long textId);
+
+    @Query("SELECT tc FROM TextContent tc JOIN FETCH tc.litenSpace ls WHERE ls.user.userId = :userId AND ls.deletedAt IS NULL ORDER BY tc.textId ASC")
+    Slice<TextContent> findActiveByUserId(@Param("userId") Long userId, Pageable pageable);
+}
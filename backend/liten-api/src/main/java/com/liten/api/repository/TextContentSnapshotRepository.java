@@ -0,0 +1,27 @@
+package com.liten.api.repository;
+
+import com.liten.api.model.TextContentSnapshot;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TextContentSnapshotRepository extends JpaRepository<TextContentSnapshot, Long> {
+
+    @Query("SELECT s FROM TextContentSnapshot s WHERE s.textContent.textId = :textId AND s.version <= :version ORDER BY s.version DESC")
+    List<TextContentSnapshot> findLatestAtOrBefore(@Param("textId") Long textId,
+                                                   @Param("version") Long version,
+                                                   Pageable pageable);
+
+    @Query("SELECT s.version FROM TextContentSnapshot s WHERE s.textContent.textId = :textId ORDER BY s.version DESC")
+    List<Long> findVersions(@Param("textId") Long textId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TextContentSnapshot s WHERE s.textContent.textId = :textId AND s.version < :version")
+    int deleteOlderThan(@Param("textId") Long textId, @Param("version") Long version);
+}
@@ -0,0 +1,117 @@
+package com.liten.api.repository;
+
+import com.liten.api.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 공간별(liten_space_stats)/사용자별(user_usage) 사용량 카운터.
+ *
+ * <p>한도 확인은 "한도 미만일 때만 증가" 하는 조건부 UPDATE 한 문장으로 하므로, 같은 사용자/공간의 동시 생성은
+ * 카운터 행 잠금으로 직렬화되어 한도를 넘지 않는다. 엔티티 영속화 중에도 호출되므로 Hibernate 세션을 flush 하지 않는
+ * JDBC 로 실행한다. recalculate* 는 실제 행을 다시 세어 카운터를 바로잡는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UsageCounterRepository {
+
+    private static final String SPACE_STORAGE =
+            "(SELECT COALESCE(SUM(ac.file_size), 0) FROM audio_contents ac WHERE ac.space_id = ls.space_id AND ac.deleted_at IS NULL) + " +
+            "(SELECT COALESCE(SUM(dc.file_size), 0) FROM drawing_contents dc WHERE dc.space_id = ls.space_id AND dc.deleted_at IS NULL) + " +
+            "(SELECT COALESCE(SUM(sc.storage_bytes), 0) FROM space_cold_archives sc WHERE sc.space_id = ls.space_id)";
+
+    // 콜드 공간은 컨텐츠 행이 원본 테이블에 없으므로 묶을 때 센 값을 더한다
+    private static final String COLD_COUNT =
+            "(SELECT COALESCE(SUM(sc.%s), 0) FROM space_cold_archives sc WHERE sc.space_id = ls.space_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public enum SpaceCounter {
+        AUDIO("audio_count"), TEXT("text_count"), DRAWING("drawing_count");
+
+        private final String column;
+
+        SpaceCounter(String column) {
+            this.column = column;
+        }
+    }
+
+    public record UserUsage(int spaceCount, long storageBytes) {
+    }
+
+    public record Subscription(User.SubscriptionType type, LocalDateTime endDate) {
+    }
+
+    /**
+     * @return 증가했으면 1, 한도에 도달했거나 카운터 행이 없으면 0
+     */
+    public int incrementSpaces(Long userId, int maxSpaces) {
+        return jdbcTemplate.update("UPDATE user_usage SET space_count = space_count + 1 WHERE user_id = ? AND space_count < ?",
+                userId, maxSpaces);
+    }
+
+    public int incrementContent(Long spaceId, SpaceCounter counter, int maxCount, long bytes) {
+        return jdbcTemplate.update("UPDATE liten_space_stats SET " + counter.column + " = " + counter.column + " + 1, "
+                + "storage_bytes = storage_bytes + ?, last_activity_at = CURRENT_TIMESTAMP WHERE space_id = ? AND " + counter.column + " < ?",
+                bytes, spaceId, maxCount);
+    }
+
+    public int addStorage(Long userId, long bytes, long maxBytes) {
+        return jdbcTemplate.update("UPDATE user_usage SET storage_bytes = storage_bytes + ? WHERE user_id = ? "
+                + "AND storage_bytes + ? <= ?", bytes, userId, bytes, maxBytes);
+    }
+
+    public Optional<UserUsage> findUserUsage(Long userId) {
+        return jdbcTemplate.query("SELECT space_count, storage_bytes FROM user_usage WHERE user_id = ?",
+                (rs, rowNum) -> new UserUsage(rs.getInt(1), rs.getLong(2)), userId).stream().findFirst();
+    }
+
+    /**
+     * 공간의 컨텐츠 수와 저장 용량을 다시 세어 기록한다. 각 집계는 space_id 색인 범위만 읽는다.
+     * 콜드 공간({@link SpaceTierRepository})의 묶인 컨텐츠도 포함한다.
+     */
+    public int recalculateSpace(Long spaceId) {
+        return jdbcTemplate.update("INSERT INTO liten_space_stats (space_id, audio_count, text_count, drawing_count, "
+                + "storage_bytes, last_activity_at) SELECT ls.space_id, "
+                + "(SELECT COUNT(*) FROM audio_contents ac WHERE ac.space_id = ls.space_id AND ac.deleted_at IS NULL) + "
+                + COLD_COUNT.formatted("audio_count") + ", "
+                + "(SELECT COUNT(*) FROM text_contents tc WHERE tc.space_id = ls.space_id AND tc.deleted_at IS NULL) + "
+                + COLD_COUNT.formatted("text_count") + ", "
+                + "(SELECT COUNT(*) FROM drawing_contents dc WHERE dc.space_id = ls.space_id AND dc.deleted_at IS NULL) + "
+                + COLD_COUNT.formatted("drawing_count") + ", "
+                + SPACE_STORAGE + ", CURRENT_TIMESTAMP FROM liten_spaces ls WHERE ls.space_id = ? "
+                + "ON DUPLICATE KEY UPDATE audio_count = VALUES(audio_count), text_count = VALUES(text_count), "
+                + "drawing_count = VALUES(drawing_count), storage_bytes = VALUES(storage_bytes), "
+                + "last_activity_at = VALUES(last_activity_at)", spaceId);
+    }
+
+    /**
+     * 사용자의 공간 수와 저장 용량을 다시 세어 기록한다.
+     */
+    public int recalculateUser(Long userId) {
+        return jdbcTemplate.update("INSERT INTO user_usage (user_id, space_count, storage_bytes) SELECT u.user_id, "
+                + "(SELECT COUNT(*) FROM liten_spaces ls WHERE ls.user_id = u.user_id AND ls.deleted_at IS NULL), "
+                + "(SELECT COALESCE(SUM(" + SPACE_STORAGE + "), 0) FROM liten_spaces ls "
+                + "WHERE ls.user_id = u.user_id AND ls.deleted_at IS NULL) "
+                + "FROM users u WHERE u.user_id = ? "
+                + "ON DUPLICATE KEY UPDATE space_count = VALUES(space_count), storage_bytes = VALUES(storage_bytes)", userId);
+    }
+
+    public Optional<Subscription> findSubscription(Long userId) {
+        return jdbcTemplate.query("SELECT subscription_type, subscription_end_date FROM users WHERE user_id = ?",
+                (rs, rowNum) -> {
+                    String type = rs.getString(1);
+                    return new Subscription(type != null ? User.SubscriptionType.valueOf(type) : User.SubscriptionType.FREE,
+                            rs.getObject(2, LocalDateTime.class));
+                }, userId).stream().findFirst();
+    }
+
+    public Optional<Long> findOwnerIdBySpaceId(Long spaceId) {
+        return jdbcTemplate.queryForList("SELECT user_id FROM liten_spaces WHERE space_id = ?", Long.class, spaceId)
+                .stream().findFirst();
+    }
+}
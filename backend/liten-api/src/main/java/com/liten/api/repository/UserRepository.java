@@ -1,11 +1,13 @@
 package com.liten.api.repository;
 
 import com.liten.api.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,16 +19,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByProviderAndProviderId(User.AuthProvider provider, String providerId);
 
-    @Query("SELECT u FROM User u WHERE u.email = :email AND u.deletedAt IS NULL")
+    @Query("SELECT u.userId FROM User u WHERE u.userId > :afterId ORDER BY u.userId ASC")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT u FROM User u WHERE u.email = :email")
     Optional<User> findActiveByEmail(@Param("email") String email);
 
-    @Query("SELECT u FROM User u WHERE u.appUniqueId = :appUniqueId AND u.deletedAt IS NULL")
+    @Query("SELECT u FROM User u WHERE u.appUniqueId = :appUniqueId")
     Optional<User> findActiveByAppUniqueId(@Param("appUniqueId") String appUniqueId);
 
-    boolean existsByEmail(String email);
+    // 삭제된 계정도 보관 테이블로 옮겨지기 전까지는 고유 제약을 차지하므로 삭제 여부와 관계없이 센다
+    @Query(value = "SELECT COUNT(*) FROM users WHERE email = :email", nativeQuery = true)
+    long countIncludingDeletedByEmail(@Param("email") String email);
+
+    @Query(value = "SELECT COUNT(*) FROM users WHERE app_unique_id = :appUniqueId", nativeQuery = true)
+    long countIncludingDeletedByAppUniqueId(@Param("appUniqueId") String appUniqueId);
+
+    default boolean existsByEmail(String email) {
+        return countIncludingDeletedByEmail(email) > 0;
+    }
 
-    boolean existsByAppUniqueId(String appUniqueId);
+    default boolean existsByAppUniqueId(String appUniqueId) {
+        return countIncludingDeletedByAppUniqueId(appUniqueId) > 0;
+    }
 
-    @Query("SELECT COUNT(u) FROM User u WHERE u.subscriptionType = :subscriptionType AND u.deletedAt IS NULL")
+    @Query("SELECT COUNT(u) FROM User u WHERE u.subscriptionType = :subscriptionType")
     long countBySubscriptionType(@Param("subscriptionType") User.SubscriptionType subscriptionType);
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.liten.api.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 필기 요약. drawing_data(LONGTEXT)와 stroke_data(LONGBLOB) 컬럼은 조회하지 않는다.
+ */
+public interface DrawingSummary {
+
+    Long getDrawingId();
+
+    Long getSpaceId();
+
+    Long getAudioId();
+
+    String getFilename();
+
+    String getFilePath();
+
+    Long getFileSize();
+
+    String getMimeType();
+
+    Integer getWidth();
+
+    Integer getHeight();
+
+    String getThumbnailPath();
+
+    Integer getAudioSyncPosition();
+
+    String getSortKey();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,39 @@
+package com.liten.api.repository.projection;
+
+import com.liten.api.model.LitenSpace;
+
+import java.time.LocalDateTime;
+
+/**
+ * 홈 화면 공간 목록 한 행. 컨텐츠 컬렉션을 초기화하지 않고 liten_space_stats 의 값을 함께 읽는다.
+ */
+public interface SpaceDashboardRow {
+
+    Long getSpaceId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getColor();
+
+    Boolean getIsFavorite();
+
+    Boolean getIsArchived();
+
+    LitenSpace.StorageTier getStorageTier();
+
+    String getSortKey();
+
+    Integer getAudioCount();
+
+    Integer getTextCount();
+
+    Integer getDrawingCount();
+
+    LocalDateTime getLastActivityAt();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,11 @@
+package com.liten.api.repository.projection;
+
+/**
+ * 동기화 마커(sync_timestamps)의 위치와 대상. additional_data(JSON)는 읽지 않는다.
+ */
+public interface SyncMarker extends SyncPosition {
+
+    String getContentType();
+
+    Long getContentId();
+}
@@ -0,0 +1,11 @@
+package com.liten.api.repository.projection;
+
+/**
+ * 오디오 재생 위치에 연결된 항목의 식별자와 위치(ms).
+ */
+public interface SyncPosition {
+
+    Long getId();
+
+    Long getPositionMs();
+}
@@ -0,0 +1,8 @@
+package com.liten.api.repository.projection;
+
+/**
+ * 공간 내보내기용 텍스트 노트 요약. 본문을 {@code TextContentService#writeBody} 로 바로 스트리밍할 수 있도록
+ * 버전 정보를 함께 읽는다.
+ */
+public interface TextExportRow extends TextSummary, TextVersionInfo {
+}
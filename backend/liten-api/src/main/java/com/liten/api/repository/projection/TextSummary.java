@@ -0,0 +1,33 @@
+package com.liten.api.repository.projection;
+
+import com.liten.api.model.TextContent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 텍스트 노트 요약. content/plain_text(LONGTEXT) 컬럼은 조회하지 않는다.
+ */
+public interface TextSummary {
+
+    Long getTextId();
+
+    Long getSpaceId();
+
+    Long getAudioId();
+
+    TextContent.FormatType getFormatType();
+
+    Integer getAudioSyncPosition();
+
+    String getSortKey();
+
+    Long getContentVersion();
+
+    Integer getContentLength();
+
+    Integer getPlainTextLength();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,21 @@
+package com.liten.api.repository.projection;
+
+import com.liten.api.model.TextContent;
+
+/**
+ * 본문(LONGTEXT) 없이 텍스트 노트의 버전 정보만 읽는 프로젝션.
+ */
+public interface TextVersionInfo {
+
+    Long getTextId();
+
+    Long getContentVersion();
+
+    Long getSnapshotVersion();
+
+    Integer getContentLength();
+
+    Integer getPlainTextLength();
+
+    TextContent.FormatType getFormatType();
+}
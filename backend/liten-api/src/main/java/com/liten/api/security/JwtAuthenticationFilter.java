@@ -1,5 +1,8 @@
 package com.liten.api.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -24,6 +28,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+
+    // 토큰의 사용자 조회 시간(캐시 적중 포함)
+    private Timer userLookupTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        userLookupTimer = Timer.builder("liten.auth.user.lookup")
+                .description("인증 필터의 사용자 조회 시간")
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -46,7 +61,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             userEmail = jwtTokenProvider.extractUsername(jwt);
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                long lookupStart = System.nanoTime();
                 UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+                userLookupTimer.record(System.nanoTime() - lookupStart, TimeUnit.NANOSECONDS);
 
                 if (jwtTokenProvider.isTokenValid(jwt, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = 
@@ -1,7 +1,11 @@
 package com.liten.api.security;
 
+import com.liten.api.diagnostics.RequestIds;
+import com.liten.api.diagnostics.TokenVerificationEvent;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,23 +16,42 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 @Slf4j
 public class JwtTokenProvider {
 
+    // 삭제 작업 조회 토큰의 작업 ID 클레임. 사용자 토큰에는 없으므로 두 토큰을 서로 대신 쓸 수 없다
+    private static final String CLAIM_DELETION_JOB = "deletionJob";
+
     private final SecretKey secretKey;
     private final long jwtExpiration;
     private final long refreshExpiration;
+    // 토큰 파싱 + 서명 검증 시간
+    private final Timer verifySuccessTimer;
+    private final Timer verifyErrorTimer;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.expiration}") long jwtExpiration,
-            @Value("${jwt.refresh-expiration}") long refreshExpiration) {
+            @Value("${jwt.refresh-expiration}") long refreshExpiration,
+            MeterRegistry meterRegistry) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.jwtExpiration = jwtExpiration;
         this.refreshExpiration = refreshExpiration;
+        this.verifySuccessTimer = verifyTimer(meterRegistry, "success");
+        this.verifyErrorTimer = verifyTimer(meterRegistry, "error");
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("liten.auth.jwt.verify")
+                .description("JWT 파싱 및 서명 검증 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -41,7 +64,36 @@ public class JwtTokenProvider {
     }
 
     public String generateRefreshToken(UserDetails userDetails) {
-        return buildToken(new HashMap<>(), userDetails, refreshExpiration);
+        // 발급 시각이 초 단위라 같은 초에 로그인/갱신이 겹치면 토큰이 같아진다. refresh_tokens.token 은 유일하므로 ID 를 넣는다
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(Claims.ID, UUID.randomUUID().toString());
+        return buildToken(claims, userDetails, refreshExpiration);
+    }
+
+    /**
+     * 삭제 작업 하나의 진행 상황만 조회할 수 있는 토큰. 계정 삭제 요청 직후 사용자가 비활성화되어
+     * 사용자 토큰으로는 인증되지 않으므로 이 토큰으로 조회한다. subject 가 이메일이 아니므로 사용자 인증에는 쓰이지 않는다.
+     */
+    public String generateDeletionJobToken(Long jobId, long expiration) {
+        return Jwts.builder()
+                .claim(CLAIM_DELETION_JOB, jobId)
+                .subject("deletion-job:" + jobId)
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + expiration))
+                .signWith(secretKey, Jwts.SIG.HS256)
+                .compact();
+    }
+
+    /**
+     * @return 서명과 만료가 유효한 삭제 작업 조회 토큰이면 작업 ID
+     */
+    public Optional<Long> extractDeletionJobId(String token) {
+        try {
+            Number jobId = extractAllClaims(token).get(CLAIM_DELETION_JOB, Number.class);
+            return Optional.ofNullable(jobId).map(Number::longValue);
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
     }
 
     private String buildToken(
@@ -80,12 +132,18 @@ public class JwtTokenProvider {
     }
 
     private Claims extractAllClaims(String token) {
+        long start = System.nanoTime();
+        boolean verified = false;
+        TokenVerificationEvent event = new TokenVerificationEvent();
+        event.begin();
         try {
-            return Jwts.parser()
+            Claims claims = Jwts.parser()
                     .verifyWith(secretKey)
                     .build()
                     .parseSignedClaims(token)
                     .getPayload();
+            verified = true;
+            return claims;
         } catch (ExpiredJwtException e) {
             log.warn("JWT 토큰이 만료되었습니다: {}", token);
             throw new RuntimeException("JWT 토큰이 만료되었습니다", e);
@@ -101,6 +159,14 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.warn("JWT 토큰이 비어있습니다: {}", token);
             throw new RuntimeException("JWT 토큰이 비어있습니다", e);
+        } finally {
+            (verified ? verifySuccessTimer : verifyErrorTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            event.end();
+            if (event.shouldCommit()) {
+                event.requestId = RequestIds.current();
+                event.verified = verified;
+                event.commit();
+            }
         }
     }
 }
\ No newline at end of file
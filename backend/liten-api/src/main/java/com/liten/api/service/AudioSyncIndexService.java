@@ -0,0 +1,250 @@
+package com.liten.api.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.liten.api.cache.CacheNames;
+import com.liten.api.cache.CacheProperties;
+import com.liten.api.cache.TwoTierCache;
+import com.liten.api.dto.AudioSyncResponse;
+import com.liten.api.event.ContentChangedEvent;
+import com.liten.api.model.User;
+import com.liten.api.repository.AudioContentRepository;
+import com.liten.api.repository.DrawingContentRepository;
+import com.liten.api.repository.SyncMarkerBlockRepository;
+import com.liten.api.repository.SyncTimestampRepository;
+import com.liten.api.repository.TextContentRepository;
+import com.liten.api.utils.sync.AudioSyncIndex;
+import com.liten.api.utils.sync.MarkerBlockCodec;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 오디오 재생 위치 조회. 오디오마다 {@link AudioSyncIndex} 를 처음 조회할 때 만들어 {@link CacheNames#AUDIO_SYNC_INDEX}
+ * 캐시(노드 로컬, 최대 항목 수와 TTL 은 app.cache.specs)에 두고, 이후 탐색(seek)은 DB 를 거치지 않고 메모리에서 이진 탐색으로 처리한다.
+ * 관련 행이 바뀌면 {@link ContentChangedEvent} 로 해당 오디오의 색인을 버리며, 무효화는 캐시 무효화 채널로 다른 노드에도 전파된다.
+ * 마커는 sync_timestamps 행과 저장된 마커 블록을 포함하며, 아직 대기열(sync_marker_staging)에 있는 마커는 블록이 저장된 뒤 반영된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AudioSyncIndexService {
+
+    private static final int VERSION_SLOTS = 1024;
+
+    private final AudioContentRepository audioContentRepository;
+    private final TextContentRepository textContentRepository;
+    private final DrawingContentRepository drawingContentRepository;
+    private final SyncTimestampRepository syncTimestampRepository;
+    private final SyncMarkerBlockRepository syncMarkerBlockRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final CacheManager cacheManager;
+    private final CacheProperties cacheProperties;
+
+    @Value("${app.audio.sync-index.member-entries:100000}")
+    private long memberEntries;
+
+    private Cache cache;
+    private TransactionTemplate readOnlyTransaction;
+
+    /**
+     * 색인을 만드는 도중 그 오디오가 무효화됐는지 판별하기 위한 버전. 오디오 ID 를 나눠 담아 메모리를 고정하며,
+     * 같은 칸의 다른 오디오가 무효화되면 만든 색인을 한 번 버릴 뿐이다.
+     */
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_SLOTS);
+
+    /** 텍스트/그림 ID -> 그 항목을 담은 색인의 오디오 ID. 항목이 다른 오디오로 옮겨지면 이전 오디오의 색인도 버린다 */
+    private com.github.benmanes.caffeine.cache.Cache<Long, Long> textAudio;
+    private com.github.benmanes.caffeine.cache.Cache<Long, Long> drawingAudio;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        cache = cacheManager.getCache(CacheNames.AUDIO_SYNC_INDEX);
+        if (cache instanceof TwoTierCache twoTier) {
+            // 다른 노드에서 온 무효화도 버전을 올려, 그 사이에 만들던 색인이 캐시에 남지 않게 한다
+            twoTier.addEvictionListener(this::bumpVersion);
+        }
+        Duration ttl = CacheNames.specs(cacheProperties.getSpecs()).get(CacheNames.AUDIO_SYNC_INDEX).getTtl();
+        textAudio = Caffeine.newBuilder().maximumSize(memberEntries).expireAfterWrite(ttl).build();
+        drawingAudio = Caffeine.newBuilder().maximumSize(memberEntries).expireAfterWrite(ttl).build();
+    }
+
+    public AudioSyncResponse.Active findActive(User user, Long audioId, long positionMs) {
+        AudioSyncIndex index = getIndex(user, audioId);
+        AudioSyncIndex.Track markers = index.markers();
+        int marker = markers.activeAt(positionMs);
+        return AudioSyncResponse.Active.builder()
+                .audioId(audioId)
+                .positionMs(positionMs)
+                .text(entry("TEXT", index.texts(), index.texts().activeAt(positionMs)))
+                .drawing(entry("DRAWING", index.drawings(), index.drawings().activeAt(positionMs)))
+                .marker(marker < 0 ? null : markerEntry(index, marker))
+                .build();
+    }
+
+    /**
+     * [fromMs, toMs) 구간에 위치한 항목을 위치 순으로 반환한다. 타임라인 표시용.
+     */
+    public AudioSyncResponse.Window findWindow(User user, Long audioId, long fromMs, long toMs) {
+        AudioSyncIndex index = getIndex(user, audioId);
+        List<AudioSyncResponse.Entry> entries = new ArrayList<>();
+        addRange(entries, "TEXT", index.texts(), fromMs, toMs);
+        addRange(entries, "DRAWING", index.drawings(), fromMs, toMs);
+        AudioSyncIndex.Track markers = index.markers();
+        for (int i = markers.lowerBound(fromMs); i < markers.size() && markers.position(i) < toMs; i++) {
+            entries.add(markerEntry(index, i));
+        }
+        entries.sort((a, b) -> Long.compare(a.getPositionMs(), b.getPositionMs()));
+        return AudioSyncResponse.Window.builder()
+                .audioId(audioId)
+                .fromMs(fromMs)
+                .toMs(toMs)
+                .entries(entries)
+                .build();
+    }
+
+    public AudioSyncIndex getIndex(User user, Long audioId) {
+        AudioSyncIndex index = cache.get(audioId, AudioSyncIndex.class);
+        if (index == null) {
+            index = build(audioId);
+        }
+        if (index == null || index.getOwnerId() != user.getUserId()) {
+            throw new RuntimeException("오디오를 찾을 수 없습니다: " + audioId);
+        }
+        return index;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        switch (event.type()) {
+            case AUDIO, SYNC_TIMESTAMP -> invalidate(event.audioId());
+            case TEXT -> invalidateMember(textAudio, event.id(), event.audioId());
+            case DRAWING -> invalidateMember(drawingAudio, event.id(), event.audioId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 이 노드와 다른 노드의 색인을 버린다. 다른 노드에는 캐시 무효화 채널로 전파된다.
+     */
+    public void invalidate(Long audioId) {
+        if (audioId != null) {
+            cache.evict(audioId);
+        }
+    }
+
+    /**
+     * 항목이 다른 오디오로 옮겨졌거나 연결이 끊긴 경우, 이 노드가 기억하는 이전 오디오의 색인도 버린다.
+     * 이전 오디오를 모르는 다른 노드의 색인은 TTL 이 지나면 다시 만들어진다.
+     */
+    private void invalidateMember(com.github.benmanes.caffeine.cache.Cache<Long, Long> members, Long id, Long audioId) {
+        Long previous = id != null ? members.asMap().remove(id) : null;
+        if (previous != null && !previous.equals(audioId)) {
+            invalidate(previous);
+        }
+        invalidate(audioId);
+    }
+
+    private void bumpVersion(Object key) {
+        if (key instanceof Long audioId) {
+            versions.incrementAndGet(versionSlot(audioId));
+        } else {
+            for (int i = 0; i < VERSION_SLOTS; i++) {
+                versions.incrementAndGet(i);
+            }
+        }
+    }
+
+    private static int versionSlot(Long audioId) {
+        return audioId.hashCode() & (VERSION_SLOTS - 1);
+    }
+
+    private AudioSyncIndex build(Long audioId) {
+        int slot = versionSlot(audioId);
+        long startVersion = versions.get(slot);
+        long start = System.nanoTime();
+        AudioSyncIndex index = readOnlyTransaction.execute(status -> {
+            Long ownerId = audioContentRepository.findOwnerIdById(audioId).orElse(null);
+            if (ownerId == null) {
+                return null;
+            }
+            AudioSyncIndex.Builder builder = AudioSyncIndex.builder(audioId, ownerId);
+            textContentRepository.findSyncPositionsByAudioId(audioId)
+                    .forEach(text -> builder.addText(text.getId(), text.getPositionMs()));
+            drawingContentRepository.findSyncPositionsByAudioId(audioId)
+                    .forEach(drawing -> builder.addDrawing(drawing.getId(), drawing.getPositionMs()));
+            syncTimestampRepository.findMarkersByAudioId(audioId)
+                    .forEach(marker -> builder.addMarker(marker.getId(), marker.getPositionMs(),
+                            marker.getContentType(), marker.getContentId()));
+            syncMarkerBlockRepository.findByAudioId(audioId).forEach(block ->
+                    MarkerBlockCodec.decode(block.getBlockData(), false).forEach(marker ->
+                            builder.addMarker(-1L, marker.positionMs(), marker.contentType(), marker.contentId())));
+            return builder.build();
+        });
+        if (index == null) {
+            return null;
+        }
+        if (versions.get(slot) == startVersion) {
+            AudioSyncIndex.Track texts = index.texts();
+            for (int i = 0; i < texts.size(); i++) {
+                textAudio.put(texts.id(i), audioId);
+            }
+            AudioSyncIndex.Track drawings = index.drawings();
+            for (int i = 0; i < drawings.size(); i++) {
+                drawingAudio.put(drawings.id(i), audioId);
+            }
+            cache.put(audioId, index);
+            // 넣는 사이에 무효화가 끼어들었으면 방금 넣은 색인을 버린다
+            if (versions.get(slot) != startVersion) {
+                cache.evict(audioId);
+            }
+        }
+        log.debug("오디오 동기화 색인 생성: audioId={}, entries={}, ~{} bytes, {} µs",
+                audioId, index.size(), index.estimatedBytes(), (System.nanoTime() - start) / 1000);
+        return index;
+    }
+
+    private static void addRange(List<AudioSyncResponse.Entry> entries, String type,
+                                 AudioSyncIndex.Track track, long fromMs, long toMs) {
+        for (int i = track.lowerBound(fromMs); i < track.size() && track.position(i) < toMs; i++) {
+            entries.add(entry(type, track, i));
+        }
+    }
+
+    private static AudioSyncResponse.Entry entry(String type, AudioSyncIndex.Track track, int i) {
+        if (i < 0) {
+            return null;
+        }
+        return AudioSyncResponse.Entry.builder()
+                .type(type)
+                .id(track.id(i))
+                .positionMs(track.position(i))
+                .build();
+    }
+
+    private static AudioSyncResponse.Entry markerEntry(AudioSyncIndex index, int i) {
+        long syncId = index.markers().id(i);
+        long contentId = index.markerContentId(i);
+        return AudioSyncResponse.Entry.builder()
+                .type("MARKER")
+                .id(syncId >= 0 ? syncId : null)
+                .positionMs(index.markers().position(i))
+                .contentType(index.markerContentType(i))
+                .contentId(contentId >= 0 ? contentId : null)
+                .build();
+    }
+}
@@ -0,0 +1,347 @@
+package com.liten.api.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liten.api.dto.AudioSyncResponse;
+import com.liten.api.model.SyncMarkerBlock;
+import com.liten.api.model.SyncTimestamp;
+import com.liten.api.model.User;
+import com.liten.api.repository.AudioContentRepository;
+import com.liten.api.repository.DrawingContentRepository;
+import com.liten.api.repository.SyncMarkerBlockRepository;
+import com.liten.api.repository.SyncTimestampRepository;
+import com.liten.api.repository.TextContentRepository;
+import com.liten.api.repository.projection.DrawingSummary;
+import com.liten.api.repository.projection.TextSummary;
+import com.liten.api.utils.sync.MarkerBlockCodec;
+import com.liten.api.utils.sync.SyncMarkerData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * 오디오 재생용 통합 타임라인.
+ *
+ * <p>텍스트, 필기, sync_timestamps 행, 마커 블록, 대기 중인 마커를 각각 위치 순 커서로 열고
+ * 우선순위 큐로 병합하여 한 줄씩 NDJSON 으로 기록한다. DB 커서는 (위치, ID) 키셋으로 page-size 행씩 읽으므로
+ * 타임라인 길이와 무관하게 커서당 한 페이지만 메모리에 둔다. 스트리밍 동안 트랜잭션이나 커넥션을 잡고 있지 않으며,
+ * 페이지마다 그 시점의 데이터를 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AudioTimelineService {
+
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private static final Comparator<Cursor> ORDER = Comparator
+            .comparingLong((Cursor cursor) -> cursor.head.getPositionMs())
+            .thenComparingInt(cursor -> cursor.rank)
+            .thenComparing(cursor -> cursor.head.getId(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final AudioContentRepository audioContentRepository;
+    private final TextContentRepository textContentRepository;
+    private final DrawingContentRepository drawingContentRepository;
+    private final SyncTimestampRepository syncTimestampRepository;
+    private final SyncMarkerBlockRepository blockRepository;
+    private final SyncMarkerService syncMarkerService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.audio.timeline.page-size:200}")
+    private int pageSize;
+
+    @Value("${app.audio.timeline.block-page-size:4}")
+    private int blockPageSize;
+
+    @Value("${app.audio.timeline.flush-every:256}")
+    private int flushEvery;
+
+    public void checkOwner(User user, Long audioId) {
+        Long ownerId = audioContentRepository.findOwnerIdById(audioId).orElse(null);
+        if (ownerId == null || !ownerId.equals(user.getUserId())) {
+            throw new RuntimeException("오디오를 찾을 수 없습니다: " + audioId);
+        }
+    }
+
+    /**
+     * [fromMs, toMs) 구간의 항목을 위치 순으로 한 줄에 하나씩 기록한다. 같은 위치는 텍스트, 필기, 마커 순이다.
+     * 소유자 확인은 {@link #checkOwner} 로 먼저 해야 한다.
+     *
+     * @return 기록한 항목 수
+     */
+    public long writeTimeline(Long audioId, long fromMs, long toMs, OutputStream out) throws IOException {
+        List<Cursor> cursors = List.of(
+                new PagedCursor<TextSummary>(0, fromMs, (position, id) -> textContentRepository.findTimelinePage(
+                        audioId, clampToInt(position), id, clampToInt(toMs), PageRequest.of(0, pageSize)), this::toEntry),
+                new PagedCursor<DrawingSummary>(1, fromMs, (position, id) -> drawingContentRepository.findTimelinePage(
+                        audioId, clampToInt(position), id, clampToInt(toMs), PageRequest.of(0, pageSize)), this::toEntry),
+                new PagedCursor<SyncTimestamp>(2, fromMs, (position, id) -> syncTimestampRepository.findTimelinePage(
+                        audioId, position, id, toMs, PageRequest.of(0, pageSize)), this::toEntry),
+                new BlockCursor(audioId, fromMs, toMs),
+                new PendingCursor(syncMarkerService.getPendingMarkers(audioId, fromMs, toMs)));
+
+        PriorityQueue<Cursor> queue = new PriorityQueue<>(cursors.size(), ORDER);
+        for (Cursor cursor : cursors) {
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        long written = 0;
+        while (!queue.isEmpty()) {
+            Cursor cursor = queue.poll();
+            objectMapper.writeValue(generator, cursor.head);
+            generator.writeRaw('\n');
+            if (++written % flushEvery == 0) {
+                generator.flush();
+            }
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+        generator.close();
+        log.debug("타임라인 전송: audioId={}, [{}, {}), entries={}", audioId, fromMs, toMs, written);
+        return written;
+    }
+
+    /**
+     * 텍스트/필기의 위치 컬럼은 INT 이므로 구간 경계를 INT 범위로 맞춘다.
+     */
+    private static int clampToInt(long value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+
+    private AudioSyncResponse.TimelineEntry toEntry(TextSummary text) {
+        return AudioSyncResponse.TimelineEntry.builder()
+                .type("TEXT")
+                .id(text.getTextId())
+                .positionMs(text.getAudioSyncPosition().longValue())
+                .spaceId(text.getSpaceId())
+                .formatType(text.getFormatType() != null ? text.getFormatType().name() : null)
+                .version(text.getContentVersion())
+                .contentLength(text.getContentLength())
+                .build();
+    }
+
+    private AudioSyncResponse.TimelineEntry toEntry(DrawingSummary drawing) {
+        return AudioSyncResponse.TimelineEntry.builder()
+                .type("DRAWING")
+                .id(drawing.getDrawingId())
+                .positionMs(drawing.getAudioSyncPosition().longValue())
+                .spaceId(drawing.getSpaceId())
+                .filename(drawing.getFilename())
+                .thumbnailPath(drawing.getThumbnailPath())
+                .width(drawing.getWidth())
+                .height(drawing.getHeight())
+                .build();
+    }
+
+    private AudioSyncResponse.TimelineEntry toEntry(SyncTimestamp marker) {
+        return AudioSyncResponse.TimelineEntry.builder()
+                .type("MARKER")
+                .id(marker.getSyncId())
+                .positionMs(marker.getAudioPositionMs())
+                .contentType(marker.getContentType())
+                .contentId(marker.getContentId())
+                .additionalData(marker.getAdditionalData())
+                .build();
+    }
+
+    private static AudioSyncResponse.TimelineEntry toEntry(SyncMarkerData marker) {
+        return AudioSyncResponse.TimelineEntry.builder()
+                .type("MARKER")
+                .positionMs(marker.positionMs())
+                .contentType(marker.contentType())
+                .contentId(marker.contentId())
+                .additionalData(marker.additionalData())
+                .build();
+    }
+
+    /**
+     * 위치 순 항목 스트림. head 는 다음에 기록할 항목이다.
+     */
+    private abstract static class Cursor {
+
+        private final int rank;
+        AudioSyncResponse.TimelineEntry head;
+
+        Cursor(int rank) {
+            this.rank = rank;
+        }
+
+        /**
+         * head 를 다음 항목으로 옮긴다.
+         *
+         * @return 남은 항목이 있으면 true
+         */
+        abstract boolean advance();
+    }
+
+    @FunctionalInterface
+    private interface PageLoader<T> {
+        List<T> load(Long afterPosition, Long afterId);
+    }
+
+    /**
+     * (위치, ID) 키셋으로 한 페이지씩 읽는 DB 커서.
+     */
+    private final class PagedCursor<T> extends Cursor {
+
+        private final PageLoader<T> loader;
+        private final Function<T, AudioSyncResponse.TimelineEntry> mapper;
+        private Iterator<T> page = Collections.emptyIterator();
+        private boolean lastPage;
+        private long afterPosition;
+        private long afterId = Long.MAX_VALUE;
+
+        PagedCursor(int rank, long fromMs, PageLoader<T> loader, Function<T, AudioSyncResponse.TimelineEntry> mapper) {
+            super(rank);
+            this.loader = loader;
+            this.mapper = mapper;
+            this.afterPosition = fromMs - 1;
+        }
+
+        @Override
+        boolean advance() {
+            if (!page.hasNext() && !lastPage) {
+                List<T> rows = loader.load(afterPosition, afterId);
+                lastPage = rows.size() < pageSize;
+                page = rows.iterator();
+            }
+            if (!page.hasNext()) {
+                head = null;
+                return false;
+            }
+            head = mapper.apply(page.next());
+            afterPosition = head.getPositionMs();
+            afterId = head.getId();
+            return true;
+        }
+    }
+
+    /**
+     * 마커 블록 커서. 블록끼리 구간이 겹칠 수 있으므로, 다음 블록의 첫 위치가 현재 가장 앞선 마커보다
+     * 앞서는 동안 블록을 더 풀어 함께 병합한다. 보통은 한 번에 한 블록만 풀려 있다.
+     */
+    private final class BlockCursor extends Cursor {
+
+        private final Long audioId;
+        private final long fromMs;
+        private final long toMs;
+        private final PriorityQueue<DecodedBlock> open = new PriorityQueue<>(
+                Comparator.comparingLong(DecodedBlock::position).thenComparingLong(block -> block.blockId));
+        private Iterator<SyncMarkerBlock> page = Collections.emptyIterator();
+        private boolean lastPage;
+        private long afterFirst = Long.MIN_VALUE;
+        private long afterId = Long.MAX_VALUE;
+        private SyncMarkerBlock next;
+
+        BlockCursor(Long audioId, long fromMs, long toMs) {
+            super(2);
+            this.audioId = audioId;
+            this.fromMs = fromMs;
+            this.toMs = toMs;
+        }
+
+        @Override
+        boolean advance() {
+            for (SyncMarkerBlock block = peekBlock(); block != null; block = peekBlock()) {
+                DecodedBlock first = open.peek();
+                if (first != null && block.getFirstPositionMs() > first.position()) {
+                    break;
+                }
+                next = null;
+                DecodedBlock decoded = new DecodedBlock(block.getBlockId(),
+                        MarkerBlockCodec.decode(block.getBlockData(), true), fromMs, toMs);
+                if (decoded.hasCurrent()) {
+                    open.add(decoded);
+                }
+            }
+            DecodedBlock first = open.poll();
+            if (first == null) {
+                head = null;
+                return false;
+            }
+            head = toEntry(first.markers.get(first.index++));
+            if (first.hasCurrent()) {
+                open.add(first);
+            }
+            return true;
+        }
+
+        private SyncMarkerBlock peekBlock() {
+            if (next == null) {
+                if (!page.hasNext() && !lastPage) {
+                    List<SyncMarkerBlock> blocks = blockRepository.findTimelinePage(audioId, afterFirst, afterId,
+                            fromMs, toMs, PageRequest.of(0, blockPageSize));
+                    lastPage = blocks.size() < blockPageSize;
+                    page = blocks.iterator();
+                }
+                if (page.hasNext()) {
+                    next = page.next();
+                    afterFirst = next.getFirstPositionMs();
+                    afterId = next.getBlockId();
+                }
+            }
+            return next;
+        }
+    }
+
+    private static final class DecodedBlock {
+
+        private final long blockId;
+        private final List<SyncMarkerData> markers;
+        private final long toMs;
+        private int index;
+
+        DecodedBlock(long blockId, List<SyncMarkerData> markers, long fromMs, long toMs) {
+            this.blockId = blockId;
+            this.markers = markers;
+            this.toMs = toMs;
+            while (index < markers.size() && markers.get(index).positionMs() < fromMs) {
+                index++;
+            }
+        }
+
+        boolean hasCurrent() {
+            return index < markers.size() && markers.get(index).positionMs() < toMs;
+        }
+
+        long position() {
+            return markers.get(index).positionMs();
+        }
+    }
+
+    /**
+     * 스트리밍 시작 시점에 대기열(sync_marker_staging)에 있던 구간 안의 마커. 오디오마다 대략 block-size 개를 넘지 않는다.
+     */
+    private static final class PendingCursor extends Cursor {
+
+        private final Iterator<SyncMarkerData> markers;
+
+        PendingCursor(List<SyncMarkerData> pending) {
+            super(2);
+            this.markers = pending.iterator();
+        }
+
+        @Override
+        boolean advance() {
+            head = markers.hasNext() ? toEntry(markers.next()) : null;
+            return head != null;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.liten.api.service;
+
+import com.liten.api.utils.compression.TextCompressor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 압축 저장 도입 이전에 기록된 본문을 백그라운드에서 압축 포맷으로 다시 기록한다.
+ *
+ * <p>테이블마다 기본키 순서로 배치를 읽어 비압축 값만 다시 쓰며, 읽은 값과 같을 때만 갱신하여
+ * 그 사이의 사용자 저장을 덮어쓰지 않는다. 한 바퀴를 도는 동안 바꿀 행이 없던 테이블은 재시작 전까지 건너뛴다.
+ * 새로 저장되는 값은 {@link com.liten.api.model.converter.CompressedTextConverter} 가 압축하므로 다시 생기지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BodyCompressionReencoder {
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("text_contents", "text_id", List.of("content", "plain_text")),
+            new Target("text_content_snapshots", "snapshot_id", List.of("content", "plain_text")),
+            new Target("drawing_contents", "drawing_id", List.of("drawing_data")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TextCompressor compressor;
+
+    private final Map<String, Progress> progress = new ConcurrentHashMap<>();
+
+    @Value("${app.storage.compression.reencode.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.storage.compression.reencode.batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.storage.compression.reencode.interval-ms:60000}")
+    public void reencode() {
+        if (!enabled) {
+            return;
+        }
+        for (Target target : TARGETS) {
+            Progress state = progress.computeIfAbsent(target.table(), table -> new Progress());
+            if (state.done) {
+                continue;
+            }
+            try {
+                reencodeBatch(target, state);
+            } catch (Exception e) {
+                log.warn("본문 압축 재기록 실패: {} after id={}, {}", target.table(), state.lastId, e.getMessage());
+            }
+        }
+    }
+
+    private void reencodeBatch(Target target, Progress state) {
+        String sql = "SELECT " + target.idColumn() + ", " + String.join(", ", target.columns())
+                + " FROM " + target.table() + " WHERE " + target.idColumn() + " > ? ORDER BY "
+                + target.idColumn() + " ASC LIMIT ?";
+        List<Object[]> rows = jdbcTemplate.query(sql, (rs, rowNum) -> {
+            Object[] row = new Object[target.columns().size() + 1];
+            row[0] = rs.getLong(1);
+            for (int i = 0; i < target.columns().size(); i++) {
+                row[i + 1] = rs.getBytes(i + 2);
+            }
+            return row;
+        }, state.lastId, batchSize);
+
+        for (Object[] row : rows) {
+            long id = (Long) row[0];
+            for (int i = 0; i < target.columns().size(); i++) {
+                byte[] stored = (byte[]) row[i + 1];
+                byte[] encoded = compressor.compress(stored);
+                if (encoded == stored) {
+                    continue;
+                }
+                String column = target.columns().get(i);
+                int updated = jdbcTemplate.update("UPDATE " + target.table() + " SET " + column + " = ? WHERE "
+                        + target.idColumn() + " = ? AND " + column + " = ?", encoded, id, stored);
+                if (updated > 0) {
+                    state.rewritten++;
+                    log.debug("본문 압축 재기록: {}.{} id={}, {} -> {} bytes",
+                            target.table(), column, id, stored.length, encoded.length);
+                }
+            }
+            state.lastId = id;
+        }
+
+        if (rows.size() < batchSize) {
+            if (state.rewritten == 0) {
+                state.done = true;
+                log.info("본문 압축 재기록 완료: {}", target.table());
+            }
+            state.lastId = 0;
+            state.rewritten = 0;
+        }
+    }
+
+    private record Target(String table, String idColumn, List<String> columns) {
+    }
+
+    private static final class Progress {
+        private long lastId;
+        private long rewritten;
+        private boolean done;
+    }
+}
@@ -0,0 +1,635 @@
+package com.liten.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liten.api.cache.CacheEvictionListener;
+import com.liten.api.dto.BootstrapImport;
+import com.liten.api.event.ContentChangedEvent;
+import com.liten.api.exception.BootstrapImportException;
+import com.liten.api.exception.QuotaExceededException;
+import com.liten.api.model.TextContent;
+import com.liten.api.model.User;
+import com.liten.api.repository.BootstrapImportRepository;
+import com.liten.api.repository.SortKeyRepository.RankedList;
+import com.liten.api.repository.UsageCounterRepository;
+import com.liten.api.utils.compression.TextCompressor;
+import com.liten.api.utils.order.RankKeys;
+import com.liten.api.utils.stroke.StrokeJsonCodec;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 기기 로컬 DB 의 일괄 업로드(부트스트랩 가져오기).
+ *
+ * <p>NDJSON 요청 본문을 한 줄씩 읽으며 바로 검증하고, chunk-size 줄이 모이면 한 트랜잭션에서 종류별로 JDBC 배치
+ * INSERT 한다. 공간, 오디오, 텍스트/필기, 마커 순으로 넣어 같은 청크 안에서 앞 종류의 생성 ID 로 기기 ID 를 바꾼다.
+ * 청크마다 사용량을 다시 세어 저장 용량 한도를 확인하므로, 도중에 실패하면 그 청크만 롤백되고 앞 청크는 남는다.
+ * 응답과 오류에는 커밋된 행의 기기 ID -> 서버 ID 가 담겨 있어 기기는 남은 줄만 서버 ID 를 참조하여 다시 보낼 수 있다.
+ * 메모리에는 한 청크의 줄과 지금까지의 ID 대응표만 둔다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BootstrapImportService {
+
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private final BootstrapImportRepository importRepository;
+    private final UsageCounterRepository usageCounterRepository;
+    private final QuotaService quotaService;
+    private final ListOrderService listOrderService;
+    private final SearchIndexService searchIndexService;
+    private final AudioSyncIndexService audioSyncIndexService;
+    private final SpaceTieringService spaceTieringService;
+    private final CacheEvictionListener cacheEvictionListener;
+    private final S3FileService s3FileService;
+    private final TextCompressor textCompressor;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.bootstrap.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.bootstrap.max-lines:1000000}")
+    private long maxLines;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public BootstrapImport.Result importLines(User user, InputStream in) {
+        if (!quotaService.isPaidPlan(user.getUserId())) {
+            throw new QuotaExceededException("부트스트랩 가져오기는 유료 플랜에서만 사용할 수 있습니다", "BOOTSTRAP", null);
+        }
+        ImportState state = new ImportState(user.getUserId());
+        long lineNumber = 0;
+        long started = System.currentTimeMillis();
+        try (MappingIterator<BootstrapImport.Line> lines = objectMapper.readerFor(BootstrapImport.Line.class)
+                .readValues(in)) {
+            while (lines.hasNextValue()) {
+                BootstrapImport.Line line = lines.nextValue();
+                lineNumber = lines.getCurrentLocation().getLineNr();
+                if (++state.lineCount > maxLines) {
+                    throw new IllegalArgumentException("한 번에 가져올 수 있는 줄 수(" + maxLines + ")를 초과했습니다");
+                }
+                state.add(line);
+                if (state.pendingCount() >= chunkSize) {
+                    flush(state);
+                }
+            }
+            flush(state);
+        } catch (Exception e) {
+            if (e instanceof JsonProcessingException json && json.getLocation() != null) {
+                lineNumber = json.getLocation().getLineNr();
+            }
+            log.warn("부트스트랩 가져오기 실패: userId={}, line={}, {}", state.userId, lineNumber, e.getMessage());
+            if (state.committedCount() > 0) {
+                searchIndexService.requestRebuild(state.userId);
+            }
+            String message = e instanceof JsonProcessingException ? "잘못된 JSON 입니다" : e.getMessage();
+            throw new BootstrapImportException(message, lineNumber, state.result(), e);
+        }
+
+        if (state.committedCount() > 0) {
+            searchIndexService.requestRebuild(state.userId);
+        }
+        log.info("부트스트랩 가져오기 완료: userId={}, spaces={}, audio={}, texts={}, drawings={}, markers={}, {}ms",
+                state.userId, state.spaceCount, state.audioCount, state.textCount, state.drawingCount,
+                state.markerCount, System.currentTimeMillis() - started);
+        return state.result();
+    }
+
+    /**
+     * 모인 줄을 한 트랜잭션에서 넣고, 커밋되면 생성 ID 를 대응표에 반영한다.
+     */
+    private void flush(ImportState state) {
+        if (state.pendingCount() == 0) {
+            return;
+        }
+        Chunk chunk = transactionTemplate.execute(status -> insertChunk(state));
+        // JDBC 로 넣으므로 엔티티 이벤트가 없다
+        cacheEvictionListener.evictDashboard(state.userId);
+        state.spaces.putAll(chunk.spaces);
+        state.audio.putAll(chunk.audio);
+        state.texts.putAll(chunk.texts);
+        state.drawings.putAll(chunk.drawings);
+        state.spaceCount += chunk.spaces.size();
+        state.audioCount += chunk.audio.size();
+        state.textCount += chunk.texts.size();
+        state.drawingCount += chunk.drawings.size();
+        state.markerCount += chunk.markerCount;
+        state.clearPending();
+        // 기존 오디오에 텍스트/필기/마커가 붙었으면 메모리 색인을 다시 만들게 한다
+        chunk.syncedAudioIds.forEach(audioSyncIndexService::invalidate);
+        log.debug("부트스트랩 청크 저장: userId={}, spaces={}, audio={}, texts={}, drawings={}, markers={}",
+                state.userId, chunk.spaces.size(), chunk.audio.size(), chunk.texts.size(), chunk.drawings.size(),
+                chunk.markerCount);
+    }
+
+    private Chunk insertChunk(ImportState state) {
+        Chunk chunk = new Chunk();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<BootstrapImportRepository.SpaceRow> spaceRows = new ArrayList<>(state.pendingSpaces.size());
+        for (BootstrapImport.Line line : state.pendingSpaces) {
+            String sortKey = state.nextSpaceKey(listOrderService);
+            spaceRows.add(new BootstrapImportRepository.SpaceRow(state.userId, line.getTitle().trim(),
+                    line.getDescription(), line.getColor() != null ? line.getColor() : "#2196F3",
+                    Boolean.TRUE.equals(line.getIsFavorite()), Boolean.TRUE.equals(line.getIsArchived()), sortKey,
+                    createdAt(line, now), updatedAt(line, now)));
+        }
+        long[] spaceIds = importRepository.insertSpaces(spaceRows);
+        for (int i = 0; i < spaceIds.length; i++) {
+            chunk.spaces.put(state.pendingSpaces.get(i).getLocalId(), spaceIds[i]);
+            state.createdSpaceIds.add(spaceIds[i]);
+        }
+        if (!state.pendingSpaces.isEmpty()) {
+            listOrderService.checkKeyLength(RankedList.SPACES, state.userId, state.lastSpaceKey);
+        }
+
+        List<BootstrapImportRepository.AudioRow> audioRows = new ArrayList<>(state.pendingAudio.size());
+        for (BootstrapImport.Line line : state.pendingAudio) {
+            Long spaceId = state.spaceIdOf(line, chunk);
+            chunk.touchedSpaceIds.add(spaceId);
+            audioRows.add(new BootstrapImportRepository.AudioRow(spaceId, line.getFilename(),
+                    line.getOriginalFilename(), line.getFilePath(), line.getFileSize(), line.getDurationSeconds(),
+                    line.getMimeType(), line.getTranscription(), createdAt(line, now), updatedAt(line, now)));
+        }
+        long[] audioIds = importRepository.insertAudio(audioRows);
+        for (int i = 0; i < audioIds.length; i++) {
+            chunk.audio.put(state.pendingAudio.get(i).getLocalId(), audioIds[i]);
+        }
+
+        List<BootstrapImportRepository.TextRow> textRows = new ArrayList<>(state.pendingTexts.size());
+        for (BootstrapImport.Line line : state.pendingTexts) {
+            Long spaceId = state.spaceIdOf(line, chunk);
+            Long audioId = state.audioIdOf(line, chunk);
+            chunk.touchedSpaceIds.add(spaceId);
+            if (audioId != null) {
+                chunk.syncedAudioIds.add(audioId);
+            }
+            String content = line.getContent() != null ? line.getContent() : "";
+            String plainText = line.getPlainText();
+            if (plainText == null && !TextContent.FormatType.RICH_TEXT.name().equals(line.getFormatType())) {
+                plainText = content;
+            }
+            textRows.add(new BootstrapImportRepository.TextRow(spaceId, audioId, textCompressor.encode(content),
+                    textCompressor.encode(plainText), line.getFormatType(), line.getAudioSyncPosition(),
+                    state.nextKey(RankedList.TEXTS, spaceId, listOrderService), content.length(), plainText != null ? plainText.length() : 0,
+                    createdAt(line, now), updatedAt(line, now)));
+        }
+        long[] textIds = importRepository.insertTexts(textRows);
+        for (int i = 0; i < textIds.length; i++) {
+            chunk.texts.put(state.pendingTexts.get(i).getLocalId(), textIds[i]);
+        }
+
+        List<BootstrapImportRepository.DrawingRow> drawingRows = new ArrayList<>(state.pendingDrawings.size());
+        for (PendingDrawing pending : state.pendingDrawings) {
+            BootstrapImport.Line line = pending.line();
+            Long spaceId = state.spaceIdOf(line, chunk);
+            Long audioId = state.audioIdOf(line, chunk);
+            chunk.touchedSpaceIds.add(spaceId);
+            if (audioId != null) {
+                chunk.syncedAudioIds.add(audioId);
+            }
+            drawingRows.add(new BootstrapImportRepository.DrawingRow(spaceId, audioId, line.getFilename(),
+                    line.getFilePath(), line.getFileSize(), line.getMimeType(), line.getWidth(), line.getHeight(),
+                    pending.strokeData(), line.getAudioSyncPosition(),
+                    state.nextKey(RankedList.DRAWINGS, spaceId, listOrderService), createdAt(line, now),
+                    updatedAt(line, now)));
+        }
+        long[] drawingIds = importRepository.insertDrawings(drawingRows);
+        for (int i = 0; i < drawingIds.length; i++) {
+            chunk.drawings.put(state.pendingDrawings.get(i).line().getLocalId(), drawingIds[i]);
+        }
+        state.checkKeyLengths(chunk.touchedSpaceIds, listOrderService);
+
+        List<BootstrapImportRepository.MarkerRow> markerRows = new ArrayList<>(state.pendingMarkers.size());
+        for (BootstrapImport.Line line : state.pendingMarkers) {
+            Long audioId = state.audioIdOf(line, chunk);
+            chunk.syncedAudioIds.add(audioId);
+            markerRows.add(new BootstrapImportRepository.MarkerRow(state.audioSpaceIdOf(line, chunk), audioId,
+                    line.getPositionMs(), line.getContentType(), state.contentIdOf(line, chunk),
+                    line.getAdditionalData(), createdAt(line, now)));
+        }
+        chunk.markerCount = importRepository.insertMarkers(markerRows).length;
+
+        for (Long spaceId : chunk.touchedSpaceIds) {
+            usageCounterRepository.recalculateSpace(spaceId);
+        }
+        for (long spaceId : spaceIds) {
+            if (!chunk.touchedSpaceIds.contains(spaceId)) {
+                usageCounterRepository.recalculateSpace(spaceId);
+            }
+        }
+        usageCounterRepository.recalculateUser(state.userId);
+        quotaService.checkStorage(state.userId);
+        return chunk;
+    }
+
+    private static LocalDateTime createdAt(BootstrapImport.Line line, LocalDateTime now) {
+        return line.getCreatedAt() != null ? line.getCreatedAt() : now;
+    }
+
+    private static LocalDateTime updatedAt(BootstrapImport.Line line, LocalDateTime now) {
+        if (line.getUpdatedAt() != null) {
+            return line.getUpdatedAt();
+        }
+        return line.getCreatedAt() != null ? line.getCreatedAt() : now;
+    }
+
+    /**
+     * 가져오기 한 번의 상태. 기기 ID 대응표의 값이 null 이면 아직 커밋되지 않은 줄이다.
+     */
+    private final class ImportState {
+
+        private final Long userId;
+        private final String filePrefix;
+        private final Map<String, Long> spaces = new LinkedHashMap<>();
+        private final Map<String, Long> audio = new LinkedHashMap<>();
+        private final Map<String, Long> texts = new LinkedHashMap<>();
+        private final Map<String, Long> drawings = new LinkedHashMap<>();
+        /** 기기 오디오가 속한 공간. 마커의 space_id 를 정하는 데 쓴다 */
+        private final Map<String, SpaceRef> audioParents = new HashMap<>();
+        /** 서버에 이미 있는 사용자 오디오 -> 공간 */
+        private final Map<Long, Long> ownAudio = new HashMap<>();
+        private final Set<Long> ownSpaces = new HashSet<>();
+        /** 마커가 가리키는, 서버에 이미 있는 사용자 텍스트/필기 */
+        private final Map<ContentChangedEvent.ContentType, Set<Long>> ownContents =
+                new EnumMap<>(ContentChangedEvent.ContentType.class);
+        private final Set<Long> createdSpaceIds = new HashSet<>();
+        private final Map<Long, String> lastTextKeys = new HashMap<>();
+        private final Map<Long, String> lastDrawingKeys = new HashMap<>();
+        private String lastSpaceKey;
+
+        private final List<BootstrapImport.Line> pendingSpaces = new ArrayList<>();
+        private final List<BootstrapImport.Line> pendingAudio = new ArrayList<>();
+        private final List<BootstrapImport.Line> pendingTexts = new ArrayList<>();
+        private final List<PendingDrawing> pendingDrawings = new ArrayList<>();
+        private final List<BootstrapImport.Line> pendingMarkers = new ArrayList<>();
+
+        private long lineCount;
+        private int spaceCount;
+        private int audioCount;
+        private int textCount;
+        private int drawingCount;
+        private int markerCount;
+
+        ImportState(Long userId) {
+            this.userId = userId;
+            this.filePrefix = "users/" + userId + "/";
+        }
+
+        /**
+         * 줄을 검증하고 청크에 쌓는다. 참조하는 부모는 앞선 줄이거나 사용자의 기존 행이어야 한다.
+         */
+        void add(BootstrapImport.Line line) {
+            String type = line.getType() != null ? line.getType().toUpperCase(Locale.ROOT) : "";
+            switch (type) {
+                case "SPACE" -> {
+                    requireLocalId(line, spaces);
+                    if (line.getTitle() == null || line.getTitle().isBlank()) {
+                        throw new IllegalArgumentException("공간 제목이 없습니다");
+                    }
+                    if (line.getTitle().trim().length() > 255) {
+                        throw new IllegalArgumentException("공간 제목이 너무 깁니다");
+                    }
+                    spaces.put(line.getLocalId(), null);
+                    pendingSpaces.add(line);
+                }
+                case "AUDIO" -> {
+                    requireLocalId(line, audio);
+                    requireSpace(line);
+                    if (line.getFilePath() == null || line.getFilePath().isBlank()) {
+                        throw new IllegalArgumentException("오디오 파일 경로가 없습니다");
+                    }
+                    line.setFileSize(requireOwnFile(line.getFilePath()));
+                    if (line.getFilename() == null) {
+                        line.setFilename(fileNameOf(line.getFilePath()));
+                    }
+                    audio.put(line.getLocalId(), null);
+                    audioParents.put(line.getLocalId(), new SpaceRef(line.getSpaceLocalId(), line.getSpaceId()));
+                    pendingAudio.add(line);
+                }
+                case "TEXT" -> {
+                    requireLocalId(line, texts);
+                    requireSpace(line);
+                    requireAudio(line, false);
+                    requirePosition(line.getAudioSyncPosition());
+                    line.setFormatType(formatTypeOf(line.getFormatType()));
+                    texts.put(line.getLocalId(), null);
+                    pendingTexts.add(line);
+                }
+                case "DRAWING" -> {
+                    requireLocalId(line, drawings);
+                    requireSpace(line);
+                    requireAudio(line, false);
+                    requirePosition(line.getAudioSyncPosition());
+                    if (line.getFilePath() == null) {
+                        line.setFilePath("");
+                    } else if (!line.getFilePath().isBlank()) {
+                        line.setFileSize(requireOwnFile(line.getFilePath()));
+                    } else {
+                        line.setFileSize(0L);
+                    }
+                    if (line.getFilename() == null) {
+                        line.setFilename(line.getFilePath().isBlank() ? "drawing" : fileNameOf(line.getFilePath()));
+                    }
+                    byte[] strokeData;
+                    try {
+                        strokeData = line.getStrokes() != null ? StrokeJsonCodec.jsonToBinary(line.getStrokes()) : null;
+                    } catch (RuntimeException e) {
+                        throw new IllegalArgumentException("스트로크를 읽을 수 없습니다: " + line.getLocalId());
+                    }
+                    drawings.put(line.getLocalId(), null);
+                    line.setStrokes(null);
+                    pendingDrawings.add(new PendingDrawing(line, strokeData));
+                }
+                case "MARKER" -> {
+                    requireAudio(line, true);
+                    if (line.getPositionMs() == null || line.getPositionMs() < 0) {
+                        throw new IllegalArgumentException("마커 위치가 없거나 음수입니다");
+                    }
+                    String contentType = line.getContentType() != null
+                            ? line.getContentType().toUpperCase(Locale.ROOT) : null;
+                    boolean hasContent = line.getContentLocalId() != null || line.getContentId() != null;
+                    if ((contentType != null || hasContent)
+                            && !"TEXT".equals(contentType) && !"DRAWING".equals(contentType)) {
+                        throw new IllegalArgumentException("마커가 가리키는 컨텐츠 종류가 잘못되었습니다: "
+                                + line.getContentType());
+                    }
+                    if (line.getContentLocalId() != null) {
+                        Map<String, Long> targets = "TEXT".equals(contentType) ? texts : drawings;
+                        if (!targets.containsKey(line.getContentLocalId())) {
+                            throw new IllegalArgumentException("알 수 없는 컨텐츠입니다: " + line.getContentLocalId());
+                        }
+                    } else if (line.getContentId() != null) {
+                        requireOwnContent(contentType, line.getContentId());
+                    }
+                    line.setContentType(contentType);
+                    pendingMarkers.add(line);
+                }
+                default -> throw new IllegalArgumentException("알 수 없는 줄 종류입니다: " + line.getType());
+            }
+        }
+
+        private void requireLocalId(BootstrapImport.Line line, Map<String, Long> seen) {
+            if (line.getLocalId() == null || line.getLocalId().isEmpty()) {
+                throw new IllegalArgumentException("localId 가 없습니다");
+            }
+            if (seen.containsKey(line.getLocalId())) {
+                throw new IllegalArgumentException("중복된 localId 입니다: " + line.getLocalId());
+            }
+        }
+
+        private void requireSpace(BootstrapImport.Line line) {
+            if (line.getSpaceId() != null) {
+                if (!ownSpaces.contains(line.getSpaceId())) {
+                    spaceTieringService.ensureHot(userId, line.getSpaceId());
+                    if (!importRepository.isOwnSpace(line.getSpaceId(), userId)) {
+                        throw new IllegalArgumentException("리튼 공간을 찾을 수 없습니다: " + line.getSpaceId());
+                    }
+                    ownSpaces.add(line.getSpaceId());
+                }
+                return;
+            }
+            if (line.getSpaceLocalId() == null || !spaces.containsKey(line.getSpaceLocalId())) {
+                throw new IllegalArgumentException("알 수 없는 공간입니다: " + line.getSpaceLocalId());
+            }
+        }
+
+        private void requireAudio(BootstrapImport.Line line, boolean required) {
+            if (line.getAudioId() != null) {
+                if (!ownAudio.containsKey(line.getAudioId())) {
+                    spaceTieringService.ensureHot(userId, ContentChangedEvent.ContentType.AUDIO, line.getAudioId());
+                    Long spaceId = importRepository.findOwnAudioSpaceId(line.getAudioId(), userId);
+                    if (spaceId == null) {
+                        throw new IllegalArgumentException("오디오를 찾을 수 없습니다: " + line.getAudioId());
+                    }
+                    ownAudio.put(line.getAudioId(), spaceId);
+                }
+                return;
+            }
+            if (line.getAudioLocalId() == null) {
+                if (required) {
+                    throw new IllegalArgumentException("마커의 오디오가 없습니다");
+                }
+                return;
+            }
+            if (!audio.containsKey(line.getAudioLocalId())) {
+                throw new IllegalArgumentException("알 수 없는 오디오입니다: " + line.getAudioLocalId());
+            }
+        }
+
+        private void requirePosition(Integer position) {
+            if (position != null && position < 0) {
+                throw new IllegalArgumentException("오디오 동기화 위치는 음수일 수 없습니다");
+            }
+        }
+
+        /**
+         * 서버에 이미 있는 컨텐츠를 가리키는 마커는 그 컨텐츠가 사용자의 것이어야 한다.
+         */
+        private void requireOwnContent(String contentType, Long contentId) {
+            ContentChangedEvent.ContentType type = ContentChangedEvent.ContentType.valueOf(contentType);
+            if (ownContents.computeIfAbsent(type, key -> new HashSet<>()).contains(contentId)) {
+                return;
+            }
+            spaceTieringService.ensureHot(userId, type, contentId);
+            if (!importRepository.isOwnContent(type, contentId, userId)) {
+                throw new IllegalArgumentException("컨텐츠를 찾을 수 없습니다: " + contentType + " " + contentId);
+            }
+            ownContents.get(type).add(contentId);
+        }
+
+        /**
+         * 파일은 미리 사용자 경로에 올려 두어야 한다. 다른 사용자의 객체를 가리켜 내보내기 등으로 읽지 못하게 한다.
+         * 저장 용량은 file_size 의 합이므로 요청의 fileSize 는 쓰지 않고 저장소의 객체 크기를 쓴다.
+         *
+         * @return 저장소의 객체 크기
+         */
+        private long requireOwnFile(String key) {
+            if (!key.startsWith(filePrefix) || key.contains("..")) {
+                throw new IllegalArgumentException("파일 경로는 " + filePrefix + " 아래여야 합니다: " + key);
+            }
+            long size = s3FileService.getFileSize(key);
+            // getFileSize 는 조회 실패도 0 으로 돌려주므로 빈 파일일 때만 존재를 다시 확인한다
+            if (size <= 0 && !s3FileService.fileExists(key)) {
+                throw new IllegalArgumentException("저장소에 파일이 없습니다: " + key);
+            }
+            return size;
+        }
+
+        Long spaceIdOf(BootstrapImport.Line line, Chunk chunk) {
+            return line.getSpaceId() != null ? line.getSpaceId() : resolve(spaces, chunk.spaces, line.getSpaceLocalId());
+        }
+
+        Long audioIdOf(BootstrapImport.Line line, Chunk chunk) {
+            if (line.getAudioId() != null) {
+                return line.getAudioId();
+            }
+            return line.getAudioLocalId() != null ? resolve(audio, chunk.audio, line.getAudioLocalId()) : null;
+        }
+
+        Long audioSpaceIdOf(BootstrapImport.Line marker, Chunk chunk) {
+            if (marker.getAudioId() != null) {
+                return ownAudio.get(marker.getAudioId());
+            }
+            SpaceRef parent = audioParents.get(marker.getAudioLocalId());
+            return parent.id() != null ? parent.id() : resolve(spaces, chunk.spaces, parent.localId());
+        }
+
+        Long contentIdOf(BootstrapImport.Line marker, Chunk chunk) {
+            if (marker.getContentLocalId() == null) {
+                return marker.getContentId();
+            }
+            return "TEXT".equals(marker.getContentType())
+                    ? resolve(texts, chunk.texts, marker.getContentLocalId())
+                    : resolve(drawings, chunk.drawings, marker.getContentLocalId());
+        }
+
+        private Long resolve(Map<String, Long> committed, Map<String, Long> inChunk, String localId) {
+            Long id = committed.get(localId);
+            return id != null ? id : inChunk.get(localId);
+        }
+
+        /**
+         * 목록 끝에 이어 붙일 키. 기존 공간은 마지막 키 다음부터, 이번에 만든 공간은 빈 목록에서 시작한다.
+         */
+        String nextSpaceKey(ListOrderService orderService) {
+            lastSpaceKey = lastSpaceKey == null
+                    ? orderService.nextKey(RankedList.SPACES, userId)
+                    : RankKeys.between(lastSpaceKey, null);
+            return lastSpaceKey;
+        }
+
+        String nextKey(RankedList list, Long spaceId, ListOrderService orderService) {
+            Map<Long, String> lastKeys = list == RankedList.TEXTS ? lastTextKeys : lastDrawingKeys;
+            String last = lastKeys.get(spaceId);
+            String key;
+            if (last != null) {
+                key = RankKeys.between(last, null);
+            } else if (createdSpaceIds.contains(spaceId)) {
+                key = RankKeys.between(null, null);
+            } else {
+                key = orderService.nextKey(list, spaceId);
+            }
+            lastKeys.put(spaceId, key);
+            return key;
+        }
+
+        void checkKeyLengths(Set<Long> spaceIds, ListOrderService orderService) {
+            for (Long spaceId : spaceIds) {
+                String textKey = lastTextKeys.get(spaceId);
+                if (textKey != null) {
+                    orderService.checkKeyLength(RankedList.TEXTS, spaceId, textKey);
+                }
+                String drawingKey = lastDrawingKeys.get(spaceId);
+                if (drawingKey != null) {
+                    orderService.checkKeyLength(RankedList.DRAWINGS, spaceId, drawingKey);
+                }
+            }
+        }
+
+        int pendingCount() {
+            return pendingSpaces.size() + pendingAudio.size() + pendingTexts.size() + pendingDrawings.size()
+                    + pendingMarkers.size();
+        }
+
+        long committedCount() {
+            return (long) spaceCount + audioCount + textCount + drawingCount + markerCount;
+        }
+
+        void clearPending() {
+            pendingSpaces.clear();
+            pendingAudio.clear();
+            pendingTexts.clear();
+            pendingDrawings.clear();
+            pendingMarkers.clear();
+        }
+
+        BootstrapImport.Result result() {
+            Map<String, Map<String, Long>> ids = new LinkedHashMap<>();
+            ids.put("SPACE", committedOnly(spaces));
+            ids.put("AUDIO", committedOnly(audio));
+            ids.put("TEXT", committedOnly(texts));
+            ids.put("DRAWING", committedOnly(drawings));
+            return BootstrapImport.Result.builder()
+                    .spaces(spaceCount)
+                    .audio(audioCount)
+                    .texts(textCount)
+                    .drawings(drawingCount)
+                    .markers(markerCount)
+                    .ids(ids)
+                    .build();
+        }
+
+        private Map<String, Long> committedOnly(Map<String, Long> localIds) {
+            Map<String, Long> committed = new LinkedHashMap<>();
+            localIds.forEach((localId, id) -> {
+                if (id != null) {
+                    committed.put(localId, id);
+                }
+            });
+            return committed;
+        }
+    }
+
+    /**
+     * 한 청크에서 생성된 ID. 커밋된 뒤에만 {@link ImportState} 에 반영한다.
+     */
+    private static final class Chunk {
+        private final Map<String, Long> spaces = new HashMap<>();
+        private final Map<String, Long> audio = new HashMap<>();
+        private final Map<String, Long> texts = new HashMap<>();
+        private final Map<String, Long> drawings = new HashMap<>();
+        private final Set<Long> touchedSpaceIds = new HashSet<>();
+        private final Set<Long> syncedAudioIds = new HashSet<>();
+        private int markerCount;
+    }
+
+    private record SpaceRef(String localId, Long id) {
+    }
+
+    private record PendingDrawing(BootstrapImport.Line line, byte[] strokeData) {
+    }
+
+    private static String formatTypeOf(String value) {
+        if (value == null) {
+            return TextContent.FormatType.RICH_TEXT.name();
+        }
+        // 기기는 plainText 처럼 카멜 표기를 쓴다
+        String normalized = value.replace("_", "").toUpperCase(Locale.ROOT);
+        for (TextContent.FormatType type : TextContent.FormatType.values()) {
+            if (type.name().replace("_", "").equals(normalized)) {
+                return type.name();
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 텍스트 형식입니다: " + value);
+    }
+
+    private static String fileNameOf(String key) {
+        return key.substring(key.lastIndexOf('/') + 1);
+    }
+}
@@ -0,0 +1,218 @@
+package com.liten.api.service;
+
+import com.liten.api.event.ContentChangedEvent;
+import com.liten.api.model.DeletionJob;
+import com.liten.api.repository.CascadeDeleteRepository;
+import com.liten.api.repository.DeletionJobRepository;
+import com.liten.api.repository.UsageCounterRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 등록된 삭제 작업을 실행한다.
+ *
+ * <p>공간은 {@link CascadeDeleteRepository#SPACE_STEPS} 순서로, 계정은 남은 공간을 하나씩 지운 뒤
+ * {@link CascadeDeleteRepository#USER_STEPS} 순서로 지운다. 한 트랜잭션은 한 단계의 chunk-size 행만 지우고
+ * 진행 상황을 함께 기록하므로 메모리 사용량과 잠금 시간이 계정 크기와 관계없이 일정하다. 청크 사이에는 pause-ms 만큼
+ * 쉬어 사용자 요청이 잠금을 얻을 수 있게 하고, 한 번의 실행은 max-run-ms 안에서 끝낸 뒤 다음 실행에서 이어간다.
+ * 모든 단계가 한 바퀴 동안 아무 행도 지우지 않으면 완료로 본다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CascadeDeletionWorker {
+
+    private static final Set<DeletionJob.Status> RUNNABLE = EnumSet.of(DeletionJob.Status.PENDING, DeletionJob.Status.RUNNING);
+
+    private final DeletionJobRepository deletionJobRepository;
+    private final CascadeDeleteRepository cascadeDeleteRepository;
+    private final UsageCounterRepository usageCounterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.deletion.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.deletion.pause-ms:10}")
+    private long pauseMs;
+
+    @Value("${app.deletion.max-run-ms:2000}")
+    private long maxRunMs;
+
+    @Value("${app.deletion.lock-ms:60000}")
+    private long lockMs;
+
+    @Value("${app.deletion.max-attempts:5}")
+    private int maxAttempts;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.deletion.interval-ms:1000}")
+    public void run() {
+        long deadline = System.currentTimeMillis() + maxRunMs;
+        while (System.currentTimeMillis() < deadline) {
+            Optional<DeletionJob> claimed = claimNext();
+            if (claimed.isEmpty()) {
+                return;
+            }
+            DeletionJob job = claimed.get();
+            try {
+                if (execute(job, deadline)) {
+                    complete(job);
+                } else {
+                    release(job, null);
+                    return;
+                }
+            } catch (Exception e) {
+                log.warn("삭제 작업 실패: jobId={}, {}", job.getJobId(), e.getMessage());
+                release(job, e);
+            }
+        }
+    }
+
+    private Optional<DeletionJob> claimNext() {
+        return Optional.ofNullable(transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = deletionJobRepository.findRunnableIds(RUNNABLE, now, PageRequest.of(0, 1));
+            if (ids.isEmpty() || deletionJobRepository.claim(ids.get(0), DeletionJob.Status.RUNNING, RUNNABLE,
+                    now, now.plusNanos(lockMs * 1_000_000)) == 0) {
+                return null;
+            }
+            return deletionJobRepository.findById(ids.get(0)).orElse(null);
+        }));
+    }
+
+    /**
+     * @return 작업이 끝났으면 true, 시간이 다 되어 다음 실행으로 넘기면 false
+     */
+    private boolean execute(DeletionJob job, long deadline) {
+        if (job.getTargetType() == DeletionJob.TargetType.SPACE) {
+            return drainSpace(job, job.getTargetId(), deadline);
+        }
+        Long userId = job.getTargetId();
+        for (Optional<Long> spaceId = cascadeDeleteRepository.findAnySpaceId(userId); spaceId.isPresent();
+             spaceId = cascadeDeleteRepository.findAnySpaceId(userId)) {
+            if (!drainSpace(job, spaceId.get(), deadline)) {
+                return false;
+            }
+        }
+        return drain(job, CascadeDeleteRepository.USER_STEPS, userId, deadline);
+    }
+
+    private boolean drainSpace(DeletionJob job, Long spaceId, long deadline) {
+        if (!drain(job, CascadeDeleteRepository.SPACE_STEPS, spaceId, deadline)) {
+            return false;
+        }
+        // 검색 색인/재생 색인 등에서 공간의 항목을 지운다
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.ContentType.SPACE,
+                ContentChangedEvent.ChangeKind.DELETED, spaceId, spaceId, null));
+        return true;
+    }
+
+    private boolean drain(DeletionJob job, List<CascadeDeleteRepository.Step> steps, Long scopeId, long deadline) {
+        long deletedInPass;
+        do {
+            deletedInPass = 0;
+            for (CascadeDeleteRepository.Step step : steps) {
+                int deleted;
+                do {
+                    if (System.currentTimeMillis() >= deadline) {
+                        return false;
+                    }
+                    deleted = deleteChunk(job, step, scopeId);
+                    deletedInPass += deleted;
+                    if (deleted > 0) {
+                        pause();
+                    }
+                } while (deleted >= chunkSize);
+            }
+        } while (deletedInPass > 0);
+        return true;
+    }
+
+    private int deleteChunk(DeletionJob job, CascadeDeleteRepository.Step step, Long scopeId) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            int rows = cascadeDeleteRepository.deleteChunk(step, scopeId, chunkSize);
+            if (rows > 0) {
+                LocalDateTime now = LocalDateTime.now();
+                deletionJobRepository.updateProgress(job.getJobId(), step.name(), rows, now,
+                        now.plusNanos(lockMs * 1_000_000));
+            }
+            return rows;
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    private void complete(DeletionJob job) {
+        transactionTemplate.executeWithoutResult(status -> deletionJobRepository.findById(job.getJobId())
+                .ifPresent(current -> {
+                    current.setStatus(DeletionJob.Status.COMPLETED);
+                    current.setLockedUntil(null);
+                    current.setErrorMessage(null);
+                    current.setFinishedAt(LocalDateTime.now());
+                    if (current.getTargetType() == DeletionJob.TargetType.SPACE) {
+                        usageCounterRepository.recalculateUser(current.getUserId());
+                    }
+                    log.info("삭제 작업 완료: jobId={}, {} {}, {} rows", current.getJobId(),
+                            current.getTargetType(), current.getTargetId(), current.getDeletedRows());
+                }));
+    }
+
+    /**
+     * 다음 실행에서 이어가도록 잠금을 푼다. 실패했으면 lock-ms 뒤에 다시 시도하고 max-attempts 번 실패하면 중단한다.
+     */
+    private void release(DeletionJob job, Exception error) {
+        transactionTemplate.executeWithoutResult(status -> deletionJobRepository.findById(job.getJobId())
+                .ifPresent(current -> {
+                    if (error == null) {
+                        current.setLockedUntil(null);
+                        return;
+                    }
+                    current.setAttempts(current.getAttempts() + 1);
+                    current.setErrorMessage(truncate(error.getMessage()));
+                    if (current.getAttempts() >= maxAttempts) {
+                        current.setStatus(DeletionJob.Status.FAILED);
+                        current.setFinishedAt(LocalDateTime.now());
+                    } else {
+                        current.setLockedUntil(LocalDateTime.now().plusNanos(lockMs * 1_000_000));
+                    }
+                }));
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= 1000) {
+            return message;
+        }
+        return message.substring(0, 1000);
+    }
+}
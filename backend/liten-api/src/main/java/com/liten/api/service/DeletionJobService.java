@@ -0,0 +1,84 @@
+package com.liten.api.service;
+
+import com.liten.api.dto.DeletionResponse;
+import com.liten.api.model.DeletionJob;
+import com.liten.api.model.LitenSpace;
+import com.liten.api.model.User;
+import com.liten.api.repository.DeletionJobRepository;
+import com.liten.api.repository.LitenSpaceRepository;
+import com.liten.api.repository.UserRepository;
+import com.liten.api.security.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 계정/공간 삭제 요청. 요청 트랜잭션에서는 대상을 소프트 삭제하여 바로 보이지 않게 하고 삭제 작업만 등록한다.
+ * 실제 행과 저장소 객체는 {@link CascadeDeletionWorker} 가 나누어 지운다.
+ * 계정은 요청 즉시 인증되지 않으므로 계정 삭제 응답에 작업 하나만 조회할 수 있는 토큰을 함께 준다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class DeletionJobService {
+
+    private final LitenSpaceRepository litenSpaceRepository;
+    private final UserRepository userRepository;
+    private final DeletionJobRepository deletionJobRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Value("${app.deletion.status-token-expiration-ms:604800000}")
+    private long statusTokenExpirationMs;
+
+    public DeletionResponse.Job requestSpaceDeletion(User user, Long spaceId) {
+        LitenSpace space = litenSpaceRepository.findBySpaceIdAndUser(spaceId, user)
+                .orElseThrow(() -> new RuntimeException("공간을 찾을 수 없습니다: " + spaceId));
+        space.delete();
+        litenSpaceRepository.save(space);
+        DeletionJob job = deletionJobRepository.save(DeletionJob.builder()
+                .userId(user.getUserId())
+                .targetType(DeletionJob.TargetType.SPACE)
+                .targetId(spaceId)
+                .build());
+        log.info("공간 삭제 요청: spaceId={}, jobId={}", spaceId, job.getJobId());
+        return DeletionResponse.Job.from(job);
+    }
+
+    public DeletionResponse.Job requestAccountDeletion(User user) {
+        User account = userRepository.findById(user.getUserId())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + user.getUserId()));
+        account.delete();
+        userRepository.save(account);
+        DeletionJob job = deletionJobRepository.save(DeletionJob.builder()
+                .userId(account.getUserId())
+                .targetType(DeletionJob.TargetType.USER)
+                .targetId(account.getUserId())
+                .build());
+        log.info("계정 삭제 요청: userId={}, jobId={}", account.getUserId(), job.getJobId());
+        DeletionResponse.Job response = DeletionResponse.Job.from(job);
+        response.setStatusToken(jwtTokenProvider.generateDeletionJobToken(job.getJobId(), statusTokenExpirationMs));
+        return response;
+    }
+
+    @Transactional(readOnly = true)
+    public DeletionResponse.Job getJob(User user, Long jobId) {
+        return deletionJobRepository.findByJobIdAndUserId(jobId, user.getUserId())
+                .map(DeletionResponse.Job::from)
+                .orElseThrow(() -> new RuntimeException("삭제 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    /**
+     * 계정 삭제 응답의 statusToken 으로 작업을 조회한다. 토큰이 다른 작업의 것이면 없는 작업과 같이 응답한다.
+     */
+    @Transactional(readOnly = true)
+    public DeletionResponse.Job getJobByToken(Long jobId, String statusToken) {
+        return jwtTokenProvider.extractDeletionJobId(statusToken)
+                .filter(jobId::equals)
+                .flatMap(deletionJobRepository::findById)
+                .map(DeletionResponse.Job::from)
+                .orElseThrow(() -> new RuntimeException("삭제 작업을 찾을 수 없습니다: " + jobId));
+    }
+}
@@ -0,0 +1,43 @@
+package com.liten.api.service;
+
+import com.liten.api.repository.DrawingStrokeSegmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 세그먼트가 일정 개수 이상 쌓인 필기를 주기적으로 기본 stroke_data 에 병합한다.
+ * 필기마다 별도 트랜잭션으로 처리하여 한 건의 실패가 다른 필기에 영향을 주지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DrawingSegmentCompactor {
+
+    private final DrawingService drawingService;
+    private final DrawingStrokeSegmentRepository segmentRepository;
+
+    @Value("${app.drawing.compaction.min-segments:8}")
+    private int minSegments;
+
+    @Value("${app.drawing.compaction.batch-size:50}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.drawing.compaction.interval-ms:60000}")
+    public void compact() {
+        List<Long> drawingIds = segmentRepository.findDrawingIdsToCompact(minSegments, PageRequest.of(0, batchSize));
+        for (Long drawingId : drawingIds) {
+            try {
+                int merged = drawingService.compactSegments(drawingId);
+                log.debug("스트로크 세그먼트 병합: drawingId={}, segments={}", drawingId, merged);
+            } catch (Exception e) {
+                log.warn("스트로크 세그먼트 병합 실패: drawingId={}, {}", drawingId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.liten.api.service;
+
+import com.liten.api.dto.DrawingResponse;
+import com.liten.api.model.DrawingContent;
+import com.liten.api.model.DrawingStrokeSegment;
+import com.liten.api.model.User;
+import com.liten.api.repository.ContentBodyRepository;
+import com.liten.api.repository.DrawingContentRepository;
+import com.liten.api.repository.DrawingStrokeSegmentRepository;
+import com.liten.api.repository.LitenSpaceRepository;
+import com.liten.api.repository.projection.DrawingSummary;
+import com.liten.api.utils.stroke.ConcatStrokeReader;
+import com.liten.api.utils.stroke.Stroke;
+import com.liten.api.utils.stroke.StrokeDecoder;
+import com.liten.api.utils.stroke.StrokeEncoder;
+import com.liten.api.utils.stroke.StrokeFormat;
+import com.liten.api.utils.stroke.StrokeJsonCodec;
+import com.liten.api.utils.stroke.StrokeReader;
+import com.liten.api.utils.stroke.TileMergeStrokeReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class DrawingService {
+
+    private final DrawingContentRepository drawingContentRepository;
+    private final DrawingStrokeSegmentRepository segmentRepository;
+    private final DrawingTileIndexer tileIndexer;
+    private final LitenSpaceRepository litenSpaceRepository;
+    private final ContentBodyRepository contentBodyRepository;
+
+    public DrawingContent getDrawing(User user, Long drawingId) {
+        return drawingContentRepository.findByDrawingIdAndUser(drawingId, user)
+                .orElseThrow(() -> new RuntimeException("필기를 찾을 수 없습니다: " + drawingId));
+    }
+
+    /**
+     * 공간의 필기 목록. drawing_data/stroke_data 컬럼을 읽지 않는 프로젝션으로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<DrawingResponse.Summary> getSummaries(User user, Long spaceId) {
+        if (!user.getUserId().equals(litenSpaceRepository.findOwnerIdById(spaceId).orElse(null))) {
+            throw new RuntimeException("리튼 공간을 찾을 수 없습니다: " + spaceId);
+        }
+        return drawingContentRepository.findSummariesBySpace(spaceId, user).stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public DrawingResponse.Summary getSummary(User user, Long drawingId) {
+        return drawingContentRepository.findSummary(drawingId, user)
+                .map(this::toSummary)
+                .orElseThrow(() -> new RuntimeException("필기를 찾을 수 없습니다: " + drawingId));
+    }
+
+    /**
+     * 기본 stroke_data 와 아직 병합되지 않은 세그먼트를 순서대로 반환한다.
+     * 레거시 JSON 만 있는 행은 이 시점에 바이너리로 변환하여 저장한다.
+     */
+    public List<byte[]> getStrokeBlocks(User user, Long drawingId) {
+        DrawingContent drawing = getDrawing(user, drawingId);
+        if (migrateLegacyStrokes(drawing)) {
+            tileIndexer.rebuild(drawing);
+        }
+
+        List<byte[]> blocks = new ArrayList<>();
+        if (drawing.getStrokeData() != null) {
+            blocks.add(drawing.getStrokeData());
+        }
+        segmentRepository.findByDrawingId(drawingId)
+                .forEach(segment -> blocks.add(segment.getSegmentData()));
+        return blocks;
+    }
+
+    /**
+     * 추가 세그먼트 없이 stroke_data 하나로 이루어진 필기인지 확인한다.
+     * 이 경우 {@link #readStrokeData} 로 블록을 힙에 올리지 않고 JDBC 스트림에서 바로 응답할 수 있다.
+     */
+    @Transactional(readOnly = true)
+    public boolean isSingleBlock(User user, Long drawingId) {
+        boolean hasStrokeData = drawingContentRepository.findHasStrokeDataByDrawingIdAndUser(drawingId, user)
+                .orElseThrow(() -> new RuntimeException("필기를 찾을 수 없습니다: " + drawingId));
+        return hasStrokeData && !segmentRepository.existsByDrawingId(drawingId);
+    }
+
+    /**
+     * 스트로크를 바이너리 조회 응답과 같은 하나의 LSTK 스트림으로 out 에 기록한다. 세그먼트가 없으면 JDBC 스트림에서
+     * 바로 복사하고, 있으면 기본 데이터와 세그먼트를 한 행씩 스트림으로 읽어 이어 다시 인코딩한다.
+     * 세그먼트 블록을 목록으로 모으지 않으므로 세그먼트가 많아도 힙에는 한 번에 블록 하나만 올라간다.
+     * 스트로크가 없으면 아무것도 쓰지 않는다.
+     */
+    public void writeStrokes(User user, Long drawingId, OutputStream out) throws IOException {
+        boolean hasStrokeData = drawingContentRepository.findHasStrokeDataByDrawingIdAndUser(drawingId, user)
+                .orElseThrow(() -> new RuntimeException("필기를 찾을 수 없습니다: " + drawingId));
+        // 레거시 JSON 만 있는 행은 변환한 바이너리를 그대로 쓴다 (변환 결과는 커밋 때 저장된다)
+        byte[] migrated = null;
+        if (!hasStrokeData) {
+            DrawingContent drawing = getDrawing(user, drawingId);
+            if (migrateLegacyStrokes(drawing)) {
+                tileIndexer.rebuild(drawing);
+                migrated = drawing.getStrokeData();
+            }
+        }
+        if (!segmentRepository.existsByDrawingId(drawingId)) {
+            if (migrated != null) {
+                out.write(migrated);
+            } else if (hasStrokeData) {
+                readStrokeData(drawingId, data -> data.transferTo(out));
+            }
+            return;
+        }
+
+        StrokeEncoder encoder = new StrokeEncoder(out);
+        if (migrated != null) {
+            copyStrokes(new ByteArrayInputStream(migrated), encoder);
+        } else if (hasStrokeData) {
+            readStrokeData(drawingId, data -> copyStrokes(data, encoder));
+        }
+        contentBodyRepository.readStrokeSegments(drawingId, data -> copyStrokes(data, encoder));
+        encoder.finish();
+    }
+
+    @Transactional(readOnly = true)
+    public boolean readStrokeData(Long drawingId, ContentBodyRepository.BodyConsumer consumer) {
+        return contentBodyRepository.readStrokeData(drawingId, consumer);
+    }
+
+    /**
+     * 뷰포트와 겹칠 수 있는 스트로크를 전체 디코딩과 같은 순서로 읽는 리더를 반환한다.
+     * 타일 인덱스가 있으면 겹치는 타일을 원래 순번대로 합친 뒤 미병합 세그먼트를 잇고, 없으면 전체 블록을 읽는다.
+     * 블록은 모두 메모리에 올린 상태이므로 트랜잭션이 끝난 뒤에 읽어도 된다.
+     * 개별 스트로크 필터링은 호출자가 {@link com.liten.api.utils.stroke.ViewportStrokeReader} 로 수행한다.
+     */
+    public StrokeReader openViewportStrokes(User user, Long drawingId,
+                                            float left, float top, float right, float bottom) throws IOException {
+        Boolean tileIndexed = drawingContentRepository.findTileIndexedByDrawingIdAndUser(drawingId, user)
+                .orElseThrow(() -> new RuntimeException("필기를 찾을 수 없습니다: " + drawingId));
+        Optional<List<TileMergeStrokeReader.Tile>> tiles = Boolean.TRUE.equals(tileIndexed)
+                ? tileIndexer.findTiles(drawingId, left, top, right, bottom) : Optional.empty();
+        if (tiles.isEmpty()) {
+            return new ConcatStrokeReader(getStrokeBlocks(user, drawingId));
+        }
+        List<byte[]> segments = new ArrayList<>();
+        segmentRepository.findByDrawingId(drawingId)
+                .forEach(segment -> segments.add(segment.getSegmentData()));
+        return new TileMergeStrokeReader(tiles.get(), segments);
+    }
+
+    public int saveStrokesFromJson(User user, Long drawingId, InputStream json) {
+        StrokeBlock block = encodeJson(json);
+        DrawingContent drawing = lockDrawing(user, drawingId);
+        replaceStrokes(drawing, block.data());
+        return block.strokeCount();
+    }
+
+    public int saveStrokesBinary(User user, Long drawingId, byte[] data) {
+        int strokeCount = validate(data);
+        DrawingContent drawing = lockDrawing(user, drawingId);
+        replaceStrokes(drawing, StrokeFormat.compress(data));
+        return strokeCount;
+    }
+
+    /**
+     * 새 스트로크 묶음을 세그먼트로 추가한다. 기본 stroke_data 는 읽지도 쓰지도 않는다.
+     */
+    public int appendStrokesFromJson(User user, Long drawingId, InputStream json) {
+        checkOwnership(user, drawingId);
+        StrokeBlock block = encodeJson(json);
+        appendSegment(drawingId, block.data(), block.strokeCount());
+        return block.strokeCount();
+    }
+
+    public int appendStrokesBinary(User user, Long drawingId, byte[] data) {
+        checkOwnership(user, drawingId);
+        int strokeCount = validate(data);
+        appendSegment(drawingId, StrokeFormat.compress(data), strokeCount);
+        return strokeCount;
+    }
+
+    /**
+     * 세그먼트를 기본 stroke_data 에 병합한다. 병합 도중 추가된 세그먼트는 다음 차례에 처리된다.
+     * 필기 행을 먼저 잠근 뒤 세그먼트를 읽으므로 다른 노드의 병합이나 스트로크 교체와 겹치지 않으며,
+     * 앞선 작업이 이미 처리한 세그먼트는 다시 읽지 않는다.
+     *
+     * @return 병합한 세그먼트 수
+     */
+    public int compactSegments(Long drawingId) {
+        DrawingContent drawing = drawingContentRepository.findByIdForUpdate(drawingId).orElse(null);
+        if (drawing == null) {
+            segmentRepository.deleteByDrawingId(drawingId);
+            return 0;
+        }
+        List<DrawingStrokeSegment> segments = segmentRepository.findByDrawingId(drawingId);
+        if (segments.isEmpty()) {
+            return 0;
+        }
+        migrateLegacyStrokes(drawing);
+
+        List<byte[]> blocks = new ArrayList<>(segments.size() + 1);
+        blocks.add(drawing.getStrokeData());
+        segments.forEach(segment -> blocks.add(segment.getSegmentData()));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ConcatStrokeReader reader = new ConcatStrokeReader(blocks);
+             StrokeEncoder encoder = new StrokeEncoder(out)) {
+            reader.transferTo(encoder);
+        } catch (IOException e) {
+            throw new RuntimeException("스트로크 세그먼트 병합에 실패했습니다: " + drawingId, e);
+        }
+
+        drawing.setStrokeData(StrokeFormat.compress(out.toByteArray()));
+        tileIndexer.rebuild(drawing);
+        drawingContentRepository.save(drawing);
+        segmentRepository.deleteCompacted(drawingId,
+                segments.stream().map(DrawingStrokeSegment::getSegmentId).toList());
+        return segments.size();
+    }
+
+    /**
+     * @return 변환이 일어났으면 true
+     */
+    boolean migrateLegacyStrokes(DrawingContent drawing) {
+        if (drawing.getStrokeData() != null || drawing.getDrawingData() == null) {
+            return false;
+        }
+        byte[] converted = StrokeJsonCodec.jsonToBinary(drawing.getDrawingData());
+        log.info("레거시 스트로크 JSON 변환: drawingId={}, {} -> {} bytes",
+                drawing.getDrawingId(), drawing.getDrawingData().length(),
+                converted != null ? converted.length : 0);
+        drawing.setStrokeData(converted);
+        drawing.setDrawingData(null);
+        return true;
+    }
+
+    private static void copyStrokes(InputStream block, StrokeEncoder encoder) throws IOException {
+        try (StrokeDecoder decoder = new StrokeDecoder(block)) {
+            Stroke stroke = new Stroke();
+            while (decoder.next(stroke)) {
+                encoder.write(stroke);
+            }
+        }
+    }
+
+    private DrawingContent lockDrawing(User user, Long drawingId) {
+        return drawingContentRepository.findByDrawingIdAndUserForUpdate(drawingId, user)
+                .orElseThrow(() -> new RuntimeException("필기를 찾을 수 없습니다: " + drawingId));
+    }
+
+    private void checkOwnership(User user, Long drawingId) {
+        if (!drawingContentRepository.existsByDrawingIdAndUser(drawingId, user)) {
+            throw new RuntimeException("필기를 찾을 수 없습니다: " + drawingId);
+        }
+    }
+
+    private void replaceStrokes(DrawingContent drawing, byte[] data) {
+        drawing.setStrokeData(data);
+        drawing.setDrawingData(null);
+        tileIndexer.rebuild(drawing);
+        drawingContentRepository.save(drawing);
+        segmentRepository.deleteByDrawingId(drawing.getDrawingId());
+    }
+
+    private void appendSegment(Long drawingId, byte[] data, int strokeCount) {
+        if (strokeCount == 0) {
+            return;
+        }
+        DrawingStrokeSegment segment = DrawingStrokeSegment.builder()
+                .drawingContent(drawingContentRepository.getReferenceById(drawingId))
+                .strokeCount(strokeCount)
+                .segmentData(data)
+                .build();
+        segmentRepository.save(segment);
+    }
+
+    private StrokeBlock encodeJson(InputStream json) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int strokeCount;
+            try (StrokeEncoder encoder = new StrokeEncoder(out)) {
+                strokeCount = StrokeJsonCodec.jsonToBinary(json, encoder);
+            }
+            return new StrokeBlock(StrokeFormat.compress(out.toByteArray()), strokeCount);
+        } catch (IOException e) {
+            throw new RuntimeException("스트로크 데이터 형식이 올바르지 않습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private int validate(byte[] data) {
+        if (!StrokeFormat.isBinary(data)) {
+            throw new RuntimeException("LSTK 스트로크 데이터가 아닙니다");
+        }
+        try (StrokeDecoder decoder = new StrokeDecoder(new ByteArrayInputStream(data))) {
+            Stroke stroke = new Stroke();
+            int count = 0;
+            while (decoder.next(stroke)) {
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            throw new RuntimeException("스트로크 데이터가 손상되었습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private DrawingResponse.Summary toSummary(DrawingSummary summary) {
+        return DrawingResponse.Summary.builder()
+                .drawingId(summary.getDrawingId())
+                .spaceId(summary.getSpaceId())
+                .audioId(summary.getAudioId())
+                .filename(summary.getFilename())
+                .filePath(summary.getFilePath())
+                .fileSize(summary.getFileSize())
+                .mimeType(summary.getMimeType())
+                .width(summary.getWidth())
+                .height(summary.getHeight())
+                .thumbnailPath(summary.getThumbnailPath())
+                .audioSyncPosition(summary.getAudioSyncPosition())
+                .sortKey(summary.getSortKey())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    private record StrokeBlock(byte[] data, int strokeCount) {
+    }
+}
@@ -0,0 +1,158 @@
+package com.liten.api.service;
+
+import com.liten.api.model.DrawingContent;
+import com.liten.api.model.DrawingStrokeTile;
+import com.liten.api.repository.DrawingStrokeTileRepository;
+import com.liten.api.utils.VarInts;
+import com.liten.api.utils.stroke.Stroke;
+import com.liten.api.utils.stroke.StrokeBounds;
+import com.liten.api.utils.stroke.StrokeDecoder;
+import com.liten.api.utils.stroke.StrokeEncoder;
+import com.liten.api.utils.stroke.StrokeFormat;
+import com.liten.api.utils.stroke.TileMergeStrokeReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 필기의 stroke_data 를 고정 크기 격자 타일로 분할한다.
+ * 스트로크는 경계 상자 중심이 속한 칸 하나에만 배정되므로 중복 저장이 없다.
+ * 타일마다 스트로크의 원래 순번을 함께 저장해 조회 시 그린 순서대로 합친다 ({@link TileMergeStrokeReader}).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class DrawingTileIndexer {
+
+    private final DrawingStrokeTileRepository tileRepository;
+
+    @Value("${app.drawing.tiles.min-strokes:2000}")
+    private int minStrokes;
+
+    @Value("${app.drawing.tiles.tile-size:1024}")
+    private int tileSize;
+
+    /**
+     * 필기의 타일을 다시 만든다. 스트로크 수가 임계값보다 적으면 타일을 두지 않는다.
+     */
+    public void rebuild(DrawingContent drawing) {
+        tileRepository.deleteByDrawingId(drawing.getDrawingId());
+        drawing.setIsTileIndexed(false);
+        byte[] data = drawing.getStrokeData();
+        if (data == null) {
+            return;
+        }
+
+        Map<Long, TileBuilder> tiles = new LinkedHashMap<>();
+        int strokeCount = 0;
+        int ordinal = -1;
+        try (StrokeDecoder decoder = new StrokeDecoder(new ByteArrayInputStream(data))) {
+            Stroke stroke = new Stroke();
+            while (decoder.next(stroke)) {
+                ordinal++;
+                StrokeBounds bounds = StrokeBounds.of(stroke);
+                if (bounds == null) {
+                    continue;
+                }
+                int tileX = Math.floorDiv((int) Math.floor(bounds.centerX()), tileSize);
+                int tileY = Math.floorDiv((int) Math.floor(bounds.centerY()), tileSize);
+                long key = ((long) tileX << 32) | (tileY & 0xFFFFFFFFL);
+                TileBuilder tile = tiles.get(key);
+                if (tile == null) {
+                    tile = new TileBuilder(tileX, tileY);
+                    tiles.put(key, tile);
+                }
+                tile.add(stroke, bounds, ordinal);
+                strokeCount++;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("스트로크 타일 생성에 실패했습니다: " + drawing.getDrawingId(), e);
+        }
+
+        if (strokeCount < minStrokes) {
+            return;
+        }
+        List<DrawingStrokeTile> entities = new ArrayList<>(tiles.size());
+        for (TileBuilder tile : tiles.values()) {
+            entities.add(tile.build(drawing));
+        }
+        tileRepository.saveAll(entities);
+        drawing.setIsTileIndexed(true);
+        log.info("스트로크 타일 인덱스 생성: drawingId={}, strokes={}, tiles={}",
+                drawing.getDrawingId(), strokeCount, entities.size());
+    }
+
+    /**
+     * @return 뷰포트와 겹치는 타일. 순번이 없는 옛 타일이 섞여 있으면 그린 순서를 지킬 수 없으므로 빈 값
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<TileMergeStrokeReader.Tile>> findTiles(Long drawingId, float left, float top,
+                                                                float right, float bottom) {
+        List<TileMergeStrokeReader.Tile> tiles = new ArrayList<>();
+        for (DrawingStrokeTile tile : tileRepository.findIntersecting(drawingId, left, top, right, bottom)) {
+            if (tile.getStrokeOrdinals() == null) {
+                return Optional.empty();
+            }
+            tiles.add(new TileMergeStrokeReader.Tile(tile.getTileData(), tile.getStrokeOrdinals()));
+        }
+        return Optional.of(tiles);
+    }
+
+    private static final class TileBuilder {
+
+        private final int tileX;
+        private final int tileY;
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final StrokeEncoder encoder;
+        private final ByteArrayOutputStream ordinals = new ByteArrayOutputStream();
+        private int lastOrdinal = -1;
+        private StrokeBounds bounds;
+        private int strokeCount;
+
+        TileBuilder(int tileX, int tileY) throws IOException {
+            this.tileX = tileX;
+            this.tileY = tileY;
+            this.encoder = new StrokeEncoder(out);
+        }
+
+        void add(Stroke stroke, StrokeBounds strokeBounds, int ordinal) throws IOException {
+            encoder.write(stroke);
+            VarInts.writeUnsigned(ordinals, ordinal - lastOrdinal - 1);
+            lastOrdinal = ordinal;
+            bounds = strokeBounds.union(bounds);
+            strokeCount++;
+        }
+
+        DrawingStrokeTile build(DrawingContent drawing) {
+            try {
+                encoder.finish();
+            } catch (IOException e) {
+                throw new RuntimeException("스트로크 타일 인코딩에 실패했습니다", e);
+            }
+            return DrawingStrokeTile.builder()
+                    .drawingContent(drawing)
+                    .tileX(tileX)
+                    .tileY(tileY)
+                    .minX(bounds.minX())
+                    .minY(bounds.minY())
+                    .maxX(bounds.maxX())
+                    .maxY(bounds.maxY())
+                    .strokeCount(strokeCount)
+                    .strokeOrdinals(ordinals.toByteArray())
+                    .tileData(StrokeFormat.compress(out.toByteArray()))
+                    .build();
+        }
+    }
+}
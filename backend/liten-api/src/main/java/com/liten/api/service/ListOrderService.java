@@ -0,0 +1,172 @@
+package com.liten.api.service;
+
+import com.liten.api.event.ContentChangedEvent;
+import com.liten.api.model.User;
+import com.liten.api.repository.LitenSpaceRepository;
+import com.liten.api.repository.SortKeyRepository;
+import com.liten.api.repository.SortKeyRepository.RankedList;
+import com.liten.api.utils.order.RankKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공간 목록과 공간 안의 텍스트/필기 순서 변경.
+ *
+ * <p>항목을 옮기면 새 이웃 사이의 {@link RankKeys} 키를 만들어 그 행 하나만 갱신하고 변경 이벤트도 하나만 발행한다.
+ * 키가 max-key-length 를 넘은 목록은 기록해 두었다가 {@link RankKeyRebalancer} 가 고른 간격의 짧은 키로 다시 매긴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ListOrderService {
+
+    /** sort_key 컬럼 길이. 이보다 긴 키가 필요하면 목록을 먼저 다시 매긴다. */
+    private static final int COLUMN_LENGTH = 255;
+
+    private final SortKeyRepository sortKeyRepository;
+    private final LitenSpaceRepository litenSpaceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.ordering.max-key-length:32}")
+    private int maxKeyLength;
+
+    private final Set<ListRef> pendingRebalance = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param afterId 바로 앞에 올 공간. null 이면 맨 앞으로
+     * @return 새 순서 키
+     */
+    public String moveSpace(User user, Long spaceId, Long afterId) {
+        return move(RankedList.SPACES, user.getUserId(), spaceId, afterId);
+    }
+
+    public String moveText(User user, Long spaceId, Long textId, Long afterId) {
+        checkSpace(user, spaceId);
+        return move(RankedList.TEXTS, spaceId, textId, afterId);
+    }
+
+    public String moveDrawing(User user, Long spaceId, Long drawingId, Long afterId) {
+        checkSpace(user, spaceId);
+        return move(RankedList.DRAWINGS, spaceId, drawingId, afterId);
+    }
+
+    /**
+     * 목록 끝에 붙일 새 항목의 키. 항목을 만드는 쪽에서 저장 전에 설정하며, 엔티티로 만드는 항목은
+     * {@link com.liten.api.event.SortKeyListener} 가 설정한다.
+     */
+    @Transactional(readOnly = true)
+    public String nextKey(RankedList list, Long scopeId) {
+        return RankKeys.between(sortKeyRepository.findLastKey(list, scopeId).orElse(null), null);
+    }
+
+    /**
+     * 목록 전체를 고른 간격의 같은 길이 키로 다시 매긴다.
+     *
+     * @return 다시 매긴 항목 수
+     */
+    public int rebalance(RankedList list, Long scopeId) {
+        List<Long> ids = sortKeyRepository.findIdsInOrder(list, scopeId);
+        sortKeyRepository.updateKeys(list, ids, RankKeys.evenlySpaced(ids.size()));
+        pendingRebalance.remove(new ListRef(list, scopeId));
+        log.debug("순서 키 재배치: {} scope={}, items={}", list, scopeId, ids.size());
+        return ids.size();
+    }
+
+    /**
+     * 키가 max-key-length 를 넘었으면 목록을 다시 매기도록 기록한다. 키를 직접 만들어 넣는 쪽에서 호출한다.
+     */
+    public void checkKeyLength(RankedList list, Long scopeId, String key) {
+        if (key.length() > maxKeyLength) {
+            pendingRebalance.add(new ListRef(list, scopeId));
+        }
+    }
+
+    /**
+     * @return 다시 매겨야 하는 목록을 꺼낸다 (최대 limit 개)
+     */
+    public List<ListRef> drainPendingRebalance(int limit) {
+        List<ListRef> drained = new ArrayList<>(Math.min(limit, pendingRebalance.size()));
+        for (ListRef ref : pendingRebalance) {
+            if (drained.size() >= limit) {
+                break;
+            }
+            if (pendingRebalance.remove(ref)) {
+                drained.add(ref);
+            }
+        }
+        return drained;
+    }
+
+    private String move(RankedList list, Long scopeId, Long id, Long afterId) {
+        SortKeyRepository.Item item = sortKeyRepository.find(list, id)
+                .filter(found -> found.scopeId().equals(scopeId))
+                .orElseThrow(() -> notFound(list, id));
+
+        String key = keyAfter(list, scopeId, id, afterId);
+        if (key.length() > COLUMN_LENGTH) {
+            rebalance(list, scopeId);
+            key = keyAfter(list, scopeId, id, afterId);
+        }
+        if (key.length() > maxKeyLength) {
+            pendingRebalance.add(new ListRef(list, scopeId));
+        }
+
+        sortKeyRepository.updateKey(list, id, key);
+        eventPublisher.publishEvent(new ContentChangedEvent(contentType(list), ContentChangedEvent.ChangeKind.UPDATED,
+                id, list == RankedList.SPACES ? id : item.scopeId(), null));
+        return key;
+    }
+
+    /**
+     * @return afterId 바로 뒤에 올 키
+     */
+    private String keyAfter(RankedList list, Long scopeId, Long id, Long afterId) {
+        String before = null;
+        if (afterId != null) {
+            if (afterId.equals(id)) {
+                throw new RuntimeException("자기 자신 뒤로 옮길 수 없습니다");
+            }
+            before = sortKeyRepository.find(list, afterId)
+                    .filter(found -> found.scopeId().equals(scopeId))
+                    .orElseThrow(() -> notFound(list, afterId))
+                    .sortKey();
+        }
+        String next = sortKeyRepository.findNextKey(list, scopeId, before, id).orElse(null);
+        return RankKeys.between(before, next);
+    }
+
+    private void checkSpace(User user, Long spaceId) {
+        if (!user.getUserId().equals(litenSpaceRepository.findOwnerIdById(spaceId).orElse(null))) {
+            throw new RuntimeException("리튼 공간을 찾을 수 없습니다: " + spaceId);
+        }
+    }
+
+    private static ContentChangedEvent.ContentType contentType(RankedList list) {
+        return switch (list) {
+            case SPACES -> ContentChangedEvent.ContentType.SPACE;
+            case TEXTS -> ContentChangedEvent.ContentType.TEXT;
+            case DRAWINGS -> ContentChangedEvent.ContentType.DRAWING;
+        };
+    }
+
+    private static RuntimeException notFound(RankedList list, Long id) {
+        return switch (list) {
+            case SPACES -> new RuntimeException("리튼 공간을 찾을 수 없습니다: " + id);
+            case TEXTS -> new RuntimeException("텍스트를 찾을 수 없습니다: " + id);
+            case DRAWINGS -> new RuntimeException("필기를 찾을 수 없습니다: " + id);
+        };
+    }
+
+    public record ListRef(RankedList list, Long scopeId) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.liten.api.service;
+
+import com.liten.api.cache.CacheNames;
+import com.liten.api.dto.SpaceResponse;
+import com.liten.api.model.LitenSpace;
+import com.liten.api.model.User;
+import com.liten.api.repository.LitenSpaceRepository;
+import com.liten.api.repository.projection.SpaceDashboardRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리튼 공간 조회.
+ *
+ * <p>홈 화면 목록은 (sortKey, spaceId) 키셋으로 한 페이지씩 읽고, 컨텐츠 수는 {@link SpaceStatsUpdater} 가
+ * 유지하는 값을 함께 조회한다. 공간이나 컨텐츠가 많아도 한 페이지 조회 비용은 같다.
+ *
+ * <p>읽은 페이지는 사용자별로 {@link CacheNames#SPACE_DASHBOARD} 에 두고, 사용자의 공간이나 컨텐츠가 바뀌면
+ * 커밋 후 {@link com.liten.api.cache.CacheEvictionListener} 가 그 사용자의 페이지를 모두 지운다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class LitenSpaceService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final int MAX_CACHED_PAGES = 16;
+
+    private final LitenSpaceRepository litenSpaceRepository;
+    private final CacheManager cacheManager;
+
+    public enum DashboardFilter {
+        ALL, FAVORITES, ACTIVE
+    }
+
+    @Transactional(readOnly = true)
+    public SpaceResponse.Dashboard getDashboard(User user, DashboardFilter filter, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new RuntimeException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+        PageCursor after = cursor != null && !cursor.isBlank() ? PageCursor.decode(cursor) : new PageCursor("", 0);
+
+        Cache cache = cacheManager.getCache(CacheNames.SPACE_DASHBOARD);
+        String pageKey = filter + ":" + size + ":" + after.encode();
+        DashboardPages pages = cache.get(user.getUserId(), DashboardPages.class);
+        SpaceResponse.Dashboard cached = pages != null ? pages.pages().get(pageKey) : null;
+        if (cached != null) {
+            return cached;
+        }
+
+        // 한 행을 더 읽어 다음 페이지가 있는지 확인한다
+        List<SpaceDashboardRow> rows = litenSpaceRepository.findDashboardPage(user,
+                filter == DashboardFilter.FAVORITES, filter == DashboardFilter.ACTIVE,
+                after.sortKey(), after.spaceId(), PageRequest.of(0, size + 1));
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows = rows.subList(0, size);
+        }
+        SpaceDashboardRow last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        SpaceResponse.Dashboard dashboard = SpaceResponse.Dashboard.builder()
+                .items(rows.stream().map(this::toDashboardItem).toList())
+                .nextCursor(hasMore ? new PageCursor(last.getSortKey(), last.getSpaceId()).encode() : null)
+                .build();
+        cache.put(user.getUserId(), DashboardPages.with(pages, pageKey, dashboard));
+        return dashboard;
+    }
+
+    /**
+     * 보관 여부를 바꾼다. 보관한 공간은 한동안 쓰지 않으면 {@link SpaceTieringService} 가 콜드 저장소로 옮기며,
+     * 보관을 해제해도 바로 되살리지 않고 컨텐츠에 처음 접근할 때 되살린다.
+     */
+    public LitenSpace setArchived(User user, Long spaceId, boolean archived) {
+        LitenSpace space = litenSpaceRepository.findBySpaceIdAndUser(spaceId, user)
+                .orElseThrow(() -> new RuntimeException("리튼 공간을 찾을 수 없습니다: " + spaceId));
+        if (!Boolean.valueOf(archived).equals(space.getIsArchived())) {
+            space.setIsArchived(archived);
+            litenSpaceRepository.save(space);
+        }
+        return space;
+    }
+
+    private SpaceResponse.DashboardItem toDashboardItem(SpaceDashboardRow row) {
+        return SpaceResponse.DashboardItem.builder()
+                .spaceId(row.getSpaceId())
+                .title(row.getTitle())
+                .description(row.getDescription())
+                .color(row.getColor())
+                .isFavorite(row.getIsFavorite())
+                .isArchived(row.getIsArchived())
+                .storageTier(row.getStorageTier() != null ? row.getStorageTier().name() : LitenSpace.StorageTier.HOT.name())
+                .sortKey(row.getSortKey())
+                .audioCount(row.getAudioCount())
+                .textCount(row.getTextCount())
+                .drawingCount(row.getDrawingCount())
+                .lastActivityAt(row.getLastActivityAt())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 사용자 한 명의 캐시된 목록 페이지. (필터, 크기, 커서) -> 페이지. 공유 계층에 올라가므로 바꾸지 않고 새로 만든다.
+     */
+    private record DashboardPages(Map<String, SpaceResponse.Dashboard> pages) implements Serializable {
+
+        static DashboardPages with(DashboardPages current, String pageKey, SpaceResponse.Dashboard page) {
+            Map<String, SpaceResponse.Dashboard> pages = new LinkedHashMap<>(current != null ? current.pages() : Map.of());
+            pages.put(pageKey, page);
+            Iterator<String> oldest = pages.keySet().iterator();
+            while (pages.size() > MAX_CACHED_PAGES) {
+                oldest.next();
+                oldest.remove();
+            }
+            return new DashboardPages(pages);
+        }
+    }
+
+    /**
+     * 마지막으로 받은 공간의 (sortKey, spaceId). 클라이언트에는 불투명한 문자열로 전달한다.
+     */
+    private record PageCursor(String sortKey, long spaceId) {
+
+        String encode() {
+            String raw = sortKey + ":" + spaceId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static PageCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.indexOf(':');
+                return new PageCursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+                throw new RuntimeException("잘못된 페이지 커서입니다");
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.liten.api.service;
+
+import com.liten.api.cache.CacheNames;
+import com.liten.api.dto.QuotaResponse;
+import com.liten.api.event.ContentChangedEvent;
+import com.liten.api.exception.QuotaExceededException;
+import com.liten.api.model.User;
+import com.liten.api.repository.UsageCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.function.IntSupplier;
+
+/**
+ * 구독 플랜별 사용 한도.
+ *
+ * <p>공간/컨텐츠를 만들 때 {@link com.liten.api.event.QuotaListener} 가 호출하며, 생성과 같은 트랜잭션에서
+ * 카운터를 "한도 미만일 때만" 올리는 UPDATE 한 번으로 확인과 증가를 함께 처리한다. 생성이 롤백되면 카운터도 함께 롤백된다.
+ * 카운터가 없거나 한도에 걸리면 실제 행으로 다시 센 뒤 한 번 더 시도하므로 어긋난 카운터 때문에 잘못 거절하지 않는다.
+ * 삭제/수정 시의 보정은 {@link SpaceStatsUpdater} 가 커밋 후 모아서 다시 세어 처리한다.
+ *
+ * <p>사용자별 유효 플랜(구독 종류와 만료일)은 {@link CacheNames#PLANS} 캐시에 두며 TTL 또는 구독 만료 시각 중 이른 때에 다시 읽는다.
+ * 구독을 바꾸는 User 저장은 {@link com.liten.api.cache.CacheEvictionListener} 가 커밋 후 플랜 캐시에서 지운다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class QuotaService {
+
+    private static final int UNLIMITED = -1;
+
+    private final UsageCounterRepository usageCounterRepository;
+
+    private final CacheManager cacheManager;
+
+    @Value("${app.quota.plan-cache-ttl-ms:300000}")
+    private long planCacheTtlMs;
+
+    @Value("${app.quota.free.max-spaces:5}")
+    private int freeMaxSpaces;
+
+    @Value("${app.quota.free.max-audio-per-space:2}")
+    private int freeMaxAudioPerSpace;
+
+    @Value("${app.quota.free.max-texts-per-space:1}")
+    private int freeMaxTextsPerSpace;
+
+    @Value("${app.quota.free.max-drawings-per-space:1}")
+    private int freeMaxDrawingsPerSpace;
+
+    @Value("${app.quota.free.max-storage-bytes:524288000}")
+    private long freeMaxStorageBytes;
+
+    @Value("${app.quota.standard.max-storage-bytes:10737418240}")
+    private long standardMaxStorageBytes;
+
+    @Value("${app.quota.premium.max-storage-bytes:-1}")
+    private long premiumMaxStorageBytes;
+
+    /**
+     * 공간 하나를 만들 수 있는지 확인하고 사용자의 공간 수를 올린다.
+     */
+    public void reserveSpace(Long userId) {
+        Limits limits = limitsOf(userId);
+        int maxSpaces = bound(limits.maxSpaces());
+        reserve(() -> usageCounterRepository.incrementSpaces(userId, maxSpaces),
+                () -> usageCounterRepository.recalculateUser(userId),
+                "공간 수 한도를 초과했습니다", "SPACE", limits.maxSpaces());
+    }
+
+    /**
+     * 공간에 컨텐츠 하나를 추가할 수 있는지 확인하고 공간의 컨텐츠 수와 공간/사용자 저장 용량을 올린다.
+     *
+     * @param bytes 컨텐츠 파일 크기. 텍스트는 0
+     */
+    public void reserveContent(Long userId, Long spaceId, ContentChangedEvent.ContentType type, long bytes) {
+        Limits limits = limitsOf(userId);
+        UsageCounterRepository.SpaceCounter counter = switch (type) {
+            case AUDIO -> UsageCounterRepository.SpaceCounter.AUDIO;
+            case TEXT -> UsageCounterRepository.SpaceCounter.TEXT;
+            case DRAWING -> UsageCounterRepository.SpaceCounter.DRAWING;
+            default -> throw new IllegalArgumentException("한도 대상이 아닌 컨텐츠입니다: " + type);
+        };
+        int maxCount = switch (counter) {
+            case AUDIO -> limits.maxAudioPerSpace();
+            case TEXT -> limits.maxTextsPerSpace();
+            case DRAWING -> limits.maxDrawingsPerSpace();
+        };
+        long size = Math.max(0L, bytes);
+        if (size > 0) {
+            long maxBytes = limits.maxStorageBytes() == UNLIMITED ? Long.MAX_VALUE - size : limits.maxStorageBytes();
+            reserve(() -> usageCounterRepository.addStorage(userId, size, maxBytes),
+                    () -> usageCounterRepository.recalculateUser(userId),
+                    "저장 용량 한도를 초과했습니다", "STORAGE", limits.maxStorageBytes());
+        }
+        reserve(() -> usageCounterRepository.incrementContent(spaceId, counter, bound(maxCount), size),
+                () -> usageCounterRepository.recalculateSpace(spaceId),
+                "공간당 " + type.name() + " 수 한도를 초과했습니다", type.name(), maxCount);
+    }
+
+    /**
+     * 다시 센 사용자 저장 용량이 한도 안인지 확인한다. 카운터를 거치지 않고 행을 한꺼번에 넣는 경우
+     * ({@link BootstrapImportService}) 넣은 뒤 같은 트랜잭션에서 호출하여 한도를 넘으면 롤백한다.
+     */
+    public void checkStorage(Long userId) {
+        Limits limits = limitsOf(userId);
+        if (limits.maxStorageBytes() == UNLIMITED) {
+            return;
+        }
+        long used = usageCounterRepository.findUserUsage(userId)
+                .map(UsageCounterRepository.UserUsage::storageBytes)
+                .orElse(0L);
+        if (used > limits.maxStorageBytes()) {
+            log.debug("사용 한도 초과: resource=STORAGE, used={}, limit={}", used, limits.maxStorageBytes());
+            throw new QuotaExceededException("저장 용량 한도를 초과했습니다", "STORAGE", limits.maxStorageBytes());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public QuotaResponse.Usage getUsage(User user) {
+        Limits limits = limitsOf(user.getUserId());
+        UsageCounterRepository.UserUsage usage = usageCounterRepository.findUserUsage(user.getUserId())
+                .orElse(new UsageCounterRepository.UserUsage(0, 0L));
+        return QuotaResponse.Usage.builder()
+                .plan(limits.plan().name())
+                .spaceCount(usage.spaceCount())
+                .storageBytes(usage.storageBytes())
+                .maxSpaces(limitOrNull(limits.maxSpaces()))
+                .maxAudioPerSpace(limitOrNull(limits.maxAudioPerSpace()))
+                .maxTextsPerSpace(limitOrNull(limits.maxTextsPerSpace()))
+                .maxDrawingsPerSpace(limitOrNull(limits.maxDrawingsPerSpace()))
+                .maxStorageBytes(limits.maxStorageBytes() == UNLIMITED ? null : limits.maxStorageBytes())
+                .build();
+    }
+
+    /**
+     * 유효한 유료 구독(STANDARD/PREMIUM)이 있는지 확인한다. 만료된 구독은 FREE 로 본다.
+     */
+    public boolean isPaidPlan(Long userId) {
+        return limitsOf(userId).plan() != User.SubscriptionType.FREE;
+    }
+
+    private void reserve(IntSupplier increment, Runnable recalculate, String message, String resource, long limit) {
+        if (increment.getAsInt() > 0) {
+            return;
+        }
+        // 카운터 행이 없거나 실제보다 큰 경우를 대비해 한 번 다시 센 뒤 재시도한다
+        recalculate.run();
+        if (increment.getAsInt() > 0) {
+            return;
+        }
+        log.debug("사용 한도 초과: resource={}, limit={}", resource, limit);
+        throw new QuotaExceededException(message, resource, limit);
+    }
+
+    private Limits limitsOf(Long userId) {
+        long now = System.currentTimeMillis();
+        Cache plans = planCache();
+        CachedPlan cached = plans.get(userId, CachedPlan.class);
+        if (cached == null || cached.expiresAt() <= now) {
+            cached = loadPlan(userId, now);
+            plans.put(userId, cached);
+        }
+        return limitsOf(cached.plan());
+    }
+
+    private CachedPlan loadPlan(Long userId, long now) {
+        UsageCounterRepository.Subscription subscription = usageCounterRepository.findSubscription(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+        User user = User.builder()
+                .subscriptionType(subscription.type())
+                .subscriptionEndDate(subscription.endDate())
+                .build();
+        User.SubscriptionType plan = user.hasValidSubscription() ? subscription.type() : User.SubscriptionType.FREE;
+        long expiresAt = now + planCacheTtlMs;
+        if (plan != User.SubscriptionType.FREE) {
+            expiresAt = Math.min(expiresAt, toEpochMilli(subscription.endDate()));
+        }
+        return new CachedPlan(plan, expiresAt);
+    }
+
+    private Limits limitsOf(User.SubscriptionType plan) {
+        return switch (plan) {
+            case FREE -> new Limits(plan, freeMaxSpaces, freeMaxAudioPerSpace, freeMaxTextsPerSpace,
+                    freeMaxDrawingsPerSpace, freeMaxStorageBytes);
+            case STANDARD -> new Limits(plan, UNLIMITED, UNLIMITED, UNLIMITED, UNLIMITED, standardMaxStorageBytes);
+            case PREMIUM -> new Limits(plan, UNLIMITED, UNLIMITED, UNLIMITED, UNLIMITED, premiumMaxStorageBytes);
+        };
+    }
+
+    private static int bound(int limit) {
+        return limit == UNLIMITED ? Integer.MAX_VALUE : limit;
+    }
+
+    private static Integer limitOrNull(int limit) {
+        return limit == UNLIMITED ? null : limit;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Limits(User.SubscriptionType plan, int maxSpaces, int maxAudioPerSpace, int maxTextsPerSpace,
+                          int maxDrawingsPerSpace, long maxStorageBytes) {
+    }
+
+    private Cache planCache() {
+        return cacheManager.getCache(CacheNames.PLANS);
+    }
+
+    private record CachedPlan(User.SubscriptionType plan, long expiresAt) implements Serializable {
+    }
+}
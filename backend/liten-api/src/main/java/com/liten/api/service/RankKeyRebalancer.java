@@ -0,0 +1,41 @@
+package com.liten.api.service;
+
+import com.liten.api.cache.CacheEvictionListener;
+import com.liten.api.repository.SortKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 순서 변경으로 키가 길어진 목록을 주기적으로 고른 간격의 짧은 키로 다시 매긴다.
+ * 목록마다 별도 트랜잭션으로 처리하여 한 건의 실패가 다른 목록에 영향을 주지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RankKeyRebalancer {
+
+    private final ListOrderService listOrderService;
+    private final CacheEvictionListener cacheEvictionListener;
+
+    @Value("${app.ordering.rebalance.batch-size:50}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.ordering.rebalance.interval-ms:300000}")
+    public void rebalance() {
+        for (ListOrderService.ListRef ref : listOrderService.drainPendingRebalance(batchSize)) {
+            try {
+                int items = listOrderService.rebalance(ref.list(), ref.scopeId());
+                log.info("순서 키 재배치: {} scope={}, items={}", ref.list(), ref.scopeId(), items);
+                if (ref.list() == SortKeyRepository.RankedList.SPACES) {
+                    // 캐시된 목록 페이지의 커서가 예전 키를 가리키므로 지운다
+                    cacheEvictionListener.evictDashboard(ref.scopeId());
+                }
+            } catch (Exception e) {
+                log.warn("순서 키 재배치 실패: {} scope={}, {}", ref.list(), ref.scopeId(), e.getMessage());
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.liten.api.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -10,8 +11,11 @@ import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -47,6 +51,63 @@ public class S3FileService {
         }
     }
 
+    /**
+     * 로컬 파일을 지정한 저장 등급으로 올린다. 파일에서 바로 읽어 보내므로 내용을 메모리에 올리지 않는다.
+     */
+    public void putFile(String key, Path file, String contentType, StorageClass storageClass) {
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .storageClass(storageClass)
+                    .build();
+
+            s3Client.putObject(putObjectRequest, RequestBody.fromFile(file));
+            log.info("파일 업로드 성공: {} ({})", key, storageClass);
+        } catch (Exception e) {
+            log.error("파일 업로드 실패: {}", key, e);
+            throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 객체를 같은 키로 복사하여 저장 등급만 바꾼다. 내용과 메타데이터는 그대로 둔다.
+     */
+    public void changeStorageClass(String key, StorageClass storageClass) {
+        try {
+            CopyObjectRequest copyObjectRequest = CopyObjectRequest.builder()
+                    .sourceBucket(bucketName)
+                    .sourceKey(key)
+                    .destinationBucket(bucketName)
+                    .destinationKey(key)
+                    .storageClass(storageClass)
+                    .metadataDirective(MetadataDirective.COPY)
+                    .build();
+
+            s3Client.copyObject(copyObjectRequest);
+        } catch (Exception e) {
+            log.error("저장 등급 변경 실패: {} -> {}", key, storageClass, e);
+            throw new RuntimeException("저장 등급 변경에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 여러 객체의 저장 등급을 백그라운드에서 바꾼다. 실패한 객체는 로그만 남기고 넘어간다.
+     */
+    @Async
+    public void changeStorageClassAsync(List<String> keys, StorageClass storageClass) {
+        int failed = 0;
+        for (String key : keys) {
+            try {
+                changeStorageClass(key, storageClass);
+            } catch (RuntimeException e) {
+                failed++;
+            }
+        }
+        log.info("저장 등급 변경: {} 개 -> {} (실패 {})", keys.size(), storageClass, failed);
+    }
+
     public void deleteFile(String key) {
         try {
             DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
@@ -62,6 +123,23 @@ public class S3FileService {
         }
     }
 
+    /**
+     * 객체 본문을 스트림으로 연다. 내용을 메모리에 올리지 않으며, 다 읽은 뒤 호출한 쪽에서 닫아야 한다.
+     */
+    public InputStream openFile(String key) {
+        try {
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build();
+
+            return s3Client.getObject(getObjectRequest);
+        } catch (Exception e) {
+            log.error("파일 읽기 실패: {}", key, e);
+            throw new RuntimeException("파일을 읽을 수 없습니다.", e);
+        }
+    }
+
     public String generatePresignedUrl(String key, Duration duration) {
         try {
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
@@ -0,0 +1,678 @@
+package com.liten.api.service;
+
+import com.liten.api.dto.SearchResponse;
+import com.liten.api.event.ContentChangedEvent;
+import com.liten.api.model.AudioContent;
+import com.liten.api.model.LitenSpace;
+import com.liten.api.model.TextContent;
+import com.liten.api.repository.AudioContentRepository;
+import com.liten.api.repository.LitenSpaceRepository;
+import com.liten.api.repository.SearchIndexChangeRepository;
+import com.liten.api.repository.TextContentRepository;
+import com.liten.api.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 사용자별 전문 검색 인덱스 (Lucene).
+ *
+ * <p>사용자는 userId 기준으로 샤드에 배정되며, 모든 검색은 userId 필터와 함께 수행된다.
+ * 한글/한자/가나는 CJK 바이그램으로 분석하여 띄어쓰기와 무관하게 부분 일치를 찾는다.
+ * 인덱스는 DB 로부터 언제든 다시 만들 수 있다.
+ *
+ * <p>인덱스는 노드마다 로컬 디스크에 두므로, 엔티티 변경은 같은 트랜잭션에서 변경 기록(search_index_changes)에 남기고
+ * 모든 노드가 change_id 순서로 읽어 각자 반영한다. 어디까지 반영했는지는 Lucene 커밋 데이터에 함께 저장하여 재시작하면
+ * 이어서 읽고, 인덱스가 없거나 보존 기간이 지나 놓친 기록이 있으면 전체 사용자를 조금씩 다시 만든다.
+ * change_id 는 커밋 순서와 다를 수 있으므로, 빈 번호는 gap-timeout 동안 다시 확인한 뒤에 건너뛴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexService {
+
+    static final String FIELD_UID = "uid";
+    static final String FIELD_USER_ID = "userId";
+    static final String FIELD_SPACE_ID = "spaceId";
+    static final String FIELD_TYPE = "type";
+    static final String FIELD_ID = "id";
+    static final String FIELD_AUDIO_ID = "audioId";
+    static final String FIELD_AUDIO_POSITION = "audioPositionMs";
+    static final String FIELD_DURATION = "durationSeconds";
+    static final String FIELD_TITLE = "title";
+    static final String FIELD_BODY = "body";
+
+    private static final int SNIPPET_BEFORE = 40;
+    private static final int SNIPPET_LENGTH = 160;
+    private static final int REBUILD_PAGE_SIZE = 200;
+    private static final int REBUILD_USER_PAGE_SIZE = 20;
+    private static final int CHANGE_BATCH_SIZE = 500;
+    private static final int MAX_GAP_IDS = 1000;
+    private static final int CHANGE_PURGE_CHUNK = 1000;
+    private static final String COMMIT_CURSOR = "changeCursor";
+    private static final String CHANGE_USER = "USER";
+
+    private final LitenSpaceRepository litenSpaceRepository;
+    private final TextContentRepository textContentRepository;
+    private final AudioContentRepository audioContentRepository;
+    private final UserRepository userRepository;
+    private final SearchIndexChangeRepository changeRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.search.index-dir:./search-index}")
+    private String indexDir;
+
+    @Value("${app.search.shards:4}")
+    private int shardCount;
+
+    @Value("${app.search.change-gap-timeout-ms:10000}")
+    private long gapTimeoutMs;
+
+    @Value("${app.search.change-retention-hours:168}")
+    private long changeRetentionHours;
+
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private Shard[] shards;
+    private TransactionTemplate readOnlyTransaction;
+
+    /** 이 change_id 까지는 모두 반영했다. -1 이면 아직 커밋 데이터에서 읽지 않았다 */
+    private volatile long appliedCursor = -1;
+    /** 지금까지 읽은 가장 큰 change_id */
+    private long fetchedUpTo;
+    /** appliedCursor 뒤의 빈 번호를 두고 먼저 반영한 기록. change_id -> 처음 읽은 시각(ms) */
+    private final TreeMap<Long, Long> appliedAhead = new TreeMap<>();
+    /** 전체 재생성 중이면 다음에 다시 만들 사용자 ID 의 하한, 아니면 null */
+    private volatile Long rebuildAfterUserId;
+
+    @PostConstruct
+    public void open() throws IOException {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        Path root = Path.of(indexDir);
+        Files.createDirectories(root);
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(FSDirectory.open(root.resolve("shard-" + i)), analyzer);
+        }
+        log.info("검색 인덱스 열기 완료: {} ({} shards)", root.toAbsolutePath(), shardCount);
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Shard shard : shards) {
+            try {
+                shard.close();
+            } catch (IOException e) {
+                log.warn("검색 인덱스 닫기 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    public SearchResponse.Result search(Long userId, String queryText, int limit) {
+        long start = System.nanoTime();
+        Query textQuery = buildTextQuery(queryText);
+        List<SearchResponse.Hit> hits = new ArrayList<>();
+        long totalHits = 0;
+
+        if (textQuery != null) {
+            Query query = new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term(FIELD_USER_ID, userId.toString())), BooleanClause.Occur.FILTER)
+                    .add(textQuery, BooleanClause.Occur.MUST)
+                    .build();
+            Shard shard = shardFor(userId);
+            IndexSearcher searcher = null;
+            try {
+                searcher = shard.searcherManager.acquire();
+                TopDocs topDocs = searcher.search(query, Math.max(1, Math.min(limit, 100)));
+                totalHits = topDocs.totalHits.value;
+                List<String> terms = queryTerms(queryText);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    hits.add(toHit(searcher.storedFields().document(scoreDoc.doc), scoreDoc.score, terms));
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("검색에 실패했습니다: " + e.getMessage(), e);
+            } finally {
+                release(shard, searcher);
+            }
+        }
+
+        return SearchResponse.Result.builder()
+                .query(queryText)
+                .totalHits(totalHits)
+                .tookMs((System.nanoTime() - start) / 1_000_000)
+                .hits(hits)
+                .build();
+    }
+
+    /**
+     * 검색 대상 변경을 변경 기록에 남긴다. 엔티티 리스너가 flush 중에 발행하므로 같은 트랜잭션에서 기록되고,
+     * 롤백되면 기록도 사라진다. 인덱스 반영은 {@link #applyChanges} 가 노드마다 한다.
+     */
+    @EventListener
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.id() == null) {
+            return;
+        }
+        switch (event.type()) {
+            case SPACE, TEXT, AUDIO -> record(event.type().name(), event.id(), event.kind().name());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 변경 기록에서 아직 반영하지 않은 변경을 읽어 로컬 인덱스에 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${app.search.change-poll-interval-ms:1000}")
+    public void applyChanges() {
+        try {
+            if (appliedCursor < 0) {
+                openCursor();
+            }
+            if (rebuildAfterUserId != null) {
+                rebuildNextUsers();
+                return;
+            }
+            retryGaps();
+            List<SearchIndexChangeRepository.Change> changes;
+            do {
+                changes = changeRepository.findAfter(fetchedUpTo, CHANGE_BATCH_SIZE);
+                long now = System.currentTimeMillis();
+                for (SearchIndexChangeRepository.Change change : changes) {
+                    apply(change);
+                    appliedAhead.put(change.changeId(), now);
+                    fetchedUpTo = change.changeId();
+                }
+            } while (changes.size() == CHANGE_BATCH_SIZE);
+            advanceCursor();
+        } catch (Exception e) {
+            log.warn("검색 인덱스 변경 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 변경 기록을 지운다. 모든 노드가 실행해도 된다.
+     */
+    @Scheduled(fixedDelayString = "${app.search.change-purge-interval-ms:3600000}")
+    public void purgeChanges() {
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusHours(changeRetentionHours);
+            long keepFromId = changeRepository.findMaxId();
+            int deleted;
+            int total = 0;
+            do {
+                deleted = changeRepository.deleteBefore(cutoff, keepFromId, CHANGE_PURGE_CHUNK);
+                total += deleted;
+            } while (deleted == CHANGE_PURGE_CHUNK);
+            if (total > 0) {
+                log.info("검색 인덱스 변경 기록 정리: {} 건", total);
+            }
+        } catch (Exception e) {
+            log.warn("검색 인덱스 변경 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자의 인덱스 문서를 모두 지우고 DB 로부터 다시 만든다. 다른 노드도 다시 만들도록 변경 기록을 남긴다.
+     *
+     * @return 색인한 문서 수
+     */
+    public int rebuildUser(Long userId) {
+        int count = rebuildLocal(userId);
+        requestRebuild(userId);
+        log.info("검색 인덱스 재생성: userId={}, documents={}", userId, count);
+        return count;
+    }
+
+    /**
+     * 행을 이벤트 없이 한꺼번에 넣은 뒤({@link BootstrapImportService}) 모든 노드가 사용자 인덱스를 다시 만들게 한다.
+     */
+    public void requestRebuild(Long userId) {
+        record(CHANGE_USER, userId, ContentChangedEvent.ChangeKind.UPDATED.name());
+    }
+
+    private int rebuildLocal(Long userId) {
+        Shard shard = shardFor(userId);
+        int[] count = {0};
+        try {
+            shard.writer.deleteDocuments(new Term(FIELD_USER_ID, userId.toString()));
+        } catch (IOException e) {
+            throw new RuntimeException("검색 인덱스 초기화에 실패했습니다", e);
+        }
+
+        forEachPage(pageable -> litenSpaceRepository.findActiveByUserId(userId, pageable), space -> {
+            indexDocument(userId, spaceDocument(userId, space));
+            count[0]++;
+        });
+        forEachPage(pageable -> textContentRepository.findActiveByUserId(userId, pageable), text -> {
+            indexDocument(userId, textDocument(userId, text));
+            count[0]++;
+        });
+        forEachPage(pageable -> audioContentRepository.findActiveByUserId(userId, pageable), audio -> {
+            indexDocument(userId, audioDocument(userId, audio));
+            count[0]++;
+        });
+
+        refresh(shard);
+        return count[0];
+    }
+
+    /**
+     * 반영한 변경 위치를 인덱스와 함께 커밋한다. 전체 재생성 중에는 위치를 올리지 않아, 도중에 멈추면 처음부터 다시 만든다.
+     */
+    @Scheduled(fixedDelayString = "${app.search.commit-interval-ms:5000}")
+    public void commit() {
+        long cursor = rebuildAfterUserId == null ? appliedCursor : -1;
+        for (Shard shard : shards) {
+            try {
+                if (cursor > shard.committedCursor) {
+                    shard.writer.setLiveCommitData(Map.of(COMMIT_CURSOR, Long.toString(cursor)).entrySet());
+                }
+                if (shard.writer.hasUncommittedChanges()) {
+                    shard.writer.commit();
+                    shard.committedCursor = Math.max(shard.committedCursor, cursor);
+                }
+            } catch (IOException e) {
+                log.warn("검색 인덱스 커밋 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void record(String type, long id, String kind) {
+        try {
+            changeRepository.append(type, id, kind);
+        } catch (Exception e) {
+            log.warn("검색 인덱스 변경 기록 실패: {} {} - {}", type, id, e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋 데이터의 반영 위치를 읽는다. 위치가 없는 샤드가 있거나 그 뒤 기록이 이미 지워졌으면 전체 재생성을 시작한다.
+     */
+    private void openCursor() {
+        long cursor = Long.MAX_VALUE;
+        for (Shard shard : shards) {
+            cursor = Math.min(cursor, shard.committedCursor);
+        }
+        long minId = changeRepository.findMinId();
+        if (cursor < 0 || (minId > 0 && cursor < minId - 1)) {
+            // 재생성 중의 변경은 끝난 뒤 이어서 반영한다
+            cursor = changeRepository.findMaxId();
+            rebuildAfterUserId = 0L;
+            log.info("검색 인덱스 전체 재생성 시작: changeCursor={}", cursor);
+        }
+        appliedCursor = cursor;
+        fetchedUpTo = cursor;
+    }
+
+    private void rebuildNextUsers() {
+        List<Long> userIds = userRepository.findIdsAfter(rebuildAfterUserId, PageRequest.of(0, REBUILD_USER_PAGE_SIZE));
+        for (Long userId : userIds) {
+            rebuildLocal(userId);
+            rebuildAfterUserId = userId;
+        }
+        if (userIds.size() < REBUILD_USER_PAGE_SIZE) {
+            rebuildAfterUserId = null;
+            log.info("검색 인덱스 전체 재생성 완료");
+        }
+    }
+
+    /**
+     * 반영 위치 뒤의 빈 번호 중 그 사이 커밋된 기록이 있으면 반영한다.
+     */
+    private void retryGaps() {
+        List<Long> gaps = new ArrayList<>();
+        for (long id = appliedCursor + 1; id < fetchedUpTo && gaps.size() < MAX_GAP_IDS; id++) {
+            if (!appliedAhead.containsKey(id)) {
+                gaps.add(id);
+            }
+        }
+        if (gaps.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (SearchIndexChangeRepository.Change change : changeRepository.findByIds(gaps)) {
+            apply(change);
+            appliedAhead.put(change.changeId(), now);
+        }
+    }
+
+    /**
+     * 앞에 빈 번호가 없는 기록까지 반영 위치를 올린다. 빈 번호는 그 뒤 기록을 읽은 지 gap-timeout 이 지나면
+     * 롤백되었거나 이미 반영한 것으로 보고 건너뛴다.
+     */
+    private void advanceCursor() {
+        long settled = System.currentTimeMillis() - gapTimeoutMs;
+        while (!appliedAhead.isEmpty()) {
+            Map.Entry<Long, Long> first = appliedAhead.firstEntry();
+            if (first.getKey() != appliedCursor + 1 && first.getValue() > settled) {
+                break;
+            }
+            appliedCursor = first.getKey();
+            appliedAhead.pollFirstEntry();
+        }
+    }
+
+    private void apply(SearchIndexChangeRepository.Change change) {
+        Long id = change.contentId();
+        try {
+            switch (change.type()) {
+                case CHANGE_USER -> rebuildLocal(id);
+                case "SPACE" -> reindexSpace(id, ContentChangedEvent.ChangeKind.valueOf(change.kind()));
+                case "TEXT" -> readOnlyTransaction.executeWithoutResult(status ->
+                        textContentRepository.findWithSpaceById(id)
+                                .ifPresentOrElse(this::indexText, () -> deleteDocument("TEXT", id)));
+                case "AUDIO" -> readOnlyTransaction.executeWithoutResult(status ->
+                        audioContentRepository.findWithSpaceById(id)
+                                .ifPresentOrElse(this::indexAudio, () -> deleteDocument("AUDIO", id)));
+                default -> {
+                }
+            }
+        } catch (Exception e) {
+            log.warn("검색 인덱스 갱신 실패: {} {} - {}", change.type(), id, e.getMessage());
+        }
+    }
+
+    private void reindexSpace(Long spaceId, ContentChangedEvent.ChangeKind kind) throws IOException {
+        if (kind == ContentChangedEvent.ChangeKind.DELETED) {
+            // 공간이 삭제되면 소속 컨텐츠도 검색되지 않아야 한다
+            for (Shard shard : shards) {
+                shard.writer.deleteDocuments(new Term(FIELD_SPACE_ID, spaceId.toString()));
+                refresh(shard);
+            }
+            return;
+        }
+        readOnlyTransaction.executeWithoutResult(status ->
+                litenSpaceRepository.findWithUserById(spaceId).ifPresent(space -> {
+                    if (space.isDeleted()) {
+                        deleteDocument("SPACE", space.getSpaceId());
+                        return;
+                    }
+                    Long userId = space.getUser().getUserId();
+                    indexDocument(userId, spaceDocument(userId, space));
+                    refresh(shardFor(userId));
+                }));
+    }
+
+    private void indexText(TextContent text) {
+        if (text.isDeleted() || text.getLitenSpace().isDeleted()) {
+            deleteDocument("TEXT", text.getTextId());
+            return;
+        }
+        Long userId = text.getLitenSpace().getUser().getUserId();
+        indexDocument(userId, textDocument(userId, text));
+        refresh(shardFor(userId));
+    }
+
+    private void indexAudio(AudioContent audio) {
+        if (audio.isDeleted() || audio.getLitenSpace().isDeleted()) {
+            deleteDocument("AUDIO", audio.getAudioId());
+            return;
+        }
+        Long userId = audio.getLitenSpace().getUser().getUserId();
+        indexDocument(userId, audioDocument(userId, audio));
+        refresh(shardFor(userId));
+    }
+
+    private Document spaceDocument(Long userId, LitenSpace space) {
+        Document doc = baseDocument("SPACE", space.getSpaceId(), userId, space.getSpaceId());
+        doc.add(new TextField(FIELD_TITLE, nullToEmpty(space.getTitle()), Field.Store.YES));
+        doc.add(new TextField(FIELD_BODY, nullToEmpty(space.getDescription()), Field.Store.YES));
+        return doc;
+    }
+
+    private Document textDocument(Long userId, TextContent text) {
+        Document doc = baseDocument("TEXT", text.getTextId(), userId, text.getLitenSpace().getSpaceId());
+        String body = nullToEmpty(text.getPlainText());
+        doc.add(new TextField(FIELD_BODY, body, Field.Store.YES));
+        if (text.getAudioContent() != null) {
+            doc.add(new StoredField(FIELD_AUDIO_ID, text.getAudioContent().getAudioId()));
+        }
+        if (text.getAudioSyncPosition() != null) {
+            doc.add(new StoredField(FIELD_AUDIO_POSITION, text.getAudioSyncPosition().longValue()));
+        }
+        return doc;
+    }
+
+    private Document audioDocument(Long userId, AudioContent audio) {
+        Document doc = baseDocument("AUDIO", audio.getAudioId(), userId, audio.getLitenSpace().getSpaceId());
+        String title = audio.getOriginalFilename() != null ? audio.getOriginalFilename() : audio.getFilename();
+        doc.add(new TextField(FIELD_TITLE, nullToEmpty(title), Field.Store.YES));
+        doc.add(new TextField(FIELD_BODY, nullToEmpty(audio.getTranscription()), Field.Store.YES));
+        doc.add(new StoredField(FIELD_AUDIO_ID, audio.getAudioId()));
+        if (audio.getDurationSeconds() != null) {
+            doc.add(new StoredField(FIELD_DURATION, audio.getDurationSeconds()));
+        }
+        return doc;
+    }
+
+    private Document baseDocument(String type, Long id, Long userId, Long spaceId) {
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_UID, uid(type, id), Field.Store.NO));
+        doc.add(new StringField(FIELD_USER_ID, userId.toString(), Field.Store.NO));
+        doc.add(new StringField(FIELD_SPACE_ID, spaceId.toString(), Field.Store.YES));
+        doc.add(new StringField(FIELD_TYPE, type, Field.Store.YES));
+        doc.add(new StoredField(FIELD_ID, id));
+        return doc;
+    }
+
+    private void indexDocument(Long userId, Document doc) {
+        try {
+            String uid = uid(doc.get(FIELD_TYPE), doc.getField(FIELD_ID).numericValue().longValue());
+            shardFor(userId).writer.updateDocument(new Term(FIELD_UID, uid), doc);
+        } catch (IOException e) {
+            throw new RuntimeException("검색 문서 색인에 실패했습니다", e);
+        }
+    }
+
+    private void deleteDocument(String type, Long id) {
+        // 삭제 시점에는 소유자를 알 수 없으므로 모든 샤드에서 지운다 (uid 는 전역 고유)
+        for (Shard shard : shards) {
+            try {
+                shard.writer.deleteDocuments(new Term(FIELD_UID, uid(type, id)));
+                refresh(shard);
+            } catch (IOException e) {
+                throw new RuntimeException("검색 문서 삭제에 실패했습니다", e);
+            }
+        }
+    }
+
+    private Query buildTextQuery(String queryText) {
+        if (queryText == null || queryText.isBlank()) {
+            return null;
+        }
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        Query title = builder.createBooleanQuery(FIELD_TITLE, queryText, BooleanClause.Occur.MUST);
+        Query body = builder.createBooleanQuery(FIELD_BODY, queryText, BooleanClause.Occur.MUST);
+        if (title == null && body == null) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (title != null) {
+            query.add(new BoostQuery(title, 2.0f), BooleanClause.Occur.SHOULD);
+        }
+        if (body != null) {
+            query.add(body, BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    private SearchResponse.Hit toHit(Document doc, float score, List<String> terms) {
+        String body = doc.get(FIELD_BODY);
+        int matchOffset = findMatch(body, terms);
+        Long audioOffsetMs = null;
+        if (doc.getField(FIELD_AUDIO_POSITION) != null) {
+            audioOffsetMs = doc.getField(FIELD_AUDIO_POSITION).numericValue().longValue();
+        } else if (doc.getField(FIELD_DURATION) != null && matchOffset >= 0 && !body.isEmpty()) {
+            // 전사문에는 단어별 시각이 없으므로 일치 위치의 비율로 재생 위치를 추정한다
+            long durationMs = doc.getField(FIELD_DURATION).numericValue().longValue() * 1000;
+            audioOffsetMs = durationMs * matchOffset / body.length();
+        }
+
+        return SearchResponse.Hit.builder()
+                .type(doc.get(FIELD_TYPE))
+                .id(doc.getField(FIELD_ID).numericValue().longValue())
+                .spaceId(Long.valueOf(doc.get(FIELD_SPACE_ID)))
+                .audioId(doc.getField(FIELD_AUDIO_ID) != null
+                        ? doc.getField(FIELD_AUDIO_ID).numericValue().longValue() : null)
+                .audioOffsetMs(audioOffsetMs)
+                .title(doc.get(FIELD_TITLE))
+                .snippet(snippet(body, matchOffset))
+                .score(score)
+                .build();
+    }
+
+    private static List<String> queryTerms(String queryText) {
+        List<String> terms = new ArrayList<>();
+        for (String term : queryText.toLowerCase(Locale.ROOT).trim().split("\\s+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static int findMatch(String body, List<String> terms) {
+        if (body == null || body.isEmpty()) {
+            return -1;
+        }
+        String lower = body.toLowerCase(Locale.ROOT);
+        int best = -1;
+        for (String term : terms) {
+            int index = lower.indexOf(term);
+            if (index >= 0 && (best < 0 || index < best)) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    private static String snippet(String body, int matchOffset) {
+        if (body == null || body.isEmpty()) {
+            return null;
+        }
+        int start = matchOffset > SNIPPET_BEFORE ? matchOffset - SNIPPET_BEFORE : 0;
+        int end = Math.min(body.length(), start + SNIPPET_LENGTH);
+        String snippet = body.substring(start, end).replaceAll("\\s+", " ").trim();
+        return (start > 0 ? "…" : "") + snippet + (end < body.length() ? "…" : "");
+    }
+
+    private <T> void forEachPage(Function<Pageable, Slice<T>> pageLoader, Consumer<T> consumer) {
+        Pageable pageable = PageRequest.of(0, REBUILD_PAGE_SIZE);
+        while (pageable != null) {
+            Pageable current = pageable;
+            Slice<T> slice = readOnlyTransaction.execute(status -> {
+                Slice<T> page = pageLoader.apply(current);
+                page.forEach(consumer);
+                return page;
+            });
+            pageable = slice != null && slice.hasNext() ? slice.nextPageable() : null;
+        }
+    }
+
+    private Shard shardFor(Long userId) {
+        return shards[(int) Math.floorMod(userId, (long) shards.length)];
+    }
+
+    private void refresh(Shard shard) {
+        try {
+            shard.searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("검색 인덱스 새로고침 실패: {}", e.getMessage());
+        }
+    }
+
+    private void release(Shard shard, IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            shard.searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("검색기 반환 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String uid(String type, Long id) {
+        return type + ":" + id;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static final class Shard {
+
+        private final Directory directory;
+        private final IndexWriter writer;
+        private final SearcherManager searcherManager;
+        /** 마지막 커밋에 함께 저장된 변경 기록 위치. 없으면 -1 */
+        private volatile long committedCursor = -1;
+
+        Shard(Directory directory, Analyzer analyzer) throws IOException {
+            this.directory = directory;
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            this.searcherManager = new SearcherManager(writer, null);
+            Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+            if (commitData != null) {
+                for (Map.Entry<String, String> entry : commitData) {
+                    if (COMMIT_CURSOR.equals(entry.getKey())) {
+                        committedCursor = Long.parseLong(entry.getValue());
+                    }
+                }
+            }
+        }
+
+        void close() throws IOException {
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        }
+    }
+}
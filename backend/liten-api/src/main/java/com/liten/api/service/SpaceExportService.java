@@ -0,0 +1,332 @@
+package com.liten.api.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liten.api.dto.SpaceExport;
+import com.liten.api.exception.QuotaExceededException;
+import com.liten.api.model.AudioContent;
+import com.liten.api.model.LitenSpace;
+import com.liten.api.model.User;
+import com.liten.api.repository.AudioContentRepository;
+import com.liten.api.repository.ContentBodyRepository;
+import com.liten.api.repository.DrawingContentRepository;
+import com.liten.api.repository.LitenSpaceRepository;
+import com.liten.api.repository.TextContentRepository;
+import com.liten.api.repository.projection.DrawingSummary;
+import com.liten.api.repository.projection.TextExportRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 공간 내보내기. 공간 하나를 ZIP 으로 만들어 응답에 바로 기록한다.
+ *
+ * <p>첫 항목 manifest.ndjson 에 공간과 컨텐츠 메타데이터를 한 줄씩 쓰고, 이어서 본문/파일 항목을 쓴다.
+ * 메타데이터는 ID 키셋으로 page-size 행씩 두 번(매니페스트, 본문) 읽고, 텍스트 본문과 스트로크는 JDBC 스트림에서,
+ * 오디오/필기 파일은 저장소 스트림에서 고정 크기 버퍼로 복사하므로 공간 크기와 무관하게 메모리 사용량이 일정하다.
+ * 이미 압축된 오디오/이미지 파일은 다시 압축하지 않는다. 스트리밍 동안 트랜잭션을 잡고 있지 않으며,
+ * 페이지와 본문마다 그 시점의 데이터를 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SpaceExportService {
+
+    public static final String MEDIA_TYPE = "application/zip";
+    public static final int FORMAT_VERSION = 1;
+    public static final String MANIFEST_ENTRY = "manifest.ndjson";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final LitenSpaceRepository litenSpaceRepository;
+    private final AudioContentRepository audioContentRepository;
+    private final TextContentRepository textContentRepository;
+    private final DrawingContentRepository drawingContentRepository;
+    private final TextContentService textContentService;
+    private final DrawingService drawingService;
+    private final AudioTimelineService audioTimelineService;
+    private final S3FileService s3FileService;
+    private final QuotaService quotaService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.page-size:200}")
+    private int pageSize;
+
+    /**
+     * 유료 플랜과 공간 소유자를 확인한다. 스트리밍을 시작하기 전에 호출해야 오류를 상태 코드로 돌려줄 수 있다.
+     */
+    @Transactional(readOnly = true)
+    public LitenSpace prepareExport(User user, Long spaceId) {
+        if (!quotaService.isPaidPlan(user.getUserId())) {
+            throw new QuotaExceededException("공간 내보내기는 유료 플랜에서만 사용할 수 있습니다", "EXPORT", null);
+        }
+        return litenSpaceRepository.findBySpaceIdAndUser(spaceId, user)
+                .orElseThrow(() -> new RuntimeException("리튼 공간을 찾을 수 없습니다: " + spaceId));
+    }
+
+    public void writeArchive(User user, LitenSpace space, OutputStream out) throws IOException {
+        Long spaceId = space.getSpaceId();
+        ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+        OutputStream entry = new NonClosingOutputStream(zip);
+
+        zip.putNextEntry(new ZipEntry(MANIFEST_ENTRY));
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(entry);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        long[] counts = new long[3];
+        writeLine(generator, SpaceExport.ManifestEntry.builder()
+                .type("EXPORT")
+                .format(FORMAT_VERSION)
+                .exportedAt(LocalDateTime.now())
+                .build());
+        writeLine(generator, toEntry(space));
+        forEachPage(afterId -> audioContentRepository.findExportPage(spaceId, afterId, PageRequest.of(0, pageSize)),
+                AudioContent::getAudioId, audio -> {
+                    writeLine(generator, toEntry(audio));
+                    counts[0]++;
+                });
+        forEachPage(afterId -> textContentRepository.findExportPage(spaceId, afterId, PageRequest.of(0, pageSize)),
+                TextExportRow::getTextId, text -> {
+                    writeLine(generator, toEntry(text));
+                    counts[1]++;
+                });
+        forEachPage(afterId -> drawingContentRepository.findExportPage(spaceId, afterId, PageRequest.of(0, pageSize)),
+                DrawingSummary::getDrawingId, drawing -> {
+                    writeLine(generator, toEntry(drawing));
+                    counts[2]++;
+                });
+        generator.close();
+        zip.closeEntry();
+
+        forEachPage(afterId -> audioContentRepository.findExportPage(spaceId, afterId, PageRequest.of(0, pageSize)),
+                AudioContent::getAudioId, audio -> {
+                    copyFile(zip, audio.getFilePath(), audioEntry(audio));
+                    zip.putNextEntry(new ZipEntry(timelineEntry(audio.getAudioId())));
+                    audioTimelineService.writeTimeline(audio.getAudioId(), 0, Long.MAX_VALUE, entry);
+                    zip.closeEntry();
+                });
+        forEachPage(afterId -> textContentRepository.findExportPage(spaceId, afterId, PageRequest.of(0, pageSize)),
+                TextExportRow::getTextId, text -> {
+                    zip.putNextEntry(new ZipEntry(contentEntry(text)));
+                    textContentService.writeBody(text, ContentBodyRepository.TextColumn.CONTENT, entry);
+                    zip.closeEntry();
+                    zip.putNextEntry(new ZipEntry(plainTextEntry(text)));
+                    textContentService.writeBody(text, ContentBodyRepository.TextColumn.PLAIN_TEXT, entry);
+                    zip.closeEntry();
+                });
+        forEachPage(afterId -> drawingContentRepository.findExportPage(spaceId, afterId, PageRequest.of(0, pageSize)),
+                DrawingSummary::getDrawingId, drawing -> {
+                    zip.putNextEntry(new ZipEntry(strokesEntry(drawing)));
+                    drawingService.writeStrokes(user, drawing.getDrawingId(), entry);
+                    zip.closeEntry();
+                    if (hasFile(drawing.getFilePath())) {
+                        copyFile(zip, drawing.getFilePath(), drawingFileEntry(drawing));
+                    }
+                });
+
+        zip.finish();
+        zip.flush();
+        log.info("공간 내보내기 완료: spaceId={}, audio={}, texts={}, drawings={}",
+                spaceId, counts[0], counts[1], counts[2]);
+    }
+
+    /**
+     * 저장소 객체를 압축하지 않는 항목으로 복사한다. 객체를 열 수 없으면 항목을 만들지 않고 넘어간다.
+     */
+    private void copyFile(ZipOutputStream zip, String key, String name) throws IOException {
+        InputStream file;
+        try {
+            file = s3FileService.openFile(key);
+        } catch (RuntimeException e) {
+            log.warn("내보내기 파일 누락: {} -> {}", key, name);
+            return;
+        }
+        try (file) {
+            zip.setLevel(Deflater.NO_COMPRESSION);
+            zip.putNextEntry(new ZipEntry(name));
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = file.read(buffer)) != -1) {
+                zip.write(buffer, 0, read);
+            }
+            zip.closeEntry();
+        } finally {
+            zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+        }
+    }
+
+    private void writeLine(JsonGenerator generator, SpaceExport.ManifestEntry line) throws IOException {
+        objectMapper.writeValue(generator, line);
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * afterId 다음 ID 부터 한 페이지씩 읽어 행마다 writer 를 호출한다. 페이지가 비면 끝이다.
+     */
+    private <T> void forEachPage(Function<Long, List<T>> page, Function<T, Long> idOf, RowWriter<T> writer)
+            throws IOException {
+        long afterId = 0L;
+        List<T> rows;
+        do {
+            rows = page.apply(afterId);
+            for (T row : rows) {
+                writer.write(row);
+            }
+            if (!rows.isEmpty()) {
+                afterId = idOf.apply(rows.get(rows.size() - 1));
+            }
+        } while (rows.size() == pageSize);
+    }
+
+    private SpaceExport.ManifestEntry toEntry(LitenSpace space) {
+        return SpaceExport.ManifestEntry.builder()
+                .type("SPACE")
+                .id(space.getSpaceId())
+                .title(space.getTitle())
+                .description(space.getDescription())
+                .color(space.getColor())
+                .isFavorite(space.getIsFavorite())
+                .isArchived(space.getIsArchived())
+                .sortKey(space.getSortKey())
+                .createdAt(space.getCreatedAt())
+                .updatedAt(space.getUpdatedAt())
+                .build();
+    }
+
+    private SpaceExport.ManifestEntry toEntry(AudioContent audio) {
+        return SpaceExport.ManifestEntry.builder()
+                .type("AUDIO")
+                .id(audio.getAudioId())
+                .filename(audio.getFilename())
+                .originalFilename(audio.getOriginalFilename())
+                .mimeType(audio.getMimeType())
+                .fileSize(audio.getFileSize())
+                .durationSeconds(audio.getDurationSeconds())
+                .isTranscribed(audio.getIsTranscribed())
+                .transcription(audio.getTranscription())
+                .fileEntry(audioEntry(audio))
+                .timelineEntry(timelineEntry(audio.getAudioId()))
+                .createdAt(audio.getCreatedAt())
+                .updatedAt(audio.getUpdatedAt())
+                .build();
+    }
+
+    private SpaceExport.ManifestEntry toEntry(TextExportRow text) {
+        return SpaceExport.ManifestEntry.builder()
+                .type("TEXT")
+                .id(text.getTextId())
+                .audioId(text.getAudioId())
+                .formatType(text.getFormatType() != null ? text.getFormatType().name() : null)
+                .version(text.getContentVersion())
+                .sortKey(text.getSortKey())
+                .audioSyncPosition(text.getAudioSyncPosition())
+                .contentEntry(contentEntry(text))
+                .plainTextEntry(plainTextEntry(text))
+                .createdAt(text.getCreatedAt())
+                .updatedAt(text.getUpdatedAt())
+                .build();
+    }
+
+    private SpaceExport.ManifestEntry toEntry(DrawingSummary drawing) {
+        return SpaceExport.ManifestEntry.builder()
+                .type("DRAWING")
+                .id(drawing.getDrawingId())
+                .audioId(drawing.getAudioId())
+                .filename(drawing.getFilename())
+                .mimeType(drawing.getMimeType())
+                .fileSize(drawing.getFileSize())
+                .width(drawing.getWidth())
+                .height(drawing.getHeight())
+                .sortKey(drawing.getSortKey())
+                .audioSyncPosition(drawing.getAudioSyncPosition())
+                .contentEntry(strokesEntry(drawing))
+                .fileEntry(hasFile(drawing.getFilePath()) ? drawingFileEntry(drawing) : null)
+                .createdAt(drawing.getCreatedAt())
+                .updatedAt(drawing.getUpdatedAt())
+                .build();
+    }
+
+    private static String audioEntry(AudioContent audio) {
+        return "audio/" + audio.getAudioId() + extensionOf(audio.getFilePath());
+    }
+
+    private static String timelineEntry(Long audioId) {
+        return "audio/" + audioId + ".timeline.ndjson";
+    }
+
+    private static String contentEntry(TextExportRow text) {
+        return "texts/" + text.getTextId() + ".content";
+    }
+
+    private static String plainTextEntry(TextExportRow text) {
+        return "texts/" + text.getTextId() + ".txt";
+    }
+
+    private static String strokesEntry(DrawingSummary drawing) {
+        return "drawings/" + drawing.getDrawingId() + ".lstk";
+    }
+
+    private static String drawingFileEntry(DrawingSummary drawing) {
+        return "drawings/" + drawing.getDrawingId() + extensionOf(drawing.getFilePath());
+    }
+
+    private static boolean hasFile(String key) {
+        return key != null && !key.isBlank();
+    }
+
+    /**
+     * 저장소 키의 확장자. 항목 이름에는 ID 만 쓰므로 사용자 입력 파일명이 경로에 들어가지 않는다.
+     */
+    private static String extensionOf(String key) {
+        if (key == null) {
+            return "";
+        }
+        int slash = key.lastIndexOf('/');
+        int dot = key.lastIndexOf('.');
+        if (dot <= slash || key.length() - dot > 10) {
+            return "";
+        }
+        String extension = key.substring(dot);
+        return extension.matches("\\.[A-Za-z0-9]+") ? extension : "";
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(T row) throws IOException;
+    }
+
+    /**
+     * 항목 본문을 쓰는 쪽에서 스트림을 닫아도 ZIP 스트림은 닫히지 않게 한다.
+     */
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.liten.api.service;
+
+import com.liten.api.cache.CacheEvictionListener;
+import com.liten.api.event.ContentChangedEvent;
+import com.liten.api.repository.UsageCounterRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공간이나 컨텐츠가 바뀌면 해당 공간의 컨텐츠 수/저장 용량({@link com.liten.api.model.LitenSpaceStats})과
+ * 소유자의 사용량을 다시 계산한다. 증감이 아니라 매번 다시 세므로 놓친 이벤트나 복원(deletedAt 해제)이 있어도
+ * 다음 변경 때 바로잡힌다. 컨텐츠 생성은 {@link QuotaService} 가 같은 트랜잭션에서 카운터를 이미 올렸으므로 다시 세지 않는다.
+ *
+ * <p>다시 세기는 요청 스레드에서 하지 않는다. 커밋된 변경의 공간을 모아 두었다가 flush-interval 마다 공간당 한 번만 센다.
+ * 편집처럼 같은 공간에 변경이 이어져도 집계 쿼리는 주기당 한 번이다. 공간마다 별도 트랜잭션이며,
+ * {@link QuotaService#reserveContent} 와 같은 순서(user_usage, liten_space_stats)로 잠가 교착을 피한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SpaceStatsUpdater {
+
+    private final UsageCounterRepository usageCounterRepository;
+    private final CacheEvictionListener cacheEvictionListener;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    /** 다시 셀 공간 ID -> 소유자 사용량도 다시 셀지 */
+    private final Map<Long, Boolean> pending = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.spaceId() == null || event.type() == ContentChangedEvent.ContentType.SYNC_TIMESTAMP) {
+            return;
+        }
+        boolean created = event.kind() == ContentChangedEvent.ChangeKind.CREATED;
+        if (created && event.type() != ContentChangedEvent.ContentType.SPACE) {
+            return;
+        }
+        // 텍스트는 저장 용량에 포함되지 않으므로 사용자 사용량은 바뀌지 않는다
+        boolean user = !created && event.type() != ContentChangedEvent.ContentType.TEXT;
+        pending.merge(event.spaceId(), user, Boolean::logicalOr);
+    }
+
+    @Scheduled(fixedDelayString = "${app.quota.stats-flush-interval-ms:2000}")
+    public void flush() {
+        List<Long> spaceIds = new ArrayList<>(pending.keySet());
+        for (Long spaceId : spaceIds) {
+            Boolean user = pending.remove(spaceId);
+            if (user == null) {
+                continue;
+            }
+            try {
+                recalculate(spaceId, user);
+            } catch (Exception e) {
+                log.warn("공간 사용량 갱신 실패: spaceId={}, {}", spaceId, e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!pending.isEmpty()) {
+            flush();
+        }
+    }
+
+    private void recalculate(Long spaceId, boolean user) {
+        Long ownerId = usageCounterRepository.findOwnerIdBySpaceId(spaceId).orElse(null);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (user && ownerId != null) {
+                usageCounterRepository.recalculateUser(ownerId);
+            }
+            usageCounterRepository.recalculateSpace(spaceId);
+        });
+        // 공간 목록에는 다시 센 값이 들어가므로 센 뒤에 지운다
+        if (ownerId != null) {
+            cacheEvictionListener.evictDashboard(ownerId);
+        }
+    }
+}
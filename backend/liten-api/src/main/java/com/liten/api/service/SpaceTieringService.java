@@ -0,0 +1,344 @@
+package com.liten.api.service;
+
+import com.liten.api.cache.CacheEvictionListener;
+import com.liten.api.event.ContentChangedEvent;
+import com.liten.api.model.LitenSpace;
+import com.liten.api.repository.SpaceTierRepository;
+import com.liten.api.repository.StorageCleanupRepository;
+import com.liten.api.utils.pack.RowPackReader;
+import com.liten.api.utils.pack.RowPackWriter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.model.StorageClass;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 보관한 공간의 저장 계층.
+ *
+ * <p>보관된 뒤 freeze-after-days 동안 수정도 컨텐츠 활동도 없는 공간은 컨텐츠 행(본문, 패치, 스트로크, 마커 포함)을
+ * 행 묶음 하나로 압축해 pack-storage-class 로 올리고 원본 테이블에서 지운다(COLD). 오디오/필기 파일은 같은 키로
+ * media-storage-class 로 옮긴다. 공간 행과 통계 행은 남으므로 목록과 사용량은 그대로이다.
+ *
+ * <p>묶기와 업로드는 잠금 없이 하고, 공간 행을 잠근 짧은 트랜잭션에서 행이 그 사이 바뀌지 않았는지 체크섬으로 확인한 뒤
+ * COLD 로 표시한다. 원본 행은 그 뒤 delete-chunk-size 행씩 나누어 지운다. 지우는 도중 실패하면 다음 실행에서 이어 지운다.
+ * 다 지우기 전에는 그 공간의 사용량이 잠시 두 번 셀 수 있다.
+ *
+ * <p>COLD 공간은 공간이나 그 컨텐츠에 처음 접근할 때 한 트랜잭션에서 행 묶음을 원래 기본키 그대로 다시 넣는다(HOT).
+ * 보관 해제만으로는 되살리지 않는다. 되살린 뒤 묶음 객체는 storage_cleanup_queue 로 지우고, 파일은 백그라운드에서
+ * STANDARD 로 되돌린다. 되살린 공간은 다시 freeze-after-days 가 지나야 묶는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SpaceTieringService {
+
+    public static final String PACK_MEDIA_TYPE = "application/x-liten-row-pack";
+
+    private final SpaceTierRepository spaceTierRepository;
+    private final StorageCleanupRepository storageCleanupRepository;
+    private final S3FileService s3FileService;
+    private final AudioSyncIndexService audioSyncIndexService;
+    private final CacheEvictionListener cacheEvictionListener;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.tiering.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.tiering.freeze-after-days:30}")
+    private int freezeAfterDays;
+
+    @Value("${app.tiering.batch-size:10}")
+    private int batchSize;
+
+    @Value("${app.tiering.compression-level:9}")
+    private int compressionLevel;
+
+    @Value("${app.tiering.insert-batch-size:200}")
+    private int insertBatchSize;
+
+    @Value("${app.tiering.delete-chunk-size:500}")
+    private int deleteChunkSize;
+
+    @Value("${app.tiering.pack-storage-class:STANDARD_IA}")
+    private String packStorageClass;
+
+    @Value("${app.tiering.media-storage-class:GLACIER_IR}")
+    private String mediaStorageClass;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.tiering.interval-ms:3600000}", initialDelayString = "${app.tiering.initial-delay-ms:60000}")
+    public void freezeIdleSpaces() {
+        if (!enabled) {
+            return;
+        }
+        for (Long spaceId : spaceTierRepository.findPendingPurges(batchSize)) {
+            try {
+                purge(spaceId);
+            } catch (Exception e) {
+                log.warn("콜드 공간 원본 행 삭제 실패: spaceId={}, {}", spaceId, e.getMessage());
+            }
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(freezeAfterDays);
+        int frozen = 0;
+        for (Long spaceId : spaceTierRepository.findFreezeCandidates(cutoff, batchSize)) {
+            try {
+                if (freeze(spaceId)) {
+                    frozen++;
+                }
+            } catch (Exception e) {
+                log.warn("공간 콜드 저장 실패: spaceId={}, {}", spaceId, e.getMessage());
+            }
+        }
+        if (frozen > 0) {
+            log.info("보관 공간 {} 개를 콜드 저장소로 옮김", frozen);
+        }
+    }
+
+    /**
+     * 보관된 HOT 공간을 COLD 로 옮긴다.
+     *
+     * <p>잠그지 않고 일관된 읽기로 묶어 올린 뒤, 공간 행을 잠그고 같은 행을 잠그며 다시 읽어 체크섬이 같을 때만 COLD 로
+     * 표시한다. 그 사이에 바뀐 행이 있으면 올린 묶음을 지우고 다음 차례로 미룬다. 커넥션은 묶는 동안과 확인하는 동안만 쓴다.
+     *
+     * @return 옮겼으면 true
+     */
+    public boolean freeze(Long spaceId) throws IOException {
+        Path file = Files.createTempFile("liten-space-" + spaceId + "-", ".lpak");
+        String key = null;
+        Snapshot snapshot;
+        try {
+            snapshot = transactionTemplate.execute(status -> snapshot(spaceId, file));
+            if (snapshot == null) {
+                return false;
+            }
+
+            key = "users/" + snapshot.userId() + "/cold/space-" + spaceId + "-" + UUID.randomUUID() + ".lpak";
+            s3FileService.putFile(key, file, PACK_MEDIA_TYPE, StorageClass.fromValue(packStorageClass));
+
+            String objectKey = key;
+            Snapshot packed = snapshot;
+            Boolean frozen = transactionTemplate.execute(status -> markCold(spaceId, packed, objectKey));
+            if (!Boolean.TRUE.equals(frozen)) {
+                deleteQuietly(key);
+                return false;
+            }
+        } catch (RuntimeException e) {
+            if (key != null) {
+                deleteQuietly(key);
+            }
+            throw e;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        // 커밋 후에 지운다. 그 사이의 요청은 콜드 공간이 없다는 캐시 값을 볼 수 있지만 오래 쓰지 않은 공간만 옮기므로 드물다
+        cacheEvictionListener.evictStorageTier(snapshot.userId());
+        spaceTierRepository.findColdAudioIds(spaceId).forEach(audioSyncIndexService::invalidate);
+        List<String> mediaKeys = spaceTierRepository.findColdObjectKeys(spaceId);
+        if (!mediaKeys.isEmpty()) {
+            s3FileService.changeStorageClassAsync(mediaKeys, StorageClass.fromValue(mediaStorageClass));
+        }
+        purge(spaceId);
+        return true;
+    }
+
+    /**
+     * 잠그지 않고 공간을 묶는다. 묶을 수 없는 공간이면 null.
+     */
+    private Snapshot snapshot(Long spaceId, Path file) {
+        SpaceTierRepository.SpaceTier space = spaceTierRepository.findSpace(spaceId).orElse(null);
+        if (!isFreezable(spaceId, space)) {
+            return null;
+        }
+        long rows;
+        RowPackWriter writer;
+        try {
+            writer = new RowPackWriter(Files.newOutputStream(file), compressionLevel);
+            try (writer) {
+                rows = spaceTierRepository.pack(spaceId, writer, false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new Snapshot(space.userId(), rows, writer.getChecksum(), size(file));
+    }
+
+    /**
+     * 공간 행을 잠그고 묶은 뒤로 바뀐 행이 없는지 확인해 COLD 로 표시한다. 확인한 행은 커밋할 때까지 잠겨 있다.
+     */
+    private boolean markCold(Long spaceId, Snapshot snapshot, String objectKey) {
+        SpaceTierRepository.SpaceTier space = spaceTierRepository.lockSpace(spaceId).orElse(null);
+        if (!isFreezable(spaceId, space)) {
+            return false;
+        }
+        long rows;
+        RowPackWriter writer;
+        try {
+            writer = RowPackWriter.checksumOnly();
+            try (writer) {
+                rows = spaceTierRepository.pack(spaceId, writer, true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (rows != snapshot.rows() || writer.getChecksum() != snapshot.checksum()) {
+            log.info("묶는 동안 컨텐츠가 바뀌어 콜드 저장을 미룸: spaceId={}", spaceId);
+            return false;
+        }
+        SpaceTierRepository.ColdUsage usage = spaceTierRepository.countUsage(spaceId);
+        spaceTierRepository.indexColdContents(spaceId);
+        spaceTierRepository.markCold(spaceId, objectKey, rows, snapshot.packedBytes(), usage);
+        log.info("공간 콜드 저장: spaceId={}, {} rows, {} bytes", spaceId, rows, snapshot.packedBytes());
+        return true;
+    }
+
+    private boolean isFreezable(Long spaceId, SpaceTierRepository.SpaceTier space) {
+        if (space == null || space.tier() != LitenSpace.StorageTier.HOT || !space.archived()) {
+            return false;
+        }
+        if (spaceTierRepository.hasOutsideReferences(spaceId)) {
+            log.info("다른 공간과 오디오 참조로 이어져 있어 콜드 저장하지 않음: spaceId={}", spaceId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * COLD 로 표시한 공간의 원본 행을 delete-chunk-size 행씩 지운다. 청크마다 공간 행을 잠그고 아직 지울 차례인지
+     * 확인하므로, 그 사이에 되살린 공간의 행은 지우지 않는다.
+     */
+    public void purge(Long spaceId) {
+        long deleted = 0;
+        while (true) {
+            Integer rows = transactionTemplate.execute(status -> {
+                SpaceTierRepository.SpaceTier space = spaceTierRepository.lockSpace(spaceId).orElse(null);
+                SpaceTierRepository.ColdArchive archive = spaceTierRepository.findColdArchive(spaceId).orElse(null);
+                if (space == null || space.tier() != LitenSpace.StorageTier.COLD
+                        || archive == null || !archive.purgePending()) {
+                    return -1;
+                }
+                int chunk = spaceTierRepository.deletePackedChunk(spaceId, deleteChunkSize);
+                if (chunk == 0) {
+                    spaceTierRepository.finishPurge(spaceId);
+                }
+                return chunk;
+            });
+            if (rows == null || rows <= 0) {
+                break;
+            }
+            deleted += rows;
+        }
+        if (deleted > 0) {
+            log.info("콜드 공간 원본 행 삭제: spaceId={}, {} rows", spaceId, deleted);
+        }
+    }
+
+    /**
+     * 사용자의 공간이 COLD 면 되살린다. HOT 이거나 없는 공간이면 아무것도 하지 않는다.
+     * 공간 ID 를 알면 기본키 한 행으로 확인되므로 콜드 공간 여부를 따로 묻지 않는다.
+     */
+    public void ensureHot(Long userId, Long spaceId) {
+        if (spaceTierRepository.findTier(spaceId, userId).orElse(LitenSpace.StorageTier.HOT)
+                == LitenSpace.StorageTier.COLD) {
+            rehydrate(userId, spaceId);
+        }
+    }
+
+    /**
+     * 컨텐츠가 COLD 공간에 묶여 있으면 그 공간을 되살린다.
+     */
+    public void ensureHot(Long userId, ContentChangedEvent.ContentType type, Long contentId) {
+        if (!spaceTierRepository.hasColdSpaces(userId)) {
+            return;
+        }
+        spaceTierRepository.findColdSpaceId(type, contentId, userId).ifPresent(spaceId -> rehydrate(userId, spaceId));
+    }
+
+    private void rehydrate(Long userId, Long spaceId) {
+        List<String> mediaKeys;
+        try {
+            mediaKeys = restore(spaceId);
+        } catch (RuntimeException e) {
+            log.error("공간 되살리기 실패: spaceId={}", spaceId, e);
+            throw new RuntimeException("보관된 공간을 불러오지 못했습니다: " + spaceId, e);
+        }
+        cacheEvictionListener.evictStorageTier(userId);
+        if (!mediaKeys.isEmpty()) {
+            s3FileService.changeStorageClassAsync(mediaKeys, StorageClass.STANDARD);
+        }
+    }
+
+    /**
+     * @return 되살린 공간의 파일 키. 이미 HOT 이면 빈 목록
+     */
+    private List<String> restore(Long spaceId) {
+        List<String> mediaKeys = transactionTemplate.execute(status -> {
+            SpaceTierRepository.SpaceTier space = spaceTierRepository.lockSpace(spaceId).orElse(null);
+            if (space == null || space.tier() != LitenSpace.StorageTier.COLD) {
+                // 다른 요청이 먼저 되살렸다
+                return List.<String>of();
+            }
+            SpaceTierRepository.ColdArchive archive = spaceTierRepository.findColdArchive(spaceId)
+                    .orElseThrow(() -> new IllegalStateException("콜드 저장 정보가 없습니다: " + spaceId));
+            List<String> keys = spaceTierRepository.findColdObjectKeys(spaceId);
+            if (archive.purgePending()) {
+                // COLD 로 표시한 뒤 아직 다 지우지 못한 원본 행
+                spaceTierRepository.deletePacked(spaceId);
+            }
+            long rows;
+            try (InputStream in = s3FileService.openFile(archive.objectKey());
+                 RowPackReader reader = new RowPackReader(in)) {
+                rows = spaceTierRepository.unpack(reader, insertBatchSize);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (rows != archive.packedRows()) {
+                throw new IllegalStateException("되살린 행 수가 다릅니다: " + rows + " != " + archive.packedRows());
+            }
+            spaceTierRepository.markHot(spaceId);
+            storageCleanupRepository.enqueue(archive.objectKey());
+            log.info("공간 되살림: spaceId={}, {} rows", spaceId, rows);
+            return keys;
+        });
+        return mediaKeys != null ? mediaKeys : List.of();
+    }
+
+    private record Snapshot(Long userId, long rows, long checksum, long packedBytes) {
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            s3FileService.deleteFile(key);
+        } catch (RuntimeException e) {
+            log.warn("콜드 저장 실패 후 묶음 객체 삭제 실패: {}", key);
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
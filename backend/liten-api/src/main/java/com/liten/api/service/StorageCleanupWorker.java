@@ -0,0 +1,43 @@
+package com.liten.api.service;
+
+import com.liten.api.repository.StorageCleanupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 삭제된 오디오/필기의 저장소 객체를 지운다. 행 삭제와 같은 트랜잭션에서 storage_cleanup_queue 에 기록된 키를
+ * 배치로 읽어 지우며, 실패한 키는 attempts 를 올려 max-attempts 번까지 다시 시도한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StorageCleanupWorker {
+
+    private final StorageCleanupRepository storageCleanupRepository;
+    private final S3FileService s3FileService;
+
+    @Value("${app.storage.cleanup.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.storage.cleanup.max-attempts:10}")
+    private int maxAttempts;
+
+    @Scheduled(fixedDelayString = "${app.storage.cleanup.interval-ms:30000}")
+    public void cleanup() {
+        List<StorageCleanupRepository.Item> items = storageCleanupRepository.findBatch(maxAttempts, batchSize);
+        for (StorageCleanupRepository.Item item : items) {
+            try {
+                s3FileService.deleteFile(item.objectKey());
+                storageCleanupRepository.delete(item.cleanupId());
+            } catch (Exception e) {
+                storageCleanupRepository.markFailed(item.cleanupId());
+                log.warn("저장소 객체 삭제 실패: {}, {}", item.objectKey(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.liten.api.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정 시간 이상 대기열(sync_marker_staging)에 남아 있는 동기화 마커를 주기적으로 블록으로 저장한다.
+ * 오디오마다 별도 트랜잭션으로 처리하여 한 건의 실패가 다른 오디오에 영향을 주지 않는다.
+ * 여러 노드가 함께 돌아도 대기 행을 잠그고 저장하므로 같은 마커가 두 번 저장되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SyncMarkerBlockSealer {
+
+    private final SyncMarkerService syncMarkerService;
+
+    @Value("${app.audio.markers.max-buffer-age-ms:10000}")
+    private long maxBufferAgeMs;
+
+    @Value("${app.audio.markers.seal-batch-size:100}")
+    private int sealBatchSize;
+
+    @Scheduled(fixedDelayString = "${app.audio.markers.flush-interval-ms:5000}")
+    public void seal() {
+        for (Long audioId : syncMarkerService.findStaleAudioIds(maxBufferAgeMs, sealBatchSize)) {
+            try {
+                int sealed = syncMarkerService.sealStaged(audioId);
+                log.debug("동기화 마커 대기열 저장: audioId={}, markers={}", audioId, sealed);
+            } catch (Exception e) {
+                log.warn("동기화 마커 대기열 저장 실패: audioId={}, {}", audioId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.liten.api.service;
+
+import com.liten.api.dto.AudioSyncRequest;
+import com.liten.api.dto.AudioSyncResponse;
+import com.liten.api.event.ContentChangedEvent;
+import com.liten.api.model.SyncMarkerBlock;
+import com.liten.api.model.User;
+import com.liten.api.repository.AudioContentRepository;
+import com.liten.api.repository.SyncMarkerBlockRepository;
+import com.liten.api.repository.SyncMarkerStagingRepository;
+import com.liten.api.repository.SyncTimestampRepository;
+import com.liten.api.utils.sync.MarkerBlockCodec;
+import com.liten.api.utils.sync.SyncMarkerData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 녹음 중 동기화 마커 저장/조회.
+ *
+ * <p>추가된 마커는 요청 트랜잭션에서 sync_marker_staging 에 남겼다가 오디오별로 block-size 개가 차거나
+ * {@link SyncMarkerBlockSealer} 가 오래된 행을 발견하면 {@link MarkerBlockCodec} 블록 한 행으로 저장하고 지운다.
+ * 대기열이 DB 에 있으므로 추가, 저장, 조회가 서로 다른 노드에서 일어나도 되고 노드가 종료되어도 마커를 잃지 않는다.
+ * 조회는 기존 sync_timestamps 행, 저장된 블록, 대기 중인 마커를 위치 순으로 합쳐 반환한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class SyncMarkerService {
+
+    private final AudioContentRepository audioContentRepository;
+    private final SyncMarkerBlockRepository blockRepository;
+    private final SyncMarkerStagingRepository stagingRepository;
+    private final SyncTimestampRepository syncTimestampRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.audio.markers.block-size:256}")
+    private int blockSize;
+
+    /**
+     * @return 블록으로 저장되지 않고 대기 중인 마커 수
+     */
+    public int append(User user, Long audioId, List<AudioSyncRequest.Marker> markers) {
+        checkOwner(user, audioId);
+        List<SyncMarkerData> staged = new ArrayList<>(markers.size());
+        for (AudioSyncRequest.Marker marker : markers) {
+            String contentType = marker.getContentType() != null
+                    ? marker.getContentType().toUpperCase(Locale.ROOT) : null;
+            staged.add(new SyncMarkerData(marker.getPositionMs(), contentType,
+                    marker.getContentId(), marker.getAdditionalData()));
+        }
+        stagingRepository.append(audioId, staged);
+        int pending = stagingRepository.countByAudioId(audioId);
+        if (pending >= blockSize) {
+            sealStaged(audioId);
+            return 0;
+        }
+        return pending;
+    }
+
+    /**
+     * 대기 중인 마커를 즉시 블록으로 저장한다. 녹음을 마칠 때 호출한다.
+     *
+     * @return 저장한 마커 수
+     */
+    public int seal(User user, Long audioId) {
+        checkOwner(user, audioId);
+        return sealStaged(audioId);
+    }
+
+    /**
+     * 대기 중인 마커를 블록으로 저장하고 대기열에서 지운다. 저장에 실패하면 트랜잭션과 함께 대기열도 그대로 남는다.
+     *
+     * @return 저장한 마커 수
+     */
+    public int sealStaged(Long audioId) {
+        List<SyncMarkerStagingRepository.StagedMarker> staged = stagingRepository.lockByAudioId(audioId);
+        if (staged.isEmpty()) {
+            return 0;
+        }
+        List<SyncMarkerData> markers = staged.stream().map(SyncMarkerStagingRepository.StagedMarker::marker).toList();
+        saveBlock(audioId, markers);
+        stagingRepository.deleteUpTo(audioId, staged.get(staged.size() - 1).stagingId());
+        return markers.size();
+    }
+
+    /**
+     * @return maxAgeMs 이상 대기 중인 마커가 있는 오디오 ID
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findStaleAudioIds(long maxAgeMs, int limit) {
+        return stagingRepository.findStaleAudioIds(LocalDateTime.now().minus(Duration.ofMillis(maxAgeMs)), limit);
+    }
+
+    /**
+     * [fromMs, toMs) 구간의 마커를 위치 순으로 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public AudioSyncResponse.Markers getMarkers(User user, Long audioId, long fromMs, long toMs) {
+        checkOwner(user, audioId);
+        List<AudioSyncResponse.Marker> result = new ArrayList<>();
+        syncTimestampRepository.findInRange(audioId, fromMs, toMs).forEach(row -> result.add(
+                AudioSyncResponse.Marker.builder()
+                        .syncId(row.getSyncId())
+                        .positionMs(row.getAudioPositionMs())
+                        .contentType(row.getContentType())
+                        .contentId(row.getContentId())
+                        .additionalData(row.getAdditionalData())
+                        .build()));
+        for (SyncMarkerBlock block : blockRepository.findOverlapping(audioId, fromMs, toMs)) {
+            addInRange(result, MarkerBlockCodec.decode(block.getBlockData(), true), fromMs, toMs);
+        }
+        addInRange(result, stagingRepository.findInRange(audioId, fromMs, toMs), fromMs, toMs);
+        result.sort(Comparator.comparing(AudioSyncResponse.Marker::getPositionMs));
+        return AudioSyncResponse.Markers.builder()
+                .audioId(audioId)
+                .fromMs(fromMs)
+                .toMs(toMs)
+                .pendingCount(stagingRepository.countByAudioId(audioId))
+                .markers(result)
+                .build();
+    }
+
+    /**
+     * @return [fromMs, toMs) 구간에서 아직 블록으로 저장되지 않은 마커 (위치 순)
+     */
+    @Transactional(readOnly = true)
+    public List<SyncMarkerData> getPendingMarkers(Long audioId, long fromMs, long toMs) {
+        List<SyncMarkerData> pending = new ArrayList<>(stagingRepository.findInRange(audioId, fromMs, toMs));
+        pending.sort(Comparator.comparingLong(SyncMarkerData::positionMs));
+        return pending;
+    }
+
+    /**
+     * 마커를 블록으로 저장한다. content_type 종류가 한 블록의 한도를 넘으면 여러 블록으로 나눈다.
+     * 인코딩할 수 없는 묶음은 다시 시도해도 실패하므로 버리고 기록만 남긴다.
+     */
+    private void saveBlock(Long audioId, List<SyncMarkerData> markers) {
+        for (List<SyncMarkerData> part : MarkerBlockCodec.split(markers)) {
+            byte[] data;
+            try {
+                data = MarkerBlockCodec.encode(part);
+            } catch (RuntimeException e) {
+                log.error("동기화 마커 블록 인코딩 실패로 마커를 버립니다: audioId={}, markers={}, {}",
+                        audioId, part.size(), e.getMessage());
+                continue;
+            }
+            insertBlock(audioId, part, data);
+        }
+    }
+
+    private void insertBlock(Long audioId, List<SyncMarkerData> markers, byte[] data) {
+        long first = markers.stream().mapToLong(SyncMarkerData::positionMs).min().orElse(0);
+        long last = markers.stream().mapToLong(SyncMarkerData::positionMs).max().orElse(0);
+        SyncMarkerBlock block = blockRepository.save(SyncMarkerBlock.builder()
+                .audioContent(audioContentRepository.getReferenceById(audioId))
+                .firstPositionMs(first)
+                .lastPositionMs(last)
+                .markerCount(markers.size())
+                .blockData(data)
+                .build());
+        log.debug("동기화 마커 블록 저장: audioId={}, markers={}, {} bytes", audioId, markers.size(), data.length);
+        eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.ContentType.SYNC_TIMESTAMP,
+                ContentChangedEvent.ChangeKind.CREATED, block.getBlockId(), null, audioId));
+    }
+
+    private static void addInRange(List<AudioSyncResponse.Marker> result, List<SyncMarkerData> markers,
+                                   long fromMs, long toMs) {
+        for (SyncMarkerData marker : markers) {
+            if (marker.positionMs() >= fromMs && marker.positionMs() < toMs) {
+                result.add(AudioSyncResponse.Marker.builder()
+                        .positionMs(marker.positionMs())
+                        .contentType(marker.contentType())
+                        .contentId(marker.contentId())
+                        .additionalData(marker.additionalData())
+                        .build());
+            }
+        }
+    }
+
+    private void checkOwner(User user, Long audioId) {
+        Long ownerId = audioContentRepository.findOwnerIdById(audioId).orElse(null);
+        if (ownerId == null || !ownerId.equals(user.getUserId())) {
+            throw new RuntimeException("오디오를 찾을 수 없습니다: " + audioId);
+        }
+    }
+}
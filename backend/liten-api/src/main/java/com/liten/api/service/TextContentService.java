@@ -0,0 +1,312 @@
+package com.liten.api.service;
+
+import com.liten.api.dto.TextRequest;
+import com.liten.api.dto.TextResponse;
+import com.liten.api.event.ContentChangedEvent;
+import com.liten.api.exception.VersionConflictException;
+import com.liten.api.model.TextContent;
+import com.liten.api.model.TextContentPatch;
+import com.liten.api.model.TextContentSnapshot;
+import com.liten.api.model.User;
+import com.liten.api.repository.ContentBodyRepository;
+import com.liten.api.repository.LitenSpaceRepository;
+import com.liten.api.repository.TextContentPatchRepository;
+import com.liten.api.repository.TextContentRepository;
+import com.liten.api.repository.TextContentSnapshotRepository;
+import com.liten.api.repository.projection.TextSummary;
+import com.liten.api.repository.projection.TextVersionInfo;
+import com.liten.api.utils.text.TextPatch;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 텍스트 노트 저장/조회.
+ *
+ * <p>저장은 기준 버전에 대한 편집 패치로만 받으며, 본문 컬럼은 건드리지 않고 패치 한 행과 버전 정보만 기록한다.
+ * 본문은 스냅샷(text_contents.content/plain_text)에 이후 패치를 적용하여 만들고,
+ * {@link TextSnapshotMaterializer} 가 주기적으로 스냅샷을 최신 버전으로 갱신한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class TextContentService {
+
+    private final TextContentRepository textContentRepository;
+    private final TextContentPatchRepository patchRepository;
+    private final TextContentSnapshotRepository snapshotRepository;
+    private final LitenSpaceRepository litenSpaceRepository;
+    private final ContentBodyRepository contentBodyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 텍스트마다 남길 이전 스냅샷 수. 0 이면 모두 남긴다 */
+    @Value("${app.text.snapshot.retain:20}")
+    private int snapshotRetain;
+
+    public TextResponse.PatchResult applyPatch(User user, Long textId, TextRequest.Patch request) {
+        TextVersionInfo info = textContentRepository.findVersionInfo(textId, user)
+                .orElseThrow(() -> new RuntimeException("텍스트를 찾을 수 없습니다: " + textId));
+        if (!info.getContentVersion().equals(request.getBaseVersion())) {
+            throw new VersionConflictException("다른 기기에서 먼저 수정되었습니다", info.getContentVersion());
+        }
+
+        int contentLength;
+        int plainTextLength;
+        if (info.getContentLength() == null || info.getPlainTextLength() == null) {
+            // 패치 저장 이전의 행은 한 번만 본문을 읽어 길이를 계산한다
+            Materialized current = materialize(textContentRepository.getReferenceById(textId), info.getContentVersion());
+            contentLength = current.content().length();
+            plainTextLength = current.plainText().length();
+        } else {
+            contentLength = info.getContentLength();
+            plainTextLength = info.getPlainTextLength();
+        }
+
+        TextPatch patch = new TextPatch(request.getContentEdits(), request.getPlainTextEdits());
+        int newContentLength;
+        int newPlainTextLength;
+        try {
+            newContentLength = TextPatch.applyLength(contentLength, patch.getContentEdits());
+            newPlainTextLength = TextPatch.applyLength(plainTextLength, patch.getPlainTextEdits());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("패치를 적용할 수 없습니다: " + e.getMessage(), e);
+        }
+
+        long newVersion = request.getBaseVersion() + 1;
+        int updated = textContentRepository.advanceVersion(textId, request.getBaseVersion(), newVersion,
+                newContentLength, newPlainTextLength, LocalDateTime.now());
+        if (updated == 0) {
+            throw new VersionConflictException("다른 기기에서 먼저 수정되었습니다", null);
+        }
+
+        patchRepository.save(TextContentPatch.builder()
+                .textContent(textContentRepository.getReferenceById(textId))
+                .version(newVersion)
+                .patchData(patch.encode())
+                .build());
+
+        return TextResponse.PatchResult.builder()
+                .textId(textId)
+                .version(newVersion)
+                .contentLength(newContentLength)
+                .plainTextLength(newPlainTextLength)
+                .build();
+    }
+
+    /**
+     * 공간의 텍스트 노트 목록. 본문 컬럼을 읽지 않는 프로젝션으로 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public List<TextResponse.Summary> getSummaries(User user, Long spaceId) {
+        if (!user.getUserId().equals(litenSpaceRepository.findOwnerIdById(spaceId).orElse(null))) {
+            throw new RuntimeException("리튼 공간을 찾을 수 없습니다: " + spaceId);
+        }
+        return textContentRepository.findSummariesBySpace(spaceId, user).stream()
+                .map(this::toSummary)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public TextResponse.Summary getSummary(User user, Long textId) {
+        return textContentRepository.findSummary(textId, user)
+                .map(this::toSummary)
+                .orElseThrow(() -> new RuntimeException("텍스트를 찾을 수 없습니다: " + textId));
+    }
+
+    @Transactional(readOnly = true)
+    public TextResponse.Detail getText(User user, Long textId) {
+        TextContent text = findText(user, textId);
+        return toDetail(text, materialize(text, text.getContentVersion()), text.getContentVersion());
+    }
+
+    @Transactional(readOnly = true)
+    public TextVersionInfo getVersionInfo(User user, Long textId) {
+        return textContentRepository.findVersionInfo(textId, user)
+                .orElseThrow(() -> new RuntimeException("텍스트를 찾을 수 없습니다: " + textId));
+    }
+
+    /**
+     * 본문을 UTF-8 로 out 에 기록한다. 스냅샷 이후 패치가 없으면 DB 의 본문 바이트를 그대로 복사하고,
+     * 남은 패치가 있을 때만 패치를 적용한 문자열을 만든다.
+     */
+    @Transactional(readOnly = true)
+    public void writeBody(TextVersionInfo info, ContentBodyRepository.TextColumn column, OutputStream out)
+            throws IOException {
+        if (info.getContentVersion() <= info.getSnapshotVersion()) {
+            contentBodyRepository.readText(info.getTextId(), column, body -> body.transferTo(out));
+            return;
+        }
+        TextContent text = textContentRepository.findById(info.getTextId())
+                .orElseThrow(() -> new RuntimeException("텍스트를 찾을 수 없습니다: " + info.getTextId()));
+        Materialized body = materialize(text, info.getContentVersion());
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write(column == ContentBodyRepository.TextColumn.CONTENT ? body.content() : body.plainText());
+        writer.flush();
+    }
+
+    /**
+     * 과거 버전을 복원한다. 해당 버전 이전의 가장 가까운 스냅샷에 패치를 순서대로 적용한다.
+     */
+    @Transactional(readOnly = true)
+    public TextResponse.Detail getVersion(User user, Long textId, Long version) {
+        TextContent text = findText(user, textId);
+        if (version < 0 || version > text.getContentVersion()) {
+            throw new RuntimeException("존재하지 않는 버전입니다: " + version);
+        }
+        if (version >= text.getSnapshotVersion()) {
+            return toDetail(text, materialize(text, version), version);
+        }
+
+        TextContentSnapshot snapshot = snapshotRepository
+                .findLatestAtOrBefore(textId, version, PageRequest.of(0, 1))
+                .stream().findFirst()
+                .orElseThrow(() -> new RuntimeException("복원할 수 없는 버전입니다: " + version));
+        Materialized restored = applyPatches(textId, snapshot.getContent(), snapshot.getPlainText(),
+                snapshot.getVersion(), version);
+        return toDetail(text, restored, version);
+    }
+
+    /**
+     * 클라이언트가 가진 버전 이후의 패치를 반환한다. 본문 전체를 다시 받지 않고 따라잡을 수 있다.
+     * 보존 기간이 지나 바로 다음 패치가 지워진 버전이면 충돌로 응답하여 본문을 다시 받게 한다.
+     */
+    @Transactional(readOnly = true)
+    public List<TextResponse.PatchEntry> getPatchesSince(User user, Long textId, Long sinceVersion) {
+        TextVersionInfo info = textContentRepository.findVersionInfo(textId, user)
+                .orElseThrow(() -> new RuntimeException("텍스트를 찾을 수 없습니다: " + textId));
+        List<TextContentPatch> patches = patchRepository.findRange(textId, sinceVersion, info.getContentVersion());
+        if (sinceVersion < info.getContentVersion()
+                && (patches.isEmpty() || patches.get(0).getVersion() != sinceVersion + 1)) {
+            throw new VersionConflictException("패치 기록이 남아 있지 않은 버전입니다: " + sinceVersion,
+                    info.getContentVersion());
+        }
+        return patches.stream()
+                .map(patch -> {
+                    TextPatch decoded = TextPatch.decode(patch.getPatchData());
+                    return TextResponse.PatchEntry.builder()
+                            .version(patch.getVersion())
+                            .contentEdits(decoded.getContentEdits())
+                            .plainTextEdits(decoded.getPlainTextEdits())
+                            .createdAt(patch.getCreatedAt())
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * 스냅샷을 최신 버전으로 갱신한다. 덮어쓰는 이전 스냅샷은 버전 기록용으로 보관하되 최근 retain 개만 남기고,
+     * 남긴 가장 오래된 스냅샷 이전의 스냅샷과 그 버전까지의 패치는 지운다. 그보다 오래된 버전은 복원할 수 없다.
+     *
+     * @return 갱신했으면 true
+     */
+    public boolean materializeSnapshot(Long textId) {
+        TextContent text = textContentRepository.findById(textId).orElse(null);
+        if (text == null || text.getContentVersion() <= text.getSnapshotVersion()) {
+            return false;
+        }
+        long targetVersion = text.getContentVersion();
+        Materialized latest = materialize(text, targetVersion);
+
+        snapshotRepository.save(TextContentSnapshot.builder()
+                .textContent(text)
+                .version(text.getSnapshotVersion())
+                .content(text.getContent())
+                .plainText(text.getPlainText())
+                .build());
+        int updated = textContentRepository.updateSnapshot(textId, latest.content(), latest.plainText(), targetVersion);
+        if (updated > 0) {
+            pruneHistory(textId);
+            eventPublisher.publishEvent(new ContentChangedEvent(ContentChangedEvent.ContentType.TEXT,
+                    ContentChangedEvent.ChangeKind.UPDATED, textId, null, null));
+        }
+        return updated > 0;
+    }
+
+    private void pruneHistory(Long textId) {
+        if (snapshotRetain <= 0) {
+            return;
+        }
+        List<Long> oldestKept = snapshotRepository.findVersions(textId, PageRequest.of(snapshotRetain - 1, 1));
+        if (oldestKept.isEmpty()) {
+            return;
+        }
+        long version = oldestKept.get(0);
+        int snapshots = snapshotRepository.deleteOlderThan(textId, version);
+        int patches = patchRepository.deleteUpTo(textId, version);
+        if (snapshots > 0 || patches > 0) {
+            log.debug("텍스트 기록 정리: textId={}, version<={}, snapshots={}, patches={}",
+                    textId, version, snapshots, patches);
+        }
+    }
+
+    private TextContent findText(User user, Long textId) {
+        return textContentRepository.findByTextIdAndUser(textId, user)
+                .orElseThrow(() -> new RuntimeException("텍스트를 찾을 수 없습니다: " + textId));
+    }
+
+    private Materialized materialize(TextContent text, long version) {
+        return applyPatches(text.getTextId(), text.getContent(), text.getPlainText(),
+                text.getSnapshotVersion(), version);
+    }
+
+    private Materialized applyPatches(Long textId, String content, String plainText,
+                                      long fromVersion, long toVersion) {
+        StringBuilder contentBuilder = new StringBuilder(content != null ? content : "");
+        StringBuilder plainTextBuilder = new StringBuilder(plainText != null ? plainText : "");
+        if (toVersion > fromVersion) {
+            for (TextContentPatch patch : patchRepository.findRange(textId, fromVersion, toVersion)) {
+                TextPatch decoded = TextPatch.decode(patch.getPatchData());
+                TextPatch.apply(contentBuilder, decoded.getContentEdits());
+                TextPatch.apply(plainTextBuilder, decoded.getPlainTextEdits());
+            }
+        }
+        return new Materialized(contentBuilder.toString(), plainTextBuilder.toString());
+    }
+
+    private TextResponse.Detail toDetail(TextContent text, Materialized body, long version) {
+        return TextResponse.Detail.builder()
+                .textId(text.getTextId())
+                .spaceId(text.getLitenSpace().getSpaceId())
+                .audioId(text.getAudioContent() != null ? text.getAudioContent().getAudioId() : null)
+                .version(version)
+                .content(body.content())
+                .plainText(body.plainText())
+                .formatType(text.getFormatType())
+                .audioSyncPosition(text.getAudioSyncPosition())
+                .createdAt(text.getCreatedAt())
+                .updatedAt(text.getUpdatedAt())
+                .build();
+    }
+
+    private TextResponse.Summary toSummary(TextSummary summary) {
+        return TextResponse.Summary.builder()
+                .textId(summary.getTextId())
+                .spaceId(summary.getSpaceId())
+                .audioId(summary.getAudioId())
+                .version(summary.getContentVersion())
+                .formatType(summary.getFormatType())
+                .audioSyncPosition(summary.getAudioSyncPosition())
+                .sortKey(summary.getSortKey())
+                .contentLength(summary.getContentLength())
+                .plainTextLength(summary.getPlainTextLength())
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .build();
+    }
+
+    private record Materialized(String content, String plainText) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.liten.api.service;
+
+import com.liten.api.repository.TextContentPatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 패치가 일정 개수 이상 쌓였거나 오래 남아 있는 텍스트의 스냅샷을 주기적으로 최신 버전으로 갱신한다.
+ * 텍스트마다 별도 트랜잭션으로 처리하여 한 건의 실패가 다른 텍스트에 영향을 주지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TextSnapshotMaterializer {
+
+    private final TextContentService textContentService;
+    private final TextContentPatchRepository patchRepository;
+
+    @Value("${app.text.snapshot.min-patches:50}")
+    private long minPatches;
+
+    @Value("${app.text.snapshot.max-pending-minutes:10}")
+    private long maxPendingMinutes;
+
+    @Value("${app.text.snapshot.batch-size:50}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.text.snapshot.interval-ms:30000}")
+    public void materialize() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(maxPendingMinutes);
+        List<Long> textIds = patchRepository.findTextIdsToMaterialize(minPatches, cutoff, PageRequest.of(0, batchSize));
+        for (Long textId : textIds) {
+            try {
+                boolean updated = textContentService.materializeSnapshot(textId);
+                log.debug("텍스트 스냅샷 갱신: textId={}, updated={}", textId, updated);
+            } catch (Exception e) {
+                log.warn("텍스트 스냅샷 갱신 실패: textId={}, {}", textId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.liten.api.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSetMetaData;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 보관 기간이 지난 소프트 삭제 행을 *_archive 테이블로 옮기고 원본 테이블에서 지운다.
+ *
+ * <p>테이블마다 기본키 순서로 scan-size 행씩 훑어 만료된 행만 골라 처리하므로 한 번의 실행이 읽는 양이 일정하다.
+ * 삭제된 공간/사용자에 속한 행은 스스로 삭제되지 않았어도 함께 만료된 것으로 보며, 자식 테이블부터 처리하고
+ * 공간/사용자는 남은 자식 행이 없을 때 옮긴다. 외래키 CASCADE 로 함께 지워지는 상세 행(패치, 세그먼트, 마커 블록 등)은
+ * 부모 행과 같은 트랜잭션에서 먼저 보관한다. 통계/타일처럼 다시 만들 수 있는 행은 보관하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrashPurger {
+
+    private static final String ARCHIVED_AT = "archived_at";
+
+    private static final String SPACE_EXPIRED = "(ls.deleted_at < ? OR EXISTS (SELECT 1 FROM users u "
+            + "WHERE u.user_id = ls.user_id AND u.deleted_at < ?))";
+
+    private static final String CONTENT_EXPIRED = "t.deleted_at < ? OR EXISTS (SELECT 1 FROM liten_spaces ls "
+            + "WHERE ls.space_id = t.space_id AND " + SPACE_EXPIRED + ")";
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("sync_timestamps", "sync_id", CONTENT_EXPIRED, true, List.of()),
+            new Target("text_contents", "text_id", CONTENT_EXPIRED, true, List.of(
+                    new Dependent("text_content_patches", "text_id"),
+                    new Dependent("text_content_snapshots", "text_id"))),
+            new Target("drawing_contents", "drawing_id", CONTENT_EXPIRED, true, List.of(
+                    new Dependent("drawing_stroke_segments", "drawing_id"))),
+            new Target("audio_contents", "audio_id", CONTENT_EXPIRED, true, List.of(
+                    new Dependent("sync_timestamps", "audio_id"),
+                    new Dependent("sync_marker_blocks", "audio_id"))),
+            // 삭제된 토큰은 다시 쓸 일이 없으므로 보관하지 않는다
+            new Target("refresh_tokens", "token_id", "t.deleted_at < ? OR EXISTS (SELECT 1 FROM users u "
+                    + "WHERE u.user_id = t.user_id AND u.deleted_at < ?)", false, List.of()),
+            new Target("liten_spaces", "space_id", SPACE_EXPIRED.replace("ls.", "t.")
+                    + " AND NOT EXISTS (SELECT 1 FROM audio_contents c WHERE c.space_id = t.space_id)"
+                    + " AND NOT EXISTS (SELECT 1 FROM text_contents c WHERE c.space_id = t.space_id)"
+                    + " AND NOT EXISTS (SELECT 1 FROM drawing_contents c WHERE c.space_id = t.space_id)"
+                    + " AND NOT EXISTS (SELECT 1 FROM sync_timestamps c WHERE c.space_id = t.space_id)"
+                    // 콜드 공간의 저장소 객체는 삭제 작업이 정리한다
+                    + " AND NOT EXISTS (SELECT 1 FROM space_cold_archives c WHERE c.space_id = t.space_id)", true, List.of()),
+            new Target("users", "user_id", "t.deleted_at < ?"
+                    + " AND NOT EXISTS (SELECT 1 FROM liten_spaces c WHERE c.user_id = t.user_id)"
+                    + " AND NOT EXISTS (SELECT 1 FROM refresh_tokens c WHERE c.user_id = t.user_id)", true, List.of()));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<String, Progress> progress = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> archiveColumns = new ConcurrentHashMap<>();
+
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.trash.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.trash.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${app.trash.scan-size:1000}")
+    private int scanSize;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.trash.interval-ms:600000}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        for (Target target : TARGETS) {
+            Progress state = progress.computeIfAbsent(target.table(), table -> new Progress());
+            try {
+                purgeBatch(target, state, cutoff);
+            } catch (Exception e) {
+                log.warn("삭제 행 보관 실패: {} after id={}, {}", target.table(), state.lastId, e.getMessage());
+            }
+        }
+    }
+
+    private void purgeBatch(Target target, Progress state, LocalDateTime cutoff) {
+        Object[] cutoffs = cutoffParams(target.expired(), cutoff);
+        String sql = "SELECT t." + target.idColumn() + ", CASE WHEN " + target.expired() + " THEN 1 ELSE 0 END"
+                + " FROM " + target.table() + " t WHERE t." + target.idColumn() + " > ? ORDER BY t."
+                + target.idColumn() + " ASC LIMIT ?";
+        Object[] params = new Object[cutoffs.length + 2];
+        System.arraycopy(cutoffs, 0, params, 0, cutoffs.length);
+        params[cutoffs.length] = state.lastId;
+        params[cutoffs.length + 1] = scanSize;
+
+        List<Long> expired = new ArrayList<>();
+        long[] scanned = {0L};
+        jdbcTemplate.query(sql, rs -> {
+            state.lastId = rs.getLong(1);
+            scanned[0]++;
+            if (rs.getInt(2) == 1) {
+                expired.add(state.lastId);
+            }
+        }, params);
+
+        if (!expired.isEmpty()) {
+            Integer moved = transactionTemplate.execute(status -> archive(target, expired, cutoff));
+            state.purged += moved != null ? moved : 0;
+        }
+
+        if (scanned[0] < scanSize) {
+            if (state.purged > 0) {
+                log.info("삭제 행 보관 완료: {} {}건", target.table(), state.purged);
+            }
+            state.lastId = 0;
+            state.purged = 0;
+        }
+    }
+
+    /**
+     * 만료 조건을 다시 확인하며 행을 잠근 뒤 상세 행과 함께 보관하고 지운다.
+     *
+     * @return 원본 테이블에서 지운 행 수
+     */
+    private int archive(Target target, List<Long> candidates, LocalDateTime cutoff) {
+        String in = String.join(", ", Collections.nCopies(candidates.size(), "?"));
+        Object[] cutoffs = cutoffParams(target.expired(), cutoff);
+        Object[] params = new Object[candidates.size() + cutoffs.length];
+        for (int i = 0; i < candidates.size(); i++) {
+            params[i] = candidates.get(i);
+        }
+        System.arraycopy(cutoffs, 0, params, candidates.size(), cutoffs.length);
+        // 그 사이 복원된 행은 제외한다
+        List<Long> ids = jdbcTemplate.queryForList("SELECT t." + target.idColumn() + " FROM " + target.table()
+                + " t WHERE t." + target.idColumn() + " IN (" + in + ") AND (" + target.expired() + ") FOR UPDATE",
+                Long.class, params);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String idList = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] idParams = ids.toArray();
+        for (Dependent dependent : target.dependents()) {
+            copyToArchive(dependent.table(), dependent.parentColumn() + " IN (" + idList + ")", idParams);
+        }
+        if (target.archived()) {
+            copyToArchive(target.table(), target.idColumn() + " IN (" + idList + ")", idParams);
+        }
+        int deleted = jdbcTemplate.update("DELETE FROM " + target.table() + " WHERE " + target.idColumn()
+                + " IN (" + idList + ")", idParams);
+        log.debug("삭제 행 보관: {} {}건", target.table(), deleted);
+        return deleted;
+    }
+
+    private void copyToArchive(String table, String where, Object[] params) {
+        String columns = String.join(", ", columnsOf(table));
+        jdbcTemplate.update("INSERT INTO " + table + "_archive (" + columns + ", " + ARCHIVED_AT + ") SELECT "
+                + columns + ", CURRENT_TIMESTAMP FROM " + table + " WHERE " + where, params);
+    }
+
+    /**
+     * 보관 테이블의 컬럼 목록. 원본에 나중에 추가된 컬럼은 보관 테이블에도 추가되기 전까지 옮기지 않는다.
+     */
+    private List<String> columnsOf(String table) {
+        return archiveColumns.computeIfAbsent(table, t -> jdbcTemplate.query(
+                "SELECT * FROM " + t + "_archive WHERE 1 = 0", rs -> {
+                    ResultSetMetaData meta = rs.getMetaData();
+                    List<String> columns = new ArrayList<>();
+                    for (int i = 1; i <= meta.getColumnCount(); i++) {
+                        String column = meta.getColumnName(i);
+                        if (!ARCHIVED_AT.equalsIgnoreCase(column)) {
+                            columns.add(column);
+                        }
+                    }
+                    return columns;
+                }));
+    }
+
+    private static Object[] cutoffParams(String condition, LocalDateTime cutoff) {
+        Object[] params = new Object[(int) condition.chars().filter(c -> c == '?').count()];
+        Arrays.fill(params, cutoff);
+        return params;
+    }
+
+    /**
+     * @param expired    행 별칭 t 에 대한 만료 조건. 모든 ? 는 보관 기준 시각이다
+     * @param archived   false 면 보관하지 않고 지운다
+     * @param dependents 외래키 CASCADE 로 함께 지워지므로 먼저 보관할 상세 테이블
+     */
+    private record Target(String table, String idColumn, String expired, boolean archived,
+                          List<Dependent> dependents) {
+    }
+
+    private record Dependent(String table, String parentColumn) {
+    }
+
+    private static final class Progress {
+        private long lastId;
+        private long purged;
+    }
+}
@@ -1,7 +1,9 @@
 package com.liten.api.service;
 
+import com.liten.api.cache.CacheNames;
 import com.liten.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -13,7 +15,12 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    /**
+     * JWT 인증마다 호출되므로 캐시한다. 사용자가 바뀌면 커밋 후 {@link com.liten.api.cache.CacheEvictionListener} 가 지운다.
+     * 캐시된 사용자는 여러 요청이 함께 쓰므로 수정하지 말고 다시 읽어서 고친다.
+     */
     @Override
+    @Cacheable(cacheNames = CacheNames.USERS, key = "#username")
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findActiveByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
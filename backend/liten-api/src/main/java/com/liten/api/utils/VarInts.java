@@ -0,0 +1,50 @@
+package com.liten.api.utils;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * LEB128 방식의 가변 길이 정수 인코딩 유틸리티.
+ * 부호 있는 값은 ZigZag 변환 후 기록하여 작은 음수도 1~2 바이트로 표현한다.
+ */
+public final class VarInts {
+
+    private VarInts() {
+    }
+
+    public static void writeUnsigned(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    public static void writeSigned(OutputStream out, long value) throws IOException {
+        writeUnsigned(out, (value << 1) ^ (value >> 63));
+    }
+
+    public static long readUnsigned(InputStream in) throws IOException {
+        long result = 0;
+        int shift = 0;
+        while (shift < 64) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("가변 길이 정수를 읽는 중 스트림이 끝났습니다");
+            }
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+        throw new IOException("잘못된 가변 길이 정수입니다");
+    }
+
+    public static long readSigned(InputStream in) throws IOException {
+        long raw = readUnsigned(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+}
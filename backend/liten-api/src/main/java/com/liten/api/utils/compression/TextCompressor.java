@@ -0,0 +1,158 @@
+package com.liten.api.utils.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdInputStream;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 본문 컬럼 압축 저장 포맷.
+ *
+ * <pre>
+ * 비압축 : UTF-8 바이트 그대로 (LONGTEXT 시절의 행과 동일)
+ * 압축   : MARKER(0xFF) | codec(1) | payload
+ * </pre>
+ *
+ * 0xFF 는 올바른 UTF-8 에 나타나지 않으므로 첫 바이트만으로 기존 행과 압축된 행을 구분한다.
+ * 작은 본문은 LZ4 로 빠르게, 큰 본문은 Zstd(또는 Deflate)로 높은 압축률을 얻도록 크기에 따라 코덱을 고른다.
+ */
+public class TextCompressor {
+
+    public static final int MARKER = 0xFF;
+
+    public static final int CODEC_LZ4 = 1;
+    public static final int CODEC_DEFLATE = 2;
+    public static final int CODEC_ZSTD = 3;
+
+    private static final int ZSTD_LEVEL = 6;
+
+    private final int minSize;
+    private final int lz4MaxSize;
+    private final int largeCodec;
+
+    public TextCompressor(int minSize, int lz4MaxSize, String largeCodec) {
+        this.minSize = minSize;
+        this.lz4MaxSize = lz4MaxSize;
+        this.largeCodec = "deflate".equalsIgnoreCase(largeCodec) ? CODEC_DEFLATE : CODEC_ZSTD;
+    }
+
+    public static TextCompressor defaults() {
+        return new TextCompressor(512, 64 * 1024, "zstd");
+    }
+
+    public byte[] encode(String text) {
+        if (text == null) {
+            return null;
+        }
+        return compress(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * UTF-8 바이트를 저장 포맷으로 변환한다. 이미 압축되었거나 압축 이득이 없으면 그대로 반환한다.
+     */
+    public byte[] compress(byte[] utf8) {
+        if (utf8 == null || utf8.length < minSize || isCompressed(utf8)) {
+            return utf8;
+        }
+        int codec = utf8.length <= lz4MaxSize ? CODEC_LZ4 : largeCodec;
+        byte[] compressed;
+        try {
+            compressed = switch (codec) {
+                case CODEC_LZ4 -> lz4(utf8);
+                case CODEC_DEFLATE -> deflate(utf8);
+                default -> zstd(utf8);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.length < utf8.length ? compressed : utf8;
+    }
+
+    public static String decode(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (!isCompressed(stored)) {
+            return new String(stored, StandardCharsets.UTF_8);
+        }
+        try (InputStream in = openDecoded(new ByteArrayInputStream(stored))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static boolean isCompressed(byte[] stored) {
+        return stored != null && stored.length >= 2 && (stored[0] & 0xFF) == MARKER;
+    }
+
+    /**
+     * 저장된 바이트 스트림을 UTF-8 본문 스트림으로 감싼다. 압축 해제는 읽는 만큼만 진행된다.
+     */
+    public static InputStream openDecoded(InputStream stored) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(stored, 1);
+        int first = in.read();
+        if (first < 0) {
+            return in;
+        }
+        if (first != MARKER) {
+            in.unread(first);
+            return in;
+        }
+        int codec = in.read();
+        return switch (codec) {
+            case CODEC_LZ4 -> new LZ4FrameInputStream(in);
+            case CODEC_DEFLATE -> new InflaterInputStream(in);
+            case CODEC_ZSTD -> new ZstdInputStream(in);
+            default -> throw new IOException("알 수 없는 압축 코덱입니다: " + codec);
+        };
+    }
+
+    private static byte[] lz4(byte[] data) throws IOException {
+        ByteArrayOutputStream out = newOutput(CODEC_LZ4, data.length);
+        // LZ4 는 lz4MaxSize(기본 64KB) 이하 본문에만 쓰므로 64KB 블록이면 된다. 기본 4MB 블록은
+        // 읽을 때마다 블록 크기만큼 버퍼를 두 개 잡아 작은 노트 하나에 8MB 를 할당한다
+        try (LZ4FrameOutputStream lz4 = new LZ4FrameOutputStream(out, LZ4FrameOutputStream.BLOCKSIZE.SIZE_64KB)) {
+            lz4.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] data) throws IOException {
+        ByteArrayOutputStream out = newOutput(CODEC_DEFLATE, data.length);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater, 8192)) {
+            deflate.write(data);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] zstd(byte[] data) {
+        byte[] payload = Zstd.compress(data, ZSTD_LEVEL);
+        byte[] result = new byte[payload.length + 2];
+        result[0] = (byte) MARKER;
+        result[1] = CODEC_ZSTD;
+        System.arraycopy(payload, 0, result, 2, payload.length);
+        return result;
+    }
+
+    private static ByteArrayOutputStream newOutput(int codec, int rawLength) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, rawLength / 3));
+        out.write(MARKER);
+        out.write(codec);
+        return out;
+    }
+}
@@ -0,0 +1,144 @@
+package com.liten.api.utils.order;
+
+/**
+ * 목록 순서용 분수 순위 키.
+ *
+ * <p>키는 base62 숫자('0'-'9', 'A'-'Z', 'a'-'z')로 된 소수부로 보고 사전 순(ASCII, 이진 비교)으로 정렬한다.
+ * 두 키 사이에는 항상 새 키를 만들 수 있으므로 항목 하나를 옮길 때 그 행의 키 하나만 바꾸면 된다.
+ * 끝자리가 '0' 인 키는 바로 앞에 키를 끼울 수 없으므로 만들지 않는다. 같은 자리에 계속 끼우면 키가 길어지므로
+ * {@link com.liten.api.service.RankKeyRebalancer} 가 긴 키를 가진 목록을 고른 간격으로 다시 매긴다.
+ */
+public final class RankKeys {
+
+    public static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    public static final int BASE = DIGITS.length();
+
+    private RankKeys() {
+    }
+
+    /**
+     * before < key < after 인 키를 만든다.
+     *
+     * @param before 앞 항목의 키. null 이면 목록의 처음
+     * @param after  뒤 항목의 키. null 이면 목록의 끝
+     */
+    public static String between(String before, String after) {
+        String low = before != null ? before : "";
+        if (!low.isEmpty()) {
+            validate(low);
+        }
+        if (after != null) {
+            validate(after);
+            if (low.compareTo(after) >= 0) {
+                throw new IllegalArgumentException("순위 키 순서가 잘못되었습니다: " + before + " >= " + after);
+            }
+        }
+        // 목록 끝/처음에 붙이는 경우가 대부분이므로 중간값 대신 한 단계씩 옮겨 키가 천천히 길어지게 한다
+        if (after == null && !low.isEmpty()) {
+            return increment(low);
+        }
+        if (low.isEmpty() && after != null) {
+            return decrement(after);
+        }
+        return midpoint(low, after);
+    }
+
+    /**
+     * 길이가 같은 키 count 개를 고른 간격으로 만든다. 목록을 다시 매길 때 사용한다.
+     */
+    public static String[] evenlySpaced(int count) {
+        int width = 1;
+        long space = BASE;
+        while (space <= count) {
+            width++;
+            space *= BASE;
+        }
+        long step = space / (count + 1);
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = stripTrailingZeros(encode((i + 1) * step, width));
+        }
+        return keys;
+    }
+
+    public static boolean isValid(String key) {
+        if (key == null || key.isEmpty() || key.charAt(key.length() - 1) == DIGITS.charAt(0)) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String midpoint(String low, String high) {
+        // 공통 접두사는 그대로 두고 나머지에서 중간값을 찾는다
+        if (high != null) {
+            int n = 0;
+            while (n < high.length() && digitAt(low, n) == digitAt(high, n)) {
+                n++;
+            }
+            if (n > 0) {
+                return high.substring(0, n) + midpoint(low.length() > n ? low.substring(n) : "", high.substring(n));
+            }
+        }
+        int lowDigit = digitAt(low, 0);
+        int highDigit = high != null ? digitAt(high, 0) : BASE;
+        if (highDigit - lowDigit > 1) {
+            return String.valueOf(DIGITS.charAt((lowDigit + highDigit) / 2));
+        }
+        if (high != null && high.length() > 1) {
+            return high.substring(0, 1);
+        }
+        return DIGITS.charAt(lowDigit) + midpoint(low.length() > 1 ? low.substring(1) : "", null);
+    }
+
+    private static String increment(String key) {
+        int digit = digitAt(key, 0);
+        if (digit < BASE - 1) {
+            return String.valueOf(DIGITS.charAt(digit + 1));
+        }
+        return DIGITS.charAt(digit) + (key.length() > 1 ? increment(key.substring(1)) : midpoint("", null));
+    }
+
+    private static String decrement(String key) {
+        int digit = digitAt(key, 0);
+        if (digit > 1) {
+            return String.valueOf(DIGITS.charAt(digit - 1));
+        }
+        if (digit == 1) {
+            return DIGITS.charAt(0) + midpoint("", null);
+        }
+        // 올바른 키는 '0' 으로 끝나지 않으므로 뒷자리가 남아 있다
+        return DIGITS.charAt(0) + decrement(key.substring(1));
+    }
+
+    private static int digitAt(String key, int index) {
+        return index < key.length() ? DIGITS.indexOf(key.charAt(index)) : 0;
+    }
+
+    private static String encode(long value, int width) {
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return new String(chars);
+    }
+
+    private static String stripTrailingZeros(String key) {
+        int end = key.length();
+        while (end > 1 && key.charAt(end - 1) == DIGITS.charAt(0)) {
+            end--;
+        }
+        return key.substring(0, end);
+    }
+
+    private static void validate(String key) {
+        if (!isValid(key)) {
+            throw new IllegalArgumentException("잘못된 순위 키입니다: " + key);
+        }
+    }
+}
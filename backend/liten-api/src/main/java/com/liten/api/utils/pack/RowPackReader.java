@@ -0,0 +1,134 @@
+package com.liten.api.utils.pack;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.liten.api.utils.VarInts;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link RowPackWriter} 가 기록한 행 묶음을 순서대로 읽는다. 한 번에 한 행만 메모리에 둔다.
+ *
+ * <pre>
+ * while (reader.nextTable()) {
+ *     Object[] row;
+ *     while ((row = reader.nextRow()) != null) { ... }
+ * }
+ * </pre>
+ */
+public class RowPackReader implements AutoCloseable {
+
+    private final DataInputStream in;
+    private String table;
+    private List<String> columns = List.of();
+    private boolean inTable;
+
+    public RowPackReader(InputStream source) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(new ZstdInputStream(source), 8192));
+        byte[] magic = new byte[RowPackWriter.MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, RowPackWriter.MAGIC)) {
+            throw new IOException("행 묶음 형식이 아닙니다");
+        }
+        int version = in.readUnsignedByte();
+        if (version != RowPackWriter.VERSION) {
+            throw new IOException("지원하지 않는 행 묶음 버전입니다: " + version);
+        }
+    }
+
+    /**
+     * 다음 테이블로 넘어간다. 현재 테이블에 남은 행은 건너뛴다.
+     *
+     * @return 더 읽을 테이블이 없으면 false
+     */
+    public boolean nextTable() throws IOException {
+        while (inTable) {
+            nextRow();
+        }
+        if (in.readUnsignedByte() == 0) {
+            table = null;
+            columns = List.of();
+            return false;
+        }
+        table = readString();
+        int count = (int) VarInts.readUnsigned(in);
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(readString());
+        }
+        columns = Collections.unmodifiableList(names);
+        inTable = true;
+        return true;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return 현재 테이블의 다음 행. 테이블의 끝이면 null
+     */
+    public Object[] nextRow() throws IOException {
+        if (!inTable) {
+            return null;
+        }
+        if (in.readUnsignedByte() == 0) {
+            inTable = false;
+            return null;
+        }
+        Object[] values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readValue();
+        }
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private Object readValue() throws IOException {
+        int tag = in.readUnsignedByte();
+        return switch (tag) {
+            case RowPackWriter.TAG_NULL -> null;
+            case RowPackWriter.TAG_LONG -> VarInts.readSigned(in);
+            case RowPackWriter.TAG_BOOLEAN -> in.readUnsignedByte() != 0;
+            case RowPackWriter.TAG_DOUBLE -> in.readDouble();
+            case RowPackWriter.TAG_DECIMAL -> new BigDecimal(readString());
+            case RowPackWriter.TAG_STRING -> readString();
+            case RowPackWriter.TAG_BYTES -> readBytes();
+            case RowPackWriter.TAG_DATETIME -> LocalDateTime.parse(readString());
+            case RowPackWriter.TAG_DATE -> LocalDate.parse(readString());
+            default -> throw new IOException("알 수 없는 값 태그입니다: " + tag);
+        };
+    }
+
+    private String readString() throws IOException {
+        return new String(readBytes(), StandardCharsets.UTF_8);
+    }
+
+    private byte[] readBytes() throws IOException {
+        long length = VarInts.readUnsigned(in);
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("값이 너무 깁니다: " + length);
+        }
+        byte[] bytes = new byte[(int) length];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,168 @@
+package com.liten.api.utils.pack;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import com.liten.api.utils.VarInts;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 테이블 행을 압축된 행 묶음(row pack)으로 기록한다. 스키마에 의존하지 않도록 테이블마다 컬럼 이름을 먼저 쓰고,
+ * 값은 Java 타입별 태그와 함께 기록한다. 전체 스트림은 zstd 로 압축한다.
+ *
+ * <pre>
+ * "LPAK" version
+ * { 1 tableName columnCount columnName* { 1 value* }* 0 }*
+ * 0
+ * </pre>
+ *
+ * 문자열은 UTF-8 바이트 길이(가변 길이 정수) 뒤에 바이트를 쓰므로 LONGTEXT 본문도 제한 없이 기록한다.
+ * 압축 전 스트림의 CRC32C 를 함께 계산하므로 같은 행을 다시 읽어 {@link #checksumOnly()} 로 비교하면 그 사이에
+ * 바뀐 행이 있는지 알 수 있다.
+ */
+public class RowPackWriter implements AutoCloseable {
+
+    static final byte[] MAGIC = {'L', 'P', 'A', 'K'};
+    static final int VERSION = 1;
+
+    static final int TAG_NULL = 0;
+    static final int TAG_LONG = 1;
+    static final int TAG_BOOLEAN = 2;
+    static final int TAG_DOUBLE = 3;
+    static final int TAG_DECIMAL = 4;
+    static final int TAG_STRING = 5;
+    static final int TAG_BYTES = 6;
+    static final int TAG_DATETIME = 7;
+    static final int TAG_DATE = 8;
+
+    private final CRC32C checksum = new CRC32C();
+    private final DataOutputStream out;
+    private int columnCount = -1;
+    private long rowCount;
+
+    public RowPackWriter(OutputStream target, int level) throws IOException {
+        this(new ZstdOutputStream(target, level));
+    }
+
+    private RowPackWriter(OutputStream sink) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(sink, checksum), 8192));
+        out.write(MAGIC);
+        out.write(VERSION);
+    }
+
+    /**
+     * 아무것도 기록하지 않고 체크섬만 계산한다. 압축하지 않으므로 원래 묶음보다 훨씬 싸다.
+     */
+    public static RowPackWriter checksumOnly() throws IOException {
+        return new RowPackWriter(OutputStream.nullOutputStream());
+    }
+
+    public void beginTable(String table, List<String> columns) throws IOException {
+        endTable();
+        out.write(1);
+        writeString(table);
+        VarInts.writeUnsigned(out, columns.size());
+        for (String column : columns) {
+            writeString(column);
+        }
+        columnCount = columns.size();
+    }
+
+    public void writeRow(Object[] values) throws IOException {
+        if (columnCount < 0) {
+            throw new IllegalStateException("테이블을 시작하지 않았습니다");
+        }
+        if (values.length != columnCount) {
+            throw new IllegalArgumentException("컬럼 수가 다릅니다: " + values.length + " != " + columnCount);
+        }
+        out.write(1);
+        for (Object value : values) {
+            writeValue(value);
+        }
+        rowCount++;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 압축 전 스트림의 CRC32C. {@link #close()} 뒤에만 전체 스트림의 값이다.
+     */
+    public long getChecksum() {
+        return checksum.getValue();
+    }
+
+    /**
+     * 마지막 테이블과 스트림 끝을 기록하고 압축 스트림을 닫는다. 대상 스트림도 함께 닫힌다.
+     */
+    @Override
+    public void close() throws IOException {
+        endTable();
+        out.write(0);
+        out.close();
+    }
+
+    private void endTable() throws IOException {
+        if (columnCount >= 0) {
+            out.write(0);
+            columnCount = -1;
+        }
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            out.write(TAG_NULL);
+        } else if (value instanceof Boolean bool) {
+            out.write(TAG_BOOLEAN);
+            out.write(bool ? 1 : 0);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.write(TAG_LONG);
+            VarInts.writeSigned(out, ((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            out.write(TAG_DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof BigDecimal || value instanceof BigInteger) {
+            out.write(TAG_DECIMAL);
+            writeString(value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString());
+        } else if (value instanceof String string) {
+            out.write(TAG_STRING);
+            writeString(string);
+        } else if (value instanceof byte[] bytes) {
+            out.write(TAG_BYTES);
+            VarInts.writeUnsigned(out, bytes.length);
+            out.write(bytes);
+        } else if (value instanceof LocalDateTime dateTime) {
+            out.write(TAG_DATETIME);
+            writeString(dateTime.toString());
+        } else if (value instanceof Timestamp timestamp) {
+            out.write(TAG_DATETIME);
+            writeString(timestamp.toLocalDateTime().toString());
+        } else if (value instanceof LocalDate date) {
+            out.write(TAG_DATE);
+            writeString(date.toString());
+        } else if (value instanceof java.sql.Date date) {
+            out.write(TAG_DATE);
+            writeString(date.toLocalDate().toString());
+        } else {
+            throw new IllegalArgumentException("기록할 수 없는 값 타입입니다: " + value.getClass().getName());
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        VarInts.writeUnsigned(out, bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,63 @@
+package com.liten.api.utils.stroke;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 여러 LSTK 블록(기본 데이터 + 추가 세그먼트)을 하나의 스트로크 흐름으로 이어 읽는다.
+ * 블록은 필요할 때 하나씩 디코더를 열어 처리한다.
+ */
+public class ConcatStrokeReader implements StrokeReader {
+
+    private final Iterator<byte[]> blocks;
+    private StrokeDecoder current;
+
+    public ConcatStrokeReader(List<byte[]> blocks) {
+        this.blocks = blocks.iterator();
+    }
+
+    @Override
+    public boolean next(Stroke target) throws IOException {
+        while (true) {
+            if (current != null && current.next(target)) {
+                return true;
+            }
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+            if (!blocks.hasNext()) {
+                return false;
+            }
+            byte[] block = blocks.next();
+            if (block != null) {
+                current = new StrokeDecoder(new ByteArrayInputStream(block));
+            }
+        }
+    }
+
+    /**
+     * 남은 스트로크 전체를 하나의 LSTK 스트림으로 다시 인코딩한다.
+     *
+     * @return 기록한 스트로크 수
+     */
+    public int transferTo(StrokeEncoder encoder) throws IOException {
+        Stroke stroke = new Stroke();
+        int count = 0;
+        while (next(stroke)) {
+            encoder.write(stroke);
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+    }
+}
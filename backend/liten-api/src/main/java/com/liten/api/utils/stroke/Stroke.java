@@ -0,0 +1,62 @@
+package com.liten.api.utils.stroke;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * 하나의 연속된 필기 스트로크.
+ * 포인트는 객체 대신 좌표/압력 배열로 보관하여 수만 개의 포인트도 적은 힙으로 다룬다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class Stroke {
+
+    private String tool = StrokeFormat.DEFAULT_TOOL;
+    private int color;
+    private float strokeWidth;
+    private long timestamp;
+    private int pointCount;
+    private float[] xs = new float[16];
+    private float[] ys = new float[16];
+    private float[] pressures = new float[16];
+
+    public void addPoint(float x, float y, float pressure) {
+        if (pointCount == xs.length) {
+            int capacity = xs.length * 2;
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            pressures = Arrays.copyOf(pressures, capacity);
+        }
+        xs[pointCount] = x;
+        ys[pointCount] = y;
+        pressures[pointCount] = pressure;
+        pointCount++;
+    }
+
+    public float getX(int index) {
+        return xs[index];
+    }
+
+    public float getY(int index) {
+        return ys[index];
+    }
+
+    public float getPressure(int index) {
+        return pressures[index];
+    }
+
+    /**
+     * 다음 스트로크를 읽기 위해 배열은 유지한 채 내용을 비운다.
+     */
+    public void clear() {
+        tool = StrokeFormat.DEFAULT_TOOL;
+        color = 0;
+        strokeWidth = 0;
+        timestamp = 0;
+        pointCount = 0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.liten.api.utils.stroke;
+
+/**
+ * 스트로크의 축 정렬 경계 상자. 선 굵기의 절반만큼 확장하여 실제 그려지는 영역을 덮는다.
+ */
+public record StrokeBounds(float minX, float minY, float maxX, float maxY) {
+
+    public static StrokeBounds of(Stroke stroke) {
+        int count = stroke.getPointCount();
+        if (count == 0) {
+            return null;
+        }
+        float[] xs = stroke.getXs();
+        float[] ys = stroke.getYs();
+        float minX = xs[0];
+        float maxX = xs[0];
+        float minY = ys[0];
+        float maxY = ys[0];
+        for (int i = 1; i < count; i++) {
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        float half = stroke.getStrokeWidth() / 2;
+        return new StrokeBounds(minX - half, minY - half, maxX + half, maxY + half);
+    }
+
+    public boolean intersects(float left, float top, float right, float bottom) {
+        return minX <= right && maxX >= left && minY <= bottom && maxY >= top;
+    }
+
+    public StrokeBounds union(StrokeBounds other) {
+        if (other == null) {
+            return this;
+        }
+        return new StrokeBounds(Math.min(minX, other.minX), Math.min(minY, other.minY),
+                Math.max(maxX, other.maxX), Math.max(maxY, other.maxY));
+    }
+
+    public float centerX() {
+        return (minX + maxX) / 2;
+    }
+
+    public float centerY() {
+        return (minY + maxY) / 2;
+    }
+}
@@ -0,0 +1,115 @@
+package com.liten.api.utils.stroke;
+
+import com.liten.api.utils.VarInts;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * LSTK 바이너리를 스트로크 단위로 읽는 스트리밍 디코더.
+ * {@link #next(Stroke)} 로 같은 {@link Stroke} 인스턴스를 재사용하면 포인트 수와 무관하게 할당이 거의 없다.
+ */
+public class StrokeDecoder implements StrokeReader {
+
+    private final InputStream in;
+    private final int scale;
+
+    private long lastTimestamp;
+    private long lastX;
+    private long lastY;
+    private boolean finished;
+
+    public StrokeDecoder(InputStream source) throws IOException {
+        InputStream buffered = source instanceof BufferedInputStream
+                ? source : new BufferedInputStream(source, 8192);
+        for (byte expected : StrokeFormat.MAGIC) {
+            if (buffered.read() != expected) {
+                throw new IOException("LSTK 스트로크 데이터가 아닙니다");
+            }
+        }
+        int version = buffered.read();
+        if (version != StrokeFormat.VERSION) {
+            throw new IOException("지원하지 않는 스트로크 포맷 버전입니다: " + version);
+        }
+        int flags = buffered.read();
+        if (flags < 0) {
+            throw new EOFException("스트로크 헤더가 손상되었습니다");
+        }
+        this.scale = (int) VarInts.readUnsigned(buffered);
+        if (scale <= 0) {
+            throw new IOException("잘못된 양자화 배율입니다: " + scale);
+        }
+        this.in = (flags & StrokeFormat.FLAG_DEFLATE) != 0
+                ? new BufferedInputStream(new InflaterInputStream(buffered), 8192)
+                : buffered;
+    }
+
+    @Override
+    public boolean next(Stroke target) throws IOException {
+        if (finished) {
+            return false;
+        }
+        int tag = in.read();
+        if (tag == StrokeFormat.TAG_END) {
+            finished = true;
+            return false;
+        }
+        if (tag != StrokeFormat.TAG_STROKE) {
+            throw new IOException("잘못된 스트로크 레코드입니다: " + tag);
+        }
+
+        target.clear();
+        int strokeFlags = readByte();
+        boolean uniformPressure = (strokeFlags & StrokeFormat.STROKE_FLAG_UNIFORM_PRESSURE) != 0;
+        target.setTool(readTool());
+        target.setColor((readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte());
+        target.setStrokeWidth((float) VarInts.readUnsigned(in) / scale);
+        lastTimestamp += VarInts.readSigned(in);
+        target.setTimestamp(lastTimestamp);
+
+        long count = VarInts.readUnsigned(in);
+        if (count > Integer.MAX_VALUE - 8) {
+            throw new IOException("스트로크 포인트 수가 너무 많습니다: " + count);
+        }
+        for (int i = 0; i < count; i++) {
+            lastX += VarInts.readSigned(in);
+            lastY += VarInts.readSigned(in);
+            float pressure = uniformPressure ? 1.0f : readByte() / 255.0f;
+            target.addPoint((float) ((double) lastX / scale), (float) ((double) lastY / scale), pressure);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private int readByte() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("스트로크 데이터가 중간에 끝났습니다");
+        }
+        return b;
+    }
+
+    private String readTool() throws IOException {
+        int code = readByte();
+        if (code == StrokeFormat.TOOL_CUSTOM) {
+            int length = (int) VarInts.readUnsigned(in);
+            byte[] name = in.readNBytes(length);
+            if (name.length != length) {
+                throw new EOFException("스트로크 도구 이름이 잘렸습니다");
+            }
+            return new String(name, StandardCharsets.UTF_8);
+        }
+        if (code >= StrokeFormat.TOOLS.size()) {
+            throw new IOException("알 수 없는 스트로크 도구 코드입니다: " + code);
+        }
+        return StrokeFormat.TOOLS.get(code);
+    }
+}
@@ -0,0 +1,109 @@
+package com.liten.api.utils.stroke;
+
+import com.liten.api.utils.VarInts;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 스트로크를 하나씩 받아 LSTK 바이너리로 기록하는 스트리밍 인코더.
+ * 전체 그림을 메모리에 올리지 않고 스트로크 단위로 출력한다.
+ */
+public class StrokeEncoder implements Closeable {
+
+    private final OutputStream out;
+    private final int scale;
+
+    private long lastTimestamp;
+    private long lastX;
+    private long lastY;
+    private int strokeCount;
+    private boolean finished;
+
+    public StrokeEncoder(OutputStream out) throws IOException {
+        this(out, StrokeFormat.DEFAULT_SCALE);
+    }
+
+    public StrokeEncoder(OutputStream out, int scale) throws IOException {
+        this.out = out instanceof BufferedOutputStream ? out : new BufferedOutputStream(out, 8192);
+        this.scale = scale;
+        this.out.write(StrokeFormat.MAGIC);
+        this.out.write(StrokeFormat.VERSION);
+        this.out.write(0);
+        VarInts.writeUnsigned(this.out, scale);
+    }
+
+    public void write(Stroke stroke) throws IOException {
+        int count = stroke.getPointCount();
+        boolean uniformPressure = true;
+        for (int i = 0; i < count; i++) {
+            if (stroke.getPressure(i) != 1.0f) {
+                uniformPressure = false;
+                break;
+            }
+        }
+
+        out.write(StrokeFormat.TAG_STROKE);
+        out.write(uniformPressure ? StrokeFormat.STROKE_FLAG_UNIFORM_PRESSURE : 0);
+        writeTool(stroke.getTool());
+
+        int color = stroke.getColor();
+        out.write(color >>> 24);
+        out.write(color >>> 16);
+        out.write(color >>> 8);
+        out.write(color);
+
+        VarInts.writeUnsigned(out, Math.max(0, Math.round(stroke.getStrokeWidth() * scale)));
+        VarInts.writeSigned(out, stroke.getTimestamp() - lastTimestamp);
+        lastTimestamp = stroke.getTimestamp();
+
+        VarInts.writeUnsigned(out, count);
+        for (int i = 0; i < count; i++) {
+            long x = Math.round((double) stroke.getX(i) * scale);
+            long y = Math.round((double) stroke.getY(i) * scale);
+            VarInts.writeSigned(out, x - lastX);
+            VarInts.writeSigned(out, y - lastY);
+            lastX = x;
+            lastY = y;
+            if (!uniformPressure) {
+                float pressure = Math.min(1.0f, Math.max(0.0f, stroke.getPressure(i)));
+                out.write(Math.round(pressure * 255));
+            }
+        }
+        strokeCount++;
+    }
+
+    public int getStrokeCount() {
+        return strokeCount;
+    }
+
+    /**
+     * 종료 태그를 기록한다. 하위 스트림은 닫지 않는다.
+     */
+    public void finish() throws IOException {
+        if (!finished) {
+            out.write(StrokeFormat.TAG_END);
+            out.flush();
+            finished = true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finish();
+        out.close();
+    }
+
+    private void writeTool(String tool) throws IOException {
+        int code = StrokeFormat.toolCode(tool);
+        out.write(code);
+        if (code == StrokeFormat.TOOL_CUSTOM) {
+            byte[] name = tool == null ? new byte[0] : tool.getBytes(StandardCharsets.UTF_8);
+            VarInts.writeUnsigned(out, name.length);
+            out.write(name);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.liten.api.utils.stroke;
+
+import com.liten.api.utils.VarInts;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 바이너리 스트로크 포맷(LSTK) 정의.
+ *
+ * <pre>
+ * header : 'L' 'S' 'T' 'K' | version(1) | flags(1) | scale(varint)
+ * body   : (TAG_STROKE stroke)* TAG_END          -- FLAG_DEFLATE 이면 body 전체가 deflate 블록
+ * stroke : strokeFlags(1) | tool(1 [+ varint len + utf8]) | color(4, BE)
+ *          | width(varint) | Δtimestamp(zigzag) | pointCount(varint)
+ *          | (Δx(zigzag) Δy(zigzag) [pressure(1)])*
+ * </pre>
+ *
+ * 좌표와 굵기는 {@code scale} 배율로 양자화한 정수를 이전 포인트 대비 차분으로 기록하므로
+ * 손글씨처럼 촘촘한 포인트는 대부분 1~2 바이트로 표현된다.
+ */
+public final class StrokeFormat {
+
+    public static final String MEDIA_TYPE = "application/vnd.liten.strokes";
+
+    public static final byte[] MAGIC = {'L', 'S', 'T', 'K'};
+    public static final int VERSION = 1;
+    public static final int DEFAULT_SCALE = 100;
+
+    public static final int FLAG_DEFLATE = 0x01;
+
+    public static final int TAG_END = 0;
+    public static final int TAG_STROKE = 1;
+
+    public static final int STROKE_FLAG_UNIFORM_PRESSURE = 0x01;
+
+    public static final int TOOL_CUSTOM = 0x7F;
+    public static final String DEFAULT_TOOL = "pen";
+    static final List<String> TOOLS = List.of("pen", "brush", "marker", "eraser");
+
+    /** 이 크기 이상의 본문만 deflate 압축한다. */
+    public static final int COMPRESSION_THRESHOLD = 4 * 1024;
+
+    private StrokeFormat() {
+    }
+
+    public static boolean isBinary(byte[] data) {
+        if (data == null || data.length < MAGIC.length + 2) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static int toolCode(String tool) {
+        int index = TOOLS.indexOf(tool);
+        return index >= 0 ? index : TOOL_CUSTOM;
+    }
+
+    /**
+     * 비압축 LSTK 데이터의 본문을 deflate 블록으로 감싼다.
+     * 이미 압축되었거나 임계값보다 작은 데이터는 그대로 반환한다.
+     */
+    public static byte[] compress(byte[] data) {
+        if (!isBinary(data) || (data[MAGIC.length + 1] & FLAG_DEFLATE) != 0
+                || data.length < COMPRESSION_THRESHOLD) {
+            return data;
+        }
+        try {
+            int bodyOffset = headerLength(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 3);
+            out.write(data, 0, bodyOffset);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater, 8192)) {
+                deflate.write(data, bodyOffset, data.length - bodyOffset);
+            } finally {
+                deflater.end();
+            }
+            byte[] compressed = out.toByteArray();
+            if (compressed.length >= data.length) {
+                return data;
+            }
+            compressed[MAGIC.length + 1] |= FLAG_DEFLATE;
+            return compressed;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static int headerLength(byte[] data) throws IOException {
+        ByteArrayInputStream in = new ByteArrayInputStream(data, MAGIC.length + 2, data.length);
+        int before = in.available();
+        VarInts.readUnsigned(in);
+        return MAGIC.length + 2 + (before - in.available());
+    }
+}
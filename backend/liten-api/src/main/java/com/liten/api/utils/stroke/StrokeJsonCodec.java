@@ -0,0 +1,175 @@
+package com.liten.api.utils.stroke;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 레거시 스트로크 JSON 과 LSTK 바이너리 간 스트리밍 변환기.
+ * JSON 트리를 만들지 않고 토큰 단위로 처리하므로 스트로크 하나 분량의 메모리만 사용한다.
+ *
+ * <p>JSON 형태는 앱의 {@code DrawingStroke.toMap()} 과 동일하며,
+ * 최상위가 스트로크 배열이거나 {@code {"strokes": [...]}} 객체인 경우를 모두 받는다.
+ */
+public final class StrokeJsonCodec {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private StrokeJsonCodec() {
+    }
+
+    public static byte[] jsonToBinary(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length() / 6));
+            try (StrokeEncoder encoder = new StrokeEncoder(out)) {
+                jsonToBinary(parser, encoder);
+            }
+            return StrokeFormat.compress(out.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("스트로크 JSON 변환에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * JSON 입력 스트림을 읽어 인코더로 흘려보낸다. 인코더의 종료는 호출자가 담당한다.
+     *
+     * @return 변환된 스트로크 수
+     */
+    public static int jsonToBinary(InputStream json, StrokeEncoder encoder) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return jsonToBinary(parser, encoder);
+        }
+    }
+
+    public static void binaryToJson(StrokeReader reader, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("strokes");
+            writeStrokes(reader, generator);
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    public static String binaryToJson(StrokeReader reader) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        binaryToJson(reader, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 리더의 남은 스트로크를 현재 배열 컨텍스트에 기록한다.
+     */
+    public static int writeStrokes(StrokeReader reader, JsonGenerator generator) throws IOException {
+        Stroke stroke = new Stroke();
+        int count = 0;
+        while (reader.next(stroke)) {
+            writeStroke(stroke, generator);
+            count++;
+        }
+        return count;
+    }
+
+    public static void writeStroke(Stroke stroke, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("points");
+        for (int i = 0; i < stroke.getPointCount(); i++) {
+            generator.writeStartObject();
+            generator.writeNumberField("x", stroke.getX(i));
+            generator.writeNumberField("y", stroke.getY(i));
+            generator.writeNumberField("pressure", stroke.getPressure(i));
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeStringField("tool", stroke.getTool());
+        generator.writeNumberField("color", Integer.toUnsignedLong(stroke.getColor()));
+        generator.writeNumberField("strokeWidth", stroke.getStrokeWidth());
+        generator.writeNumberField("timestamp", stroke.getTimestamp());
+        generator.writeEndObject();
+    }
+
+    private static int jsonToBinary(JsonParser parser, StrokeEncoder encoder) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = seekStrokesArray(parser);
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new IOException("스트로크 배열을 찾을 수 없습니다");
+        }
+        Stroke stroke = new Stroke();
+        int count = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            readStroke(parser, stroke);
+            encoder.write(stroke);
+            count++;
+        }
+        return count;
+    }
+
+    private static JsonToken seekStrokesArray(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("strokes".equals(field)) {
+                return value;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    private static void readStroke(JsonParser parser, Stroke stroke) throws IOException {
+        stroke.clear();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "points" -> readPoints(parser, stroke);
+                case "tool" -> stroke.setTool(parser.getText());
+                case "color" -> stroke.setColor((int) parser.getLongValue());
+                case "strokeWidth" -> stroke.setStrokeWidth(parser.getFloatValue());
+                case "timestamp" -> stroke.setTimestamp(parser.getLongValue());
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readPoints(JsonParser parser, Stroke stroke) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IOException("스트로크 포인트는 배열이어야 합니다");
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            float x = 0;
+            float y = 0;
+            float pressure = 1.0f;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "x" -> x = parser.getFloatValue();
+                    case "y" -> y = parser.getFloatValue();
+                    case "pressure" -> pressure = parser.getFloatValue();
+                    default -> parser.skipChildren();
+                }
+            }
+            stroke.addPoint(x, y, pressure);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.liten.api.utils.stroke;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 스트로크를 순서대로 하나씩 읽는 소스.
+ */
+public interface StrokeReader extends Closeable {
+
+    /**
+     * 다음 스트로크를 {@code target} 에 채운다.
+     *
+     * @return 스트로크를 읽었으면 true, 더 이상 없으면 false
+     */
+    boolean next(Stroke target) throws IOException;
+}
@@ -0,0 +1,45 @@
+package com.liten.api.utils.stroke;
+
+/**
+ * 상세 수준(LOD)에 따라 스트로크 포인트를 줄인다.
+ * 마지막으로 남긴 포인트와의 거리가 허용 오차보다 작은 포인트를 제거하며, 배열을 제자리에서 압축한다.
+ */
+public final class StrokeSimplifier {
+
+    private StrokeSimplifier() {
+    }
+
+    /**
+     * LOD 0 은 원본, 1 단계마다 허용 오차가 두 배가 된다 (LOD 1 = 1 단위).
+     */
+    public static float toleranceFor(int lod) {
+        return lod <= 0 ? 0 : (float) (1 << Math.min(lod - 1, 16));
+    }
+
+    public static void simplify(Stroke stroke, float tolerance) {
+        int count = stroke.getPointCount();
+        if (tolerance <= 0 || count <= 2) {
+            return;
+        }
+        float[] xs = stroke.getXs();
+        float[] ys = stroke.getYs();
+        float[] pressures = stroke.getPressures();
+        float toleranceSq = tolerance * tolerance;
+
+        int kept = 1;
+        for (int i = 1; i < count - 1; i++) {
+            float dx = xs[i] - xs[kept - 1];
+            float dy = ys[i] - ys[kept - 1];
+            if (dx * dx + dy * dy >= toleranceSq) {
+                xs[kept] = xs[i];
+                ys[kept] = ys[i];
+                pressures[kept] = pressures[i];
+                kept++;
+            }
+        }
+        xs[kept] = xs[count - 1];
+        ys[kept] = ys[count - 1];
+        pressures[kept] = pressures[count - 1];
+        stroke.setPointCount(kept + 1);
+    }
+}
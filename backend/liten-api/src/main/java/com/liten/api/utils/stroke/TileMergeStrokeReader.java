@@ -0,0 +1,106 @@
+package com.liten.api.utils.stroke;
+
+import com.liten.api.utils.VarInts;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 여러 타일의 스트로크를 원래 그린 순서대로 합쳐 읽고, 이어서 미병합 세그먼트를 읽는다.
+ *
+ * <p>타일마다 담긴 스트로크의 stroke_data 내 순번이 오름차순으로 있으므로, 다음 순번이 가장 작은 타일에서 한 개씩
+ * 꺼낸다. 스트로크를 복사하지 않고 해당 타일의 디코더가 {@code target} 에 바로 채운다.
+ * 세그먼트는 stroke_data 뒤에 그려진 것이므로 타일을 다 읽은 뒤 순서대로 이어 붙인다.
+ */
+public class TileMergeStrokeReader implements StrokeReader {
+
+    /**
+     * 타일 하나의 LSTK 블록과 순번 (오름차순, 델타 varint).
+     */
+    public record Tile(byte[] data, byte[] ordinals) {
+    }
+
+    private final PriorityQueue<Cursor> cursors = new PriorityQueue<>();
+    private final List<Cursor> opened = new ArrayList<>();
+    private final ConcatStrokeReader segments;
+
+    public TileMergeStrokeReader(List<Tile> tiles, List<byte[]> segments) throws IOException {
+        this.segments = new ConcatStrokeReader(segments);
+        try {
+            for (Tile tile : tiles) {
+                Cursor cursor = new Cursor(tile);
+                opened.add(cursor);
+                if (cursor.advance()) {
+                    cursors.add(cursor);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean next(Stroke target) throws IOException {
+        Cursor cursor = cursors.poll();
+        if (cursor == null) {
+            return segments.next(target);
+        }
+        if (!cursor.decoder.next(target)) {
+            throw new IOException("타일의 스트로크 수가 순번 수보다 적습니다");
+        }
+        if (cursor.advance()) {
+            cursors.add(cursor);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (Cursor cursor : opened) {
+            try {
+                cursor.decoder.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        opened.clear();
+        cursors.clear();
+        segments.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static final class Cursor implements Comparable<Cursor> {
+
+        private final StrokeDecoder decoder;
+        private final ByteArrayInputStream ordinals;
+        private long ordinal = -1;
+
+        Cursor(Tile tile) throws IOException {
+            this.decoder = new StrokeDecoder(new ByteArrayInputStream(tile.data()));
+            this.ordinals = new ByteArrayInputStream(tile.ordinals());
+        }
+
+        /**
+         * @return 남은 스트로크가 있으면 true
+         */
+        boolean advance() throws IOException {
+            if (ordinals.available() == 0) {
+                return false;
+            }
+            ordinal += VarInts.readUnsigned(ordinals) + 1;
+            return true;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return Long.compare(ordinal, other.ordinal);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.liten.api.utils.stroke;
+
+import java.io.IOException;
+
+/**
+ * 뷰포트 사각형과 겹치는 스트로크만 통과시키고, 요청한 상세 수준으로 단순화한다.
+ */
+public class ViewportStrokeReader implements StrokeReader {
+
+    private final StrokeReader delegate;
+    private final float left;
+    private final float top;
+    private final float right;
+    private final float bottom;
+    private final float tolerance;
+
+    public ViewportStrokeReader(StrokeReader delegate, float left, float top, float right, float bottom, int lod) {
+        this.delegate = delegate;
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+        this.tolerance = StrokeSimplifier.toleranceFor(lod);
+    }
+
+    @Override
+    public boolean next(Stroke target) throws IOException {
+        while (delegate.next(target)) {
+            StrokeBounds bounds = StrokeBounds.of(target);
+            if (bounds != null && bounds.intersects(left, top, right, bottom)) {
+                StrokeSimplifier.simplify(target, tolerance);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
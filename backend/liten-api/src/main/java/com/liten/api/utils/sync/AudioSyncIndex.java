@@ -0,0 +1,268 @@
+package com.liten.api.utils.sync;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * 오디오 하나에 연결된 텍스트/필기/동기화 마커의 재생 위치 색인.
+ *
+ * <p>종류별로 위치 오름차순의 기본형 배열을 두고 이진 탐색으로 조회한다. 각 항목은 자신의 위치부터
+ * 같은 종류의 다음 항목 위치 직전까지 활성 상태로 본다. 한 번 만들면 바뀌지 않으므로 여러 스레드가 잠금 없이 읽는다.
+ */
+public final class AudioSyncIndex {
+
+    private final long audioId;
+    private final long ownerId;
+    private final Track texts;
+    private final Track drawings;
+    private final Track markers;
+    private final long[] markerContentIds;
+    private final byte[] markerTypeCodes;
+    private final String[] markerTypes;
+
+    private AudioSyncIndex(Builder builder) {
+        this.audioId = builder.audioId;
+        this.ownerId = builder.ownerId;
+        this.texts = builder.texts.build(null);
+        this.drawings = builder.drawings.build(null);
+        int[] markerOrder = builder.markers.order();
+        this.markers = builder.markers.build(markerOrder);
+        this.markerContentIds = permute(builder.markerContentIds, markerOrder, builder.markers.size);
+        this.markerTypeCodes = new byte[builder.markers.size];
+        for (int i = 0; i < markerTypeCodes.length; i++) {
+            markerTypeCodes[i] = builder.markerTypeCodes[markerOrder != null ? markerOrder[i] : i];
+        }
+        this.markerTypes = Arrays.copyOf(builder.markerTypes, builder.markerTypeCount);
+    }
+
+    public static Builder builder(long audioId, long ownerId) {
+        return new Builder(audioId, ownerId);
+    }
+
+    public long getAudioId() {
+        return audioId;
+    }
+
+    public long getOwnerId() {
+        return ownerId;
+    }
+
+    public Track texts() {
+        return texts;
+    }
+
+    public Track drawings() {
+        return drawings;
+    }
+
+    public Track markers() {
+        return markers;
+    }
+
+    /**
+     * @return 마커의 content_id. 값이 없던 마커는 -1
+     */
+    public long markerContentId(int index) {
+        return markerContentIds[index];
+    }
+
+    /**
+     * @return 마커의 content_type. 값이 없던 마커는 null
+     */
+    public String markerContentType(int index) {
+        int code = markerTypeCodes[index];
+        return code < 0 ? null : markerTypes[code];
+    }
+
+    public int size() {
+        return texts.size + drawings.size + markers.size;
+    }
+
+    /**
+     * 캐시 크기 산정용 대략적인 힙 사용량.
+     */
+    public long estimatedBytes() {
+        return 64L + 16L * size() + 9L * markers.size;
+    }
+
+    /**
+     * 위치 오름차순으로 정렬된 (위치, 식별자) 배열.
+     */
+    public static final class Track {
+
+        private final long[] positions;
+        private final long[] ids;
+        private final int size;
+
+        private Track(long[] positions, long[] ids, int size) {
+            this.positions = positions;
+            this.ids = ids;
+            this.size = size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long position(int index) {
+            return positions[index];
+        }
+
+        public long id(int index) {
+            return ids[index];
+        }
+
+        /**
+         * @return 위치가 t 이하인 마지막 항목(= t 시점에 활성인 항목)의 인덱스, 없으면 -1
+         */
+        public int activeAt(long t) {
+            return upperBound(t) - 1;
+        }
+
+        /**
+         * @return 위치가 t 이상인 첫 항목의 인덱스, 없으면 size
+         */
+        public int lowerBound(long t) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (positions[mid] < t) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int upperBound(long t) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (positions[mid] <= t) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    public static final class Builder {
+
+        private final long audioId;
+        private final long ownerId;
+        private final TrackBuilder texts = new TrackBuilder();
+        private final TrackBuilder drawings = new TrackBuilder();
+        private final TrackBuilder markers = new TrackBuilder();
+        private long[] markerContentIds = new long[16];
+        private byte[] markerTypeCodes = new byte[16];
+        private String[] markerTypes = new String[4];
+        private int markerTypeCount;
+
+        private Builder(long audioId, long ownerId) {
+            this.audioId = audioId;
+            this.ownerId = ownerId;
+        }
+
+        public Builder addText(long textId, long positionMs) {
+            texts.add(positionMs, textId);
+            return this;
+        }
+
+        public Builder addDrawing(long drawingId, long positionMs) {
+            drawings.add(positionMs, drawingId);
+            return this;
+        }
+
+        public Builder addMarker(long syncId, long positionMs, String contentType, Long contentId) {
+            int index = markers.size;
+            markers.add(positionMs, syncId);
+            if (index == markerContentIds.length) {
+                markerContentIds = Arrays.copyOf(markerContentIds, index * 2);
+                markerTypeCodes = Arrays.copyOf(markerTypeCodes, index * 2);
+            }
+            markerContentIds[index] = contentId != null ? contentId : -1L;
+            markerTypeCodes[index] = typeCode(contentType);
+            return this;
+        }
+
+        public AudioSyncIndex build() {
+            return new AudioSyncIndex(this);
+        }
+
+        private byte typeCode(String contentType) {
+            if (contentType == null) {
+                return -1;
+            }
+            for (int i = 0; i < markerTypeCount; i++) {
+                if (markerTypes[i].equals(contentType)) {
+                    return (byte) i;
+                }
+            }
+            if (markerTypeCount == Byte.MAX_VALUE) {
+                throw new IllegalStateException("마커 content_type 종류가 너무 많습니다");
+            }
+            if (markerTypeCount == markerTypes.length) {
+                markerTypes = Arrays.copyOf(markerTypes, markerTypeCount * 2);
+            }
+            markerTypes[markerTypeCount] = contentType;
+            return (byte) markerTypeCount++;
+        }
+    }
+
+    private static final class TrackBuilder {
+
+        private long[] positions = new long[16];
+        private long[] ids = new long[16];
+        private int size;
+        private boolean sorted = true;
+
+        void add(long position, long id) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            if (size > 0 && position < positions[size - 1]) {
+                sorted = false;
+            }
+            positions[size] = position;
+            ids[size] = id;
+            size++;
+        }
+
+        /**
+         * @return 위치 오름차순 정렬 순서. 이미 정렬되어 있으면 null
+         */
+        int[] order() {
+            if (sorted) {
+                return null;
+            }
+            return IntStream.range(0, size).boxed()
+                    .sorted((a, b) -> Long.compare(positions[a], positions[b]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        Track build(int[] order) {
+            if (order == null) {
+                order = order();
+            }
+            return new Track(permute(positions, order, size), permute(ids, order, size), size);
+        }
+    }
+
+    private static long[] permute(long[] values, int[] order, int size) {
+        if (order == null) {
+            return Arrays.copyOf(values, size);
+        }
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = values[order[i]];
+        }
+        return result;
+    }
+}
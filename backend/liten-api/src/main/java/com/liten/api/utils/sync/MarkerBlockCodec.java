@@ -0,0 +1,274 @@
+package com.liten.api.utils.sync;
+
+import com.liten.api.utils.VarInts;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 오디오별 동기화 마커 블록(LSMB) 포맷. 마커를 행 대신 열 단위로 모아 기록한다.
+ *
+ * <pre>
+ * header      : 'L' 'S' 'M' 'B' | version(1) | flags(1) | count(varint)
+ * positions   : p0(zigzag) | (p1 - p0)(zigzag) | ((pi - pi-1) - (pi-1 - pi-2))(zigzag)*
+ * types       : dictSize(varint) | (len(varint) utf8)* | code(1)*        -- code 0 = null, k = dict[k-1]
+ * contentIds  : Δ(id + 1)(zigzag)*                                       -- 0 = null
+ * side        : length(varint) | ((len + 1)(varint) utf8)*               -- FLAG_DEFLATE_SIDE 이면 deflate 블록, 0 = null
+ * </pre>
+ *
+ * 마커는 위치 순으로 정렬하여 기록한다. 일정 간격으로 찍히는 마커는 위치 이차 차분이 0 근처이므로 대부분 1 바이트가 된다.
+ */
+public final class MarkerBlockCodec {
+
+    public static final byte[] MAGIC = {'L', 'S', 'M', 'B'};
+    public static final int VERSION = 1;
+
+    public static final int FLAG_DEFLATE_SIDE = 0x01;
+
+    /** 이 크기 이상의 부가 데이터 영역만 deflate 압축한다. */
+    public static final int SIDE_COMPRESSION_THRESHOLD = 128;
+
+    private static final int MAX_DICTIONARY_SIZE = 255;
+
+    private MarkerBlockCodec() {
+    }
+
+    public static byte[] encode(List<SyncMarkerData> markers) {
+        List<SyncMarkerData> sorted = new ArrayList<>(markers);
+        sorted.sort(Comparator.comparingLong(SyncMarkerData::positionMs));
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(32 + sorted.size() * 4);
+            out.write(MAGIC);
+            out.write(VERSION);
+            byte[] side = encodeSide(sorted);
+            boolean deflateSide = side.length >= SIDE_COMPRESSION_THRESHOLD;
+            if (deflateSide) {
+                byte[] compressed = deflate(side);
+                deflateSide = compressed.length < side.length;
+                if (deflateSide) {
+                    side = compressed;
+                }
+            }
+            out.write(deflateSide ? FLAG_DEFLATE_SIDE : 0);
+            VarInts.writeUnsigned(out, sorted.size());
+
+            long previous = 0;
+            long previousDelta = 0;
+            for (int i = 0; i < sorted.size(); i++) {
+                long position = sorted.get(i).positionMs();
+                if (i == 0) {
+                    VarInts.writeSigned(out, position);
+                } else {
+                    long delta = position - previous;
+                    VarInts.writeSigned(out, i == 1 ? delta : delta - previousDelta);
+                    previousDelta = delta;
+                }
+                previous = position;
+            }
+
+            List<String> dictionary = new ArrayList<>();
+            byte[] codes = new byte[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                String type = sorted.get(i).contentType();
+                if (type == null) {
+                    continue;
+                }
+                int index = dictionary.indexOf(type);
+                if (index < 0) {
+                    if (dictionary.size() == MAX_DICTIONARY_SIZE) {
+                        throw new IllegalArgumentException("마커 content_type 종류가 너무 많습니다");
+                    }
+                    dictionary.add(type);
+                    index = dictionary.size() - 1;
+                }
+                codes[i] = (byte) (index + 1);
+            }
+            VarInts.writeUnsigned(out, dictionary.size());
+            for (String type : dictionary) {
+                writeString(out, type);
+            }
+            out.write(codes);
+
+            long previousId = 0;
+            for (SyncMarkerData marker : sorted) {
+                long value = marker.contentId() != null ? marker.contentId() + 1 : 0;
+                VarInts.writeSigned(out, value - previousId);
+                previousId = value;
+            }
+
+            VarInts.writeUnsigned(out, side.length);
+            out.write(side);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 마커를 위치 순으로 정렬하여 content_type 종류가 블록당 한도(255)를 넘지 않도록 나눈다.
+     * 각 묶음은 {@link #encode} 가 실패하지 않는다.
+     */
+    public static List<List<SyncMarkerData>> split(List<SyncMarkerData> markers) {
+        List<SyncMarkerData> sorted = new ArrayList<>(markers);
+        sorted.sort(Comparator.comparingLong(SyncMarkerData::positionMs));
+        List<List<SyncMarkerData>> blocks = new ArrayList<>(1);
+        Set<String> types = new HashSet<>();
+        int start = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            String type = sorted.get(i).contentType();
+            if (type != null && !types.contains(type) && types.size() == MAX_DICTIONARY_SIZE) {
+                blocks.add(sorted.subList(start, i));
+                types.clear();
+                start = i;
+            }
+            if (type != null) {
+                types.add(type);
+            }
+        }
+        if (start < sorted.size()) {
+            blocks.add(sorted.subList(start, sorted.size()));
+        }
+        return blocks;
+    }
+
+    public static boolean isBlock(byte[] data) {
+        if (data == null || data.length < MAGIC.length + 2) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param includeSideData false 이면 부가 데이터 영역을 풀지 않는다 (위치 색인 구축용)
+     */
+    public static List<SyncMarkerData> decode(byte[] data, boolean includeSideData) {
+        if (!isBlock(data)) {
+            throw new IllegalArgumentException("LSMB 마커 블록이 아닙니다");
+        }
+        try {
+            ByteArrayInputStream in = new ByteArrayInputStream(data, MAGIC.length, data.length - MAGIC.length);
+            int version = in.read();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 마커 블록 버전입니다: " + version);
+            }
+            int flags = in.read();
+            int count = (int) VarInts.readUnsigned(in);
+
+            long[] positions = new long[count];
+            long previousDelta = 0;
+            for (int i = 0; i < count; i++) {
+                long value = VarInts.readSigned(in);
+                if (i == 0) {
+                    positions[i] = value;
+                } else {
+                    long delta = i == 1 ? value : previousDelta + value;
+                    positions[i] = positions[i - 1] + delta;
+                    previousDelta = delta;
+                }
+            }
+
+            int dictionarySize = (int) VarInts.readUnsigned(in);
+            String[] dictionary = new String[dictionarySize];
+            for (int i = 0; i < dictionarySize; i++) {
+                dictionary[i] = readString(in);
+            }
+            byte[] codes = readFully(in, count);
+
+            long[] contentIds = new long[count];
+            long previousId = 0;
+            for (int i = 0; i < count; i++) {
+                previousId += VarInts.readSigned(in);
+                contentIds[i] = previousId;
+            }
+
+            String[] side = new String[count];
+            if (includeSideData) {
+                int sideLength = (int) VarInts.readUnsigned(in);
+                InputStream sideIn = new ByteArrayInputStream(readFully(in, sideLength));
+                if ((flags & FLAG_DEFLATE_SIDE) != 0) {
+                    sideIn = new InflaterInputStream(sideIn);
+                }
+                for (int i = 0; i < count; i++) {
+                    int length = (int) VarInts.readUnsigned(sideIn);
+                    if (length > 0) {
+                        side[i] = new String(readFully(sideIn, length - 1), StandardCharsets.UTF_8);
+                    }
+                }
+            }
+
+            List<SyncMarkerData> markers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int code = codes[i] & 0xFF;
+                markers.add(new SyncMarkerData(positions[i],
+                        code == 0 ? null : dictionary[code - 1],
+                        contentIds[i] == 0 ? null : contentIds[i] - 1,
+                        side[i]));
+            }
+            return markers;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("마커 블록이 손상되었습니다: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] encodeSide(List<SyncMarkerData> markers) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (SyncMarkerData marker : markers) {
+            if (marker.additionalData() == null) {
+                VarInts.writeUnsigned(out, 0);
+                continue;
+            }
+            byte[] bytes = marker.additionalData().getBytes(StandardCharsets.UTF_8);
+            VarInts.writeUnsigned(out, bytes.length + 1L);
+            out.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+            deflate.write(data);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        VarInts.writeUnsigned(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(InputStream in) throws IOException {
+        int length = (int) VarInts.readUnsigned(in);
+        return new String(readFully(in, length), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readFully(InputStream in, int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException("마커 블록 데이터가 중간에 끝났습니다");
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,7 @@
+package com.liten.api.utils.sync;
+
+/**
+ * 동기화 마커 한 개. {@link MarkerBlockCodec} 블록의 한 행에 해당한다.
+ */
+public record SyncMarkerData(long positionMs, String contentType, Long contentId, String additionalData) {
+}
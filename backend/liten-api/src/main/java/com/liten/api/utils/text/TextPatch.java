@@ -0,0 +1,124 @@
+package com.liten.api.utils.text;
+
+import com.liten.api.utils.VarInts;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 텍스트 노트 한 번의 저장에 해당하는 편집 묶음.
+ *
+ * <p>content 와 plainText 각각에 대해 순차 적용되는 치환 편집 목록을 가진다.
+ * 오프셋과 길이는 UTF-16 코드 유닛 기준이며(Java/Dart String 과 동일), 각 편집은 앞선 편집이 적용된 결과를 기준으로 한다.
+ *
+ * <pre>
+ * patch : contentEdits | plainTextEdits
+ * edits : count(varint) (offset(varint) deleteCount(varint) insertLen(varint) insertUtf8)*
+ * </pre>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TextPatch {
+
+    private List<Edit> contentEdits = new ArrayList<>();
+    private List<Edit> plainTextEdits = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Edit {
+        private int offset;
+        private int deleteCount;
+        private String insert;
+    }
+
+    public byte[] encode() {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+            writeEdits(out, contentEdits);
+            writeEdits(out, plainTextEdits);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static TextPatch decode(byte[] data) {
+        try {
+            ByteArrayInputStream in = new ByteArrayInputStream(data);
+            List<Edit> content = readEdits(in);
+            List<Edit> plainText = readEdits(in);
+            return new TextPatch(content, plainText);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("텍스트 패치 데이터가 손상되었습니다", e);
+        }
+    }
+
+    /**
+     * 편집을 적용했을 때의 길이를 계산한다. 범위를 벗어나는 편집이 있으면 예외를 던진다.
+     * 본문을 읽지 않고 길이만으로 패치를 검증할 수 있다.
+     */
+    public static int applyLength(int length, List<Edit> edits) {
+        int current = length;
+        for (Edit edit : edits) {
+            int insertLength = edit.getInsert() != null ? edit.getInsert().length() : 0;
+            if (edit.getOffset() < 0 || edit.getDeleteCount() < 0
+                    || edit.getOffset() + edit.getDeleteCount() > current) {
+                throw new IllegalArgumentException(String.format(
+                        "편집 범위가 올바르지 않습니다: offset=%d, delete=%d, length=%d",
+                        edit.getOffset(), edit.getDeleteCount(), current));
+            }
+            current = current - edit.getDeleteCount() + insertLength;
+        }
+        return current;
+    }
+
+    public static void apply(StringBuilder text, List<Edit> edits) {
+        for (Edit edit : edits) {
+            int end = edit.getOffset() + edit.getDeleteCount();
+            if (edit.getOffset() < 0 || edit.getDeleteCount() < 0 || end > text.length()) {
+                throw new IllegalArgumentException("편집 범위가 올바르지 않습니다");
+            }
+            text.replace(edit.getOffset(), end, edit.getInsert() != null ? edit.getInsert() : "");
+        }
+    }
+
+    private static void writeEdits(ByteArrayOutputStream out, List<Edit> edits) throws IOException {
+        List<Edit> list = edits != null ? edits : List.of();
+        VarInts.writeUnsigned(out, list.size());
+        for (Edit edit : list) {
+            byte[] insert = edit.getInsert() != null
+                    ? edit.getInsert().getBytes(StandardCharsets.UTF_8) : new byte[0];
+            VarInts.writeUnsigned(out, edit.getOffset());
+            VarInts.writeUnsigned(out, edit.getDeleteCount());
+            VarInts.writeUnsigned(out, insert.length);
+            out.write(insert);
+        }
+    }
+
+    private static List<Edit> readEdits(ByteArrayInputStream in) throws IOException {
+        int count = (int) VarInts.readUnsigned(in);
+        List<Edit> edits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int offset = (int) VarInts.readUnsigned(in);
+            int deleteCount = (int) VarInts.readUnsigned(in);
+            int insertLength = (int) VarInts.readUnsigned(in);
+            byte[] insert = in.readNBytes(insertLength);
+            if (insert.length != insertLength) {
+                throw new EOFException("텍스트 패치 데이터가 중간에 끝났습니다");
+            }
+            edits.add(new Edit(offset, deleteCount, new String(insert, StandardCharsets.UTF_8)));
+        }
+        return edits;
+    }
+}
@@ -0,0 +1,28 @@
+-- 분수 순위 키
+-- 항목 하나를 옮길 때 그 행만 갱신하도록 정수 sort_order 대신 사전 순으로 비교하는 문자열 키를 둔다.
+-- 키는 base62 숫자이며 ascii_bin 으로 바이트 순 정렬한다.
+
+ALTER TABLE liten_spaces ADD COLUMN sort_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin AFTER sort_order;
+ALTER TABLE text_contents ADD COLUMN sort_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin AFTER audio_sync_position;
+ALTER TABLE drawing_contents ADD COLUMN sort_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin AFTER audio_sync_position;
+
+-- 기존 목록 순서대로 같은 길이의 키를 매긴다 (base36 은 base62 숫자의 앞부분과 같다. 끝의 'V' 는 끝자리 0 을 피하기 위함)
+UPDATE liten_spaces ls
+JOIN (SELECT space_id, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY sort_order ASC, created_at DESC, space_id ASC) AS rn
+      FROM liten_spaces) ranked ON ranked.space_id = ls.space_id
+SET ls.sort_key = CONCAT(LPAD(CONV(ranked.rn, 10, 36), 4, '0'), 'V'), ls.updated_at = ls.updated_at;
+
+UPDATE text_contents tc
+JOIN (SELECT text_id, ROW_NUMBER() OVER (PARTITION BY space_id ORDER BY created_at DESC, text_id ASC) AS rn
+      FROM text_contents) ranked ON ranked.text_id = tc.text_id
+SET tc.sort_key = CONCAT(LPAD(CONV(ranked.rn, 10, 36), 4, '0'), 'V'), tc.updated_at = tc.updated_at;
+
+UPDATE drawing_contents dc
+JOIN (SELECT drawing_id, ROW_NUMBER() OVER (PARTITION BY space_id ORDER BY created_at DESC, drawing_id ASC) AS rn
+      FROM drawing_contents) ranked ON ranked.drawing_id = dc.drawing_id
+SET dc.sort_key = CONCAT(LPAD(CONV(ranked.rn, 10, 36), 4, '0'), 'V'), dc.updated_at = dc.updated_at;
+
+DROP INDEX idx_user_sort_order ON liten_spaces;
+CREATE INDEX idx_user_sort_key ON liten_spaces (user_id, sort_key);
+CREATE INDEX idx_space_sort_key ON text_contents (space_id, sort_key);
+CREATE INDEX idx_space_sort_key ON drawing_contents (space_id, sort_key);
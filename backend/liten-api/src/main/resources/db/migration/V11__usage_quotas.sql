@@ -0,0 +1,26 @@
+-- 구독 플랜별 사용 한도
+-- 공간별 저장 용량과 사용자별 공간 수/저장 용량을 카운터로 유지하여 생성 시 한도를 COUNT 없이 확인한다.
+
+ALTER TABLE liten_space_stats ADD COLUMN storage_bytes BIGINT NOT NULL DEFAULT 0 AFTER drawing_count;
+
+UPDATE liten_space_stats st
+SET st.storage_bytes =
+        (SELECT COALESCE(SUM(ac.file_size), 0) FROM audio_contents ac WHERE ac.space_id = st.space_id AND ac.deleted_at IS NULL) +
+        (SELECT COALESCE(SUM(dc.file_size), 0) FROM drawing_contents dc WHERE dc.space_id = st.space_id AND dc.deleted_at IS NULL);
+
+CREATE TABLE user_usage (
+    user_id BIGINT PRIMARY KEY,
+    space_count INT NOT NULL DEFAULT 0,
+    storage_bytes BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+INSERT INTO user_usage (user_id, space_count, storage_bytes)
+SELECT u.user_id,
+       (SELECT COUNT(*) FROM liten_spaces ls WHERE ls.user_id = u.user_id AND ls.deleted_at IS NULL),
+       (SELECT COALESCE(SUM(st.storage_bytes), 0) FROM liten_space_stats st
+        JOIN liten_spaces ls ON ls.space_id = st.space_id
+        WHERE ls.user_id = u.user_id AND ls.deleted_at IS NULL)
+FROM users u;
@@ -0,0 +1,75 @@
+-- 소프트 삭제 수명 주기
+-- 조회는 항상 (소유자, deleted_at IS NULL) 조건이므로 색인이 소유자 다음에 deleted_at 을 두어 삭제된 행을 건너뛰게 한다.
+-- 보관 기간이 지난 삭제 행은 TrashPurger 가 *_archive 테이블(압축 행 포맷)로 옮긴 뒤 원본 테이블에서 지운다.
+
+-- 공간/컨텐츠 목록: (소유자, deleted_at, sort_key)
+CREATE INDEX idx_user_deleted_sort_key ON liten_spaces (user_id, deleted_at, sort_key);
+DROP INDEX idx_user_sort_key ON liten_spaces;
+DROP INDEX idx_user_id ON liten_spaces;
+
+CREATE INDEX idx_space_deleted_sort_key ON text_contents (space_id, deleted_at, sort_key);
+DROP INDEX idx_space_sort_key ON text_contents;
+DROP INDEX idx_space_id ON text_contents;
+
+CREATE INDEX idx_space_deleted_sort_key ON drawing_contents (space_id, deleted_at, sort_key);
+DROP INDEX idx_space_sort_key ON drawing_contents;
+DROP INDEX idx_space_id ON drawing_contents;
+
+CREATE INDEX idx_space_deleted ON audio_contents (space_id, deleted_at);
+DROP INDEX idx_space_id ON audio_contents;
+
+CREATE INDEX idx_user_deleted ON refresh_tokens (user_id, deleted_at);
+DROP INDEX idx_user_id ON refresh_tokens;
+
+-- 오디오 재생 타임라인: (오디오, deleted_at, 위치)
+CREATE INDEX idx_audio_deleted_sync_position ON text_contents (audio_id, deleted_at, audio_sync_position);
+DROP INDEX idx_audio_sync_position ON text_contents;
+DROP INDEX idx_audio_id ON text_contents;
+
+CREATE INDEX idx_audio_deleted_sync_position ON drawing_contents (audio_id, deleted_at, audio_sync_position);
+DROP INDEX idx_audio_sync_position ON drawing_contents;
+DROP INDEX idx_audio_id ON drawing_contents;
+
+CREATE INDEX idx_audio_deleted_position ON sync_timestamps (audio_id, deleted_at, audio_position_ms);
+DROP INDEX idx_audio_position ON sync_timestamps;
+
+-- 보관 테이블: 원본 컬럼 + archived_at. 고유 제약 없이 식별자/소유자 색인만 둔다
+CREATE TABLE users_archive ROW_FORMAT=COMPRESSED AS
+SELECT t.*, CAST(NULL AS DATETIME) AS archived_at FROM users t WHERE 1 = 0;
+ALTER TABLE users_archive ADD INDEX idx_user_id (user_id), ADD INDEX idx_archived_at (archived_at);
+
+CREATE TABLE liten_spaces_archive ROW_FORMAT=COMPRESSED AS
+SELECT t.*, CAST(NULL AS DATETIME) AS archived_at FROM liten_spaces t WHERE 1 = 0;
+ALTER TABLE liten_spaces_archive ADD INDEX idx_space_id (space_id), ADD INDEX idx_user_id (user_id);
+
+CREATE TABLE audio_contents_archive ROW_FORMAT=COMPRESSED AS
+SELECT t.*, CAST(NULL AS DATETIME) AS archived_at FROM audio_contents t WHERE 1 = 0;
+ALTER TABLE audio_contents_archive ADD INDEX idx_audio_id (audio_id), ADD INDEX idx_space_id (space_id);
+
+CREATE TABLE text_contents_archive ROW_FORMAT=COMPRESSED AS
+SELECT t.*, CAST(NULL AS DATETIME) AS archived_at FROM text_contents t WHERE 1 = 0;
+ALTER TABLE text_contents_archive ADD INDEX idx_text_id (text_id), ADD INDEX idx_space_id (space_id);
+
+CREATE TABLE text_content_patches_archive ROW_FORMAT=COMPRESSED AS
+SELECT t.*, CAST(NULL AS DATETIME) AS archived_at FROM text_content_patches t WHERE 1 = 0;
+ALTER TABLE text_content_patches_archive ADD INDEX idx_text_version (text_id, version);
+
+CREATE TABLE text_content_snapshots_archive ROW_FORMAT=COMPRESSED AS
+SELECT t.*, CAST(NULL AS DATETIME) AS archived_at FROM text_content_snapshots t WHERE 1 = 0;
+ALTER TABLE text_content_snapshots_archive ADD INDEX idx_text_version (text_id, version);
+
+CREATE TABLE drawing_contents_archive ROW_FORMAT=COMPRESSED AS
+SELECT t.*, CAST(NULL AS DATETIME) AS archived_at FROM drawing_contents t WHERE 1 = 0;
+ALTER TABLE drawing_contents_archive ADD INDEX idx_drawing_id (drawing_id), ADD INDEX idx_space_id (space_id);
+
+CREATE TABLE drawing_stroke_segments_archive ROW_FORMAT=COMPRESSED AS
+SELECT t.*, CAST(NULL AS DATETIME) AS archived_at FROM drawing_stroke_segments t WHERE 1 = 0;
+ALTER TABLE drawing_stroke_segments_archive ADD INDEX idx_drawing_segment (drawing_id, segment_id);
+
+CREATE TABLE sync_timestamps_archive ROW_FORMAT=COMPRESSED AS
+SELECT t.*, CAST(NULL AS DATETIME) AS archived_at FROM sync_timestamps t WHERE 1 = 0;
+ALTER TABLE sync_timestamps_archive ADD INDEX idx_sync_id (sync_id), ADD INDEX idx_audio_id (audio_id);
+
+CREATE TABLE sync_marker_blocks_archive ROW_FORMAT=COMPRESSED AS
+SELECT t.*, CAST(NULL AS DATETIME) AS archived_at FROM sync_marker_blocks t WHERE 1 = 0;
+ALTER TABLE sync_marker_blocks_archive ADD INDEX idx_audio_first_position (audio_id, first_position_ms);
@@ -0,0 +1,32 @@
+-- 계정/공간 삭제 작업
+-- 요청 시에는 소프트 삭제만 하고, 실제 행은 백그라운드 작업이 하위 테이블부터 일정 크기씩 지운다.
+-- 지운 오디오/필기의 저장소 객체 키는 storage_cleanup_queue 에 넘겨 따로 삭제한다.
+
+CREATE TABLE deletion_jobs (
+    job_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    target_type VARCHAR(20) NOT NULL,
+    target_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    current_step VARCHAR(100),
+    deleted_rows BIGINT NOT NULL DEFAULT 0,
+    attempts INT NOT NULL DEFAULT 0,
+    error_message VARCHAR(1000),
+    locked_until DATETIME,
+    finished_at DATETIME,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    deleted_at DATETIME,
+
+    INDEX idx_status_job (status, job_id),
+    INDEX idx_user_id (user_id)
+);
+
+CREATE TABLE storage_cleanup_queue (
+    cleanup_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    object_key VARCHAR(500) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_attempts_cleanup (attempts, cleanup_id)
+);
@@ -0,0 +1,38 @@
+-- 보관한 공간의 저장 계층
+-- 오래 쓰지 않은 보관 공간은 컨텐츠 행과 본문을 압축 행 묶음 하나로 콜드 저장소에 옮기고 원본 테이블에서 지운다(COLD).
+-- 공간 행과 통계 행은 남겨 목록에는 그대로 보이며, 처음 접근할 때 행 묶음을 다시 넣는다(HOT).
+
+ALTER TABLE liten_spaces
+    ADD COLUMN storage_tier VARCHAR(10) NOT NULL DEFAULT 'HOT',
+    ADD COLUMN tier_changed_at DATETIME;
+
+CREATE INDEX idx_tier_archived_updated ON liten_spaces (storage_tier, is_archived, updated_at);
+
+-- 콜드 공간당 한 행. 행 수/용량은 사용량 집계에 더한다
+CREATE TABLE space_cold_archives (
+    space_id BIGINT PRIMARY KEY,
+    object_key VARCHAR(500) NOT NULL,
+    packed_rows BIGINT NOT NULL DEFAULT 0,
+    packed_bytes BIGINT NOT NULL DEFAULT 0,
+    audio_count INT NOT NULL DEFAULT 0,
+    text_count INT NOT NULL DEFAULT 0,
+    drawing_count INT NOT NULL DEFAULT 0,
+    storage_bytes BIGINT NOT NULL DEFAULT 0,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (space_id) REFERENCES liten_spaces(space_id) ON DELETE CASCADE
+);
+
+-- 콜드 공간의 컨텐츠 ID -> 공간. ID 로 바로 들어온 요청을 되살리고, 공간 삭제 시 저장소 객체 키를 넘긴다
+CREATE TABLE space_cold_contents (
+    cold_content_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    content_type VARCHAR(10) NOT NULL,
+    content_id BIGINT NOT NULL,
+    space_id BIGINT NOT NULL,
+    file_path VARCHAR(500),
+    thumbnail_path VARCHAR(500),
+
+    UNIQUE KEY uk_content (content_type, content_id),
+    INDEX idx_space_id (space_id),
+    FOREIGN KEY (space_id) REFERENCES liten_spaces(space_id) ON DELETE CASCADE
+);
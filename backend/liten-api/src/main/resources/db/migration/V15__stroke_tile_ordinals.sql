@@ -0,0 +1,10 @@
+-- 타일 스트로크의 원래 순서
+-- 타일마다 담긴 스트로크가 stroke_data 에서 몇 번째였는지(델타 varint)를 저장해, 뷰포트 조회에서 여러 타일을
+-- 그린 순서대로 합친다. 순서 없이 타일 순으로 이어 붙이면 지우개와 겹친 스트로크의 앞뒤가 바뀐다.
+-- 기존 타일에는 순서가 없으므로 지우고, 다음에 stroke_data 가 바뀔 때 다시 만든다. 그 전까지는 전체 디코딩으로 응답한다.
+
+ALTER TABLE drawing_stroke_tiles
+    ADD COLUMN stroke_ordinals MEDIUMBLOB AFTER stroke_count;
+
+DELETE FROM drawing_stroke_tiles;
+UPDATE drawing_contents SET is_tile_indexed = FALSE WHERE is_tile_indexed = TRUE;
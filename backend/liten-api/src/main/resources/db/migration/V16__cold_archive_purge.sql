@@ -0,0 +1,8 @@
+-- 콜드 저장 후 원본 행을 나누어 지우기
+-- 묶음을 올리고 COLD 로 표시한 뒤 원본 테이블의 행은 짧은 트랜잭션 여러 번에 나누어 지운다.
+-- 다 지우기 전까지는 purge_pending 이 TRUE 이고, 그 사이에 되살리면 남은 행을 먼저 지운다.
+
+ALTER TABLE space_cold_archives
+    ADD COLUMN purge_pending BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX idx_purge_pending ON space_cold_archives (purge_pending);
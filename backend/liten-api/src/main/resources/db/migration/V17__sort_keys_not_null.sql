@@ -0,0 +1,29 @@
+-- 순서 키 필수화
+-- 키가 없는 행은 홈 화면 키셋 조회(sort_key > ?)에서 빠지므로, 남아 있는 목록을 다시 매기고 NOT NULL 로 바꾼다.
+-- 새 행은 엔티티 리스너와 부트스트랩 가져오기가 목록 끝 키를 매긴다.
+-- 키가 없는 행이 있는 목록만 기존 키 순서, 키 없는 행은 생성 순으로 끝에 두고 V10 과 같은 방식으로 다시 매긴다.
+
+UPDATE liten_spaces ls
+JOIN (SELECT space_id, ROW_NUMBER() OVER (PARTITION BY user_id
+          ORDER BY CASE WHEN sort_key IS NULL THEN 1 ELSE 0 END, sort_key ASC, space_id ASC) AS rn
+      FROM liten_spaces WHERE user_id IN (SELECT user_id FROM liten_spaces WHERE sort_key IS NULL)) ranked
+  ON ranked.space_id = ls.space_id
+SET ls.sort_key = CONCAT(LPAD(CONV(ranked.rn, 10, 36), 4, '0'), 'V'), ls.updated_at = ls.updated_at;
+
+UPDATE text_contents tc
+JOIN (SELECT text_id, ROW_NUMBER() OVER (PARTITION BY space_id
+          ORDER BY CASE WHEN sort_key IS NULL THEN 1 ELSE 0 END, sort_key ASC, text_id ASC) AS rn
+      FROM text_contents WHERE space_id IN (SELECT space_id FROM text_contents WHERE sort_key IS NULL)) ranked
+  ON ranked.text_id = tc.text_id
+SET tc.sort_key = CONCAT(LPAD(CONV(ranked.rn, 10, 36), 4, '0'), 'V'), tc.updated_at = tc.updated_at;
+
+UPDATE drawing_contents dc
+JOIN (SELECT drawing_id, ROW_NUMBER() OVER (PARTITION BY space_id
+          ORDER BY CASE WHEN sort_key IS NULL THEN 1 ELSE 0 END, sort_key ASC, drawing_id ASC) AS rn
+      FROM drawing_contents WHERE space_id IN (SELECT space_id FROM drawing_contents WHERE sort_key IS NULL)) ranked
+  ON ranked.drawing_id = dc.drawing_id
+SET dc.sort_key = CONCAT(LPAD(CONV(ranked.rn, 10, 36), 4, '0'), 'V'), dc.updated_at = dc.updated_at;
+
+ALTER TABLE liten_spaces MODIFY sort_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+ALTER TABLE text_contents MODIFY sort_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
+ALTER TABLE drawing_contents MODIFY sort_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NOT NULL;
@@ -0,0 +1,13 @@
+-- 검색 인덱스 변경 기록
+-- Lucene 인덱스는 노드마다 로컬 디스크에 있으므로, 검색 대상이 바뀌면 같은 트랜잭션에서 이 테이블에 남기고
+-- 모든 노드가 change_id 순서로 읽어 각자 인덱스에 반영한다. 보존 기간이 지난 행은 주기적으로 지운다.
+
+CREATE TABLE search_index_changes (
+    change_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    content_type VARCHAR(20) NOT NULL,
+    content_id BIGINT NOT NULL,
+    change_kind VARCHAR(20) NOT NULL,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_created_at (created_at)
+);
@@ -0,0 +1,17 @@
+-- 동기화 마커 대기열
+-- 추가된 마커를 블록으로 묶기 전까지 요청 트랜잭션 안에서 이 테이블에 남긴다. 어느 노드든 이 행을 읽어 블록으로
+-- 저장하고 같은 트랜잭션에서 지우므로, 노드가 비정상 종료되어도 마커를 잃지 않는다.
+
+CREATE TABLE sync_marker_staging (
+    staging_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    audio_id BIGINT NOT NULL,
+    position_ms BIGINT NOT NULL,
+    content_type VARCHAR(20),
+    content_id BIGINT,
+    additional_data JSON,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (audio_id) REFERENCES audio_contents(audio_id) ON DELETE CASCADE,
+    INDEX idx_audio_staging (audio_id, staging_id),
+    INDEX idx_created_at (created_at)
+);
@@ -0,0 +1,5 @@
+-- 필기 스트로크 바이너리 포맷 (LSTK)
+-- drawing_data(JSON) 는 레거시 행 호환을 위해 유지하며, 조회 시 stroke_data 로 변환된다.
+
+ALTER TABLE drawing_contents
+    ADD COLUMN stroke_data LONGBLOB AFTER drawing_data;
@@ -0,0 +1,15 @@
+-- 필기 스트로크 추가 세그먼트
+-- 펜을 뗄 때마다 새 스트로크만 저장하고, 압축 작업이 drawing_contents.stroke_data 에 병합한다.
+
+CREATE TABLE drawing_stroke_segments (
+    segment_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    drawing_id BIGINT NOT NULL,
+    stroke_count INT NOT NULL,
+    segment_data LONGBLOB NOT NULL,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    deleted_at DATETIME,
+
+    FOREIGN KEY (drawing_id) REFERENCES drawing_contents(drawing_id) ON DELETE CASCADE,
+    INDEX idx_drawing_segment (drawing_id, segment_id)
+);
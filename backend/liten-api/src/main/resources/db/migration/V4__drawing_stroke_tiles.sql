@@ -0,0 +1,21 @@
+-- 큰 캔버스 필기용 공간 타일 인덱스
+-- 스트로크 수가 임계값 이상인 필기만 타일로 분할되며, stroke_data 가 바뀔 때마다 다시 만든다.
+
+ALTER TABLE drawing_contents
+    ADD COLUMN is_tile_indexed BOOLEAN DEFAULT FALSE AFTER stroke_data;
+
+CREATE TABLE drawing_stroke_tiles (
+    tile_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    drawing_id BIGINT NOT NULL,
+    tile_x INT NOT NULL,
+    tile_y INT NOT NULL,
+    min_x FLOAT NOT NULL,
+    min_y FLOAT NOT NULL,
+    max_x FLOAT NOT NULL,
+    max_y FLOAT NOT NULL,
+    stroke_count INT NOT NULL,
+    tile_data LONGBLOB NOT NULL,
+
+    FOREIGN KEY (drawing_id) REFERENCES drawing_contents(drawing_id) ON DELETE CASCADE,
+    INDEX idx_drawing_bounds (drawing_id, min_x, max_x, min_y, max_y)
+);
@@ -0,0 +1,35 @@
+-- 텍스트 노트 패치 기반 저장
+-- text_contents.content/plain_text 는 snapshot_version 시점의 스냅샷이며, 이후 변경은 패치로 쌓인다.
+
+ALTER TABLE text_contents
+    ADD COLUMN content_version BIGINT NOT NULL DEFAULT 0 AFTER audio_sync_position,
+    ADD COLUMN snapshot_version BIGINT NOT NULL DEFAULT 0 AFTER content_version,
+    ADD COLUMN content_length INT AFTER snapshot_version,
+    ADD COLUMN plain_text_length INT AFTER content_length;
+
+CREATE TABLE text_content_patches (
+    patch_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    text_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    patch_data MEDIUMBLOB NOT NULL,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    deleted_at DATETIME,
+
+    FOREIGN KEY (text_id) REFERENCES text_contents(text_id) ON DELETE CASCADE,
+    UNIQUE KEY uk_text_version (text_id, version)
+);
+
+CREATE TABLE text_content_snapshots (
+    snapshot_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    text_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    content LONGTEXT,
+    plain_text LONGTEXT,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    deleted_at DATETIME,
+
+    FOREIGN KEY (text_id) REFERENCES text_contents(text_id) ON DELETE CASCADE,
+    INDEX idx_text_version (text_id, version)
+);
@@ -0,0 +1,14 @@
+-- 본문 컬럼 압축 저장
+-- LONGTEXT -> LONGBLOB 변환은 기존 UTF-8 바이트를 그대로 유지하므로 압축 전 행도 그대로 읽힌다.
+-- 압축된 값은 0xFF 로 시작한다 (com.liten.api.utils.compression.TextCompressor).
+
+ALTER TABLE text_contents
+    MODIFY content LONGBLOB,
+    MODIFY plain_text LONGBLOB;
+
+ALTER TABLE text_content_snapshots
+    MODIFY content LONGBLOB,
+    MODIFY plain_text LONGBLOB;
+
+ALTER TABLE drawing_contents
+    MODIFY drawing_data LONGBLOB;
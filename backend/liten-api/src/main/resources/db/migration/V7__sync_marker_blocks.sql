@@ -0,0 +1,17 @@
+-- 동기화 마커 블록
+-- 녹음 중 찍히는 마커를 오디오별로 모아 열 단위 압축 블록 하나로 저장한다. 기존 sync_timestamps 행도 계속 읽는다.
+
+CREATE TABLE sync_marker_blocks (
+    block_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    audio_id BIGINT NOT NULL,
+    first_position_ms BIGINT NOT NULL,
+    last_position_ms BIGINT NOT NULL,
+    marker_count INT NOT NULL,
+    block_data MEDIUMBLOB NOT NULL,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    deleted_at DATETIME,
+
+    FOREIGN KEY (audio_id) REFERENCES audio_contents(audio_id) ON DELETE CASCADE,
+    INDEX idx_audio_first_position (audio_id, first_position_ms)
+);
@@ -0,0 +1,5 @@
+-- 재생 타임라인 색인
+-- 오디오별 텍스트/필기를 동기화 위치 순으로 읽는 키셋 커서가 정렬 없이 색인 범위만 훑도록 한다.
+
+CREATE INDEX idx_audio_sync_position ON text_contents (audio_id, audio_sync_position);
+CREATE INDEX idx_audio_sync_position ON drawing_contents (audio_id, audio_sync_position);
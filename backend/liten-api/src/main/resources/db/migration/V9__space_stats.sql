@@ -0,0 +1,24 @@
+-- 홈 화면 공간 목록
+-- 공간별 컨텐츠 수를 따로 유지하여 목록 조회 시 컨텐츠 테이블을 세지 않는다.
+
+CREATE TABLE liten_space_stats (
+    space_id BIGINT PRIMARY KEY,
+    audio_count INT NOT NULL DEFAULT 0,
+    text_count INT NOT NULL DEFAULT 0,
+    drawing_count INT NOT NULL DEFAULT 0,
+    last_activity_at DATETIME,
+
+    FOREIGN KEY (space_id) REFERENCES liten_spaces(space_id) ON DELETE CASCADE
+);
+
+INSERT INTO liten_space_stats (space_id, audio_count, text_count, drawing_count, last_activity_at)
+SELECT ls.space_id,
+       (SELECT COUNT(*) FROM audio_contents ac WHERE ac.space_id = ls.space_id AND ac.deleted_at IS NULL),
+       (SELECT COUNT(*) FROM text_contents tc WHERE tc.space_id = ls.space_id AND tc.deleted_at IS NULL),
+       (SELECT COUNT(*) FROM drawing_contents dc WHERE dc.space_id = ls.space_id AND dc.deleted_at IS NULL),
+       ls.updated_at
+FROM liten_spaces ls;
+
+-- 키셋 페이지 조회가 (sort_order, space_id) 순서를 색인에서 바로 읽도록 한다
+UPDATE liten_spaces SET sort_order = 0 WHERE sort_order IS NULL;
+CREATE INDEX idx_user_sort_order ON liten_spaces (user_id, sort_order);
@@ -0,0 +1,60 @@
+package com.liten.api.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liten.bench.Fixtures;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오류 응답 만들기: 핸들러가 본문 맵을 만들고 Jackson 으로 직렬화하기까지.
+ * 500 계열은 스택 트레이스를 error 로그로 남기므로 그 포맷 비용도 포함한다 (출력은 버림, logback.xml).
+ * 예외 객체는 미리 만들어 두어 스택 수집 비용은 넣지 않는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorRenderingBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ObjectMapper objectMapper;
+    private BadCredentialsException badCredentials;
+    private VersionConflictException versionConflict;
+    private QuotaExceededException quotaExceeded;
+    private RuntimeException runtimeException;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        objectMapper = Fixtures.objectMapper();
+        badCredentials = new BadCredentialsException("Bad credentials");
+        versionConflict = new VersionConflictException("다른 기기에서 먼저 수정되었습니다", 12L);
+        quotaExceeded = new QuotaExceededException("무료 플랜의 공간 수 한도를 초과했습니다", "spaces", 5L);
+        runtimeException = new RuntimeException("공간을 찾을 수 없습니다");
+    }
+
+    @Benchmark
+    public byte[] badCredentials() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handleBadCredentials(badCredentials).getBody());
+    }
+
+    @Benchmark
+    public byte[] versionConflict() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handleVersionConflict(versionConflict).getBody());
+    }
+
+    @Benchmark
+    public byte[] quotaExceeded() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handleQuotaExceeded(quotaExceeded).getBody());
+    }
+
+    @Benchmark
+    public byte[] runtimeError() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(handler.handleRuntimeException(runtimeException).getBody());
+    }
+}
@@ -0,0 +1,74 @@
+package com.liten.api.security;
+
+import com.liten.api.model.User;
+import com.liten.bench.Fixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 거치는 JWT 처리. filterPass 는 사용자 조회를 고정 객체로 바꾼 인증 필터 한 번이며
+ * 실제 요청과 같이 토큰을 세 번 파싱한다 (사용자 이름, 그리고 유효성 검사에서 사용자 이름과 만료 시각).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private User user;
+    private String token;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        tokenProvider = new JwtTokenProvider(Fixtures.JWT_SECRET, Fixtures.JWT_EXPIRATION,
+                Fixtures.REFRESH_EXPIRATION, meterRegistry);
+        user = Fixtures.user();
+        token = tokenProvider.generateToken(user);
+        authorization = "Bearer " + token;
+        filter = new JwtAuthenticationFilter(tokenProvider, username -> user, meterRegistry);
+        filter.initMetrics();
+    }
+
+    @Benchmark
+    public String generate() {
+        return tokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return tokenProvider.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return tokenProvider.isTokenValid(token, user);
+    }
+
+    @Benchmark
+    public void filterPass(Blackhole blackhole) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/spaces");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+            blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.liten.api.utils.compression;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liten.api.dto.TextResponse;
+import com.liten.api.model.TextContent;
+import com.liten.api.utils.ResponseCompression;
+import com.liten.bench.BlackholeOutputStream;
+import com.liten.bench.Fixtures;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 텍스트 노트 본문의 저장 포맷 인코딩/디코딩과 본문 응답 경로.
+ *
+ * <p>jsonResponse 는 본문을 String 으로 풀어 TextResponse.Detail 에 담아 직렬화하는 기존 경로이고,
+ * streamResponse / streamGzipResponse 는 ContentBodyRepository 가 하는 것처럼 저장된 바이트를 읽는 만큼 풀어 그대로 내보낸다.
+ * 저장된 바이트 배열은 드라이버가 받아 둔 행 버퍼에 해당한다.
+ * 요청당 할당량은 {@code -prof gc} 의 gc.alloc.rate.norm 으로 본다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextBodyBenchmark {
+
+    /** 본문 문자 수. 512 미만은 압축하지 않고, 64K 이하는 LZ4, 그 이상은 zstd */
+    @Param({"400", "16384", "1048576"})
+    public int chars;
+
+    private TextCompressor compressor;
+    private ObjectMapper objectMapper;
+    private String content;
+    private byte[] stored;
+
+    @Setup
+    public void setUp() {
+        compressor = TextCompressor.defaults();
+        objectMapper = Fixtures.objectMapper();
+        content = Fixtures.noteContent(chars);
+        stored = compressor.encode(content);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return compressor.encode(content);
+    }
+
+    @Benchmark
+    public String decode() {
+        return TextCompressor.decode(stored);
+    }
+
+    @Benchmark
+    public void jsonResponse(Blackhole blackhole) throws IOException {
+        TextResponse.Detail detail = TextResponse.Detail.builder()
+                .textId(1L).spaceId(1L).version(1L)
+                .content(TextCompressor.decode(stored))
+                .formatType(TextContent.FormatType.RICH_TEXT)
+                .createdAt(LocalDateTime.MIN).updatedAt(LocalDateTime.MIN)
+                .build();
+        blackhole.consume(objectMapper.writeValueAsBytes(detail));
+    }
+
+    @Benchmark
+    public long streamResponse(Blackhole blackhole) throws IOException {
+        BlackholeOutputStream out = new BlackholeOutputStream(blackhole);
+        try (InputStream body = TextCompressor.openDecoded(new ByteArrayInputStream(stored))) {
+            body.transferTo(out);
+        }
+        return out.getWritten();
+    }
+
+    @Benchmark
+    public long streamGzipResponse(Blackhole blackhole) throws IOException {
+        BlackholeOutputStream out = new BlackholeOutputStream(blackhole);
+        ResponseCompression.gzip(target -> {
+            try (InputStream body = TextCompressor.openDecoded(new ByteArrayInputStream(stored))) {
+                body.transferTo(target);
+            }
+        }).writeTo(out);
+        return out.getWritten();
+    }
+}
@@ -0,0 +1,119 @@
+package com.liten.api.utils.stroke;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liten.bench.BlackholeOutputStream;
+import com.liten.bench.Fixtures;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 필기 본문의 LSTK 바이너리 포맷과 기존 JSON 의 비교.
+ *
+ * <ul>
+ *   <li>legacyJsonParse: 기존 drawing_data(JSON) 를 Jackson 트리로 읽기</li>
+ *   <li>binaryEncode / binaryDecode: 저장과 읽기</li>
+ *   <li>jsonToBinary: 기존 행 변환, binaryToJson: JSON 을 요청하는 클라이언트 응답</li>
+ * </ul>
+ * 크기 비교는 encodedSize 의 보조 카운터(jsonBytes, lstkBytes)로 보고하므로 {@code -rf json} 결과에도 남는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StrokeCodecBenchmark {
+
+    /** 스트로크 수. 한 페이지 메모와 빽빽한 강의 필기 */
+    @Param({"500", "5000"})
+    public int strokes;
+
+    private ObjectMapper objectMapper;
+    private List<Stroke> source;
+    private String json;
+    private byte[] binary;
+    private int jsonBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Fixtures.objectMapper();
+        source = Fixtures.handwriting(strokes);
+        binary = encode(source);
+        try (StrokeDecoder decoder = new StrokeDecoder(new ByteArrayInputStream(binary))) {
+            json = StrokeJsonCodec.binaryToJson(decoder);
+        }
+        jsonBytes = json.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * 본문 크기. 측정값(시간)은 의미가 없고 보조 카운터만 본다. JMH 는 EVENTS 카운터를 반복마다 더하므로
+     * 한 번만 실행한다. 명령행에서 -i/-wi 를 주면 그 배수가 되므로 이 벤치마크는 따로 실행한다.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public void encodedSize(EncodedSize size) {
+        size.jsonBytes = jsonBytes;
+        size.lstkBytes = binary.length;
+    }
+
+    @Benchmark
+    public JsonNode legacyJsonParse() throws IOException {
+        return objectMapper.readTree(json);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() throws IOException {
+        return encode(source);
+    }
+
+    @Benchmark
+    public void binaryDecode(Blackhole blackhole) throws IOException {
+        Stroke stroke = new Stroke();
+        try (StrokeDecoder decoder = new StrokeDecoder(new ByteArrayInputStream(binary))) {
+            while (decoder.next(stroke)) {
+                blackhole.consume(stroke.getX(stroke.getPointCount() - 1));
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] jsonToBinary() {
+        return StrokeJsonCodec.jsonToBinary(json);
+    }
+
+    @Benchmark
+    public void binaryToJson(Blackhole blackhole) throws IOException {
+        try (StrokeDecoder decoder = new StrokeDecoder(new ByteArrayInputStream(binary))) {
+            StrokeJsonCodec.binaryToJson(decoder, new BlackholeOutputStream(blackhole));
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        /** 기존 drawing_data(JSON) 의 UTF-8 크기 */
+        public long jsonBytes;
+        /** 압축한 LSTK 크기 */
+        public long lstkBytes;
+    }
+
+    private static byte[] encode(List<Stroke> strokes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (StrokeEncoder encoder = new StrokeEncoder(out)) {
+            for (Stroke stroke : strokes) {
+                encoder.write(stroke);
+            }
+        }
+        return StrokeFormat.compress(out.toByteArray());
+    }
+}
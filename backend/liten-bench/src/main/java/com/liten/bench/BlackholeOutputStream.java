@@ -0,0 +1,34 @@
+package com.liten.bench;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+
+/**
+ * 응답 스트림 대신 쓰는 출력. 받은 바이트를 Blackhole 에 넘겨 JIT 가 쓰기를 없애지 못하게 한다.
+ */
+public final class BlackholeOutputStream extends OutputStream {
+
+    private final Blackhole blackhole;
+    private long written;
+
+    public BlackholeOutputStream(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Override
+    public void write(int b) {
+        blackhole.consume(b);
+        written++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        blackhole.consume(b);
+        written += len;
+    }
+
+    public long getWritten() {
+        return written;
+    }
+}
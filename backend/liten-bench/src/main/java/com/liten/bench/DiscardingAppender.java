@@ -0,0 +1,18 @@
+package com.liten.bench;
+
+import ch.qos.logback.core.OutputStreamAppender;
+
+import java.io.OutputStream;
+
+/**
+ * 로그 이벤트를 패턴대로 바이트까지 만든 뒤 버린다. 로깅 비용(스택 트레이스 포맷 포함)은 측정에 넣되
+ * 콘솔을 수백만 줄로 채우지 않기 위함이다.
+ */
+public class DiscardingAppender<E> extends OutputStreamAppender<E> {
+
+    @Override
+    public void start() {
+        setOutputStream(OutputStream.nullOutputStream());
+        super.start();
+    }
+}
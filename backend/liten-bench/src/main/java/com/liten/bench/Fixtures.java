@@ -0,0 +1,131 @@
+package com.liten.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.liten.api.model.User;
+import com.liten.api.utils.stroke.Stroke;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크 입력. 매 실행이 같은 값을 쓰도록 모두 고정 시드로 만든다.
+ */
+public final class Fixtures {
+
+    public static final String JWT_SECRET = "liten-benchmark-secret-key-0123456789-abcdefghij";
+    public static final long JWT_EXPIRATION = 86_400_000L;
+    public static final long REFRESH_EXPIRATION = 604_800_000L;
+
+    private static final String[] WORDS = {
+            "회의", "녹음", "정리", "다음", "일정", "확인", "필기", "요약", "강의", "질문",
+            "meeting", "review", "draft", "sync", "note", "audio", "page", "todo", "idea", "follow-up"
+    };
+
+    private Fixtures() {
+    }
+
+    /**
+     * Boot 의 기본 ObjectMapper 와 같은 설정 (JavaTimeModule, 날짜는 ISO 문자열).
+     */
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    public static User user() {
+        User user = User.builder()
+                .userId(42L)
+                .email("bench@liten.app")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z9j0J5Yp1bQ7n6nU8q1m1k5K")
+                .nickname("벤치마크")
+                .appUniqueId("bench-device-0001")
+                .provider(User.AuthProvider.LOCAL)
+                .subscriptionType(User.SubscriptionType.STANDARD)
+                .subscriptionStartDate(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .subscriptionEndDate(LocalDateTime.of(2027, 1, 1, 0, 0))
+                .languageCode("ko")
+                .theme("CLASSIC_BLUE")
+                .isActive(true)
+                .lastLoginAt(LocalDateTime.of(2026, 10, 1, 9, 30))
+                .build();
+        user.setCreatedAt(LocalDateTime.of(2025, 6, 1, 12, 0));
+        return user;
+    }
+
+    /**
+     * 문단과 목록이 섞인 노트 본문 (HTML 서식). 한글과 영어를 섞어 UTF-8 길이가 문자 수보다 길다.
+     */
+    public static String noteContent(int approximateChars) {
+        Random random = new Random(approximateChars);
+        StringBuilder text = new StringBuilder(approximateChars + 256);
+        while (text.length() < approximateChars) {
+            boolean list = random.nextInt(4) == 0;
+            text.append(list ? "<ul>" : "<p>");
+            int sentences = 1 + random.nextInt(5);
+            for (int s = 0; s < sentences; s++) {
+                if (list) {
+                    text.append("<li>");
+                }
+                int words = 4 + random.nextInt(12);
+                for (int w = 0; w < words; w++) {
+                    if (w > 0) {
+                        text.append(' ');
+                    }
+                    text.append(WORDS[random.nextInt(WORDS.length)]);
+                }
+                text.append(list ? "</li>" : ". ");
+            }
+            text.append(list ? "</ul>\n" : "</p>\n");
+        }
+        return text.toString();
+    }
+
+    /**
+     * 손글씨와 비슷한 스트로크. 짧은 획이 많고, 점 간격이 일정하지 않으며 필압이 천천히 변한다.
+     */
+    public static List<Stroke> handwriting(int strokeCount) {
+        Random random = new Random(strokeCount);
+        List<Stroke> strokes = new ArrayList<>(strokeCount);
+        float lineY = 80;
+        float cursorX = 40;
+        long timestamp = 1_760_000_000_000L;
+        for (int i = 0; i < strokeCount; i++) {
+            Stroke stroke = new Stroke();
+            stroke.setTool(random.nextInt(10) == 0 ? "highlighter" : "pen");
+            stroke.setColor(random.nextInt(8) == 0 ? 0xFF1E88E5 : 0xFF212121);
+            stroke.setStrokeWidth(random.nextInt(10) == 0 ? 12f : 2.5f);
+            timestamp += 150 + random.nextInt(900);
+            stroke.setTimestamp(timestamp);
+
+            int points = 20 + random.nextInt(120);
+            float x = cursorX;
+            float y = lineY + (float) random.nextGaussian() * 6;
+            double angle = random.nextDouble() * Math.PI * 2;
+            float pressure = 0.4f + random.nextFloat() * 0.3f;
+            boolean uniformPressure = random.nextInt(5) == 0;
+            for (int p = 0; p < points; p++) {
+                angle += random.nextGaussian() * 0.35;
+                float step = 0.8f + random.nextFloat() * 2.4f;
+                x += (float) Math.cos(angle) * step;
+                y += (float) Math.sin(angle) * step;
+                if (!uniformPressure) {
+                    pressure = Math.min(1f, Math.max(0.05f, pressure + (float) random.nextGaussian() * 0.03f));
+                }
+                stroke.addPoint(x, y, pressure);
+            }
+            strokes.add(stroke);
+
+            cursorX += 18 + random.nextInt(30);
+            if (cursorX > 1400) {
+                cursorX = 40;
+                lineY += 60;
+            }
+        }
+        return strokes;
+    }
+}
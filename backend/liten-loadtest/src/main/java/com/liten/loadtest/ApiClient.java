@@ -0,0 +1,136 @@
+package com.liten.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 가상 사용자와 시드가 쓰는 HTTP 클라이언트. 서버(/api)와 로컬 저장소에 같은 연결 풀로 요청한다.
+ */
+public final class ApiClient {
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final String storageUri;
+    private final Duration timeout;
+
+    public ApiClient(URI baseUri, String storageEndpoint, Duration timeout, ExecutorService executor) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+        // Boot 의 기본 ObjectMapper 와 같은 설정 (JavaTimeModule, 날짜는 ISO 문자열)
+        this.objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        this.baseUri = baseUri;
+        this.storageUri = storageEndpoint + "/" + LoadTestApplication.BUCKET + "/";
+        this.timeout = timeout;
+    }
+
+    public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    public HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    public HttpRequest postJson(String path, String token, Object body) {
+        return post(path, token, "application/json", json(body));
+    }
+
+    public HttpRequest post(String path, String token, String contentType, byte[] body) {
+        return request(path, token)
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    /**
+     * 기기가 저장소에 바로 올리는 파일 (서버의 부트스트랩 가져오기는 올린 키만 받는다).
+     */
+    public HttpRequest putObject(String key, String contentType, byte[] data) {
+        return HttpRequest.newBuilder(URI.create(storageUri + key))
+                .timeout(timeout)
+                .header("Content-Type", contentType)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(data))
+                .build();
+    }
+
+    public CompletableFuture<HttpResponse<byte[]>> sendAsync(HttpRequest request) {
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * 시드용 동기 호출. 2xx 가 아니면 본문을 담아 실패한다.
+     */
+    public <T> T send(HttpRequest request, Class<T> responseType) {
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling " + request.uri(), e);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " -> " + response.statusCode()
+                    + " " + new String(response.body(), StandardCharsets.UTF_8));
+        }
+        return responseType == Void.class ? null : read(response, responseType);
+    }
+
+    public <T> T read(HttpResponse<byte[]> response, Class<T> type) {
+        try {
+            return objectMapper.readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public byte[] json(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 한 줄에 하나씩 JSON (부트스트랩 가져오기 본문).
+     */
+    public byte[] ndjson(List<?> lines) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(lines.size() * 256);
+        for (Object line : lines) {
+            out.writeBytes(json(line));
+            out.write('\n');
+        }
+        return out.toByteArray();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUri + path)).timeout(timeout);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+}
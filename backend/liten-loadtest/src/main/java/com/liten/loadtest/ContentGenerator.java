@@ -0,0 +1,139 @@
+package com.liten.loadtest;
+
+import com.liten.api.utils.stroke.Stroke;
+import com.liten.api.utils.stroke.StrokeDecoder;
+import com.liten.api.utils.stroke.StrokeEncoder;
+import com.liten.api.utils.stroke.StrokeJsonCodec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.random.RandomGenerator;
+
+/**
+ * 시드 데이터와 업로드 본문. 실행마다 같은 데이터가 나오도록 호출하는 쪽이 고정 시드의 난수를 넘긴다.
+ */
+public final class ContentGenerator {
+
+    /**
+     * 노트와 공간 제목에 쓰는 단어. 검색 시나리오도 이 단어로 찾으므로 항상 결과가 있다.
+     */
+    static final String[] WORDS = {
+            "회의", "녹음", "정리", "다음", "일정", "확인", "필기", "요약", "강의", "질문",
+            "프로젝트", "보고서", "계획", "아이디어", "복습", "시험", "발표", "고객", "디자인", "예산",
+            "meeting", "review", "draft", "sync", "note", "audio", "page", "todo", "idea", "follow-up"
+    };
+
+    private static final String[] COLORS = {"#4A90E2", "#50E3C2", "#F5A623", "#D0021B", "#9013FE", "#7ED321"};
+
+    private ContentGenerator() {
+    }
+
+    public static String word(RandomGenerator random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    public static String color(RandomGenerator random) {
+        return COLORS[random.nextInt(COLORS.length)];
+    }
+
+    public static String title(RandomGenerator random) {
+        return word(random) + " " + word(random) + " " + (1 + random.nextInt(52));
+    }
+
+    /**
+     * 문단과 목록이 섞인 노트 본문 (HTML 서식). 한글과 영어를 섞어 UTF-8 길이가 문자 수보다 길다.
+     */
+    public static String note(RandomGenerator random, int approximateChars) {
+        StringBuilder text = new StringBuilder(approximateChars + 256);
+        while (text.length() < approximateChars) {
+            boolean list = random.nextInt(4) == 0;
+            text.append(list ? "<ul>" : "<p>");
+            int sentences = 1 + random.nextInt(5);
+            for (int s = 0; s < sentences; s++) {
+                if (list) {
+                    text.append("<li>");
+                }
+                int words = 4 + random.nextInt(12);
+                for (int w = 0; w < words; w++) {
+                    if (w > 0) {
+                        text.append(' ');
+                    }
+                    text.append(word(random));
+                }
+                text.append(list ? "</li>" : ". ");
+            }
+            text.append(list ? "</ul>\n" : "</p>\n");
+        }
+        return text.toString();
+    }
+
+    public static String plainText(String html) {
+        return html.replaceAll("<[^>]+>", "");
+    }
+
+    /**
+     * 손글씨와 비슷한 스트로크를 바이너리 형식으로. 짧은 획이 많고, 점 간격이 일정하지 않으며 필압이 천천히 변한다.
+     */
+    public static byte[] strokes(RandomGenerator random, int strokeCount) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(strokeCount * 256);
+        try (StrokeEncoder encoder = new StrokeEncoder(out)) {
+            float lineY = 80;
+            float cursorX = 40;
+            long timestamp = System.currentTimeMillis();
+            for (int i = 0; i < strokeCount; i++) {
+                Stroke stroke = new Stroke();
+                stroke.setTool(random.nextInt(10) == 0 ? "highlighter" : "pen");
+                stroke.setColor(random.nextInt(8) == 0 ? 0xFF1E88E5 : 0xFF212121);
+                stroke.setStrokeWidth(random.nextInt(10) == 0 ? 12f : 2.5f);
+                timestamp += 150 + random.nextInt(900);
+                stroke.setTimestamp(timestamp);
+
+                int points = 20 + random.nextInt(120);
+                float x = cursorX;
+                float y = lineY + (float) random.nextGaussian() * 6;
+                double angle = random.nextDouble() * Math.PI * 2;
+                float pressure = 0.4f + random.nextFloat() * 0.3f;
+                for (int p = 0; p < points; p++) {
+                    angle += random.nextGaussian() * 0.35;
+                    float step = 0.8f + random.nextFloat() * 2.4f;
+                    x += (float) Math.cos(angle) * step;
+                    y += (float) Math.sin(angle) * step;
+                    pressure = Math.min(1f, Math.max(0.05f, pressure + (float) random.nextGaussian() * 0.03f));
+                    stroke.addPoint(x, y, pressure);
+                }
+                encoder.write(stroke);
+
+                cursorX += 18 + random.nextInt(30);
+                if (cursorX > 1400) {
+                    cursorX = 40;
+                    lineY += 60;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 기기 DB 에 남아 있는 레거시 JSON 스트로크 (부트스트랩 가져오기의 DRAWING 줄).
+     */
+    public static String strokesJson(RandomGenerator random, int strokeCount) {
+        try (StrokeDecoder decoder = new StrokeDecoder(new ByteArrayInputStream(strokes(random, strokeCount)))) {
+            return StrokeJsonCodec.binaryToJson(decoder);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 녹음 파일 대신 쓰는 압축되지 않는 바이트.
+     */
+    public static byte[] audio(RandomGenerator random, int size) {
+        byte[] data = new byte[size];
+        random.nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,100 @@
+package com.liten.loadtest;
+
+import com.liten.api.LitenApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * liten-api 를 같은 JVM 에서 띄운다. DB 는 MariaDB 호환 모드의 메모리 H2, 저장소는 {@link LocalS3Server} 이다.
+ *
+ * <p>설정은 명령행 인자로 넘겨 application.yml 보다 우선하게 한다. 스키마는 엔티티에서 만들고(create-drop),
+ * 마이그레이션의 인덱스와 엔티티가 없는 JDBC 전용 테이블을 loadtest-schema.sql 로 더한다. 마이그레이션은 MariaDB 전용
+ * 문법이라 H2 에서 그대로 돌릴 수 없다. 인덱스가 빠지면 운영과 다른 실행 계획으로 재게 된다. 휴지통 정리와 콜드 저장소 이동은 아카이브 테이블을
+ * 만들지 않으므로 끈다. 로그는 운영과 같은 수준(INFO)으로 파일에만 남긴다 (콘솔 패턴을 비워 콘솔 출력을 끈다).
+ */
+public final class EmbeddedApi implements Closeable {
+
+    private final ConfigurableApplicationContext context;
+    private final URI baseUri;
+
+    private EmbeddedApi(ConfigurableApplicationContext context) {
+        this.context = context;
+        String port = context.getEnvironment().getProperty("local.server.port");
+        String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+        this.baseUri = URI.create("http://127.0.0.1:" + port + contextPath);
+    }
+
+    public static EmbeddedApi start(LoadTestConfig config, LocalS3Server s3, Path workDir) {
+        boolean virtualThreads = "virtual".equalsIgnoreCase(config.string("threads"));
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("threads=virtual requires Java 21 or later (running "
+                    + Runtime.version() + ")");
+        }
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.profiles.active", "loadtest");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("spring.threads.virtual.enabled", Boolean.toString(virtualThreads));
+
+        properties.put("spring.datasource.url", "jdbc:h2:mem:liten-loadtest;MODE=MariaDB;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.hikari.maximum-pool-size", config.string("api.db-pool-size"));
+        properties.put("spring.datasource.hikari.minimum-idle", config.string("api.db-pool-size"));
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.jpa.defer-datasource-initialization", "true");
+        properties.put("spring.sql.init.mode", "always");
+        properties.put("spring.sql.init.schema-locations", "classpath:loadtest-schema.sql");
+
+        properties.put("aws.s3.endpoint", s3.endpoint());
+        properties.put("aws.s3.access-key", "loadtest");
+        properties.put("aws.s3.secret-key", "loadtest");
+        properties.put("aws.s3.bucket", LoadTestApplication.BUCKET);
+
+        properties.put("app.search.index-dir", workDir.resolve("search-index").toString());
+        properties.put("app.trash.enabled", "false");
+        properties.put("app.tiering.enabled", "false");
+
+        properties.put("logging.file.name", workDir.resolve("liten-api.log").toString());
+        properties.put("logging.pattern.console", "");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.liten.api", "INFO");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("logging.level.org.hibernate.SQL", "WARN");
+        properties.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+
+        // --api.property.<속성>=값 으로 서버 설정을 바꿔 가며 비교할 수 있다 (예: --api.property.app.cache.specs.users.max-size=0)
+        properties.putAll(config.withPrefix("api.property."));
+
+        List<String> args = new ArrayList<>(properties.size());
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LitenApiApplication.class)
+                .run(args.toArray(String[]::new));
+        return new EmbeddedApi(context);
+    }
+
+    public URI baseUri() {
+        return baseUri;
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
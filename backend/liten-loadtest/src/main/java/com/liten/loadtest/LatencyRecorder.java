@@ -0,0 +1,85 @@
+package com.liten.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업별 지연 시간 히스토그램 (마이크로초). 두 값을 함께 기록한다.
+ *
+ * <ul>
+ *   <li>응답 시간: 예정된 시작 시각부터 응답을 다 받을 때까지. 서버가 밀려 발생기나 연결 풀에서 기다린 시간까지 포함하므로
+ *       coordinated omission 이 보정된 값이며, SLO 는 이 값으로 판정한다.</li>
+ *   <li>서비스 시간: 요청을 실제로 보낸 시각부터. 응답 시간과 차이가 크면 보내기 전에 기다렸다는 뜻이다.</li>
+ * </ul>
+ *
+ * <p>측정 구간({@link #measureFrom}) 이후에 예정된 작업만 기록하므로 워밍업 중에 시작해 늦게 끝난 요청은 빠진다.
+ */
+public final class LatencyRecorder {
+
+    private final ConcurrentMap<String, Operation> operations = new ConcurrentHashMap<>();
+    private volatile long measureFromNanos = Long.MAX_VALUE;
+
+    public void measureFrom(long nanos) {
+        measureFromNanos = nanos;
+    }
+
+    public void record(String operation, long intendedNanos, long sentNanos, long endNanos, boolean succeeded) {
+        if (intendedNanos < measureFromNanos) {
+            return;
+        }
+        Operation meters = operation(operation);
+        meters.responseTime.recordValue(micros(endNanos - intendedNanos));
+        meters.serviceTime.recordValue(micros(endNanos - sentNanos));
+        if (!succeeded) {
+            meters.errors.increment();
+        }
+    }
+
+    /**
+     * 동시 실행 한도에 걸려 시작하지 못한 작업. 지연 시간 없이 오류로만 센다.
+     */
+    public void reject(String operation, long intendedNanos) {
+        if (intendedNanos >= measureFromNanos) {
+            operation(operation).rejected.increment();
+        }
+    }
+
+    /**
+     * 지금까지 기록한 값. 측정이 끝난 뒤 한 번 부른다.
+     */
+    public Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> snapshots = new TreeMap<>();
+        operations.forEach((name, meters) -> snapshots.put(name, new Snapshot(
+                meters.responseTime.getIntervalHistogram(), meters.serviceTime.getIntervalHistogram(),
+                meters.errors.sum(), meters.rejected.sum())));
+        return snapshots;
+    }
+
+    private Operation operation(String name) {
+        Operation meters = operations.get(name);
+        return meters != null ? meters : operations.computeIfAbsent(name, key -> new Operation());
+    }
+
+    private static long micros(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    public record Snapshot(Histogram responseTime, Histogram serviceTime, long errors, long rejected) {
+    }
+
+    private static final class Operation {
+
+        // 자동 크기 조정, 유효 숫자 3자리 (0.1% 오차)
+        private final Recorder responseTime = new Recorder(3);
+        private final Recorder serviceTime = new Recorder(3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+    }
+}
@@ -0,0 +1,113 @@
+package com.liten.loadtest;
+
+import com.liten.loadtest.report.LoadTestReport;
+import com.liten.loadtest.report.ReportWriter;
+import com.liten.loadtest.report.SloPolicy;
+import com.liten.loadtest.scenario.Scenario;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단일 머신 부하 테스트. MariaDB 와 AWS 없이 서버를 같은 JVM 에 띄우고(H2 + 로컬 S3 호환 저장소), 데이터를 넣은 뒤
+ * 로그인/동기화 폴링/업로드/검색 시나리오를 열린 모델로 돌려 지연 시간 분위수를 보고한다.
+ *
+ * <p>종료 코드: 0 SLO 통과, 1 SLO 위반 또는 baseline 대비 회귀, 2 실행 오류.
+ * 발생기와 서버가 같은 CPU 를 나눠 쓰므로 절대값보다는 같은 머신에서 baseline 과 비교하는 데 쓴다.
+ */
+public final class LoadTestApplication {
+
+    static final String BUCKET = "liten-loadtest";
+
+    private LoadTestApplication() {
+    }
+
+    public static void main(String[] args) {
+        int exitCode;
+        try {
+            exitCode = run(LoadTestConfig.load(args));
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 2;
+        }
+        System.exit(exitCode);
+    }
+
+    private static int run(LoadTestConfig config) throws Exception {
+        Path workDir = Path.of(config.string("report-dir")).toAbsolutePath();
+        FileSystemUtils.deleteRecursively(workDir.resolve("search-index"));
+        FileSystemUtils.deleteRecursively(workDir.resolve("histograms"));
+        Files.createDirectories(workDir);
+        String startedAt = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        Duration warmup = config.duration("warmup");
+        Duration duration = config.duration("duration");
+        List<Scenario> scenarios = Scenario.all(config);
+
+        AtomicInteger threadSequence = new AtomicInteger();
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(config.integer("client.threads"), runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-client-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (LocalS3Server s3 = LocalS3Server.start(config.integer("storage.threads"));
+             EmbeddedApi embeddedApi = EmbeddedApi.start(config, s3, workDir)) {
+            ApiClient api = new ApiClient(embeddedApi.baseUri(), s3.endpoint(), config.duration("request-timeout"),
+                    clientExecutor);
+            System.out.printf("API %s, storage %s, logs %s%n", embeddedApi.baseUri(), s3.endpoint(),
+                    workDir.resolve("liten-api.log"));
+
+            long seedStarted = System.nanoTime();
+            List<SeededUser> users = new Seeder(config, embeddedApi, api).seed();
+            System.out.printf("Seeded %d users in %ds%n", users.size(),
+                    Duration.ofNanos(System.nanoTime() - seedStarted).toSeconds());
+
+            Map<String, Double> rates = new LinkedHashMap<>();
+            scenarios.forEach(scenario -> rates.put(scenario.name(),
+                    config.decimal("scenario." + scenario.name() + ".rate")));
+            System.out.printf("Running %s for %ds warmup + %ds (%s arrivals)%n", rates, warmup.toSeconds(),
+                    duration.toSeconds(), config.string("arrival"));
+            LatencyRecorder recorder = new LatencyRecorder();
+            int unfinished = new OpenModelDriver(scenarios, users, api, recorder, config, clientExecutor)
+                    .run(warmup, duration);
+
+            Map<String, LatencyRecorder.Snapshot> snapshots = recorder.snapshot();
+            LoadTestReport report = new LoadTestReport(startedAt, Runtime.version().toString(),
+                    Runtime.getRuntime().availableProcessors(), config.string("threads"), config.string("arrival"),
+                    warmup.toSeconds(), duration.toSeconds(), rates, seedCounts(users),
+                    Map.of("objects", (long) s3.objectCount(), "bytes", s3.storedBytes()), unfinished,
+                    ReportWriter.operations(snapshots, duration.toNanos() / 1e9), List.of());
+
+            ReportWriter writer = new ReportWriter(api.objectMapper());
+            String baselineFile = config.string("baseline");
+            LoadTestReport baseline = baselineFile.isEmpty() ? null : writer.readBaseline(Path.of(baselineFile));
+            report = report.withViolations(SloPolicy.evaluate(report, config, baseline));
+            writer.write(workDir, report, baseline, snapshots);
+            System.out.println();
+            System.out.print(writer.render(report, baseline));
+            System.out.printf("%nReport written to %s%n", workDir.resolve("report.json"));
+            return report.violations().isEmpty() ? 0 : 1;
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private static Map<String, Integer> seedCounts(List<SeededUser> users) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put("users", users.size());
+        counts.put("spaces", users.stream().mapToInt(user -> user.spaceIds().size()).sum());
+        counts.put("audio", users.stream().mapToInt(user -> user.audioIds().size()).sum());
+        counts.put("texts", users.stream().mapToInt(user -> user.textIds().size()).sum());
+        counts.put("drawings", users.stream().mapToInt(user -> user.drawingIds().size()).sum());
+        return counts;
+    }
+}
@@ -0,0 +1,105 @@
+package com.liten.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * 부하 테스트 설정. 클래스패스의 loadtest.properties 를 기본값으로, --config=파일 의 값과 --키=값 인자를 차례로 덮어쓴다.
+ */
+public final class LoadTestConfig {
+
+    private static final String DEFAULTS = "loadtest.properties";
+
+    private final Properties properties;
+
+    private LoadTestConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static LoadTestConfig load(String[] args) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getClassLoader().getResourceAsStream(DEFAULTS)) {
+            if (in == null) {
+                throw new IllegalStateException(DEFAULTS + " not found on classpath");
+            }
+            properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        Properties overrides = new Properties();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            overrides.setProperty(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        String file = overrides.getProperty("config");
+        if (file != null && !file.isBlank()) {
+            try (Reader reader = Files.newBufferedReader(Path.of(file), StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+        }
+        properties.putAll(overrides);
+        return new LoadTestConfig(properties);
+    }
+
+    public String string(String key) {
+        String value = properties.getProperty(key);
+        return value != null ? value.trim() : "";
+    }
+
+    public int integer(String key) {
+        return Integer.parseInt(require(key));
+    }
+
+    public long longValue(String key) {
+        return Long.parseLong(require(key));
+    }
+
+    public double decimal(String key) {
+        return Double.parseDouble(require(key));
+    }
+
+    public Duration duration(String key) {
+        return DurationStyle.detectAndParse(require(key));
+    }
+
+    /**
+     * 값이 없거나 비어 있으면 null.
+     */
+    public Duration optionalDuration(String key) {
+        String value = string(key);
+        return value.isEmpty() ? null : DurationStyle.detectAndParse(value);
+    }
+
+    /**
+     * prefix 로 시작하는 키를 prefix 를 뗀 이름으로 모은다 (이름순).
+     */
+    public Map<String, String> withPrefix(String prefix) {
+        Map<String, String> values = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(prefix) && key.length() > prefix.length()) {
+                values.put(key.substring(prefix.length()), properties.getProperty(key).trim());
+            }
+        }
+        return values;
+    }
+
+    private String require(String key) {
+        String value = string(key);
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Missing load test setting: " + key);
+        }
+        return value;
+    }
+}
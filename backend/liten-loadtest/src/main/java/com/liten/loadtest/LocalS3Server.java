@@ -0,0 +1,228 @@
+package com.liten.loadtest;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 테스트용 S3 호환 저장소. 객체를 메모리에 두고 서버와 가상 사용자가 쓰는 요청만 경로 방식(/bucket/key)으로 처리한다:
+ * PutObject(x-amz-copy-source 복사 포함), GetObject, HeadObject, DeleteObject.
+ *
+ * <p>서명은 확인하지 않는다. SDK 가 평문 HTTP 로 올릴 때 쓰는 aws-chunked 본문(청크마다 서명이 붙음)은 풀어서 저장한다.
+ */
+public final class LocalS3Server implements Closeable {
+
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ISO_INSTANT;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+
+    private LocalS3Server(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static LocalS3Server start(int threads) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        AtomicInteger sequence = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "local-s3-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        LocalS3Server s3 = new LocalS3Server(server, executor);
+        server.createContext("/", s3::handle);
+        server.setExecutor(executor);
+        server.start();
+        return s3;
+    }
+
+    public String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public int objectCount() {
+        return objects.size();
+    }
+
+    public long storedBytes() {
+        return objects.values().stream().mapToLong(object -> object.data().length).sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            int slash = path.indexOf('/', 1);
+            if (slash < 0 || slash == path.length() - 1) {
+                // 버킷 자체에 대한 요청(생성/존재 확인)은 모두 있는 것으로 답한다
+                drain(exchange);
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            String key = path.substring(1);
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> put(exchange, key);
+                case "GET" -> get(exchange, key, true);
+                case "HEAD" -> get(exchange, key, false);
+                case "DELETE" -> {
+                    objects.remove(key);
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> error(exchange, 501, "NotImplemented", exchange.getRequestMethod() + " is not supported");
+            }
+        }
+    }
+
+    private void put(HttpExchange exchange, String key) throws IOException {
+        Headers headers = exchange.getRequestHeaders();
+        String copySource = headers.getFirst("x-amz-copy-source");
+        if (copySource != null) {
+            drain(exchange);
+            String sourceKey = URLDecoder.decode(copySource, StandardCharsets.UTF_8);
+            StoredObject source = objects.get(sourceKey.startsWith("/") ? sourceKey.substring(1) : sourceKey);
+            if (source == null) {
+                error(exchange, 404, "NoSuchKey", "The specified key does not exist.");
+                return;
+            }
+            StoredObject copy = new StoredObject(source.data(), source.contentType(), source.etag(), Instant.now());
+            objects.put(key, copy);
+            xml(exchange, 200, "<CopyObjectResult><LastModified>" + ISO_DATE.format(copy.lastModified())
+                    + "</LastModified><ETag>\"" + copy.etag() + "\"</ETag></CopyObjectResult>");
+            return;
+        }
+        byte[] data;
+        try (InputStream in = exchange.getRequestBody()) {
+            String contentSha256 = headers.getFirst("x-amz-content-sha256");
+            data = contentSha256 != null && contentSha256.startsWith("STREAMING-") ? decodeAwsChunked(in)
+                    : in.readAllBytes();
+        }
+        String contentType = headers.getFirst("Content-Type");
+        StoredObject object = new StoredObject(data, contentType != null ? contentType : "binary/octet-stream",
+                md5(data), Instant.now());
+        objects.put(key, object);
+        exchange.getResponseHeaders().set("ETag", "\"" + object.etag() + "\"");
+        exchange.sendResponseHeaders(200, -1);
+    }
+
+    private void get(HttpExchange exchange, String key, boolean withBody) throws IOException {
+        drain(exchange);
+        StoredObject object = objects.get(key);
+        if (object == null) {
+            if (withBody) {
+                error(exchange, 404, "NoSuchKey", "The specified key does not exist.");
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+            }
+            return;
+        }
+        Headers response = exchange.getResponseHeaders();
+        response.set("Content-Type", object.contentType());
+        response.set("ETag", "\"" + object.etag() + "\"");
+        response.set("Last-Modified", HTTP_DATE.format(object.lastModified()));
+        if (!withBody) {
+            response.set("Content-Length", Long.toString(object.data().length));
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(200, object.data().length == 0 ? -1 : object.data().length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(object.data());
+        }
+    }
+
+    /**
+     * aws-chunked 본문: "크기(16진수);chunk-signature=...\r\n" + 데이터 + "\r\n" 을 반복하고 크기 0 청크로 끝난다.
+     */
+    private static byte[] decodeAwsChunked(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        while (true) {
+            String header = readLine(in);
+            if (header == null) {
+                throw new IOException("Truncated aws-chunked body");
+            }
+            int semicolon = header.indexOf(';');
+            int size = Integer.parseInt((semicolon >= 0 ? header.substring(0, semicolon) : header).trim(), 16);
+            if (size == 0) {
+                return out.toByteArray();
+            }
+            byte[] chunk = in.readNBytes(size);
+            if (chunk.length < size) {
+                throw new IOException("Truncated aws-chunked body");
+            }
+            out.write(chunk);
+            readLine(in);
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder(96);
+        int b;
+        while ((b = in.read()) >= 0) {
+            if (b == '\n') {
+                int length = line.length();
+                return length > 0 && line.charAt(length - 1) == '\r' ? line.substring(0, length - 1) : line.toString();
+            }
+            line.append((char) b);
+        }
+        return line.length() > 0 ? line.toString() : null;
+    }
+
+    private static void error(HttpExchange exchange, int status, String code, String message) throws IOException {
+        xml(exchange, status, "<Error><Code>" + code + "</Code><Message>" + message + "</Message></Error>");
+    }
+
+    private static void xml(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void drain(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    private static String md5(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record StoredObject(byte[] data, String contentType, String etag, Instant lastModified) {
+    }
+}
@@ -0,0 +1,142 @@
+package com.liten.loadtest;
+
+import com.liten.loadtest.scenario.Scenario;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 열린 모델(open model) 부하 발생기. 시나리오마다 초당 도착 수를 정해 두고, 도착 시각이 되면 앞선 방문이 끝났는지와 상관없이
+ * 새 가상 사용자를 시작한다. 서버가 느려져도 도착률이 줄지 않으므로 실제 사용자가 몰릴 때처럼 대기열이 쌓인다.
+ *
+ * <p>도착 간격은 포아송(지수 분포) 또는 고정 간격이다. 도착 시각은 미리 정한 일정대로 흐르고, 발생기 스레드가 늦게 깨어나도
+ * 지연 시간은 예정된 시각부터 잰다 ({@link LatencyRecorder}). 동시에 실행 중인 방문이 max-in-flight 를 넘으면 새 도착은
+ * 시작하지 않고 거부로 센다 (발생기 자체가 메모리를 다 쓰지 않도록).
+ */
+public final class OpenModelDriver {
+
+    private final List<Scenario> scenarios;
+    private final List<SeededUser> users;
+    private final ApiClient api;
+    private final LatencyRecorder recorder;
+    private final LoadTestConfig config;
+    private final Executor executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public OpenModelDriver(List<Scenario> scenarios, List<SeededUser> users, ApiClient api, LatencyRecorder recorder,
+                           LoadTestConfig config, Executor executor) {
+        this.scenarios = scenarios;
+        this.users = users;
+        this.api = api;
+        this.recorder = recorder;
+        this.config = config;
+        this.executor = executor;
+    }
+
+    /**
+     * 워밍업과 측정 구간 동안 부하를 건 뒤, 실행 중인 방문이 끝나기를 drain-timeout 까지 기다린다.
+     *
+     * @return 기다린 뒤에도 끝나지 않은 방문 수
+     */
+    public int run(Duration warmup, Duration duration) throws InterruptedException {
+        boolean poisson = "poisson".equalsIgnoreCase(config.string("arrival"));
+        int maxInFlight = config.integer("max-in-flight");
+        SplittableRandom random = new SplittableRandom(config.longValue("random-seed"));
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        recorder.measureFrom(measureFrom);
+
+        PriorityQueue<Arrivals> queue = new PriorityQueue<>();
+        for (Scenario scenario : scenarios) {
+            double rate = config.decimal("scenario." + scenario.name() + ".rate");
+            if (rate > 0) {
+                Arrivals arrivals = new Arrivals(scenario, rate, poisson, random.split(), start);
+                arrivals.advance();
+                queue.add(arrivals);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            Arrivals arrivals = queue.poll();
+            long intended = arrivals.next;
+            if (intended >= end) {
+                continue;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            dispatch(arrivals, intended, maxInFlight);
+            arrivals.advance();
+            queue.add(arrivals);
+        }
+
+        long drainDeadline = System.nanoTime() + config.duration("drain-timeout").toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(50);
+        }
+        return inFlight.get();
+    }
+
+    private void dispatch(Arrivals arrivals, long intended, int maxInFlight) {
+        String name = arrivals.scenario.name();
+        if (inFlight.get() >= maxInFlight) {
+            recorder.reject(name, intended);
+            return;
+        }
+        inFlight.incrementAndGet();
+        SplittableRandom random = arrivals.random.split();
+        VirtualUser user = new VirtualUser(name, users.get(random.nextInt(users.size())), api, recorder, random,
+                intended);
+        // 요청 본문 만들기(업로드 파일 등)도 발생기 스레드 밖에서 해 다음 도착이 밀리지 않게 한다
+        CompletableFuture.supplyAsync(() -> arrivals.scenario.run(user), executor)
+                .thenCompose(visit -> visit)
+                .whenComplete((result, error) -> {
+                    recorder.record(name, user.intendedNanos(), user.firstSentNanos(), System.nanoTime(),
+                            error == null);
+                    inFlight.decrementAndGet();
+                });
+    }
+
+    /**
+     * 한 시나리오의 도착 일정.
+     */
+    private static final class Arrivals implements Comparable<Arrivals> {
+
+        private final Scenario scenario;
+        private final double meanIntervalNanos;
+        private final boolean poisson;
+        private final SplittableRandom random;
+        private final long start;
+        private double offset;
+        private long next;
+
+        Arrivals(Scenario scenario, double ratePerSecond, boolean poisson, SplittableRandom random, long start) {
+            this.scenario = scenario;
+            this.meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+            this.poisson = poisson;
+            this.random = random;
+            this.start = start;
+        }
+
+        void advance() {
+            // 지수 분포: -ln(U) * 평균 간격. 시작부터의 간격을 double 로 누적해 높은 도착률에서도 반올림 오차가 쌓이지 않게 한다
+            offset += poisson ? -Math.log(1 - random.nextDouble()) * meanIntervalNanos : meanIntervalNanos;
+            next = start + (long) offset;
+        }
+
+        @Override
+        public int compareTo(Arrivals other) {
+            return Long.compare(next, other.next);
+        }
+    }
+}
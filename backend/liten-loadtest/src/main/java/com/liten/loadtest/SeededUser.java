@@ -0,0 +1,15 @@
+package com.liten.loadtest;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 시드로 만든 사용자와 그 사용자의 컨텐츠 ID. 가상 사용자는 이 중에서 골라 요청한다.
+ */
+public record SeededUser(long userId, String email, String accessToken, List<Long> spaceIds, List<Long> audioIds,
+                         List<Long> textIds, List<Long> drawingIds) {
+
+    public static Long pick(List<Long> ids, RandomGenerator random) {
+        return ids.isEmpty() ? null : ids.get(random.nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,215 @@
+package com.liten.loadtest;
+
+import com.liten.api.dto.BootstrapImport;
+import com.liten.api.dto.SearchResponse;
+import com.liten.api.model.User;
+import com.liten.api.repository.UserRepository;
+import com.liten.api.security.JwtTokenProvider;
+import com.liten.api.service.BootstrapImportService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 실제 사용과 비슷한 데이터를 넣는다.
+ *
+ * <p>사용자는 리포지토리로 바로 만들고(비밀번호 해시는 한 번만 계산) 접근 토큰을 발급해 둔다. 컨텐츠는 기기와 같은 경로로
+ * 넣는다: 녹음 파일을 저장소에 올리고, 사용자마다 부트스트랩 가져오기(NDJSON) 한 번으로 공간, 오디오, 텍스트, 필기, 마커를
+ * 만든다. 가져오기가 끝나면 검색 인덱스가 백그라운드에서 다시 만들어지므로 검색 결과가 나올 때까지 기다린다.
+ */
+public final class Seeder {
+
+    public static final String PASSWORD = "loadtest-password";
+
+    private final LoadTestConfig config;
+    private final EmbeddedApi embeddedApi;
+    private final ApiClient api;
+
+    public Seeder(LoadTestConfig config, EmbeddedApi embeddedApi, ApiClient api) {
+        this.config = config;
+        this.embeddedApi = embeddedApi;
+        this.api = api;
+    }
+
+    public List<SeededUser> seed() throws InterruptedException, ExecutionException {
+        int userCount = config.integer("seed.users");
+        long randomSeed = config.longValue("random-seed");
+        List<User> users = createUsers(userCount, new SplittableRandom(randomSeed));
+        JwtTokenProvider jwtTokenProvider = embeddedApi.bean(JwtTokenProvider.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(config.integer("seed.threads"));
+        try {
+            List<Future<SeededUser>> futures = new ArrayList<>(userCount);
+            for (int i = 0; i < userCount; i++) {
+                User user = users.get(i);
+                SplittableRandom random = new SplittableRandom(randomSeed + 31L * (i + 1));
+                futures.add(executor.submit(() -> seedContent(user, jwtTokenProvider.generateToken(user), random)));
+            }
+            List<SeededUser> seeded = new ArrayList<>(userCount);
+            for (Future<SeededUser> future : futures) {
+                seeded.add(future.get());
+            }
+            awaitSearchIndex(seeded.get(seeded.size() - 1), config.duration("seed.index-timeout"));
+            return seeded;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<User> createUsers(int count, SplittableRandom random) {
+        String passwordHash = embeddedApi.bean(PasswordEncoder.class).encode(PASSWORD);
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // 부트스트랩 가져오기는 유료 플랜 전용이므로 모두 유료 사용자로 만든다
+            users.add(User.builder()
+                    .email(String.format("loadtest-%05d@liten.app", i))
+                    .password(passwordHash)
+                    .nickname("부하테스트 " + i)
+                    .appUniqueId(String.format("loadtest-device-%05d", i))
+                    .provider(User.AuthProvider.LOCAL)
+                    .subscriptionType(random.nextInt(4) == 0 ? User.SubscriptionType.PREMIUM
+                            : User.SubscriptionType.STANDARD)
+                    .subscriptionStartDate(now.minusDays(random.nextInt(365)))
+                    .subscriptionEndDate(now.plusDays(30 + random.nextInt(335)))
+                    .languageCode(random.nextInt(5) == 0 ? "en" : "ko")
+                    .theme("CLASSIC_BLUE")
+                    .isActive(true)
+                    .lastLoginAt(now.minusHours(random.nextInt(24 * 14)))
+                    .build());
+        }
+        return embeddedApi.bean(UserRepository.class).saveAll(users);
+    }
+
+    private SeededUser seedContent(User user, String token, SplittableRandom random) {
+        int spaces = config.integer("seed.spaces-per-user");
+        int audioPerSpace = config.integer("seed.audio-per-space");
+        int textsPerSpace = config.integer("seed.texts-per-space");
+        int drawingsPerSpace = config.integer("seed.drawings-per-space");
+        int markersPerAudio = config.integer("seed.markers-per-audio");
+        int textChars = config.integer("seed.text-chars");
+        int strokes = config.integer("seed.strokes-per-drawing");
+        int audioBytes = config.integer("seed.audio-bytes");
+        LocalDateTime now = LocalDateTime.now();
+
+        List<BootstrapImport.Line> lines = new ArrayList<>();
+        for (int s = 0; s < spaces; s++) {
+            String spaceId = "s" + s;
+            LocalDateTime createdAt = now.minusDays(random.nextInt(180)).minusMinutes(random.nextInt(1440));
+            lines.add(BootstrapImport.Line.builder()
+                    .type("SPACE")
+                    .localId(spaceId)
+                    .title(ContentGenerator.title(random))
+                    .description(random.nextBoolean() ? ContentGenerator.title(random) : null)
+                    .color(ContentGenerator.color(random))
+                    .isFavorite(random.nextInt(5) == 0)
+                    .isArchived(false)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt.plusHours(random.nextInt(72)))
+                    .build());
+
+            List<String> audioIds = new ArrayList<>(audioPerSpace);
+            List<Integer> durations = new ArrayList<>(audioPerSpace);
+            for (int a = 0; a < audioPerSpace; a++) {
+                String audioId = spaceId + "a" + a;
+                String key = "users/" + user.getUserId() + "/audio/" + audioId + ".m4a";
+                api.send(api.putObject(key, "audio/mp4", ContentGenerator.audio(random, audioBytes)), Void.class);
+                int durationSeconds = 300 + random.nextInt(3300);
+                lines.add(BootstrapImport.Line.builder()
+                        .type("AUDIO")
+                        .localId(audioId)
+                        .spaceLocalId(spaceId)
+                        .filePath(key)
+                        .originalFilename("recording-" + a + ".m4a")
+                        .fileSize((long) audioBytes)
+                        .durationSeconds(durationSeconds)
+                        .mimeType("audio/mp4")
+                        .transcription(ContentGenerator.plainText(ContentGenerator.note(random, textChars / 2)))
+                        .createdAt(createdAt)
+                        .build());
+                audioIds.add(audioId);
+                durations.add(durationSeconds);
+            }
+
+            List<String> contentIds = new ArrayList<>();
+            List<String> contentTypes = new ArrayList<>();
+            for (int t = 0; t < textsPerSpace; t++) {
+                String textId = spaceId + "t" + t;
+                String note = ContentGenerator.note(random, textChars / 2 + random.nextInt(textChars));
+                int audio = audioIds.isEmpty() || random.nextBoolean() ? -1 : random.nextInt(audioIds.size());
+                lines.add(BootstrapImport.Line.builder()
+                        .type("TEXT")
+                        .localId(textId)
+                        .spaceLocalId(spaceId)
+                        .audioLocalId(audio >= 0 ? audioIds.get(audio) : null)
+                        .content(note)
+                        .plainText(ContentGenerator.plainText(note))
+                        .formatType("richText")
+                        .audioSyncPosition(audio >= 0 ? random.nextInt(durations.get(audio) * 1000) : null)
+                        .createdAt(createdAt.plusMinutes(random.nextInt(600)))
+                        .build());
+                contentIds.add(textId);
+                contentTypes.add("TEXT");
+            }
+            for (int d = 0; d < drawingsPerSpace; d++) {
+                String drawingId = spaceId + "d" + d;
+                lines.add(BootstrapImport.Line.builder()
+                        .type("DRAWING")
+                        .localId(drawingId)
+                        .spaceLocalId(spaceId)
+                        .strokes(ContentGenerator.strokesJson(random, strokes / 2 + random.nextInt(strokes)))
+                        .width(1536)
+                        .height(2048)
+                        .createdAt(createdAt.plusMinutes(random.nextInt(600)))
+                        .build());
+                contentIds.add(drawingId);
+                contentTypes.add("DRAWING");
+            }
+
+            for (int a = 0; a < audioIds.size(); a++) {
+                for (int m = 0; m < markersPerAudio && !contentIds.isEmpty(); m++) {
+                    int content = random.nextInt(contentIds.size());
+                    lines.add(BootstrapImport.Line.builder()
+                            .type("MARKER")
+                            .audioLocalId(audioIds.get(a))
+                            .positionMs((long) random.nextInt(durations.get(a) * 1000))
+                            .contentType(contentTypes.get(content))
+                            .contentLocalId(contentIds.get(content))
+                            .build());
+                }
+            }
+        }
+
+        BootstrapImport.Result result = api.send(api.post("/users/me/bootstrap", token,
+                BootstrapImportService.MEDIA_TYPE, api.ndjson(lines)), BootstrapImport.Result.class);
+        Map<String, Map<String, Long>> ids = result.getIds();
+        return new SeededUser(user.getUserId(), user.getEmail(), token,
+                List.copyOf(ids.get("SPACE").values()), List.copyOf(ids.get("AUDIO").values()),
+                List.copyOf(ids.get("TEXT").values()), List.copyOf(ids.get("DRAWING").values()));
+    }
+
+    private void awaitSearchIndex(SeededUser user, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        String query = URLEncoder.encode(ContentGenerator.WORDS[0], StandardCharsets.UTF_8);
+        while (System.nanoTime() < deadline) {
+            SearchResponse.Result result = api.send(api.get("/search?q=" + query + "&limit=1", user.accessToken()),
+                    SearchResponse.Result.class);
+            if (result.getTotalHits() != null && result.getTotalHits() > 0) {
+                return;
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Search index not ready after " + timeout);
+    }
+}
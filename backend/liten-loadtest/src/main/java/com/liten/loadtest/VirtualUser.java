@@ -0,0 +1,82 @@
+package com.liten.loadtest;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.random.RandomGenerator;
+
+/**
+ * 가상 사용자 한 명의 한 번의 방문. 시나리오가 단계를 차례로 보내며, 단계마다 "시나리오.단계" 로 지연 시간을 기록한다.
+ *
+ * <p>첫 단계는 예정된 도착 시각부터, 다음 단계는 앞 단계가 끝난 시각부터 잰다 (사용자는 앞 응답을 받은 뒤에 다음 요청을 보낸다).
+ * 2xx 가 아닌 응답은 오류로 세고 남은 단계를 건너뛴다.
+ */
+public final class VirtualUser {
+
+    private final String scenario;
+    private final SeededUser user;
+    private final ApiClient api;
+    private final LatencyRecorder recorder;
+    private final RandomGenerator random;
+    private final long intendedNanos;
+    private long readyNanos;
+    private long firstSentNanos;
+
+    VirtualUser(String scenario, SeededUser user, ApiClient api, LatencyRecorder recorder, RandomGenerator random,
+                long intendedNanos) {
+        this.scenario = scenario;
+        this.user = user;
+        this.api = api;
+        this.recorder = recorder;
+        this.random = random;
+        this.intendedNanos = intendedNanos;
+        this.readyNanos = intendedNanos;
+    }
+
+    public SeededUser user() {
+        return user;
+    }
+
+    public ApiClient api() {
+        return api;
+    }
+
+    public RandomGenerator random() {
+        return random;
+    }
+
+    long intendedNanos() {
+        return intendedNanos;
+    }
+
+    long firstSentNanos() {
+        return firstSentNanos != 0 ? firstSentNanos : intendedNanos;
+    }
+
+    public CompletableFuture<HttpResponse<byte[]>> send(String step, HttpRequest request) {
+        long ready = readyNanos;
+        long sent = System.nanoTime();
+        if (firstSentNanos == 0) {
+            firstSentNanos = sent;
+        }
+        return api.sendAsync(request).handle((response, error) -> {
+            long end = System.nanoTime();
+            boolean succeeded = error == null && response.statusCode() / 100 == 2;
+            recorder.record(scenario + "." + step, ready, sent, end, succeeded);
+            readyNanos = end;
+            if (!succeeded) {
+                throw error != null ? new CompletionException(error)
+                        : new StepFailedException(scenario + "." + step, response.statusCode());
+            }
+            return response;
+        });
+    }
+
+    public static final class StepFailedException extends RuntimeException {
+
+        StepFailedException(String step, int status) {
+            super(step + " returned " + status, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.liten.loadtest.report;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 번의 부하 테스트 결과. report.json 으로 저장하며, 다음 실행에서 baseline 으로 읽어 비교한다.
+ *
+ * @param threads 서버 요청 스레드 모드 (platform | virtual)
+ * @param rates   시나리오별 초당 도착 수
+ * @param seed    시드 데이터 행 수 (users, spaces, audio, texts, drawings)
+ */
+public record LoadTestReport(String startedAt, String javaVersion, int availableProcessors, String threads,
+                             String arrival, long warmupSeconds, long durationSeconds, Map<String, Double> rates,
+                             Map<String, Integer> seed, Map<String, Long> storage, int unfinished,
+                             List<OperationReport> operations, List<String> violations) {
+
+    public OperationReport operation(String name) {
+        return operations.stream().filter(operation -> operation.name().equals(name)).findFirst().orElse(null);
+    }
+
+    public LoadTestReport withViolations(List<String> violations) {
+        return new LoadTestReport(startedAt, javaVersion, availableProcessors, threads, arrival, warmupSeconds,
+                durationSeconds, rates, seed, storage, unfinished, operations, List.copyOf(violations));
+    }
+}
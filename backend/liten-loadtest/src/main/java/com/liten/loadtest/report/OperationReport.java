@@ -0,0 +1,61 @@
+package com.liten.loadtest.report;
+
+import com.liten.loadtest.LatencyRecorder;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 작업 하나의 결과. 시간은 밀리초이며 응답 시간(예정된 시각부터)과 서비스 시간(보낸 시각부터)을 함께 담는다.
+ * 이름에 점이 없으면 시나리오 전체(방문 한 번), 있으면 "시나리오.단계" 이다.
+ */
+public record OperationReport(String name, long count, long errors, long rejected, double throughput,
+                              double p50, double p99, double p999, double max,
+                              double serviceP50, double serviceP99, double serviceP999) {
+
+    static OperationReport of(String name, LatencyRecorder.Snapshot snapshot, double seconds) {
+        Histogram response = snapshot.responseTime();
+        Histogram service = snapshot.serviceTime();
+        long count = response.getTotalCount();
+        return new OperationReport(name, count, snapshot.errors(), snapshot.rejected(), round(count / seconds),
+                millis(response, 50), millis(response, 99), millis(response, 99.9),
+                round(response.getMaxValue() / 1000.0),
+                millis(service, 50), millis(service, 99), millis(service, 99.9));
+    }
+
+    /**
+     * 오류와 거부를 합친 비율. 거부된 도착도 시도한 것으로 센다.
+     */
+    public double errorRate() {
+        long attempts = count + rejected;
+        return attempts == 0 ? 0 : (double) (errors + rejected) / attempts;
+    }
+
+    public boolean isScenario() {
+        return name.indexOf('.') < 0;
+    }
+
+    public String scenario() {
+        int dot = name.indexOf('.');
+        return dot < 0 ? name : name.substring(0, dot);
+    }
+
+    /**
+     * p50, p99, p999, max 중 하나 (SLO 키의 마지막 부분).
+     */
+    public Double percentile(String metric) {
+        return switch (metric) {
+            case "p50" -> p50;
+            case "p99" -> p99;
+            case "p999" -> p999;
+            case "max" -> max;
+            default -> null;
+        };
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getTotalCount() == 0 ? 0 : round(histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
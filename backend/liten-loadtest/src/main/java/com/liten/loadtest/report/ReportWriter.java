@@ -0,0 +1,97 @@
+package com.liten.loadtest.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.liten.loadtest.LatencyRecorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 결과를 report-dir 에 남긴다.
+ *
+ * <ul>
+ *   <li>report.json: {@link LoadTestReport}. 다음 실행의 baseline 으로 쓴다</li>
+ *   <li>report.txt: 콘솔에 찍는 것과 같은 표</li>
+ *   <li>histograms/&lt;작업&gt;.hgrm: 응답 시간 분위수 분포 (밀리초). HdrHistogram 플로터로 여러 실행을 겹쳐 볼 수 있다</li>
+ * </ul>
+ */
+public final class ReportWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public ReportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    public static List<OperationReport> operations(Map<String, LatencyRecorder.Snapshot> snapshots, double seconds) {
+        List<OperationReport> operations = new ArrayList<>(snapshots.size());
+        snapshots.forEach((name, snapshot) -> operations.add(OperationReport.of(name, snapshot, seconds)));
+        return operations;
+    }
+
+    public LoadTestReport readBaseline(Path file) throws IOException {
+        return objectMapper.readValue(file.toFile(), LoadTestReport.class);
+    }
+
+    public void write(Path dir, LoadTestReport report, LoadTestReport baseline,
+                      Map<String, LatencyRecorder.Snapshot> snapshots) throws IOException {
+        Files.createDirectories(dir.resolve("histograms"));
+        objectMapper.writeValue(dir.resolve("report.json").toFile(), report);
+        Files.writeString(dir.resolve("report.txt"), render(report, baseline), StandardCharsets.UTF_8);
+        for (Map.Entry<String, LatencyRecorder.Snapshot> entry : snapshots.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(
+                    dir.resolve("histograms").resolve(entry.getKey() + ".hgrm")), false, StandardCharsets.UTF_8)) {
+                entry.getValue().responseTime().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    public String render(LoadTestReport report, LoadTestReport baseline) {
+        StringWriter text = new StringWriter();
+        PrintWriter out = new PrintWriter(text);
+        out.printf(Locale.ROOT, "Liten load test  %s  java %s  cpus %d  threads=%s  arrival=%s%n", report.startedAt(),
+                report.javaVersion(), report.availableProcessors(), report.threads(), report.arrival());
+        out.printf(Locale.ROOT, "warmup %ds, measured %ds, rates/s %s, seed %s%n", report.warmupSeconds(),
+                report.durationSeconds(), report.rates(), report.seed());
+        if (baseline != null) {
+            out.printf(Locale.ROOT, "baseline %s  java %s  threads=%s%n", baseline.startedAt(), baseline.javaVersion(),
+                    baseline.threads());
+        }
+        out.println("Response time is measured from the scheduled arrival (coordinated-omission corrected); "
+                + "service time from the actual send. All times in ms.");
+        out.println();
+        out.printf(Locale.ROOT, "%-22s %8s %7s %8s %9s %9s %9s %9s | %9s %9s%s%n", "operation", "count", "errors",
+                "rps", "p50", "p99", "p99.9", "max", "svc p50", "svc p99", baseline != null ? " | base p99   delta" : "");
+        for (OperationReport operation : report.operations()) {
+            out.printf(Locale.ROOT, "%-22s %8d %7d %8.1f %9.1f %9.1f %9.1f %9.1f | %9.1f %9.1f",
+                    (operation.isScenario() ? "" : "  ") + operation.name(), operation.count(),
+                    operation.errors() + operation.rejected(), operation.throughput(), operation.p50(),
+                    operation.p99(), operation.p999(), operation.max(), operation.serviceP50(),
+                    operation.serviceP99());
+            OperationReport previous = baseline != null ? baseline.operation(operation.name()) : null;
+            if (previous != null && previous.p99() > 0) {
+                out.printf(Locale.ROOT, " | %9.1f %+6.0f%%", previous.p99(), (operation.p99() / previous.p99() - 1) * 100);
+            }
+            out.println();
+        }
+        out.println();
+        if (report.violations().isEmpty()) {
+            out.println("SLO: PASS");
+        } else {
+            out.println("SLO: FAIL");
+            report.violations().forEach(violation -> out.println("  - " + violation));
+        }
+        out.flush();
+        return text.toString();
+    }
+}
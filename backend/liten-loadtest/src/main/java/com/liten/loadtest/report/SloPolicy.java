@@ -0,0 +1,103 @@
+package com.liten.loadtest.report;
+
+import com.liten.loadtest.LoadTestConfig;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 지연 시간 SLO 판정. 모두 응답 시간(coordinated omission 보정값) 기준이다.
+ *
+ * <ul>
+ *   <li>slo.&lt;작업&gt;.&lt;p50|p99|p999|max&gt;=시간: 작업은 시나리오(auth) 또는 단계(auth.login)</li>
+ *   <li>slo.&lt;작업&gt;.error-rate=비율, slo.error-rate=비율: 후자는 모든 시나리오에 적용 (거부된 도착 포함)</li>
+ *   <li>baseline=이전 report.json: 양쪽에 있는 작업의 p99/p999 가 baseline.tolerance 비율과 baseline.min-delta 를
+ *       모두 넘게 늘면 회귀로 본다 (짧은 작업의 작은 흔들림은 무시)</li>
+ * </ul>
+ *
+ * 도착률이 0 인 시나리오의 SLO 는 건너뛰고, 켜져 있는데 기록이 없으면 위반이다.
+ */
+public final class SloPolicy {
+
+    private static final List<String> COMPARED = List.of("p99", "p999");
+
+    private SloPolicy() {
+    }
+
+    public static List<String> evaluate(LoadTestReport report, LoadTestConfig config, LoadTestReport baseline) {
+        List<String> violations = new ArrayList<>();
+        if (report.unfinished() > 0) {
+            violations.add(report.unfinished() + " visits still running after drain-timeout");
+        }
+
+        String globalErrorRate = config.string("slo.error-rate");
+        for (OperationReport operation : report.operations()) {
+            if (operation.isScenario() && !globalErrorRate.isEmpty()) {
+                checkErrorRate(violations, operation, Double.parseDouble(globalErrorRate));
+            }
+        }
+
+        for (Map.Entry<String, String> slo : config.withPrefix("slo.").entrySet()) {
+            int dot = slo.getKey().lastIndexOf('.');
+            if (dot < 0 || slo.getValue().isEmpty()) {
+                continue;
+            }
+            String name = slo.getKey().substring(0, dot);
+            String metric = slo.getKey().substring(dot + 1);
+            String scenario = name.contains(".") ? name.substring(0, name.indexOf('.')) : name;
+            Double rate = report.rates().get(scenario);
+            if (rate == null || rate <= 0) {
+                continue;
+            }
+            OperationReport operation = report.operation(name);
+            if (operation == null || operation.count() == 0) {
+                violations.add(name + ": no samples recorded");
+                continue;
+            }
+            if (metric.equals("error-rate")) {
+                checkErrorRate(violations, operation, Double.parseDouble(slo.getValue()));
+                continue;
+            }
+            Double actual = operation.percentile(metric);
+            if (actual == null) {
+                throw new IllegalArgumentException("Unknown SLO metric: slo." + slo.getKey());
+            }
+            double limit = config.duration("slo." + slo.getKey()).toNanos() / 1_000_000.0;
+            if (actual > limit) {
+                violations.add(String.format(Locale.ROOT, "%s %s %.1f ms > SLO %.1f ms", name, metric, actual, limit));
+            }
+        }
+
+        if (baseline != null) {
+            double tolerance = config.decimal("baseline.tolerance");
+            Duration minDelta = config.duration("baseline.min-delta");
+            double minDeltaMillis = minDelta.toNanos() / 1_000_000.0;
+            for (OperationReport operation : report.operations()) {
+                OperationReport previous = baseline.operation(operation.name());
+                if (previous == null || previous.count() == 0 || operation.count() == 0) {
+                    continue;
+                }
+                for (String metric : COMPARED) {
+                    double before = previous.percentile(metric);
+                    double after = operation.percentile(metric);
+                    if (after > before * (1 + tolerance) && after - before > minDeltaMillis) {
+                        violations.add(String.format(Locale.ROOT, "%s %s regressed %.1f ms -> %.1f ms (+%.0f%%)",
+                                operation.name(), metric, before, after, (after / before - 1) * 100));
+                    }
+                }
+            }
+        }
+        return violations;
+    }
+
+    private static void checkErrorRate(List<String> violations, OperationReport operation, double limit) {
+        if (operation.errorRate() > limit) {
+            violations.add(String.format(Locale.ROOT, "%s error rate %.2f%% > SLO %.2f%% (%d errors, %d rejected)",
+                    operation.name(), operation.errorRate() * 100, limit * 100, operation.errors(),
+                    operation.rejected()));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.liten.loadtest.scenario;
+
+import com.liten.api.dto.AuthRequest;
+import com.liten.api.dto.AuthResponse;
+import com.liten.loadtest.ApiClient;
+import com.liten.loadtest.Seeder;
+import com.liten.loadtest.VirtualUser;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 로그인 폭주. 앱을 새로 연 사용자가 로그인하고(BCrypt 검증, 리프레시 토큰 저장) 바로 토큰을 갱신한다.
+ */
+public class AuthScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "auth";
+    }
+
+    @Override
+    public CompletableFuture<?> run(VirtualUser user) {
+        ApiClient api = user.api();
+        AuthRequest.Login login = AuthRequest.Login.builder()
+                .email(user.user().email())
+                .password(Seeder.PASSWORD)
+                .deviceInfo("liten-loadtest")
+                .build();
+        return user.send("login", api.postJson("/auth/login", null, login))
+                .thenCompose(response -> {
+                    String refreshToken = api.read(response, AuthResponse.Login.class).getRefreshToken();
+                    return user.send("refresh", api.postJson("/auth/refresh", null,
+                            AuthRequest.RefreshToken.builder().refreshToken(refreshToken).build()));
+                });
+    }
+}
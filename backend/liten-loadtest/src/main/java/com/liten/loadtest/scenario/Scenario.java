@@ -0,0 +1,30 @@
+package com.liten.loadtest.scenario;
+
+import com.liten.loadtest.LoadTestConfig;
+import com.liten.loadtest.VirtualUser;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 가상 사용자 스크립트. 도착할 때마다 새 {@link VirtualUser} 로 한 번 실행된다.
+ * 발생기 스레드가 다음 도착을 놓치지 않도록 블로킹 없이 단계를 이어 붙인다.
+ */
+public interface Scenario {
+
+    /**
+     * 설정(scenario.이름.rate)과 보고서에 쓰는 이름.
+     */
+    String name();
+
+    CompletableFuture<?> run(VirtualUser user);
+
+    static List<Scenario> all(LoadTestConfig config) {
+        return List.of(
+                new AuthScenario(),
+                new SyncScenario(),
+                new UploadScenario(config.integer("upload.audio-bytes"), config.integer("upload.strokes"),
+                        config.integer("upload.markers")),
+                new SearchScenario());
+    }
+}
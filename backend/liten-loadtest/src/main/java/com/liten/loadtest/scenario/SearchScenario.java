@@ -0,0 +1,25 @@
+package com.liten.loadtest.scenario;
+
+import com.liten.loadtest.ContentGenerator;
+import com.liten.loadtest.VirtualUser;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 통합 검색. 노트와 공간 제목에 쓰인 단어 하나로 찾는다.
+ */
+public class SearchScenario implements Scenario {
+
+    @Override
+    public String name() {
+        return "search";
+    }
+
+    @Override
+    public CompletableFuture<?> run(VirtualUser user) {
+        String query = URLEncoder.encode(ContentGenerator.word(user.random()), StandardCharsets.UTF_8);
+        return user.send("query", user.api().get("/search?q=" + query + "&limit=20", user.user().accessToken()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.liten.loadtest.scenario;
+
+import com.liten.loadtest.ApiClient;
+import com.liten.loadtest.SeededUser;
+import com.liten.loadtest.VirtualUser;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 기기의 주기적인 동기화 폴링. 홈 화면 공간 목록, 한 공간의 텍스트 목록, 한 노트의 새 편집 내역, 한 녹음의 재생 구간
+ * 동기화 항목을 차례로 읽는다.
+ */
+public class SyncScenario implements Scenario {
+
+    private static final long WINDOW_MS = 60_000;
+
+    @Override
+    public String name() {
+        return "sync";
+    }
+
+    @Override
+    public CompletableFuture<?> run(VirtualUser user) {
+        ApiClient api = user.api();
+        SeededUser seeded = user.user();
+        String token = seeded.accessToken();
+        Long spaceId = SeededUser.pick(seeded.spaceIds(), user.random());
+        Long textId = SeededUser.pick(seeded.textIds(), user.random());
+        Long audioId = SeededUser.pick(seeded.audioIds(), user.random());
+        long fromMs = user.random().nextInt(10) * WINDOW_MS;
+
+        CompletableFuture<?> steps = user.send("dashboard", api.get("/spaces?size=20", token));
+        if (spaceId != null) {
+            steps = steps.thenCompose(ignored -> user.send("texts", api.get("/spaces/" + spaceId + "/texts", token)));
+        }
+        if (textId != null) {
+            steps = steps.thenCompose(ignored -> user.send("patches",
+                    api.get("/text/" + textId + "/patches?since=0", token)));
+        }
+        if (audioId != null) {
+            steps = steps.thenCompose(ignored -> user.send("audio-window",
+                    api.get("/audio/" + audioId + "/sync?fromMs=" + fromMs + "&toMs=" + (fromMs + WINDOW_MS), token)));
+        }
+        return steps;
+    }
+}
@@ -0,0 +1,92 @@
+package com.liten.loadtest.scenario;
+
+import com.liten.api.dto.BootstrapImport;
+import com.liten.api.service.BootstrapImportService;
+import com.liten.api.utils.stroke.StrokeFormat;
+import com.liten.loadtest.ApiClient;
+import com.liten.loadtest.ContentGenerator;
+import com.liten.loadtest.SeededUser;
+import com.liten.loadtest.VirtualUser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 녹음을 마친 기기의 업로드. 녹음 파일을 저장소에 바로 올리고, 부트스트랩 가져오기로 오디오/노트/마커 행을 만든 뒤,
+ * 녹음 중에 쓴 필기 스트로크를 기존 필기에 덧붙인다.
+ */
+public class UploadScenario implements Scenario {
+
+    private final int audioBytes;
+    private final int strokes;
+    private final int markers;
+
+    public UploadScenario(int audioBytes, int strokes, int markers) {
+        this.audioBytes = audioBytes;
+        this.strokes = strokes;
+        this.markers = markers;
+    }
+
+    @Override
+    public String name() {
+        return "upload";
+    }
+
+    @Override
+    public CompletableFuture<?> run(VirtualUser user) {
+        ApiClient api = user.api();
+        SeededUser seeded = user.user();
+        Long spaceId = SeededUser.pick(seeded.spaceIds(), user.random());
+        Long drawingId = SeededUser.pick(seeded.drawingIds(), user.random());
+        String key = "users/" + seeded.userId() + "/audio/" + Long.toHexString(user.random().nextLong()) + ".m4a";
+        byte[] audio = ContentGenerator.audio(user.random(), audioBytes);
+        byte[] lines = api.ndjson(lines(user, spaceId, key));
+        byte[] strokeData = drawingId != null ? ContentGenerator.strokes(user.random(), strokes) : null;
+
+        CompletableFuture<?> steps = user.send("media", api.putObject(key, "audio/mp4", audio))
+                .thenCompose(ignored -> user.send("bootstrap", api.post("/users/me/bootstrap", seeded.accessToken(),
+                        BootstrapImportService.MEDIA_TYPE, lines)));
+        if (strokeData != null) {
+            steps = steps.thenCompose(ignored -> user.send("strokes", api.post("/drawing/" + drawingId + "/strokes",
+                    seeded.accessToken(), StrokeFormat.MEDIA_TYPE, strokeData)));
+        }
+        return steps;
+    }
+
+    private List<BootstrapImport.Line> lines(VirtualUser user, Long spaceId, String key) {
+        int durationSeconds = 60 + user.random().nextInt(1800);
+        List<BootstrapImport.Line> lines = new ArrayList<>(markers + 2);
+        lines.add(BootstrapImport.Line.builder()
+                .type("AUDIO")
+                .localId("a")
+                .spaceId(spaceId)
+                .filePath(key)
+                .originalFilename("recording.m4a")
+                .fileSize((long) audioBytes)
+                .durationSeconds(durationSeconds)
+                .mimeType("audio/mp4")
+                .build());
+        String note = ContentGenerator.note(user.random(), 600);
+        lines.add(BootstrapImport.Line.builder()
+                .type("TEXT")
+                .localId("t")
+                .spaceId(spaceId)
+                .audioLocalId("a")
+                .content(note)
+                .plainText(ContentGenerator.plainText(note))
+                .formatType("richText")
+                .audioSyncPosition(0)
+                .build());
+        for (int i = 0; i < markers; i++) {
+            lines.add(BootstrapImport.Line.builder()
+                    .type("MARKER")
+                    .audioLocalId("a")
+                    .positionMs((long) user.random().nextInt(durationSeconds * 1000))
+                    .contentType("TEXT")
+                    .contentLocalId("t")
+                    .build());
+        }
+        return lines;
+    }
+}
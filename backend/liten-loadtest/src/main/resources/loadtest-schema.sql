@@ -0,0 +1,122 @@
+-- create-drop 으로 만들어지지 않는 스키마 (H2 MariaDB 호환 모드)
+-- 원본은 liten-api 의 db/migration. 마이그레이션은 MariaDB 전용 문법이라 H2 에서 그대로 돌릴 수 없으므로 옮겨 적는다.
+-- 컬럼이나 인덱스가 바뀌면 함께 고친다.
+
+-- 엔티티 테이블의 인덱스 (마지막 마이그레이션 기준). 외래 키 컬럼 하나짜리 인덱스는 H2 가 만든다.
+-- H2 는 인덱스 이름이 스키마 전체에서 유일해야 하므로 여러 테이블에 같은 이름으로 있는 인덱스는 테이블 이름을 앞에 붙인다.
+
+-- V1
+CREATE INDEX IF NOT EXISTS idx_provider_provider_id ON users (provider, provider_id);
+CREATE INDEX IF NOT EXISTS idx_subscription_type ON users (subscription_type);
+CREATE INDEX IF NOT EXISTS users_idx_created_at ON users (created_at);
+CREATE INDEX IF NOT EXISTS idx_expires_at ON refresh_tokens (expires_at);
+CREATE INDEX IF NOT EXISTS idx_user_favorite ON liten_spaces (user_id, is_favorite);
+CREATE INDEX IF NOT EXISTS idx_user_archived ON liten_spaces (user_id, is_archived);
+CREATE INDEX IF NOT EXISTS idx_sort_order ON liten_spaces (sort_order);
+CREATE INDEX IF NOT EXISTS liten_spaces_idx_created_at ON liten_spaces (created_at);
+CREATE INDEX IF NOT EXISTS idx_filename ON audio_contents (filename);
+CREATE INDEX IF NOT EXISTS audio_contents_idx_created_at ON audio_contents (created_at);
+CREATE INDEX IF NOT EXISTS text_contents_idx_created_at ON text_contents (created_at);
+CREATE INDEX IF NOT EXISTS drawing_contents_idx_created_at ON drawing_contents (created_at);
+CREATE INDEX IF NOT EXISTS idx_space_audio ON sync_timestamps (space_id, audio_id);
+CREATE INDEX IF NOT EXISTS idx_content_type_id ON sync_timestamps (content_type, content_id);
+
+-- V3, V4, V5, V7
+CREATE INDEX IF NOT EXISTS idx_drawing_segment ON drawing_stroke_segments (drawing_id, segment_id);
+CREATE INDEX IF NOT EXISTS idx_drawing_bounds ON drawing_stroke_tiles (drawing_id, min_x, max_x, min_y, max_y);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_text_version ON text_content_patches (text_id, version);
+CREATE INDEX IF NOT EXISTS idx_text_version ON text_content_snapshots (text_id, version);
+CREATE INDEX IF NOT EXISTS idx_audio_first_position ON sync_marker_blocks (audio_id, first_position_ms);
+
+-- V8, V10 을 대체한 V12 의 소프트 삭제 인덱스
+CREATE INDEX IF NOT EXISTS idx_user_deleted_sort_key ON liten_spaces (user_id, deleted_at, sort_key);
+CREATE INDEX IF NOT EXISTS text_contents_idx_space_deleted_sort_key ON text_contents (space_id, deleted_at, sort_key);
+CREATE INDEX IF NOT EXISTS drawing_contents_idx_space_deleted_sort_key ON drawing_contents (space_id, deleted_at, sort_key);
+CREATE INDEX IF NOT EXISTS idx_space_deleted ON audio_contents (space_id, deleted_at);
+CREATE INDEX IF NOT EXISTS idx_user_deleted ON refresh_tokens (user_id, deleted_at);
+CREATE INDEX IF NOT EXISTS text_contents_idx_audio_deleted_sync_position
+    ON text_contents (audio_id, deleted_at, audio_sync_position);
+CREATE INDEX IF NOT EXISTS drawing_contents_idx_audio_deleted_sync_position
+    ON drawing_contents (audio_id, deleted_at, audio_sync_position);
+CREATE INDEX IF NOT EXISTS idx_audio_deleted_position ON sync_timestamps (audio_id, deleted_at, audio_position_ms);
+
+-- V13, V14. storage_tier 는 엔티티가 쓰지 않는 컬럼이라 기본값을 마이그레이션과 맞춘다
+ALTER TABLE liten_spaces ALTER COLUMN storage_tier SET DEFAULT 'HOT';
+UPDATE liten_spaces SET storage_tier = 'HOT' WHERE storage_tier IS NULL;
+ALTER TABLE liten_spaces ALTER COLUMN storage_tier SET NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_status_job ON deletion_jobs (status, job_id);
+CREATE INDEX IF NOT EXISTS idx_tier_archived_updated ON liten_spaces (storage_tier, is_archived, updated_at);
+
+-- 엔티티가 없는 JDBC 전용 테이블 (V11, V13, V14, V16)
+
+CREATE TABLE IF NOT EXISTS user_usage (
+    user_id BIGINT PRIMARY KEY,
+    space_count INT NOT NULL DEFAULT 0,
+    storage_bytes BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS storage_cleanup_queue (
+    cleanup_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    object_key VARCHAR(500) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_attempts_cleanup ON storage_cleanup_queue (attempts, cleanup_id);
+
+CREATE TABLE IF NOT EXISTS search_index_changes (
+    change_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    content_type VARCHAR(20) NOT NULL,
+    content_id BIGINT NOT NULL,
+    change_kind VARCHAR(20) NOT NULL,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_search_changes_created_at ON search_index_changes (created_at);
+
+CREATE TABLE IF NOT EXISTS sync_marker_staging (
+    staging_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    audio_id BIGINT NOT NULL,
+    position_ms BIGINT NOT NULL,
+    content_type VARCHAR(20),
+    content_id BIGINT,
+    additional_data JSON,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (audio_id) REFERENCES audio_contents(audio_id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_audio_staging ON sync_marker_staging (audio_id, staging_id);
+CREATE INDEX IF NOT EXISTS idx_marker_staging_created_at ON sync_marker_staging (created_at);
+
+CREATE TABLE IF NOT EXISTS space_cold_archives (
+    space_id BIGINT PRIMARY KEY,
+    object_key VARCHAR(500) NOT NULL,
+    packed_rows BIGINT NOT NULL DEFAULT 0,
+    packed_bytes BIGINT NOT NULL DEFAULT 0,
+    audio_count INT NOT NULL DEFAULT 0,
+    text_count INT NOT NULL DEFAULT 0,
+    drawing_count INT NOT NULL DEFAULT 0,
+    storage_bytes BIGINT NOT NULL DEFAULT 0,
+    purge_pending BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (space_id) REFERENCES liten_spaces(space_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS space_cold_contents (
+    cold_content_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    content_type VARCHAR(10) NOT NULL,
+    content_id BIGINT NOT NULL,
+    space_id BIGINT NOT NULL,
+    file_path VARCHAR(500),
+    thumbnail_path VARCHAR(500),
+
+    CONSTRAINT uk_content UNIQUE (content_type, content_id),
+    FOREIGN KEY (space_id) REFERENCES liten_spaces(space_id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_cold_space_id ON space_cold_contents (space_id);
+CREATE INDEX IF NOT EXISTS idx_purge_pending ON space_cold_archives (purge_pending);